@@ -0,0 +1,152 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.grpc.client.ChannelBuilderOptions;
+import org.springframework.grpc.client.ClientInterceptorsConfigurer;
+import org.springframework.grpc.client.DefaultGrpcChannelFactory;
+import org.springframework.grpc.client.GrpcChannelFactory;
+import org.springframework.grpc.client.NettyGrpcChannelFactory;
+import org.springframework.grpc.client.ShadedNettyGrpcChannelFactory;
+import org.springframework.grpc.server.NettyGrpcServerFactory;
+import org.springframework.grpc.server.lifecycle.GrpcServerLifecycle;
+import org.springframework.grpc.server.service.GrpcServiceDiscoverer;
+
+import io.grpc.ClientInterceptor;
+import io.grpc.ManagedChannel;
+
+/**
+ * An application context serving the {@link BenchmarkService} over one of the
+ * {@link Transport transports}, and a channel connected to it.
+ *
+ * @author Dave Syer
+ */
+final class BenchmarkContext implements AutoCloseable {
+
+	/**
+	 * Properties that switch off the security autoconfiguration, so that only the
+	 * benchmarks that measure it pay for it.
+	 */
+	static final String NO_SECURITY = "spring.autoconfigure.exclude="
+			+ "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration,"
+			+ "org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration,"
+			+ "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration,"
+			+ "org.springframework.grpc.autoconfigure.server.security.GrpcSecurityAutoConfiguration";
+
+	private final ConfigurableApplicationContext context;
+
+	private final DefaultGrpcChannelFactory<?> channels;
+
+	private final ManagedChannel channel;
+
+	private BenchmarkContext(ConfigurableApplicationContext context, DefaultGrpcChannelFactory<?> channels,
+			ManagedChannel channel) {
+		this.context = context;
+		this.channels = channels;
+		this.channel = channel;
+	}
+
+	ConfigurableApplicationContext getContext() {
+		return this.context;
+	}
+
+	ManagedChannel getChannel() {
+		return this.channel;
+	}
+
+	@Override
+	public void close() {
+		if (this.channels != null) {
+			this.channels.destroy();
+		}
+		this.channel.shutdownNow();
+		this.context.close();
+	}
+
+	/**
+	 * Start a context that serves the benchmark service over the given transport.
+	 * @param transport the transport to use
+	 * @param interceptors the interceptors to add to the channel
+	 * @param sources additional configuration classes
+	 * @param properties additional properties, in "key=value" form
+	 * @return the started context
+	 */
+	static BenchmarkContext start(Transport transport, List<ClientInterceptor> interceptors, List<Class<?>> sources,
+			String... properties) {
+		List<Class<?>> configurations = new ArrayList<>(sources);
+		configurations.add(BenchmarkApplication.class);
+		if (transport == Transport.NETTY) {
+			configurations.add(NettyServerConfiguration.class);
+		}
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(configurations.toArray(Class[]::new))
+			.web((transport == Transport.SERVLET) ? WebApplicationType.SERVLET : WebApplicationType.NONE)
+			.properties("spring.main.banner-mode=off", "logging.level.root=warn", "server.port=0",
+					"spring.grpc.server.port=0", "spring.grpc.server.local.enabled=true")
+			.properties(properties)
+			.run();
+		ChannelBuilderOptions options = ChannelBuilderOptions.defaults().withInterceptors(interceptors);
+		if (transport == Transport.IN_PROCESS) {
+			ManagedChannel channel = context.getBean(GrpcChannelFactory.class).createChannel("local:", options);
+			return new BenchmarkContext(context, null, channel);
+		}
+		ClientInterceptorsConfigurer configurer = context.getBean(ClientInterceptorsConfigurer.class);
+		DefaultGrpcChannelFactory<?> channels = (transport == Transport.NETTY_SHADED)
+				? new ShadedNettyGrpcChannelFactory(List.of(), configurer)
+				: new NettyGrpcChannelFactory(List.of(), configurer);
+		channels.setVirtualTargets((target) -> target);
+		int port = (transport == Transport.SERVLET)
+				? ((WebServerApplicationContext) context).getWebServer().getPort()
+				: context.getBean(GrpcServerLifecycle.class).getPort();
+		return new BenchmarkContext(context, channels, channels.createChannel("localhost:" + port, options));
+	}
+
+	@SpringBootConfiguration(proxyBeanMethods = false)
+	@EnableAutoConfiguration
+	static class BenchmarkApplication {
+
+		@Bean
+		BenchmarkService benchmarkService() {
+			return new BenchmarkService();
+		}
+
+	}
+
+	// The autoconfiguration prefers grpc-netty-shaded when both are available
+	@Configuration(proxyBeanMethods = false)
+	static class NettyServerConfiguration {
+
+		@Bean
+		NettyGrpcServerFactory grpcServerFactory(GrpcServiceDiscoverer discoverer) {
+			NettyGrpcServerFactory factory = new NettyGrpcServerFactory("localhost:0", List.of(), null, null, null);
+			discoverer.findServices().forEach(factory::addService);
+			return factory;
+		}
+
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.grpc.benchmarks.proto.BenchmarkGrpc;
+import org.springframework.grpc.benchmarks.proto.Payload;
+import org.springframework.grpc.benchmarks.proto.StreamRequest;
+
+import io.grpc.BindableService;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * The service called by the benchmarks. It does no work of its own, so that the
+ * benchmarks measure the framework and the transport.
+ *
+ * @author Dave Syer
+ */
+public class BenchmarkService extends BenchmarkGrpc.BenchmarkImplBase {
+
+	private final String name;
+
+	/**
+	 * Creates the service with its own name.
+	 */
+	public BenchmarkService() {
+		this(null);
+	}
+
+	/**
+	 * Creates the service under a different name, so that many copies of it can be
+	 * registered with the same server.
+	 * @param name the full name of the service, or null for the name in the proto file
+	 */
+	public BenchmarkService(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public void unary(Payload request, StreamObserver<Payload> responseObserver) {
+		responseObserver.onNext(request);
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public void serverStreaming(StreamRequest request, StreamObserver<Payload> responseObserver) {
+		for (int i = 0; i < request.getCount(); i++) {
+			responseObserver.onNext(request.getPayload());
+		}
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public ServerServiceDefinition bindService() {
+		ServerServiceDefinition definition = super.bindService();
+		return (this.name != null) ? rename(definition, this.name) : definition;
+	}
+
+	private static ServerServiceDefinition rename(ServerServiceDefinition definition, String name) {
+		List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+		definition.getMethods().forEach((method) -> methods.add(rename(method, name)));
+		ServiceDescriptor.Builder service = ServiceDescriptor.newBuilder(name);
+		methods.forEach((method) -> service.addMethod(method.getMethodDescriptor()));
+		ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(service.build());
+		methods.forEach(builder::addMethod);
+		return builder.build();
+	}
+
+	private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> rename(ServerMethodDefinition<ReqT, RespT> method,
+			String name) {
+		MethodDescriptor<ReqT, RespT> descriptor = method.getMethodDescriptor();
+		String fullMethodName = MethodDescriptor.generateFullMethodName(name, descriptor.getBareMethodName());
+		return ServerMethodDefinition.create(descriptor.toBuilder().setFullMethodName(fullMethodName).build(),
+				method.getServerCallHandler());
+	}
+
+}
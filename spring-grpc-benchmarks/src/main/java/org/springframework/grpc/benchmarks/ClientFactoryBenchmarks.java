@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.grpc.benchmarks.proto.BenchmarkGrpc;
+import org.springframework.grpc.client.GrpcClientFactory;
+
+/**
+ * Creating a stub with the {@link GrpcClientFactory}. The factory keeps every channel
+ * that it creates until the context is closed, so the context is recreated for each
+ * iteration.
+ *
+ * @author Dave Syer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, batchSize = 1000)
+@Measurement(iterations = 10, batchSize = 1000)
+public class ClientFactoryBenchmarks {
+
+	private BenchmarkContext context;
+
+	private GrpcClientFactory clients;
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		this.context = BenchmarkContext.start(Transport.IN_PROCESS, List.of(), List.of(), BenchmarkContext.NO_SECURITY);
+		this.clients = new GrpcClientFactory(this.context.getContext());
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		this.context.close();
+	}
+
+	@Benchmark
+	public BenchmarkGrpc.BenchmarkBlockingStub blockingStub() {
+		return this.clients.getClient("local:", BenchmarkGrpc.BenchmarkBlockingStub.class, null);
+	}
+
+}
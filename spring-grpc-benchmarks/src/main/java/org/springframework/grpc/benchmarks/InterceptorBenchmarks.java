@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.benchmarks;
+
+import static org.springframework.security.config.Customizer.withDefaults;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.grpc.benchmarks.proto.BenchmarkGrpc;
+import org.springframework.grpc.benchmarks.proto.Payload;
+import org.springframework.grpc.client.interceptor.security.BasicAuthenticationInterceptor;
+import org.springframework.grpc.server.GlobalServerInterceptor;
+import org.springframework.grpc.server.exception.GrpcExceptionHandler;
+import org.springframework.grpc.server.security.GrpcSecurity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import com.google.protobuf.ByteString;
+import io.grpc.ServerInterceptor;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Unary calls through the server interceptors that Spring gRPC can add, over the
+ * in-process transport so that the interceptors are not hidden by the network.
+ *
+ * @author Dave Syer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class InterceptorBenchmarks {
+
+	@Param({ "none", "exception-handler", "observation", "security" })
+	private String interceptor;
+
+	private BenchmarkContext context;
+
+	private BenchmarkGrpc.BenchmarkBlockingStub stub;
+
+	private final Payload payload = Payload.newBuilder().setBody(ByteString.copyFrom(new byte[16])).build();
+
+	@Setup
+	public void setup() {
+		this.context = switch (this.interceptor) {
+			case "exception-handler" -> BenchmarkContext.start(Transport.IN_PROCESS, List.of(),
+					List.of(ExceptionHandlerConfiguration.class), BenchmarkContext.NO_SECURITY);
+			case "observation" -> BenchmarkContext.start(Transport.IN_PROCESS, List.of(),
+					List.of(ObservationConfiguration.class), BenchmarkContext.NO_SECURITY);
+			case "security" -> BenchmarkContext.start(Transport.IN_PROCESS,
+					List.of(new BasicAuthenticationInterceptor("user", "user")), List.of(SecurityConfiguration.class));
+			default -> BenchmarkContext.start(Transport.IN_PROCESS, List.of(), List.of(), BenchmarkContext.NO_SECURITY);
+		};
+		this.stub = BenchmarkGrpc.newBlockingStub(this.context.getChannel());
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.context.close();
+	}
+
+	@Benchmark
+	public Payload unary() {
+		return this.stub.unary(this.payload);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class ExceptionHandlerConfiguration {
+
+		@Bean
+		GrpcExceptionHandler benchmarkExceptionHandler() {
+			return (exception) -> null;
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class ObservationConfiguration {
+
+		@Bean
+		ObservationRegistry observationRegistry() {
+			ObservationRegistry registry = ObservationRegistry.create();
+			registry.observationConfig()
+				.observationHandler(new DefaultMeterObservationHandler(new SimpleMeterRegistry()));
+			return registry;
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class SecurityConfiguration {
+
+		@Bean
+		InMemoryUserDetailsManager inMemoryUserDetailsManager() {
+			return new InMemoryUserDetailsManager(
+					User.withUsername("user").password("{noop}user").authorities("ROLE_USER").build());
+		}
+
+		@Bean
+		@GlobalServerInterceptor
+		ServerInterceptor securityInterceptor(GrpcSecurity security) throws Exception {
+			return security.authorizeRequests((requests) -> requests.allRequests().authenticated())
+				.httpBasic(withDefaults())
+				.build();
+		}
+
+	}
+
+}
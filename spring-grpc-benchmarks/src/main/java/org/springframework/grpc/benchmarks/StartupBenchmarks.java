@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Starting and stopping a gRPC server with a growing number of services, to show
+ * what service discovery and binding cost at startup.
+ *
+ * @author Dave Syer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class StartupBenchmarks {
+
+	@Param({ "1", "10", "100" })
+	private int services;
+
+	@Benchmark
+	public void startAndStop() {
+		BenchmarkContext.start(Transport.NETTY_SHADED, List.of(), List.of(ServicesConfiguration.class),
+				BenchmarkContext.NO_SECURITY, "benchmark.services=" + this.services)
+			.close();
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class ServicesConfiguration {
+
+		@Bean
+		static BeanDefinitionRegistryPostProcessor benchmarkServices(Environment environment) {
+			int count = environment.getProperty("benchmark.services", Integer.class, 1);
+			return (BeanDefinitionRegistry registry) -> {
+				// One copy of the service is already registered by the application
+				for (int i = 1; i < count; i++) {
+					String name = "Benchmark" + i;
+					registry.registerBeanDefinition(name, BeanDefinitionBuilder
+						.rootBeanDefinition(BenchmarkService.class, () -> new BenchmarkService(name))
+						.getBeanDefinition());
+				}
+			};
+		}
+
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.benchmarks;
+
+/**
+ * The transports that the benchmarks can run over.
+ *
+ * @author Dave Syer
+ */
+public enum Transport {
+
+	/**
+	 * The local in-process server, called through a {@code local:} target.
+	 */
+	IN_PROCESS,
+
+	/**
+	 * A server and client using grpc-netty.
+	 */
+	NETTY,
+
+	/**
+	 * A server and client using grpc-netty-shaded.
+	 */
+	NETTY_SHADED,
+
+	/**
+	 * The gRPC servlet on embedded Tomcat, called with a grpc-netty client.
+	 */
+	SERVLET
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.benchmarks;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.grpc.benchmarks.proto.BenchmarkGrpc;
+import org.springframework.grpc.benchmarks.proto.Payload;
+import org.springframework.grpc.benchmarks.proto.StreamRequest;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Unary and server streaming calls over each of the {@link Transport transports},
+ * with no interceptors and no security.
+ *
+ * @author Dave Syer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TransportBenchmarks {
+
+	@Param
+	private Transport transport;
+
+	@Param({ "16", "1024", "65536" })
+	private int size;
+
+	@Param("10")
+	private int count;
+
+	private BenchmarkContext context;
+
+	private BenchmarkGrpc.BenchmarkBlockingStub stub;
+
+	private Payload payload;
+
+	private StreamRequest streamRequest;
+
+	@Setup
+	public void setup() {
+		this.context = BenchmarkContext.start(this.transport, List.of(), List.of(), BenchmarkContext.NO_SECURITY);
+		this.stub = BenchmarkGrpc.newBlockingStub(this.context.getChannel());
+		this.payload = Payload.newBuilder().setBody(ByteString.copyFrom(new byte[this.size])).build();
+		this.streamRequest = StreamRequest.newBuilder().setPayload(this.payload).setCount(this.count).build();
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.context.close();
+	}
+
+	@Benchmark
+	public Payload unary() {
+		return this.stub.unary(this.payload);
+	}
+
+	@Benchmark
+	public void serverStreaming(Blackhole blackhole) {
+		Iterator<Payload> responses = this.stub.serverStreaming(this.streamRequest);
+		while (responses.hasNext()) {
+			blackhole.consume(responses.next());
+		}
+	}
+
+}
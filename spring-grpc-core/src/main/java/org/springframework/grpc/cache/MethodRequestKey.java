@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+import io.grpc.MethodDescriptor;
+
+/**
+ * Identifies a unary call by its full method name and serialized request. The hash code
+ * is computed once from the request bytes, and equality compares the bytes so that
+ * different requests never share a key.
+ *
+ * @author Dave Syer
+ */
+public final class MethodRequestKey {
+
+	private final String method;
+
+	private final byte[] request;
+
+	private final int hash;
+
+	private MethodRequestKey(String method, byte[] request) {
+		this.method = method;
+		this.request = request;
+		this.hash = 31 * method.hashCode() + Arrays.hashCode(request);
+	}
+
+	/**
+	 * Creates a key for the given method and request, serializing the request with the
+	 * method's request marshaller.
+	 * @param <ReqT> the request type
+	 * @param method the method descriptor
+	 * @param request the request message
+	 * @return the key
+	 */
+	public static <ReqT> MethodRequestKey of(MethodDescriptor<ReqT, ?> method, ReqT request) {
+		try (InputStream stream = method.streamRequest(request)) {
+			return new MethodRequestKey(method.getFullMethodName(), stream.readAllBytes());
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * Gets the approximate size of the key in memory.
+	 * @return the size in bytes
+	 */
+	public int size() {
+		return this.method.length() + this.request.length;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof MethodRequestKey other)) {
+			return false;
+		}
+		return this.hash == other.hash && this.method.equals(other.method)
+				&& Arrays.equals(this.request, other.request);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hash;
+	}
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded, time-limited cache of serialized unary responses used by the client and
+ * server caching interceptors. Entries are evicted in least recently used order once the
+ * number of entries or their total size exceeds the configured maximum, and expire after
+ * a fixed time to live. Responses are stored in serialized form, which keeps the entries
+ * compact and gives each caller its own copy of the response.
+ * <p>
+ * The cache keeps hit, miss and eviction counts that can be used to monitor its
+ * effectiveness.
+ *
+ * @author Dave Syer
+ */
+public class ResponseCache {
+
+	private final long timeToLive;
+
+	private final int maxEntries;
+
+	private final long maxBytes;
+
+	private final LinkedHashMap<MethodRequestKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long bytes;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Creates a new cache.
+	 * @param timeToLive the time after which an entry expires
+	 * @param maxEntries the maximum number of entries
+	 * @param maxBytes the maximum total size in bytes of the cached requests and
+	 * responses
+	 */
+	public ResponseCache(Duration timeToLive, int maxEntries, long maxBytes) {
+		Assert.isTrue(timeToLive != null && !timeToLive.isNegative() && !timeToLive.isZero(),
+				"timeToLive must be positive");
+		Assert.isTrue(maxEntries > 0, "maxEntries must be positive");
+		Assert.isTrue(maxBytes > 0, "maxBytes must be positive");
+		this.timeToLive = timeToLive.toNanos();
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Gets the serialized response for a key if it is present and has not expired.
+	 * @param key the method and request key
+	 * @param now the current time in nanoseconds (as returned by
+	 * {@link System#nanoTime()})
+	 * @return the serialized response or null
+	 */
+	@Nullable
+	public byte[] get(MethodRequestKey key, long now) {
+		synchronized (this.entries) {
+			Entry entry = this.entries.get(key);
+			if (entry != null && now - entry.expires < 0) {
+				this.hits.increment();
+				return entry.response;
+			}
+			if (entry != null) {
+				remove(key, entry);
+			}
+		}
+		this.misses.increment();
+		return null;
+	}
+
+	/**
+	 * Stores a serialized response, evicting the least recently used entries if the cache
+	 * grows beyond its bounds. Responses that are larger than the whole cache are
+	 * ignored.
+	 * @param key the method and request key
+	 * @param response the serialized response
+	 * @param now the current time in nanoseconds (as returned by
+	 * {@link System#nanoTime()})
+	 */
+	public void put(MethodRequestKey key, byte[] response, long now) {
+		Entry entry = new Entry(response, now + this.timeToLive, key.size() + response.length);
+		if (entry.size > this.maxBytes) {
+			return;
+		}
+		synchronized (this.entries) {
+			Entry previous = this.entries.put(key, entry);
+			if (previous != null) {
+				this.bytes -= previous.size;
+			}
+			this.bytes += entry.size;
+			Iterator<Map.Entry<MethodRequestKey, Entry>> eldest = this.entries.entrySet().iterator();
+			while (this.entries.size() > this.maxEntries || this.bytes > this.maxBytes) {
+				Entry evicted = eldest.next().getValue();
+				eldest.remove();
+				this.bytes -= evicted.size;
+				this.evictions.increment();
+			}
+		}
+	}
+
+	private void remove(MethodRequestKey key, Entry entry) {
+		this.entries.remove(key);
+		this.bytes -= entry.size;
+	}
+
+	/**
+	 * Remove all entries from the cache.
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+			this.bytes = 0;
+		}
+	}
+
+	/**
+	 * Gets the number of entries in the cache, including expired entries that have not
+	 * been removed yet.
+	 * @return the number of entries
+	 */
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	/**
+	 * Gets the total size of the cached requests and responses.
+	 * @return the size in bytes
+	 */
+	public long getBytes() {
+		synchronized (this.entries) {
+			return this.bytes;
+		}
+	}
+
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
+	/**
+	 * Gets the ratio of lookups that were served from the cache.
+	 * @return the hit ratio between 0 and 1 (1 if there has been no lookup)
+	 */
+	public double getHitRatio() {
+		long hits = getHitCount();
+		long total = hits + getMissCount();
+		return (total != 0) ? (double) hits / total : 1.0;
+	}
+
+	private record Entry(byte[] response, long expires, long size) {
+
+	}
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Caching of serialized gRPC responses shared by clients and servers.
+ */
+
+package org.springframework.grpc.cache;
@@ -16,6 +16,8 @@
 
 package org.springframework.grpc.client;
 
+import org.springframework.lang.Nullable;
+
 import io.grpc.ChannelCredentials;
 import io.grpc.InsecureChannelCredentials;
 
@@ -31,4 +33,17 @@ public interface ChannelCredentialsProvider {
 
 	ChannelCredentials getChannelCredentials(String path);
 
+	/**
+	 * Get the credentials for a channel that is built with the given type of builder, so
+	 * that a provider can create credentials that only that transport supports (e.g. an
+	 * SSL context, which is a different type for grpc-netty and grpc-netty-shaded). By
+	 * default the builder type is ignored.
+	 * @param path the channel name or target
+	 * @param builderType the type of the channel builder, or null if it is not known
+	 * @return the credentials for the channel
+	 */
+	default ChannelCredentials getChannelCredentials(String path, @Nullable Class<?> builderType) {
+		return getChannelCredentials(path);
+	}
+
 }
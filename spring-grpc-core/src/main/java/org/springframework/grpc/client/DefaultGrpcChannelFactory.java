@@ -23,13 +23,17 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.log.LogAccessor;
+import org.springframework.grpc.client.interceptor.DirectMarshallingClientInterceptor;
+import org.springframework.grpc.server.LocalGrpcServer;
 import org.springframework.util.Assert;
 
 import io.grpc.ChannelCredentials;
 import io.grpc.Grpc;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.inprocess.InProcessChannelBuilder;
 
 /**
  * Default implementation of {@link GrpcChannelFactory} for creating and managing gRPC
@@ -52,10 +56,16 @@ public class DefaultGrpcChannelFactory<T extends ManagedChannelBuilder<T>>
 
 	private final ClientInterceptorsConfigurer interceptorsConfigurer;
 
+	// The type of builder, so that the credentials can be created for the transport
+	private final Class<?> builderType = ResolvableType.forClass(DefaultGrpcChannelFactory.class, getClass())
+		.resolveGeneric();
+
 	private ChannelCredentialsProvider credentials = ChannelCredentialsProvider.INSECURE;
 
 	private VirtualTargets targets = VirtualTargets.DEFAULT;
 
+	private LocalGrpcServer localServer;
+
 	/**
 	 * Construct a channel factory instance.
 	 * @param globalCustomizers the global customizers to apply to all created channels
@@ -78,10 +88,22 @@ public class DefaultGrpcChannelFactory<T extends ManagedChannelBuilder<T>>
 		this.credentials = credentials;
 	}
 
+	/**
+	 * Set a local server to route the channels to, instead of going through the network,
+	 * when their target {@link LocalGrpcServer#isLocal(String) points at it}.
+	 * @param localServer the local server
+	 */
+	public void setLocalServer(LocalGrpcServer localServer) {
+		this.localServer = localServer;
+	}
+
 	@Override
 	public ManagedChannel createChannel(String target, ChannelBuilderOptions options) {
 		var targetUri = this.targets.getTarget(target);
-		T builder = newChannelBuilder(targetUri, this.credentials.getChannelCredentials(target));
+		if (this.localServer != null && this.localServer.isLocal(targetUri)) {
+			return createLocalChannel(target, options);
+		}
+		T builder = newChannelBuilder(targetUri, this.credentials.getChannelCredentials(target, this.builderType));
 		// Handle interceptors
 		this.interceptorsConfigurer.configureInterceptors(builder, options.interceptors(),
 				options.mergeWithGlobalInterceptors());
@@ -97,6 +119,45 @@ public class DefaultGrpcChannelFactory<T extends ManagedChannelBuilder<T>>
 		return channel;
 	}
 
+	// There are no credentials, and the in-process builder ignores the keep alive
+	// settings. Customizers for another type of builder (e.g. the Netty flow control)
+	// are skipped.
+	private ManagedChannel createLocalChannel(String target, ChannelBuilderOptions options) {
+		this.log.debug(() -> "Routing channel to local server: " + target);
+		InProcessChannelBuilder builder = InProcessChannelBuilder.forName(this.localServer.getName());
+		if (this.localServer.isDirectMarshalling()) {
+			// Added first so it is the closest to the transport
+			builder.intercept(new DirectMarshallingClientInterceptor());
+		}
+		this.interceptorsConfigurer.configureInterceptors(builder, options.interceptors(),
+				options.mergeWithGlobalInterceptors());
+		this.globalCustomizers.forEach((c) -> customizeLocal(target, builder, c));
+		var customizer = options.<T>customizer();
+		if (customizer != null) {
+			customizeLocal(target, builder, customizer);
+		}
+		var channel = builder.build();
+		this.channels.add(new ManagedChannelWithShutdown(channel, options.shutdownGracePeriod()));
+		return channel;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void customizeLocal(String target, InProcessChannelBuilder builder,
+			GrpcChannelBuilderCustomizer<?> customizer) {
+		Class<?> type = ResolvableType.forClass(GrpcChannelBuilderCustomizer.class, customizer.getClass())
+			.resolveGeneric();
+		if (type != null && !type.isInstance(builder)) {
+			return;
+		}
+		try {
+			((GrpcChannelBuilderCustomizer) customizer).customize(target, builder);
+		}
+		catch (ClassCastException ex) {
+			// The builder type of a lambda cannot be resolved up front
+			this.log.debug(ex, () -> "Skipping customizer for another channel builder type: " + customizer);
+		}
+	}
+
 	/**
 	 * Creates a new {@link ManagedChannelBuilder} instance for the given target and
 	 * credentials. The {@code target} is a valid nameresolver-compliant URI or an
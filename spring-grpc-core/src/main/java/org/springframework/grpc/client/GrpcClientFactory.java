@@ -29,10 +29,14 @@ import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.grpc.client.interceptor.ZeroCopyClientInterceptor;
 import org.springframework.grpc.internal.ClasspathScanner;
+import org.springframework.grpc.protobuf.ZeroCopyProtoMarshaller;
+import org.springframework.lang.Nullable;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
+import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
 import io.grpc.stub.AbstractStub;
 
@@ -54,6 +58,11 @@ public class GrpcClientFactory {
 
 	private Map<String, Supplier<ManagedChannel>> options = new HashMap<>();
 
+	@Nullable
+	private ClientInterceptor zeroCopy;
+
+	private Map<String, Prefetch> prefetch = new HashMap<>();
+
 	static {
 		stubs(new BlockingStubFactory());
 		stubs(new BlockingV2StubFactory());
@@ -77,6 +86,13 @@ public class GrpcClientFactory {
 		Supplier<ManagedChannel> finalChannel = channel;
 		@SuppressWarnings("unchecked")
 		T client = (T) stubs.create(() -> finalChannel.get(), type);
+		if (this.zeroCopy != null) {
+			client = client.withInterceptors(this.zeroCopy);
+		}
+		Prefetch prefetch = this.prefetch.getOrDefault(target, this.prefetch.get("default"));
+		if (prefetch != null && stubs instanceof ReactorStubFactory) {
+			client = ReactorStubFactory.withPrefetch(client, prefetch.prefetch(), prefetch.lowTide());
+		}
 		return client;
 	}
 
@@ -90,6 +106,29 @@ public class GrpcClientFactory {
 		this.options.put(target, () -> channels().createChannel(target, options));
 	}
 
+	/**
+	 * Parse the protobuf responses of at least the given size received by the clients
+	 * created from now on straight from the transport buffers, without copying them (see
+	 * {@link ZeroCopyProtoMarshaller}).
+	 * @param minMessageSize the size in bytes from which messages are parsed without
+	 * copying
+	 */
+	public void zeroCopy(int minMessageSize) {
+		this.zeroCopy = new ZeroCopyClientInterceptor(minMessageSize);
+	}
+
+	/**
+	 * Configure the backpressure of the streams of the Reactor stubs created from now on
+	 * for the given target. The settings for the "default" target apply to targets that
+	 * have none.
+	 * @param target the name (or base url) of the target
+	 * @param prefetch the number of messages requested from a stream up front
+	 * @param lowTide the number of messages consumed before more are requested
+	 */
+	public void prefetch(String target, int prefetch, int lowTide) {
+		this.prefetch.put(target, new Prefetch(prefetch, lowTide));
+	}
+
 	private static void stubs(StubFactory<? extends AbstractStub<?>> factory) {
 		DEFAULT_FACTORIES.put(factory.getClass(), factory);
 	}
@@ -162,6 +201,9 @@ public class GrpcClientFactory {
 		}
 	}
 
+	private record Prefetch(int prefetch, int lowTide) {
+	}
+
 	public record GrpcClientRegistrationSpec(String prefix, Class<? extends StubFactory<?>> factory, String target,
 			Class<?>[] types) {
 
@@ -16,6 +16,9 @@
 package org.springframework.grpc.client;
 
 import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+
+import com.salesforce.reactorgrpc.stub.ReactorCallOptions;
 
 import io.grpc.stub.AbstractBlockingStub;
 import io.grpc.stub.AbstractStub;
@@ -41,4 +44,19 @@ public class ReactorStubFactory extends AbstractStubFactory<AbstractBlockingStub
 		return "newReactorStub";
 	}
 
+	/**
+	 * Configure the backpressure of the streams of a Reactor stub.
+	 * @param <S> the stub type
+	 * @param stub the stub
+	 * @param prefetch the number of messages requested from a stream up front
+	 * @param lowTide the number of messages consumed before more are requested
+	 * @return a stub with the backpressure options
+	 */
+	public static <S extends AbstractStub<S>> S withPrefetch(S stub, int prefetch, int lowTide) {
+		Assert.isTrue(prefetch > 0, "prefetch must be positive");
+		Assert.isTrue(lowTide > 0 && lowTide <= prefetch, "lowTide must be positive and at most the prefetch");
+		return stub.withOption(ReactorCallOptions.CALL_OPTIONS_PREFETCH, prefetch)
+			.withOption(ReactorCallOptions.CALL_OPTIONS_LOW_TIDE, lowTide);
+	}
+
 }
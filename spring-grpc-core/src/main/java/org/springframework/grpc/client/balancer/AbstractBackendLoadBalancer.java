@@ -0,0 +1,271 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.balancer;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.lang.Nullable;
+
+import io.grpc.ClientStreamTracer;
+import io.grpc.ConnectivityState;
+import io.grpc.ConnectivityStateInfo;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer;
+import io.grpc.Metadata;
+import io.grpc.Status;
+
+/**
+ * Base class for a {@link LoadBalancer} that keeps one subchannel per backend and picks
+ * among the ready ones. It tracks the state of the subchannels like round_robin, and
+ * counts the calls each backend has in flight. Subclasses only decide how the ready
+ * backends are picked.
+ *
+ * @param <B> the type of backend
+ * @author Dave Syer
+ */
+abstract class AbstractBackendLoadBalancer<B extends AbstractBackendLoadBalancer.Backend> extends LoadBalancer {
+
+	private final Helper helper;
+
+	private final String policyName;
+
+	private final Map<EquivalentAddressGroup, B> backends = new HashMap<>();
+
+	private ConnectivityState currentState;
+
+	private Status lastError = Status.UNAVAILABLE.withDescription("No backend is ready");
+
+	protected AbstractBackendLoadBalancer(Helper helper, String policyName) {
+		this.helper = helper;
+		this.policyName = policyName;
+	}
+
+	@Override
+	public Status acceptResolvedAddresses(ResolvedAddresses resolvedAddresses) {
+		List<EquivalentAddressGroup> groups = resolvedAddresses.getAddresses();
+		if (groups.isEmpty()) {
+			Status status = Status.UNAVAILABLE
+				.withDescription("Name resolver returned no addresses for " + this.policyName);
+			handleNameResolutionError(status);
+			return status;
+		}
+		configure(resolvedAddresses.getLoadBalancingPolicyConfig());
+		Set<EquivalentAddressGroup> keys = new HashSet<>();
+		for (EquivalentAddressGroup group : groups) {
+			// Backends are identified by their addresses, whatever their attributes
+			EquivalentAddressGroup key = new EquivalentAddressGroup(group.getAddresses());
+			keys.add(key);
+			B backend = this.backends.get(key);
+			if (backend != null) {
+				backend.subchannel.updateAddresses(List.of(group));
+				continue;
+			}
+			Subchannel subchannel = this.helper
+				.createSubchannel(CreateSubchannelArgs.newBuilder().setAddresses(group).build());
+			B created = createBackend(key, subchannel);
+			this.backends.put(key, created);
+			subchannel.start((state) -> processSubchannelState(created, state));
+			subchannel.requestConnection();
+		}
+		this.backends.entrySet().removeIf((entry) -> {
+			if (keys.contains(entry.getKey())) {
+				return false;
+			}
+			entry.getValue().subchannel.shutdown();
+			return true;
+		});
+		backendsChanged(this.backends.values());
+		updateBalancingState();
+		return Status.OK;
+	}
+
+	@Override
+	public void handleNameResolutionError(Status error) {
+		if (this.currentState != ConnectivityState.READY) {
+			updateBalancingState(ConnectivityState.TRANSIENT_FAILURE, new FixedPicker(PickResult.withError(error)));
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		this.backends.values().forEach((backend) -> backend.subchannel.shutdown());
+		this.backends.clear();
+	}
+
+	/**
+	 * Applies the parsed service config of the policy, if any, before the backends are
+	 * updated.
+	 * @param config the config, or null if there is none
+	 */
+	protected void configure(@Nullable Object config) {
+	}
+
+	/**
+	 * Creates the backend for a new subchannel.
+	 * @param key the addresses of the backend
+	 * @param subchannel the subchannel
+	 * @return the backend
+	 */
+	protected abstract B createBackend(EquivalentAddressGroup key, Subchannel subchannel);
+
+	/**
+	 * Called when backends have been added or removed, before the picker is updated.
+	 * @param backends all the backends, whatever their state
+	 */
+	protected void backendsChanged(Collection<B> backends) {
+	}
+
+	/**
+	 * Creates the picker used while some backends are ready.
+	 * @param ready the ready backends, never empty
+	 * @return the picker
+	 */
+	protected abstract SubchannelPicker readyPicker(List<B> ready);
+
+	private void processSubchannelState(B backend, ConnectivityStateInfo stateInfo) {
+		ConnectivityState state = stateInfo.getState();
+		if (state == ConnectivityState.SHUTDOWN || this.backends.get(backend.key) != backend) {
+			return;
+		}
+		if (state == ConnectivityState.IDLE) {
+			backend.subchannel.requestConnection();
+		}
+		if (state == ConnectivityState.TRANSIENT_FAILURE) {
+			this.lastError = stateInfo.getStatus();
+		}
+		// Like round_robin, a failed backend stays failed until it is ready again, so
+		// that the channel does not flap between connecting and failing
+		if (backend.state == ConnectivityState.TRANSIENT_FAILURE
+				&& (state == ConnectivityState.CONNECTING || state == ConnectivityState.IDLE)) {
+			return;
+		}
+		backend.state = state;
+		updateBalancingState();
+	}
+
+	private void updateBalancingState() {
+		List<B> ready = this.backends.values()
+			.stream()
+			.filter((backend) -> backend.state == ConnectivityState.READY)
+			.toList();
+		if (!ready.isEmpty()) {
+			updateBalancingState(ConnectivityState.READY, readyPicker(ready));
+		}
+		else if (this.backends.values()
+			.stream()
+			.anyMatch((backend) -> backend.state != ConnectivityState.TRANSIENT_FAILURE)) {
+			updateBalancingState(ConnectivityState.CONNECTING, new FixedPicker(PickResult.withNoResult()));
+		}
+		else {
+			updateBalancingState(ConnectivityState.TRANSIENT_FAILURE,
+					new FixedPicker(PickResult.withError(this.lastError)));
+		}
+	}
+
+	private void updateBalancingState(ConnectivityState state, SubchannelPicker picker) {
+		this.currentState = state;
+		this.helper.updateBalancingState(state, picker);
+	}
+
+	/**
+	 * A backend, with its subchannel and the number of calls it has in flight.
+	 */
+	static class Backend extends ClientStreamTracer.Factory {
+
+		final EquivalentAddressGroup key;
+
+		final Subchannel subchannel;
+
+		private final AtomicInteger outstanding = new AtomicInteger();
+
+		// Only accessed in the synchronization context of the channel
+		ConnectivityState state = ConnectivityState.IDLE;
+
+		Backend(EquivalentAddressGroup key, Subchannel subchannel) {
+			this.key = key;
+			this.subchannel = subchannel;
+		}
+
+		int getOutstanding() {
+			return this.outstanding.get();
+		}
+
+		PickResult pick() {
+			return PickResult.withSubchannel(this.subchannel, this);
+		}
+
+		@Override
+		public ClientStreamTracer newClientStreamTracer(ClientStreamTracer.StreamInfo info, Metadata headers) {
+			long start = System.nanoTime();
+			this.outstanding.incrementAndGet();
+			AtomicBoolean observed = new AtomicBoolean();
+			AtomicBoolean closed = new AtomicBoolean();
+			return new ClientStreamTracer() {
+
+				@Override
+				public void inboundHeaders() {
+					if (observed.compareAndSet(false, true)) {
+						responded(System.nanoTime() - start);
+					}
+				}
+
+				@Override
+				public void streamClosed(Status status) {
+					if (closed.compareAndSet(false, true)) {
+						Backend.this.outstanding.decrementAndGet();
+						if (observed.compareAndSet(false, true)) {
+							responded(System.nanoTime() - start);
+						}
+					}
+				}
+
+			};
+		}
+
+		/**
+		 * Called once for every call, with the time to its response headers, or to its
+		 * end if it fails without headers.
+		 * @param nanos the time in nanoseconds
+		 */
+		protected void responded(long nanos) {
+		}
+
+	}
+
+	private static final class FixedPicker extends SubchannelPicker {
+
+		private final PickResult result;
+
+		FixedPicker(PickResult result) {
+			this.result = result;
+		}
+
+		@Override
+		public PickResult pickSubchannel(PickSubchannelArgs args) {
+			return this.result;
+		}
+
+	}
+
+}
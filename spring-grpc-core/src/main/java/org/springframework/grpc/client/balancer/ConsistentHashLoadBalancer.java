@@ -0,0 +1,192 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.balancer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.lang.Nullable;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer;
+import io.grpc.Metadata;
+
+/**
+ * A {@link LoadBalancer} that places every backend at many points on a hash ring and
+ * sends each call to the first ready backend after the hash of its key, so that a key
+ * keeps going to the same backend, and only the keys of a backend that comes or goes
+ * move elsewhere. With a load factor, a backend that already has more than that many
+ * times the average number of calls in flight is skipped ("consistent hashing with
+ * bounded loads"), so that a hot key cannot overload its backend. Calls without a key go
+ * to a random ready backend.
+ *
+ * @author Dave Syer
+ * @see ConsistentHashLoadBalancerProvider
+ */
+final class ConsistentHashLoadBalancer extends AbstractBackendLoadBalancer<AbstractBackendLoadBalancer.Backend> {
+
+	private static final HashFunction HASH = Hashing.murmur3_128();
+
+	private Config config;
+
+	private Ring ring = new Ring(new long[0], new Backend[0]);
+
+	ConsistentHashLoadBalancer(Helper helper, Config config) {
+		super(helper, ConsistentHashLoadBalancerProvider.POLICY_NAME);
+		this.config = config;
+	}
+
+	@Override
+	protected void configure(@Nullable Object config) {
+		if (config instanceof Config hashConfig) {
+			this.config = hashConfig;
+		}
+	}
+
+	@Override
+	protected Backend createBackend(EquivalentAddressGroup key, Subchannel subchannel) {
+		return new Backend(key, subchannel);
+	}
+
+	@Override
+	protected void backendsChanged(Collection<Backend> backends) {
+		this.ring = Ring.of(backends, this.config.ringSize());
+	}
+
+	@Override
+	protected SubchannelPicker readyPicker(List<Backend> ready) {
+		return new ReadyPicker(this.ring, ready, this.config);
+	}
+
+	private static long hash(String value) {
+		return HASH.hashString(value, StandardCharsets.UTF_8).asLong();
+	}
+
+	/**
+	 * The parsed service config of the policy.
+	 *
+	 * @param hashHeader the header carrying the hash key of a call
+	 * @param ringSize the minimum number of points on the hash ring
+	 * @param loadFactor how many times the average number of calls in flight a backend
+	 * may take, or infinity for no bound
+	 */
+	record Config(Metadata.Key<String> hashHeader, int ringSize, double loadFactor) {
+
+	}
+
+	/**
+	 * The points of all the backends on the hash ring, sorted by hash. Failed backends
+	 * keep their place, so that their keys come back to them when they recover.
+	 */
+	private record Ring(long[] hashes, Backend[] owners) {
+
+		static Ring of(Collection<Backend> backends, int size) {
+			List<Backend> list = new ArrayList<>(backends);
+			if (list.isEmpty()) {
+				return new Ring(new long[0], new Backend[0]);
+			}
+			int replicas = (size + list.size() - 1) / list.size();
+			List<Map.Entry<Long, Backend>> points = new ArrayList<>(replicas * list.size());
+			for (Backend backend : list) {
+				String name = backend.key.getAddresses().toString();
+				for (int i = 0; i < replicas; i++) {
+					points.add(Map.entry(hash(name + "_" + i), backend));
+				}
+			}
+			points.sort(Comparator.comparing(Map.Entry::getKey));
+			long[] hashes = new long[points.size()];
+			Backend[] owners = new Backend[points.size()];
+			for (int i = 0; i < hashes.length; i++) {
+				hashes[i] = points.get(i).getKey();
+				owners[i] = points.get(i).getValue();
+			}
+			return new Ring(hashes, owners);
+		}
+
+	}
+
+	private static final class ReadyPicker extends SubchannelPicker {
+
+		private final Ring ring;
+
+		private final List<Backend> ready;
+
+		private final Set<Backend> readySet;
+
+		private final Config config;
+
+		ReadyPicker(Ring ring, List<Backend> ready, Config config) {
+			this.ring = ring;
+			this.ready = ready;
+			this.readySet = Set.copyOf(ready);
+			this.config = config;
+		}
+
+		@Override
+		public PickResult pickSubchannel(PickSubchannelArgs args) {
+			String key = args.getHeaders().get(this.config.hashHeader());
+			if (key == null) {
+				return this.ready.get(ThreadLocalRandom.current().nextInt(this.ready.size())).pick();
+			}
+			long[] hashes = this.ring.hashes();
+			int index = Arrays.binarySearch(hashes, hash(key));
+			if (index < 0) {
+				index = -index - 1;
+			}
+			int bound = bound();
+			Backend first = null;
+			for (int i = 0; i < hashes.length; i++) {
+				Backend backend = this.ring.owners()[(index + i) % hashes.length];
+				if (!this.readySet.contains(backend)) {
+					continue;
+				}
+				if (backend.getOutstanding() < bound) {
+					return backend.pick();
+				}
+				if (first == null) {
+					first = backend;
+				}
+			}
+			// Only reachable if calls finished and started while we were looking
+			Backend fallback = (first != null) ? first : this.ready.get(0);
+			return fallback.pick();
+		}
+
+		private int bound() {
+			if (Double.isInfinite(this.config.loadFactor())) {
+				return Integer.MAX_VALUE;
+			}
+			long total = 0;
+			for (Backend backend : this.ready) {
+				total += backend.getOutstanding();
+			}
+			// Counting the call being placed, so that an idle channel can take it
+			return (int) Math.ceil(this.config.loadFactor() * (total + 1) / this.ready.size());
+		}
+
+	}
+
+}
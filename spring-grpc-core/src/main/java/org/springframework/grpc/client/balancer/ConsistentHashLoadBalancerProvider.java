@@ -0,0 +1,121 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.balancer;
+
+import java.util.Map;
+
+import io.grpc.LoadBalancer;
+import io.grpc.LoadBalancer.Helper;
+import io.grpc.LoadBalancerProvider;
+import io.grpc.Metadata;
+import io.grpc.NameResolver.ConfigOrError;
+import io.grpc.Status;
+
+/**
+ * A {@link LoadBalancerProvider} for the "consistent_hash" policy, which sends all the
+ * calls with the same hash key to the same backend, so that backends holding per-key
+ * state (such as a cache) see each key on one replica only. The key is read from a
+ * request header, which a {@link HashKeyClientInterceptor} can populate from the request
+ * message. It is registered through the Java service loader, so it can be selected by
+ * name like the policies built into gRPC, and accepts an optional "hashHeader" (default
+ * {@value #DEFAULT_HASH_HEADER}), "ringSize" (the minimum number of points on the hash
+ * ring, default {@value #DEFAULT_RING_SIZE}) and "loadFactor" (how many times the average
+ * number of calls in flight a backend may take before keys spill over to the next one,
+ * no bound by default) in its service config.
+ *
+ * @author Dave Syer
+ * @see ConsistentHashLoadBalancer
+ */
+public class ConsistentHashLoadBalancerProvider extends LoadBalancerProvider {
+
+	/**
+	 * The name of the policy.
+	 */
+	public static final String POLICY_NAME = "consistent_hash";
+
+	/**
+	 * The default name of the header carrying the hash key.
+	 */
+	public static final String DEFAULT_HASH_HEADER = "x-hash-key";
+
+	/**
+	 * The default minimum number of points on the hash ring.
+	 */
+	public static final int DEFAULT_RING_SIZE = 1024;
+
+	private static final int MAX_RING_SIZE = 1024 * 1024;
+
+	@Override
+	public boolean isAvailable() {
+		return true;
+	}
+
+	@Override
+	public int getPriority() {
+		return 5;
+	}
+
+	@Override
+	public String getPolicyName() {
+		return POLICY_NAME;
+	}
+
+	@Override
+	public LoadBalancer newLoadBalancer(Helper helper) {
+		return new ConsistentHashLoadBalancer(helper, defaultConfig());
+	}
+
+	@Override
+	public ConfigOrError parseLoadBalancingPolicyConfig(Map<String, ?> rawConfig) {
+		try {
+			Object header = rawConfig.get("hashHeader");
+			String hashHeader = (header != null) ? header.toString() : DEFAULT_HASH_HEADER;
+			if (hashHeader.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+				throw new IllegalArgumentException("Hash header must not be binary");
+			}
+			Metadata.Key<String> key = Metadata.Key.of(hashHeader, Metadata.ASCII_STRING_MARSHALLER);
+			int ringSize = DEFAULT_RING_SIZE;
+			if (rawConfig.get("ringSize") != null) {
+				double value = ((Number) rawConfig.get("ringSize")).doubleValue();
+				if (value < 1 || value > MAX_RING_SIZE || value != Math.rint(value)) {
+					throw new IllegalArgumentException(
+							"Ring size must be a whole number between 1 and " + MAX_RING_SIZE);
+				}
+				ringSize = (int) value;
+			}
+			double loadFactor = Double.POSITIVE_INFINITY;
+			if (rawConfig.get("loadFactor") != null) {
+				loadFactor = ((Number) rawConfig.get("loadFactor")).doubleValue();
+				if (!(loadFactor >= 1)) {
+					throw new IllegalArgumentException("Load factor must be at least 1");
+				}
+			}
+			return ConfigOrError.fromConfig(new ConsistentHashLoadBalancer.Config(key, ringSize, loadFactor));
+		}
+		catch (RuntimeException ex) {
+			return ConfigOrError.fromError(Status.INVALID_ARGUMENT.withCause(ex)
+				.withDescription("Invalid consistent_hash config: " + rawConfig));
+		}
+	}
+
+	private static ConsistentHashLoadBalancer.Config defaultConfig() {
+		return new ConsistentHashLoadBalancer.Config(
+				Metadata.Key.of(DEFAULT_HASH_HEADER, Metadata.ASCII_STRING_MARSHALLER), DEFAULT_RING_SIZE,
+				Double.POSITIVE_INFINITY);
+	}
+
+}
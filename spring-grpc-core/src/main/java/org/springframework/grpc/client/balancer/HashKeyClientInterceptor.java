@@ -0,0 +1,220 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.balancer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+
+/**
+ * A client interceptor that computes the hash key of a call from its request message and
+ * sends it in a header, for the {@link ConsistentHashLoadBalancerProvider
+ * consistent_hash} load balancing policy. The call is only started when its request is
+ * sent, so this applies to unary and server streaming methods only, and the header is
+ * left alone if the caller already set it. Header values can only carry printable ASCII,
+ * so any other character of a key, and {@code %}, is sent percent-encoded as UTF-8, and
+ * different keys always get different header values.
+ *
+ * @author Dave Syer
+ */
+public class HashKeyClientInterceptor implements ClientInterceptor {
+
+	private final Metadata.Key<String> header;
+
+	private final Function<Object, String> extractor;
+
+	/**
+	 * Creates a new interceptor.
+	 * @param header the name of the header carrying the hash key
+	 * @param extractor the function that computes the hash key of a request, or returns
+	 * null if it has none
+	 */
+	public HashKeyClientInterceptor(String header, Function<Object, String> extractor) {
+		Assert.hasText(header, "header must not be empty");
+		Assert.notNull(extractor, "extractor must not be null");
+		this.header = Metadata.Key.of(header, Metadata.ASCII_STRING_MARSHALLER);
+		this.extractor = extractor;
+	}
+
+	/**
+	 * Creates a new interceptor that uses a field of protobuf request messages as the
+	 * hash key. Requests that are not protobuf messages, or that do not have the field
+	 * set, get no hash key.
+	 * @param header the name of the header carrying the hash key
+	 * @param field the name of the field in the request messages
+	 * @return the interceptor
+	 */
+	public static HashKeyClientInterceptor forField(String header, String field) {
+		Assert.hasText(field, "field must not be empty");
+		return new HashKeyClientInterceptor(header, (request) -> fieldValue(request, field));
+	}
+
+	@Nullable
+	private static String fieldValue(Object request, String field) {
+		if (!(request instanceof Message message)) {
+			return null;
+		}
+		FieldDescriptor descriptor = message.getDescriptorForType().findFieldByName(field);
+		if (descriptor == null || descriptor.isRepeated() || !message.hasField(descriptor)) {
+			return null;
+		}
+		Object value = message.getField(descriptor);
+		return (value instanceof Message) ? null : value.toString();
+	}
+
+	static String encode(String key) {
+		if (key.chars().allMatch((c) -> c >= ' ' && c <= '~' && c != '%')) {
+			return key;
+		}
+		StringBuilder encoded = new StringBuilder();
+		for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+			int c = b & 0xff;
+			if (c >= ' ' && c <= '~' && c != '%') {
+				encoded.append((char) c);
+			}
+			else {
+				encoded.append(String.format("%%%02X", c));
+			}
+		}
+		return encoded.toString();
+	}
+
+	@Override
+	public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+			CallOptions callOptions, Channel next) {
+		ClientCall<ReqT, RespT> call = next.newCall(method, callOptions);
+		if (!method.getType().clientSendsOneMessage()) {
+			return call;
+		}
+		return new HashKeyCall<>(call);
+	}
+
+	private final class HashKeyCall<ReqT, RespT> extends ForwardingClientCall<ReqT, RespT> {
+
+		private final ClientCall<ReqT, RespT> delegate;
+
+		private Listener<RespT> listener;
+
+		private Metadata headers;
+
+		private int requested;
+
+		@Nullable
+		private Boolean messageCompression;
+
+		private boolean started;
+
+		HashKeyCall(ClientCall<ReqT, RespT> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		protected ClientCall<ReqT, RespT> delegate() {
+			return this.delegate;
+		}
+
+		@Override
+		public void start(Listener<RespT> listener, Metadata headers) {
+			this.listener = listener;
+			this.headers = headers;
+			if (headers.containsKey(HashKeyClientInterceptor.this.header)) {
+				begin(null);
+			}
+		}
+
+		@Override
+		public void request(int numMessages) {
+			if (this.started) {
+				super.request(numMessages);
+			}
+			else {
+				this.requested += numMessages;
+			}
+		}
+
+		@Override
+		public void setMessageCompression(boolean enabled) {
+			if (this.started) {
+				super.setMessageCompression(enabled);
+			}
+			else {
+				this.messageCompression = enabled;
+			}
+		}
+
+		@Override
+		public void sendMessage(ReqT message) {
+			if (!this.started) {
+				begin(message);
+			}
+			super.sendMessage(message);
+		}
+
+		@Override
+		public void halfClose() {
+			if (!this.started) {
+				begin(null);
+			}
+			super.halfClose();
+		}
+
+		@Override
+		public void cancel(@Nullable String message, @Nullable Throwable cause) {
+			if (!this.started && this.listener != null) {
+				// Start the call so that the listener is closed
+				begin(null);
+			}
+			super.cancel(message, cause);
+		}
+
+		@Override
+		public boolean isReady() {
+			return this.started && super.isReady();
+		}
+
+		private void begin(@Nullable ReqT message) {
+			this.started = true;
+			if (message != null) {
+				String key = HashKeyClientInterceptor.this.extractor.apply(message);
+				if (key != null) {
+					this.headers.put(HashKeyClientInterceptor.this.header, encode(key));
+				}
+			}
+			super.start(this.listener, this.headers);
+			if (this.messageCompression != null) {
+				super.setMessageCompression(this.messageCompression);
+			}
+			if (this.requested > 0) {
+				super.request(this.requested);
+			}
+		}
+
+	}
+
+}
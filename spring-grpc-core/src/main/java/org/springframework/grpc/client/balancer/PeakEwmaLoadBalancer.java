@@ -0,0 +1,145 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.balancer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.lang.Nullable;
+
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancer;
+
+/**
+ * A {@link LoadBalancer} that picks two ready backends at random and sends the call to
+ * the one with the lower cost ("power of two choices"). The cost of a backend is its
+ * peak exponentially weighted moving average (peak EWMA) latency, up to the response
+ * headers, multiplied by the number of calls it has in flight plus one. The average
+ * jumps to any latency above it, so a backend that slows down is avoided at once, and
+ * decays towards the observed latencies (and towards zero while the backend is not
+ * used) over the decay time, so that it gets another chance once it recovers.
+ *
+ * @author Dave Syer
+ * @see PeakEwmaLoadBalancerProvider
+ */
+final class PeakEwmaLoadBalancer extends AbstractBackendLoadBalancer<PeakEwmaLoadBalancer.EwmaBackend> {
+
+	private volatile long decayNanos;
+
+	PeakEwmaLoadBalancer(Helper helper, Duration decayTime) {
+		super(helper, PeakEwmaLoadBalancerProvider.POLICY_NAME);
+		this.decayNanos = decayTime.toNanos();
+	}
+
+	@Override
+	protected void configure(@Nullable Object config) {
+		if (config instanceof Config ewmaConfig) {
+			this.decayNanos = ewmaConfig.decayTime().toNanos();
+		}
+	}
+
+	@Override
+	protected EwmaBackend createBackend(EquivalentAddressGroup key, Subchannel subchannel) {
+		return new EwmaBackend(key, subchannel);
+	}
+
+	@Override
+	protected SubchannelPicker readyPicker(List<EwmaBackend> ready) {
+		return new ReadyPicker(ready);
+	}
+
+	/**
+	 * The parsed service config of the policy.
+	 *
+	 * @param decayTime the time over which the latency of a backend is averaged
+	 */
+	record Config(Duration decayTime) {
+
+	}
+
+	/**
+	 * A backend with its peak EWMA latency. The latency is the time to the response
+	 * headers, so that a stream that stays open for a long time does not count as a slow
+	 * response.
+	 */
+	final class EwmaBackend extends AbstractBackendLoadBalancer.Backend {
+
+		private long latency;
+
+		private long stamp = System.nanoTime();
+
+		EwmaBackend(EquivalentAddressGroup key, Subchannel subchannel) {
+			super(key, subchannel);
+		}
+
+		@Override
+		protected void responded(long nanos) {
+			observe(nanos);
+		}
+
+		private synchronized void observe(long rtt) {
+			long now = System.nanoTime();
+			if (rtt > this.latency) {
+				this.latency = rtt;
+			}
+			else {
+				double weight = decay(now);
+				this.latency = (long) (this.latency * weight + rtt * (1 - weight));
+			}
+			this.stamp = now;
+		}
+
+		private synchronized double cost() {
+			double latency = this.latency * decay(System.nanoTime());
+			// Plus one so that backends without a latency yet are still told apart by
+			// their calls in flight
+			return (latency + 1) * (getOutstanding() + 1);
+		}
+
+		private double decay(long now) {
+			return Math.exp(-(double) Math.max(0, now - this.stamp) / PeakEwmaLoadBalancer.this.decayNanos);
+		}
+
+	}
+
+	private static final class ReadyPicker extends SubchannelPicker {
+
+		private final List<EwmaBackend> backends;
+
+		ReadyPicker(List<EwmaBackend> backends) {
+			this.backends = backends;
+		}
+
+		@Override
+		public PickResult pickSubchannel(PickSubchannelArgs args) {
+			EwmaBackend backend = this.backends.get(0);
+			int size = this.backends.size();
+			if (size > 1) {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				int first = random.nextInt(size);
+				int second = (first + 1 + random.nextInt(size - 1)) % size;
+				EwmaBackend one = this.backends.get(first);
+				EwmaBackend other = this.backends.get(second);
+				backend = (other.cost() < one.cost()) ? other : one;
+			}
+			return backend.pick();
+		}
+
+	}
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.balancer;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+
+import io.grpc.LoadBalancer;
+import io.grpc.LoadBalancer.Helper;
+import io.grpc.LoadBalancerProvider;
+import io.grpc.NameResolver.ConfigOrError;
+import io.grpc.Status;
+
+/**
+ * A {@link LoadBalancerProvider} for the "peak_ewma" policy, which sends each call to
+ * the faster of two randomly chosen backends, judged by their recent latency and the
+ * number of calls they have in flight. It is registered through the Java service loader,
+ * so it can be selected by name like the policies built into gRPC, and accepts an
+ * optional "decayTime" (a duration string such as "10s") in its service config.
+ *
+ * @author Dave Syer
+ * @see PeakEwmaLoadBalancer
+ */
+public class PeakEwmaLoadBalancerProvider extends LoadBalancerProvider {
+
+	/**
+	 * The name of the policy.
+	 */
+	public static final String POLICY_NAME = "peak_ewma";
+
+	/**
+	 * The default time over which the latency of a backend is averaged.
+	 */
+	public static final Duration DEFAULT_DECAY_TIME = Duration.ofSeconds(10);
+
+	@Override
+	public boolean isAvailable() {
+		return true;
+	}
+
+	@Override
+	public int getPriority() {
+		return 5;
+	}
+
+	@Override
+	public String getPolicyName() {
+		return POLICY_NAME;
+	}
+
+	@Override
+	public LoadBalancer newLoadBalancer(Helper helper) {
+		return new PeakEwmaLoadBalancer(helper, DEFAULT_DECAY_TIME);
+	}
+
+	@Override
+	public ConfigOrError parseLoadBalancingPolicyConfig(Map<String, ?> rawConfig) {
+		Object decayTime = rawConfig.get("decayTime");
+		if (decayTime == null) {
+			return ConfigOrError.fromConfig(new PeakEwmaLoadBalancer.Config(DEFAULT_DECAY_TIME));
+		}
+		try {
+			String value = decayTime.toString();
+			if (!value.endsWith("s")) {
+				throw new IllegalArgumentException("Duration must end with 's'");
+			}
+			long nanos = new BigDecimal(value.substring(0, value.length() - 1)).movePointRight(9).longValueExact();
+			if (nanos <= 0) {
+				throw new IllegalArgumentException("Duration must be positive");
+			}
+			return ConfigOrError.fromConfig(new PeakEwmaLoadBalancer.Config(Duration.ofNanos(nanos)));
+		}
+		catch (RuntimeException ex) {
+			return ConfigOrError.fromError(Status.INVALID_ARGUMENT.withCause(ex)
+				.withDescription("Invalid decayTime in peak_ewma config: " + decayTime));
+		}
+	}
+
+}
@@ -0,0 +1,5 @@
+/**
+ * gRPC client load balancing policies.
+ */
+
+package org.springframework.grpc.client.balancer;
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+import org.springframework.grpc.cache.MethodRequestKey;
+import org.springframework.grpc.cache.ResponseCache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.PatternMatchUtils;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.Status;
+
+/**
+ * A client interceptor that serves unary calls from a {@link ResponseCache}. Successful
+ * responses are stored in serialized form, keyed by the full method name and serialized
+ * request, and calls with the same method and request bytes are answered from the cache
+ * until the entry expires, without contacting the server. Each cached call gets its own
+ * copy of the response, parsed from the stored bytes.
+ * <p>
+ * It must only be used for idempotent methods whose response does not depend on the
+ * caller, as the request headers are not part of the key. Response headers and trailers
+ * are not cached.
+ *
+ * @author Dave Syer
+ */
+public class CachingClientInterceptor implements ClientInterceptor {
+
+	private final ResponseCache cache;
+
+	@Nullable
+	private final String[] methodPatterns;
+
+	private LongSupplier clock = System::nanoTime;
+
+	/**
+	 * Creates a new interceptor that caches the responses of the unary methods whose full
+	 * name (e.g. "Simple/SayHello") matches any of the patterns, which may contain "*"
+	 * wildcards (e.g. "Simple/*"). No pattern means all unary methods.
+	 * @param cache the cache to store responses in
+	 * @param methodPatterns the method name patterns
+	 */
+	public CachingClientInterceptor(ResponseCache cache, String... methodPatterns) {
+		Assert.notNull(cache, "cache must not be null");
+		this.cache = cache;
+		this.methodPatterns = ObjectUtils.isEmpty(methodPatterns) ? null : methodPatterns;
+	}
+
+	void setClock(LongSupplier clock) {
+		this.clock = clock;
+	}
+
+	@Override
+	public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+			CallOptions callOptions, Channel next) {
+		if (method.getType() != MethodType.UNARY || !matches(method.getFullMethodName())) {
+			return next.newCall(method, callOptions);
+		}
+		return new CachingCall<>(method, callOptions, next);
+	}
+
+	private boolean matches(String methodName) {
+		return this.methodPatterns == null || PatternMatchUtils.simpleMatch(this.methodPatterns, methodName);
+	}
+
+	private final class CachingCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+
+		private final MethodDescriptor<ReqT, RespT> method;
+
+		private final CallOptions callOptions;
+
+		private final Channel next;
+
+		private Listener<RespT> listener;
+
+		private Metadata headers;
+
+		private int requested;
+
+		private ReqT request;
+
+		@Nullable
+		private ClientCall<ReqT, RespT> delegate;
+
+		private boolean cancelled;
+
+		CachingCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+			this.method = method;
+			this.callOptions = callOptions;
+			this.next = next;
+		}
+
+		@Override
+		public void start(Listener<RespT> listener, Metadata headers) {
+			this.listener = listener;
+			this.headers = headers;
+		}
+
+		@Override
+		public void request(int numMessages) {
+			if (this.delegate != null) {
+				this.delegate.request(numMessages);
+			}
+			else {
+				this.requested += numMessages;
+			}
+		}
+
+		@Override
+		public void sendMessage(ReqT message) {
+			this.request = message;
+		}
+
+		@Override
+		public void halfClose() {
+			if (this.cancelled) {
+				return;
+			}
+			MethodRequestKey key = MethodRequestKey.of(this.method, this.request);
+			byte[] cached = CachingClientInterceptor.this.cache.get(key,
+					CachingClientInterceptor.this.clock.getAsLong());
+			if (cached != null) {
+				RespT response = this.method.parseResponse(new ByteArrayInputStream(cached));
+				Executor executor = (this.callOptions.getExecutor() != null) ? this.callOptions.getExecutor()
+						: Runnable::run;
+				executor.execute(() -> {
+					this.listener.onHeaders(new Metadata());
+					this.listener.onMessage(response);
+					this.listener.onClose(Status.OK, new Metadata());
+				});
+				return;
+			}
+			this.delegate = this.next.newCall(this.method, this.callOptions);
+			this.delegate.start(new CachingListener(key), this.headers);
+			if (this.requested > 0) {
+				this.delegate.request(this.requested);
+			}
+			this.delegate.sendMessage(this.request);
+			this.delegate.halfClose();
+		}
+
+		@Override
+		public void cancel(@Nullable String message, @Nullable Throwable cause) {
+			if (this.cancelled) {
+				return;
+			}
+			this.cancelled = true;
+			if (this.delegate != null) {
+				this.delegate.cancel(message, cause);
+			}
+			else if (this.listener != null) {
+				this.listener.onClose(Status.CANCELLED.withDescription(message).withCause(cause), new Metadata());
+			}
+		}
+
+		@Override
+		public boolean isReady() {
+			return (this.delegate != null) ? this.delegate.isReady() : true;
+		}
+
+		private byte[] serialize(RespT response) {
+			try (InputStream stream = this.method.streamResponse(response)) {
+				return stream.readAllBytes();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+		private final class CachingListener extends SimpleForwardingClientCallListener<RespT> {
+
+			private final MethodRequestKey key;
+
+			@Nullable
+			private RespT response;
+
+			CachingListener(MethodRequestKey key) {
+				super(CachingCall.this.listener);
+				this.key = key;
+			}
+
+			@Override
+			public void onMessage(RespT message) {
+				this.response = message;
+				super.onMessage(message);
+			}
+
+			@Override
+			public void onClose(Status status, Metadata trailers) {
+				if (status.isOk() && this.response != null) {
+					CachingClientInterceptor.this.cache.put(this.key, serialize(this.response),
+							CachingClientInterceptor.this.clock.getAsLong());
+				}
+				super.onClose(status, trailers);
+			}
+
+		}
+
+	}
+
+}
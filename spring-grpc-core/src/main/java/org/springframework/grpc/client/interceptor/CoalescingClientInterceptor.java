@@ -0,0 +1,419 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.springframework.grpc.cache.MethodRequestKey;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.PatternMatchUtils;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Deadline;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.Status;
+
+/**
+ * A client interceptor that coalesces identical unary calls that are in flight at the
+ * same time into a single call to the server ("single flight"). The first call for a
+ * given method and serialized request becomes the leader and is sent to the server; calls
+ * with the same method and request bytes made before the leader completes are attached to
+ * it and receive a copy of its headers, response and status.
+ * <p>
+ * This takes load off the server when many clients ask for the same data at once, for
+ * instance when a cache expires. It must only be used for idempotent methods whose
+ * response does not depend on the caller: only the headers of the leader are sent.
+ * Calls are only coalesced if they have the same {@code authorization} and
+ * {@code cookie} headers, and calls with {@link io.grpc.CallCredentials} are never
+ * coalesced, so that a call is not answered with the credentials of another caller.
+ * <p>
+ * Each call keeps its own deadline, from its call options or its context. A call whose
+ * deadline expires, or that is cancelled, is detached and closed on its own, and the call
+ * to the server (which has no deadline itself) is cancelled when all the calls attached
+ * to it are gone.
+ *
+ * @author Dave Syer
+ */
+public class CoalescingClientInterceptor implements ClientInterceptor {
+
+	private static final List<Metadata.Key<String>> CREDENTIAL_HEADERS = List.of(
+			Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER),
+			Metadata.Key.of("cookie", Metadata.ASCII_STRING_MARSHALLER));
+
+	private final Map<FlightKey, Flight> flights = new ConcurrentHashMap<>();
+
+	@Nullable
+	private final String[] methodPatterns;
+
+	/**
+	 * Creates a new interceptor that coalesces calls to all unary methods.
+	 */
+	public CoalescingClientInterceptor() {
+		this.methodPatterns = null;
+	}
+
+	/**
+	 * Creates a new interceptor that coalesces calls to the unary methods whose full name
+	 * (e.g. "Simple/SayHello") matches any of the patterns, which may contain "*"
+	 * wildcards (e.g. "Simple/*"). No pattern means all unary methods.
+	 * @param methodPatterns the method name patterns
+	 */
+	public CoalescingClientInterceptor(String... methodPatterns) {
+		this.methodPatterns = ObjectUtils.isEmpty(methodPatterns) ? null : methodPatterns;
+	}
+
+	@Override
+	public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+			CallOptions callOptions, Channel next) {
+		if (method.getType() != MethodType.UNARY || callOptions.getCredentials() != null
+				|| !matches(method.getFullMethodName())) {
+			return next.newCall(method, callOptions);
+		}
+		return new CoalescingCall<>(method, callOptions, next);
+	}
+
+	private boolean matches(String methodName) {
+		return this.methodPatterns == null || PatternMatchUtils.simpleMatch(this.methodPatterns, methodName);
+	}
+
+	int getFlightCount() {
+		return this.flights.size();
+	}
+
+	private static FlightKey key(MethodRequestKey request, Metadata headers) {
+		List<String> credentials = new ArrayList<>();
+		for (Metadata.Key<String> header : CREDENTIAL_HEADERS) {
+			Iterable<String> values = headers.getAll(header);
+			if (values != null) {
+				values.forEach((value) -> credentials.add(header.name() + ":" + value));
+			}
+		}
+		return new FlightKey(request, credentials);
+	}
+
+	private static Metadata copy(@Nullable Metadata metadata) {
+		Metadata copy = new Metadata();
+		if (metadata != null) {
+			copy.merge(metadata);
+		}
+		return copy;
+	}
+
+	private final class CoalescingCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+
+		private final MethodDescriptor<ReqT, RespT> method;
+
+		private final CallOptions callOptions;
+
+		private final Channel next;
+
+		private final Context context;
+
+		private Listener<RespT> listener;
+
+		private Metadata headers;
+
+		private ReqT request;
+
+		@Nullable
+		private Flight flight;
+
+		@Nullable
+		private Participant participant;
+
+		private boolean cancelled;
+
+		CoalescingCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+			this.method = method;
+			this.callOptions = callOptions;
+			this.next = next;
+			this.context = Context.current();
+		}
+
+		@Override
+		public void start(Listener<RespT> listener, Metadata headers) {
+			this.listener = listener;
+			this.headers = headers;
+		}
+
+		@Override
+		public void request(int numMessages) {
+			// The single response is delivered when the call completes
+		}
+
+		@Override
+		public void sendMessage(ReqT message) {
+			this.request = message;
+		}
+
+		@Override
+		public void halfClose() {
+			if (this.cancelled) {
+				return;
+			}
+			Executor executor = (this.callOptions.getExecutor() != null) ? this.callOptions.getExecutor()
+					: Runnable::run;
+			this.participant = new Participant(this.listener, executor);
+			FlightKey key = key(MethodRequestKey.of(this.method, this.request), this.headers);
+			while (true) {
+				Flight flight = CoalescingClientInterceptor.this.flights.computeIfAbsent(key, Flight::new);
+				if (flight.join(this.participant, this::startLeader)) {
+					this.flight = flight;
+					break;
+				}
+				// The flight completed while we were joining it
+				CoalescingClientInterceptor.this.flights.remove(key, flight);
+			}
+			watch(this.flight, this.participant);
+		}
+
+		// Detaches the call when its own deadline expires or its context is cancelled
+		private void watch(Flight flight, Participant participant) {
+			Context.CancellationListener cancellation = (context) -> flight.leave(participant,
+					Contexts.statusFromCancelled(context));
+			this.context.addListener(cancellation, Runnable::run);
+			Deadline deadline = deadline();
+			Status expired = Status.DEADLINE_EXCEEDED.withDescription("Deadline exceeded waiting for a coalesced call");
+			ScheduledFuture<?> timeout = (deadline != null)
+					? deadline.runOnExpiration(() -> flight.leave(participant, expired), DeadlineTimer.INSTANCE) : null;
+			participant.onClose(() -> {
+				this.context.removeListener(cancellation);
+				if (timeout != null) {
+					timeout.cancel(false);
+				}
+			});
+		}
+
+		@Nullable
+		private Deadline deadline() {
+			Deadline deadline = this.callOptions.getDeadline();
+			Deadline inherited = this.context.getDeadline();
+			if (deadline == null) {
+				return inherited;
+			}
+			return (inherited != null) ? deadline.minimum(inherited) : deadline;
+		}
+
+		private ClientCall<?, ?> startLeader(Listener<Object> flightListener) {
+			// The leader's executor may stop being drained (e.g. a blocking stub that is
+			// interrupted) so the shared call uses the channel executor instead. It is
+			// not bound to the deadline or the context of the leader either, since each
+			// attached call has its own.
+			Context shared = this.context.fork();
+			Context previous = shared.attach();
+			try {
+				ClientCall<ReqT, RespT> call = this.next.newCall(this.method,
+						this.callOptions.withExecutor(null).withDeadline(null));
+				@SuppressWarnings("unchecked")
+				Listener<RespT> listener = (Listener<RespT>) flightListener;
+				call.start(listener, this.headers);
+				call.request(2);
+				call.sendMessage(this.request);
+				call.halfClose();
+				return call;
+			}
+			finally {
+				shared.detach(previous);
+			}
+		}
+
+		@Override
+		public void cancel(@Nullable String message, @Nullable Throwable cause) {
+			if (this.cancelled) {
+				return;
+			}
+			this.cancelled = true;
+			Status status = Status.CANCELLED.withDescription(message).withCause(cause);
+			if (this.flight != null) {
+				this.flight.leave(this.participant, status);
+			}
+			else if (this.listener != null) {
+				this.listener.onClose(status, new Metadata());
+			}
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+	}
+
+	private record FlightKey(MethodRequestKey request, List<String> credentials) {
+
+	}
+
+	private interface LeaderStarter {
+
+		ClientCall<?, ?> start(ClientCall.Listener<Object> listener);
+
+	}
+
+	private final class Flight extends ClientCall.Listener<Object> {
+
+		private final FlightKey key;
+
+		private final List<Participant> participants = new ArrayList<>();
+
+		@Nullable
+		private ClientCall<?, ?> call;
+
+		@Nullable
+		private Metadata headers;
+
+		@Nullable
+		private Object message;
+
+		private boolean closed;
+
+		Flight(FlightKey key) {
+			this.key = key;
+		}
+
+		synchronized boolean join(Participant participant, LeaderStarter leader) {
+			if (this.closed) {
+				return false;
+			}
+			this.participants.add(participant);
+			if (this.call == null) {
+				this.call = leader.start(this);
+			}
+			return true;
+		}
+
+		void leave(Participant participant, Status status) {
+			ClientCall<?, ?> cancel = null;
+			synchronized (this) {
+				if (this.closed || !this.participants.remove(participant)) {
+					return;
+				}
+				if (this.participants.isEmpty()) {
+					this.closed = true;
+					CoalescingClientInterceptor.this.flights.remove(this.key, this);
+					cancel = this.call;
+				}
+			}
+			participant.close(null, null, status, new Metadata());
+			if (cancel != null) {
+				cancel.cancel("All coalesced calls were cancelled", null);
+			}
+		}
+
+		@Override
+		public synchronized void onHeaders(Metadata headers) {
+			this.headers = headers;
+		}
+
+		@Override
+		public synchronized void onMessage(Object message) {
+			this.message = message;
+		}
+
+		@Override
+		public void onClose(Status status, Metadata trailers) {
+			List<Participant> participants;
+			synchronized (this) {
+				if (this.closed) {
+					return;
+				}
+				this.closed = true;
+				CoalescingClientInterceptor.this.flights.remove(this.key, this);
+				participants = new ArrayList<>(this.participants);
+			}
+			for (Participant participant : participants) {
+				participant.close(this.headers, this.message, status, trailers);
+			}
+		}
+
+	}
+
+	// Shared by all the interceptors, like the timer of the gRPC transports
+	private static final class DeadlineTimer {
+
+		static final ScheduledExecutorService INSTANCE = create();
+
+		private static ScheduledExecutorService create() {
+			CustomizableThreadFactory threads = new CustomizableThreadFactory("grpc-coalescing-deadline-");
+			threads.setDaemon(true);
+			ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, threads);
+			executor.setRemoveOnCancelPolicy(true);
+			return executor;
+		}
+
+	}
+
+	private static final class Participant {
+
+		private final ClientCall.Listener<Object> listener;
+
+		private final Executor executor;
+
+		private volatile Runnable onClose = () -> {
+		};
+
+		private volatile boolean closed;
+
+		@SuppressWarnings("unchecked")
+		Participant(ClientCall.Listener<?> listener, Executor executor) {
+			this.listener = (ClientCall.Listener<Object>) listener;
+			this.executor = executor;
+		}
+
+		void onClose(Runnable onClose) {
+			this.onClose = onClose;
+			if (this.closed) {
+				// Closed while the callback was being registered
+				onClose.run();
+			}
+		}
+
+		void close(@Nullable Metadata headers, @Nullable Object message, Status status, Metadata trailers) {
+			this.closed = true;
+			this.onClose.run();
+			// Delivered as one task so that the events stay ordered on any executor
+			Metadata headersCopy = (headers != null) ? copy(headers) : null;
+			Metadata trailersCopy = copy(trailers);
+			this.executor.execute(() -> {
+				if (headersCopy != null) {
+					this.listener.onHeaders(headersCopy);
+				}
+				if (message != null && status.isOk()) {
+					this.listener.onMessage(message);
+				}
+				this.listener.onClose(status, trailersCopy);
+			});
+		}
+
+	}
+
+}
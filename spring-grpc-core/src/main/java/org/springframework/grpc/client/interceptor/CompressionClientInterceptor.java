@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import org.springframework.grpc.compression.CompressionRules;
+import org.springframework.grpc.compression.CompressionRules.Compression;
+import org.springframework.util.Assert;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.MethodDescriptor;
+
+/**
+ * A client interceptor that compresses the request messages of each call according to
+ * {@link CompressionRules}. The message encoding is set on the {@link CallOptions} of the
+ * call, unless the caller already chose one, and messages smaller than the minimum size
+ * of the method are sent uncompressed.
+ * <p>
+ * The encoding must be registered in the compressor registry of the channel, and the
+ * server must be able to decompress it.
+ *
+ * @author Dave Syer
+ */
+public class CompressionClientInterceptor implements ClientInterceptor {
+
+	private final CompressionRules rules;
+
+	/**
+	 * Creates a new interceptor.
+	 * @param rules the compression rules
+	 */
+	public CompressionClientInterceptor(CompressionRules rules) {
+		Assert.notNull(rules, "rules must not be null");
+		this.rules = rules;
+	}
+
+	@Override
+	public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+			CallOptions callOptions, Channel next) {
+		Compression compression = this.rules.getCompression(method.getFullMethodName());
+		if (compression == null || callOptions.getCompressor() != null) {
+			return next.newCall(method, callOptions);
+		}
+		ClientCall<ReqT, RespT> call = next.newCall(method, callOptions.withCompression(compression.encoding()));
+		if (compression.minMessageSize() <= 0) {
+			return call;
+		}
+		return new SimpleForwardingClientCall<>(call) {
+
+			@Override
+			public void sendMessage(ReqT message) {
+				setMessageCompression(compression.shouldCompress(message));
+				super.sendMessage(message);
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.grpc.internal.DirectMarshalling;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+
+/**
+ * A client interceptor for in-process channels that switches the methods called through
+ * it to {@link DirectMarshalling marshallers that pass messages by reference}, so that
+ * messages exchanged with a server that does the same are never serialized. The rewritten
+ * method descriptors are created once per method.
+ *
+ * @author Dave Syer
+ */
+public class DirectMarshallingClientInterceptor implements ClientInterceptor {
+
+	private final Map<MethodDescriptor<?, ?>, MethodDescriptor<?, ?>> methods = new ConcurrentHashMap<>();
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+			CallOptions callOptions, Channel next) {
+		MethodDescriptor<ReqT, RespT> direct = (MethodDescriptor<ReqT, RespT>) this.methods.computeIfAbsent(method,
+				(key) -> DirectMarshalling.forMethod(method));
+		return next.newCall(direct, callOptions);
+	}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.grpc.protobuf.ZeroCopyMarshalling;
+import org.springframework.grpc.protobuf.ZeroCopyProtoMarshaller;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+
+/**
+ * A client interceptor that switches the protobuf methods called through it to
+ * {@link ZeroCopyProtoMarshaller zero-copy marshallers}, so that large responses are
+ * parsed directly from the transport buffers. The rewritten method descriptors are
+ * created once per method and passed on to the rest of the channel.
+ *
+ * @author Dave Syer
+ */
+public class ZeroCopyClientInterceptor implements ClientInterceptor {
+
+	private final Map<MethodDescriptor<?, ?>, MethodDescriptor<?, ?>> methods = new ConcurrentHashMap<>();
+
+	private final int minMessageSize;
+
+	/**
+	 * Creates a new interceptor.
+	 * @param minMessageSize the size in bytes from which messages are parsed without
+	 * copying
+	 */
+	public ZeroCopyClientInterceptor(int minMessageSize) {
+		this.minMessageSize = minMessageSize;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+			CallOptions callOptions, Channel next) {
+		MethodDescriptor<ReqT, RespT> zeroCopy = (MethodDescriptor<ReqT, RespT>) this.methods.computeIfAbsent(method,
+				(key) -> ZeroCopyMarshalling.forMethod(method, this.minMessageSize));
+		return next.newCall(zeroCopy, callOptions);
+	}
+
+}
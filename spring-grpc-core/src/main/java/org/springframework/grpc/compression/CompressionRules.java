@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.compression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.PatternMatchUtils;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.Codec;
+
+/**
+ * Selects the message encoding used to compress the messages of a call, per method, and
+ * the minimum size of the messages that are worth compressing. Small messages gain little
+ * from compression and cost CPU, so messages below the threshold are sent uncompressed
+ * even when the call uses an encoding.
+ * <p>
+ * Rules are matched in order against the full method name (e.g. "Simple/SayHello", with
+ * "*" wildcards) and the first match applies. Methods that match no rule use the default
+ * settings.
+ *
+ * @author Dave Syer
+ */
+public class CompressionRules {
+
+	@Nullable
+	private final Compression defaults;
+
+	private final List<Rule> rules = new ArrayList<>();
+
+	private final Map<String, Optional<Compression>> methods = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates rules that compress no method by default.
+	 */
+	public CompressionRules() {
+		this.defaults = null;
+	}
+
+	/**
+	 * Creates rules that compress all methods by default.
+	 * @param encoding the message encoding (e.g. "gzip"), or null or "identity" for no
+	 * compression
+	 * @param minMessageSize the size in bytes below which messages are not compressed
+	 */
+	public CompressionRules(@Nullable String encoding, long minMessageSize) {
+		this.defaults = compression(encoding, minMessageSize);
+	}
+
+	/**
+	 * Add a rule for the methods matching any of the patterns.
+	 * @param methodPatterns the full method name patterns
+	 * @param encoding the message encoding (e.g. "gzip"), or null or "identity" for no
+	 * compression
+	 * @param minMessageSize the size in bytes below which messages are not compressed
+	 * @return this instance
+	 */
+	public CompressionRules methods(List<String> methodPatterns, @Nullable String encoding, long minMessageSize) {
+		Assert.notEmpty(methodPatterns, "methodPatterns must not be empty");
+		this.rules.add(new Rule(methodPatterns.toArray(String[]::new), compression(encoding, minMessageSize)));
+		this.methods.clear();
+		return this;
+	}
+
+	/**
+	 * Get the compression settings for a method.
+	 * @param fullMethodName the full method name
+	 * @return the compression settings or null if the messages of the method should not
+	 * be compressed
+	 */
+	@Nullable
+	public Compression getCompression(String fullMethodName) {
+		return this.methods.computeIfAbsent(fullMethodName, this::findCompression).orElse(null);
+	}
+
+	private Optional<Compression> findCompression(String fullMethodName) {
+		for (Rule rule : this.rules) {
+			if (PatternMatchUtils.simpleMatch(rule.methodPatterns(), fullMethodName)) {
+				return Optional.ofNullable(rule.compression());
+			}
+		}
+		return Optional.ofNullable(this.defaults);
+	}
+
+	@Nullable
+	private static Compression compression(@Nullable String encoding, long minMessageSize) {
+		if (encoding == null || Codec.Identity.NONE.getMessageEncoding().equals(encoding)) {
+			return null;
+		}
+		return new Compression(encoding, minMessageSize);
+	}
+
+	/**
+	 * Compression settings for a method.
+	 *
+	 * @param encoding the message encoding
+	 * @param minMessageSize the size in bytes below which messages are not compressed
+	 */
+	public record Compression(String encoding, long minMessageSize) {
+
+		/**
+		 * Whether a message is large enough to be compressed. Only the size of protobuf
+		 * messages is known before they are serialized, so other messages are always
+		 * compressed.
+		 * @param message the message
+		 * @return true if the message should be compressed
+		 */
+		public boolean shouldCompress(Object message) {
+			if (this.minMessageSize <= 0 || !(message instanceof MessageLite messageLite)) {
+				return true;
+			}
+			// The size is memoized by generated messages so serialization does not
+			// compute it again
+			return messageLite.getSerializedSize() >= this.minMessageSize;
+		}
+
+	}
+
+	private record Rule(String[] methodPatterns, @Nullable Compression compression) {
+
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import io.grpc.Codec;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+/**
+ * A gRPC {@link Codec} for the "lz4" message encoding based on
+ * <a href="https://github.com/lz4/lz4-java">lz4-java</a>, using the LZ4 frame format. LZ4
+ * compresses less than gzip or zstd but is very cheap, which makes it a good fit for fast
+ * networks where CPU is the bottleneck.
+ *
+ * @author Dave Syer
+ */
+public class Lz4Codec implements Codec {
+
+	/**
+	 * The message encoding of the codec.
+	 */
+	public static final String MESSAGE_ENCODING = "lz4";
+
+	@Override
+	public String getMessageEncoding() {
+		return MESSAGE_ENCODING;
+	}
+
+	@Override
+	public OutputStream compress(OutputStream os) throws IOException {
+		return new LZ4FrameOutputStream(os);
+	}
+
+	@Override
+	public InputStream decompress(InputStream is) throws IOException {
+		return new LZ4FrameInputStream(is);
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import io.grpc.Codec;
+
+/**
+ * A gRPC {@link Codec} for the "zstd" message encoding based on
+ * <a href="https://github.com/luben/zstd-jni">zstd-jni</a>. Zstandard compresses about as
+ * well as gzip at a fraction of its CPU cost.
+ *
+ * @author Dave Syer
+ */
+public class ZstdCodec implements Codec {
+
+	/**
+	 * The message encoding of the codec.
+	 */
+	public static final String MESSAGE_ENCODING = "zstd";
+
+	private final int level;
+
+	/**
+	 * Creates a codec with the default compression level (3).
+	 */
+	public ZstdCodec() {
+		this(3);
+	}
+
+	/**
+	 * Creates a codec with the given compression level.
+	 * @param level the compression level, from 1 (fastest) to 22 (smallest output)
+	 */
+	public ZstdCodec(int level) {
+		this.level = level;
+	}
+
+	@Override
+	public String getMessageEncoding() {
+		return MESSAGE_ENCODING;
+	}
+
+	@Override
+	public OutputStream compress(OutputStream os) throws IOException {
+		return new ZstdOutputStream(os, this.level);
+	}
+
+	@Override
+	public InputStream decompress(InputStream is) throws IOException {
+		return new ZstdInputStream(is);
+	}
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Message compression codecs and per-method compression settings.
+ */
+
+package org.springframework.grpc.compression;
@@ -16,8 +16,11 @@
 package org.springframework.grpc.internal;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.OrderComparator;
@@ -77,6 +80,39 @@ public final class ApplicationContextBeanLookupUtils {
 		return orderedBeans;
 	}
 
+	/**
+	 * Variant of {@link #getOrderedBeansWithAnnotation(ApplicationContext, Class, Class)}
+	 * that only creates the beans whose names match the supplied filter. Beans are found
+	 * in the given context only, not its ancestors.
+	 * @param applicationContext the application context
+	 * @param beanType the type of bean
+	 * @param annotationType the type of annotation
+	 * @param beanNameFilter the filter for the names of the beans to include
+	 * @param <B> type of bean
+	 * @param <A> type of annotation
+	 * @return a map of matching bean instances with the annotation instance (or null)
+	 * ordered according to their {@link Order} with annotation
+	 */
+	public static <B, A extends Annotation> LinkedHashMap<B, A> getOrderedBeansWithAnnotation(
+			ApplicationContext applicationContext, Class<B> beanType, Class<A> annotationType,
+			Predicate<String> beanNameFilter) {
+		Assert.notNull(applicationContext, () -> "applicationContext must not be null");
+		var beanToNameMap = new LinkedHashMap<Object, String>();
+		var beans = new ArrayList<B>();
+		for (String beanName : applicationContext.getBeanNamesForType(beanType)) {
+			if (beanNameFilter.test(beanName)) {
+				B bean = applicationContext.getBean(beanName, beanType);
+				beanToNameMap.put(bean, beanName);
+				beans.add(bean);
+			}
+		}
+		sortBeans(applicationContext, beanToNameMap, beans);
+		var orderedBeans = new LinkedHashMap<B, A>();
+		beans.forEach((bean) -> orderedBeans.put(bean,
+				applicationContext.findAnnotationOnBean(beanToNameMap.get(bean), annotationType)));
+		return orderedBeans;
+	}
+
 	/**
 	 * Find all beans which are annotated with the supplied {@link Annotation} type.
 	 * <p>
@@ -111,6 +147,11 @@ public final class ApplicationContextBeanLookupUtils {
 			List<?> beans) {
 		var beanToNameMap = new LinkedHashMap<Object, String>();
 		applicationContext.getBeansOfType(beanType).forEach((name, bean) -> beanToNameMap.put(bean, name));
+		sortBeans(applicationContext, beanToNameMap, beans);
+	}
+
+	private static void sortBeans(ApplicationContext applicationContext, Map<Object, String> beanToNameMap,
+			List<?> beans) {
 		beans.sort(OrderComparator.INSTANCE.withSourceProvider(bean -> {
 			Integer priority = AnnotationAwareOrderComparator.INSTANCE.getPriority(bean);
 			if (priority != null) {
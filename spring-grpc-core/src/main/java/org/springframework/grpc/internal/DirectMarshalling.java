@@ -0,0 +1,168 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.MethodDescriptor.ReflectableMarshaller;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+
+/**
+ * Utilities to switch gRPC methods to marshallers that pass the message objects by
+ * reference. The in-process transport hands the streams created by a marshaller to the
+ * other side of the call as they are, so when both the client and the server use these
+ * marshallers the messages are never serialized. If only one side does, the stream is
+ * serialized lazily with the original marshaller when it is read, so the two sides still
+ * interoperate.
+ * <p>
+ * Only use this with the in-process transport, and only with immutable messages (like
+ * protobuf messages), since the client and the server share the same instances.
+ *
+ * @author Dave Syer
+ */
+public final class DirectMarshalling {
+
+	private DirectMarshalling() {
+	}
+
+	/**
+	 * Returns a copy of the method descriptor that passes requests and responses by
+	 * reference.
+	 * @param <ReqT> the request type
+	 * @param <RespT> the response type
+	 * @param method the method descriptor
+	 * @return the method descriptor to use
+	 */
+	public static <ReqT, RespT> MethodDescriptor<ReqT, RespT> forMethod(MethodDescriptor<ReqT, RespT> method) {
+		if (method.getRequestMarshaller() instanceof DirectMarshaller) {
+			return method;
+		}
+		return method
+			.toBuilder(new DirectMarshaller<>(method.getRequestMarshaller()),
+					new DirectMarshaller<>(method.getResponseMarshaller()))
+			.build();
+	}
+
+	/**
+	 * Returns a copy of the service definition in which all methods pass requests and
+	 * responses by reference. The handlers of the methods are not changed.
+	 * @param definition the service definition
+	 * @return the service definition to register with an in-process server
+	 */
+	public static ServerServiceDefinition forService(ServerServiceDefinition definition) {
+		List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+		for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+			methods.add(forMethod(method));
+		}
+		ServiceDescriptor service = definition.getServiceDescriptor();
+		ServiceDescriptor.Builder serviceBuilder = ServiceDescriptor.newBuilder(service.getName())
+			.setSchemaDescriptor(service.getSchemaDescriptor());
+		methods.forEach((method) -> serviceBuilder.addMethod(method.getMethodDescriptor()));
+		ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(serviceBuilder.build());
+		methods.forEach(builder::addMethod);
+		return builder.build();
+	}
+
+	private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> forMethod(
+			ServerMethodDefinition<ReqT, RespT> method) {
+		return ServerMethodDefinition.create(forMethod(method.getMethodDescriptor()), method.getServerCallHandler());
+	}
+
+	static class DirectMarshaller<T> implements Marshaller<T> {
+
+		private final Marshaller<T> delegate;
+
+		DirectMarshaller(Marshaller<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public InputStream stream(T value) {
+			return new MessageReference<>(value, this.delegate);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T parse(InputStream stream) {
+			if (stream instanceof MessageReference<?> reference && accepts(reference.value)) {
+				return (T) reference.value;
+			}
+			return this.delegate.parse(stream);
+		}
+
+		private boolean accepts(Object value) {
+			if (this.delegate instanceof ReflectableMarshaller<T> reflectable) {
+				return reflectable.getMessageClass().isInstance(value);
+			}
+			return true;
+		}
+
+	}
+
+	static class MessageReference<T> extends InputStream {
+
+		private final T value;
+
+		private final Marshaller<T> marshaller;
+
+		private InputStream stream;
+
+		MessageReference(T value, Marshaller<T> marshaller) {
+			this.value = value;
+			this.marshaller = marshaller;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return stream().read();
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			return stream().read(buffer, offset, length);
+		}
+
+		@Override
+		public int available() throws IOException {
+			return stream().available();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.stream != null) {
+				this.stream.close();
+			}
+		}
+
+		// Only serialized if the other side of the call does not pass messages directly
+		private InputStream stream() {
+			if (this.stream == null) {
+				this.stream = this.marshaller.stream(this.value);
+			}
+			return this.stream;
+		}
+
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.protobuf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.protobuf.Message;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.MethodDescriptor.PrototypeMarshaller;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+
+/**
+ * Utilities to switch the protobuf marshallers of gRPC methods to
+ * {@link ZeroCopyProtoMarshaller zero-copy marshallers}. Only the marshallers that are
+ * backed by a protobuf message prototype (i.e. the ones generated by the protobuf gRPC
+ * plugin) are replaced, all others are left as they are.
+ *
+ * @author Dave Syer
+ */
+public final class ZeroCopyMarshalling {
+
+	private ZeroCopyMarshalling() {
+	}
+
+	/**
+	 * Returns a copy of the method descriptor that parses requests and responses of at
+	 * least the given size without copying, or the descriptor itself if its messages are
+	 * not protobuf messages.
+	 * @param <ReqT> the request type
+	 * @param <RespT> the response type
+	 * @param method the method descriptor
+	 * @param minMessageSize the size in bytes from which messages are parsed without
+	 * copying
+	 * @return the method descriptor to use
+	 */
+	public static <ReqT, RespT> MethodDescriptor<ReqT, RespT> forMethod(MethodDescriptor<ReqT, RespT> method,
+			int minMessageSize) {
+		Marshaller<ReqT> requestMarshaller = marshaller(method.getRequestMarshaller(), minMessageSize);
+		Marshaller<RespT> responseMarshaller = marshaller(method.getResponseMarshaller(), minMessageSize);
+		if (requestMarshaller == method.getRequestMarshaller()
+				&& responseMarshaller == method.getResponseMarshaller()) {
+			return method;
+		}
+		return method.toBuilder(requestMarshaller, responseMarshaller).build();
+	}
+
+	/**
+	 * Returns a copy of the service definition in which the protobuf methods parse
+	 * messages of at least the given size without copying. The handlers of the methods
+	 * are not changed, so the definition can be prepared before or after binding
+	 * interceptors.
+	 * @param definition the service definition
+	 * @param minMessageSize the size in bytes from which messages are parsed without
+	 * copying
+	 * @return the service definition to register with the server
+	 */
+	public static ServerServiceDefinition forService(ServerServiceDefinition definition, int minMessageSize) {
+		List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+		boolean changed = false;
+		for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+			ServerMethodDefinition<?, ?> prepared = forMethod(method, minMessageSize);
+			changed = changed || prepared != method;
+			methods.add(prepared);
+		}
+		if (!changed) {
+			return definition;
+		}
+		ServiceDescriptor service = definition.getServiceDescriptor();
+		ServiceDescriptor.Builder serviceBuilder = ServiceDescriptor.newBuilder(service.getName())
+			.setSchemaDescriptor(service.getSchemaDescriptor());
+		methods.forEach((method) -> serviceBuilder.addMethod(method.getMethodDescriptor()));
+		ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(serviceBuilder.build());
+		methods.forEach(builder::addMethod);
+		return builder.build();
+	}
+
+	private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> forMethod(
+			ServerMethodDefinition<ReqT, RespT> method, int minMessageSize) {
+		MethodDescriptor<ReqT, RespT> descriptor = forMethod(method.getMethodDescriptor(), minMessageSize);
+		if (descriptor == method.getMethodDescriptor()) {
+			return method;
+		}
+		return ServerMethodDefinition.create(descriptor, method.getServerCallHandler());
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static <T> Marshaller<T> marshaller(Marshaller<T> marshaller, int minMessageSize) {
+		if (marshaller instanceof ZeroCopyProtoMarshaller) {
+			return marshaller;
+		}
+		if (marshaller instanceof PrototypeMarshaller<T> prototype
+				&& prototype.getMessagePrototype() instanceof Message message) {
+			return new ZeroCopyProtoMarshaller(message, minMessageSize);
+		}
+		return marshaller;
+	}
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.protobuf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import com.google.protobuf.UnsafeByteOperations;
+import io.grpc.Detachable;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor.PrototypeMarshaller;
+import io.grpc.Status;
+import io.grpc.protobuf.ProtoUtils;
+
+/**
+ * A protobuf {@link PrototypeMarshaller} that parses large messages directly from the
+ * transport buffers instead of copying them into a byte array first. When the stream
+ * handed over by the transport is {@link Detachable} and exposes its content as
+ * {@link HasByteBuffer byte buffers}, the buffers are detached from the call, parsed with
+ * aliasing enabled (so that {@code bytes} fields are views of the buffers and not copies)
+ * and retained until the parsed message is garbage collected.
+ * <p>
+ * Messages smaller than the configured minimum size, and streams that do not support
+ * zero-copy (e.g. compressed messages), are parsed by the standard protobuf marshaller.
+ * Since the buffers of a large message stay in use as long as the message (or any
+ * {@code ByteString} taken from it) is reachable, the minimum size should be high enough
+ * that only the messages worth the extra memory pressure are parsed this way. Messages
+ * are written by the standard protobuf marshaller, which already serializes them straight
+ * to the transport.
+ *
+ * @param <T> the message type
+ * @author Dave Syer
+ */
+public final class ZeroCopyProtoMarshaller<T extends Message> implements PrototypeMarshaller<T> {
+
+	private static final Cleaner cleaner = Cleaner.create();
+
+	private final T prototype;
+
+	private final Parser<T> parser;
+
+	private final PrototypeMarshaller<T> delegate;
+
+	private final int minMessageSize;
+
+	/**
+	 * Creates a new marshaller for messages of the same type as the prototype.
+	 * @param prototype the default instance of the message type
+	 * @param minMessageSize the size in bytes from which messages are parsed without
+	 * copying
+	 */
+	@SuppressWarnings("unchecked")
+	public ZeroCopyProtoMarshaller(T prototype, int minMessageSize) {
+		Assert.notNull(prototype, "prototype must not be null");
+		this.prototype = prototype;
+		this.parser = (Parser<T>) prototype.getParserForType();
+		this.delegate = (PrototypeMarshaller<T>) ProtoUtils.marshaller(prototype);
+		this.minMessageSize = minMessageSize;
+	}
+
+	@Override
+	public T getMessagePrototype() {
+		return this.prototype;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Class<T> getMessageClass() {
+		return (Class<T>) this.prototype.getClass();
+	}
+
+	public int getMinMessageSize() {
+		return this.minMessageSize;
+	}
+
+	@Override
+	public InputStream stream(T value) {
+		return this.delegate.stream(value);
+	}
+
+	@Override
+	public T parse(InputStream stream) {
+		if (!supportsZeroCopy(stream)) {
+			return this.delegate.parse(stream);
+		}
+		InputStream detached = ((Detachable) stream).detach();
+		try {
+			T message = parse(buffers(detached));
+			// The message may alias the buffers, so they are released when it is no
+			// longer reachable
+			cleaner.register(message, new Release(detached));
+			return message;
+		}
+		catch (IOException ex) {
+			close(detached);
+			throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(ex).asRuntimeException();
+		}
+		catch (RuntimeException ex) {
+			close(detached);
+			throw ex;
+		}
+	}
+
+	private boolean supportsZeroCopy(InputStream stream) {
+		if (!(stream instanceof Detachable) || !(stream instanceof KnownLength)
+				|| !(stream instanceof HasByteBuffer buffer) || !buffer.byteBufferSupported()
+				|| !stream.markSupported()) {
+			return false;
+		}
+		try {
+			return stream.available() >= this.minMessageSize;
+		}
+		catch (IOException ex) {
+			return false;
+		}
+	}
+
+	private static List<ByteBuffer> buffers(InputStream stream) throws IOException {
+		List<ByteBuffer> buffers = new ArrayList<>();
+		// Marking the stream keeps the buffers that have been read from being released
+		stream.mark(stream.available());
+		while (stream.available() > 0) {
+			ByteBuffer buffer = ((HasByteBuffer) stream).getByteBuffer();
+			buffers.add(buffer);
+			stream.skip(buffer.remaining());
+		}
+		return buffers;
+	}
+
+	private T parse(List<ByteBuffer> buffers) throws InvalidProtocolBufferException {
+		// Wrapping the buffers marks them as immutable, which is what allows aliasing
+		ByteString content = ByteString.EMPTY;
+		for (ByteBuffer buffer : buffers) {
+			content = content.concat(UnsafeByteOperations.unsafeWrap(buffer));
+		}
+		CodedInputStream input = content.newCodedInput();
+		input.enableAliasing(true);
+		input.setSizeLimit(Integer.MAX_VALUE);
+		T message = this.parser.parseFrom(input, ExtensionRegistryLite.getEmptyRegistry());
+		input.checkLastTagWas(0);
+		return message;
+	}
+
+	private static void close(InputStream stream) {
+		try {
+			stream.close();
+		}
+		catch (IOException ex) {
+			// Ignore
+		}
+	}
+
+	private record Release(InputStream stream) implements Runnable {
+
+		@Override
+		public void run() {
+			close(this.stream);
+		}
+
+	}
+
+}
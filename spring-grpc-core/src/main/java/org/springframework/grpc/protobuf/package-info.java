@@ -0,0 +1,5 @@
+/**
+ * Support for protobuf messages, such as marshallers that avoid copying large messages.
+ */
+
+package org.springframework.grpc.protobuf;
@@ -68,6 +68,8 @@ public class DefaultGrpcServerFactory<T extends ServerBuilder<T>> implements Grp
 
 	private ClientAuth clientAuth;
 
+	private ServerCredentials credentials;
+
 	public DefaultGrpcServerFactory(String address, List<ServerBuilderCustomizer<T>> serverBuilderCustomizers) {
 		this.address = address;
 		this.serverBuilderCustomizers = Objects.requireNonNull(serverBuilderCustomizers, "serverBuilderCustomizers");
@@ -85,6 +87,16 @@ public class DefaultGrpcServerFactory<T extends ServerBuilder<T>> implements Grp
 		return this.address;
 	}
 
+	/**
+	 * Set the credentials to use instead of those built from the key and trust
+	 * managers, for instance credentials that carry a transport specific SSL context.
+	 * They are ignored if the server does not listen on a socket.
+	 * @param credentials the server credentials
+	 */
+	public void setCredentials(ServerCredentials credentials) {
+		this.credentials = credentials;
+	}
+
 	@Override
 	public Server createServer() {
 		T builder = newServerBuilder();
@@ -120,7 +132,13 @@ public class DefaultGrpcServerFactory<T extends ServerBuilder<T>> implements Grp
 	 * @return some server credentials (default is insecure)
 	 */
 	protected ServerCredentials credentials() {
-		if (this.keyManager == null || port() == -1) {
+		if (port() == -1) {
+			return InsecureServerCredentials.create();
+		}
+		if (this.credentials != null) {
+			return this.credentials;
+		}
+		if (this.keyManager == null) {
 			return InsecureServerCredentials.create();
 		}
 		Builder builder = TlsServerCredentials.newBuilder().keyManager(this.keyManager.getKeyManagers());
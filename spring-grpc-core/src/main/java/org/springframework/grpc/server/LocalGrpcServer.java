@@ -0,0 +1,202 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.grpc.internal.DirectMarshalling;
+import org.springframework.util.Assert;
+
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessServerBuilder;
+
+/**
+ * An in-process server that serves the same services as the network server of the
+ * application, so that clients in the same application can call them without going
+ * through the network stack. A channel factory that is given this server routes the
+ * targets that {@link #isLocal(String) point at it} to its in-process address.
+ * <p>
+ * Optionally the messages can be {@link #setDirectMarshalling(boolean) passed by
+ * reference}, so that they are not serialized at all.
+ *
+ * @author Dave Syer
+ */
+public class LocalGrpcServer implements SmartLifecycle {
+
+	/**
+	 * Prefix of the targets that are always served by this server.
+	 */
+	public static final String LOCAL_TARGET_PREFIX = "local:";
+
+	private static final Log logger = LogFactory.getLog(LocalGrpcServer.class);
+
+	private static final Set<String> LOOPBACK_HOSTS = Set.of("localhost", "127.0.0.1", "0.0.0.0", "::1",
+			"0:0:0:0:0:0:0:1");
+
+	private final String name;
+
+	private final Supplier<List<ServerServiceDefinition>> services;
+
+	private final Duration shutdownGracePeriod;
+
+	private IntSupplier port = () -> -1;
+
+	private boolean directMarshalling;
+
+	private Server server;
+
+	/**
+	 * Creates a new local server. The services are only looked up when the server
+	 * starts, so that services can themselves use clients of the local server.
+	 * @param services the services to serve
+	 * @param shutdownGracePeriod the time to wait for the server to gracefully shut down
+	 */
+	public LocalGrpcServer(Supplier<List<ServerServiceDefinition>> services, Duration shutdownGracePeriod) {
+		Assert.notNull(services, "services must not be null");
+		Assert.notNull(shutdownGracePeriod, "shutdownGracePeriod must not be null");
+		this.name = InProcessServerBuilder.generateName();
+		this.services = services;
+		this.shutdownGracePeriod = shutdownGracePeriod;
+	}
+
+	/**
+	 * Set the port of the network server of this application, so that targets on a
+	 * loopback address with that port are served locally. The port is looked up every
+	 * time a channel is created, so it can be one that is only known once the network
+	 * server has started. A port that is not positive matches no targets.
+	 * @param port the port of the network server
+	 */
+	public void setPort(IntSupplier port) {
+		this.port = port;
+	}
+
+	/**
+	 * Whether to pass messages between clients and services by reference instead of
+	 * serializing them. Only safe for immutable messages, like protobuf messages.
+	 * @param directMarshalling whether to pass messages by reference
+	 */
+	public void setDirectMarshalling(boolean directMarshalling) {
+		this.directMarshalling = directMarshalling;
+	}
+
+	public boolean isDirectMarshalling() {
+		return this.directMarshalling;
+	}
+
+	/**
+	 * The in-process address of this server.
+	 * @return the name to connect to with an in-process channel
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Whether a channel target should be served by this server. That is the case for
+	 * targets starting with {@code local:}, and for targets on a loopback address with
+	 * the port of the network server of this application.
+	 * @param target the target of a channel (after any virtual target is resolved)
+	 * @return true if calls to the target can be served in-process
+	 */
+	public boolean isLocal(String target) {
+		if (target.startsWith(LOCAL_TARGET_PREFIX)) {
+			return true;
+		}
+		int port = this.port.getAsInt();
+		if (port <= 0) {
+			return false;
+		}
+		String authority = target;
+		int scheme = authority.indexOf("://");
+		if (scheme >= 0) {
+			authority = authority.substring(scheme + 3).replaceFirst("^/+", "");
+		}
+		if (authority.contains("/")) {
+			authority = authority.substring(0, authority.indexOf("/"));
+		}
+		int colon = authority.lastIndexOf(":");
+		if (colon < 0 || !authority.substring(colon + 1).equals(String.valueOf(port))) {
+			return false;
+		}
+		String host = authority.substring(0, colon).replace("[", "").replace("]", "");
+		return LOOPBACK_HOSTS.contains(host);
+	}
+
+	@Override
+	public void start() {
+		if (this.server != null) {
+			return;
+		}
+		InProcessServerBuilder builder = InProcessServerBuilder.forName(this.name);
+		this.services.get().forEach((service) -> builder
+			.addService(this.directMarshalling ? DirectMarshalling.forService(service) : service));
+		try {
+			this.server = builder.build().start();
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to start the local grpc server", ex);
+		}
+		logger.info("Local gRPC server started, listening on in-process address: " + this.name);
+	}
+
+	@Override
+	public void stop() {
+		Server localServer = this.server;
+		if (localServer == null) {
+			return;
+		}
+		localServer.shutdown();
+		try {
+			long millis = this.shutdownGracePeriod.toMillis();
+			if (millis > 0) {
+				localServer.awaitTermination(millis, TimeUnit.MILLISECONDS);
+			}
+			else if (millis < 0) {
+				localServer.awaitTermination();
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			localServer.shutdownNow();
+			this.server = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.server != null && !this.server.isShutdown();
+	}
+
+	@Override
+	public int getPhase() {
+		return Integer.MAX_VALUE;
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.aot;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.grpc.server.service.ReactorServicePrefetch;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import io.grpc.BindableService;
+
+/**
+ * Registers the Reactor services (generated by reactor-grpc) for reflection, so that
+ * {@link ReactorServicePrefetch} can call their methods in a native image.
+ *
+ * @author Dave Syer
+ */
+public class ReactorServiceBeanRegistrationsAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+	@Override
+	@Nullable
+	public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+		Set<Class<?>> registrations = new HashSet<>();
+		for (String beanName : beanFactory.getBeanNamesForType(BindableService.class)) {
+			Class<?> type = RegisteredBean.of(beanFactory, beanName).getBeanClass();
+			if (ReflectionUtils.findMethod(type, "getCallOptions", int.class) != null) {
+				// The service methods, and onErrorMap() which is declared by the base class
+				for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+					registrations.add(current);
+				}
+			}
+		}
+		if (registrations.isEmpty()) {
+			return null;
+		}
+		return new ReactorServiceBeanRegistrationsAotContribution(registrations);
+	}
+
+	static class ReactorServiceBeanRegistrationsAotContribution implements BeanFactoryInitializationAotContribution {
+
+		private final Set<Class<?>> types;
+
+		ReactorServiceBeanRegistrationsAotContribution(Set<Class<?>> types) {
+			this.types = types;
+		}
+
+		@Override
+		public void applyTo(GenerationContext generationContext,
+				BeanFactoryInitializationCode beanFactoryInitializationCode) {
+			ReflectionHints hints = generationContext.getRuntimeHints().reflection();
+			for (Class<?> type : this.types) {
+				hints.registerType(type, MemberCategory.INVOKE_DECLARED_METHODS);
+			}
+		}
+
+	}
+
+}
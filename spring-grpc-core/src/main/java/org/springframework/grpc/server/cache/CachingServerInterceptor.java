@@ -0,0 +1,331 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.core.Ordered;
+import org.springframework.grpc.cache.MethodRequestKey;
+import org.springframework.grpc.cache.ResponseCache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.PatternMatchUtils;
+
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCall;
+import io.grpc.ServerCall.Listener;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+
+/**
+ * A gRPC {@link ServerInterceptor} that caches the responses of unary methods that are
+ * pure functions of their request. Responses are cached in serialized form, keyed on the
+ * method and the serialized request, in a {@link ResponseCache} that bounds their number,
+ * size and age. Only the methods whose full name (e.g. "Simple/SayHello") matches one of
+ * the configured patterns are cached, and only successful calls with a single response
+ * are stored. Headers and trailers sent by the service are not cached.
+ * <p>
+ * A cache hit is answered directly by the interceptor without invoking the service or any
+ * interceptor that runs after this one. For the services whose definition was prepared
+ * with {@link #usePreSerializedResponses(ServerServiceDefinition)} the cached bytes are
+ * sent without being parsed and are written to the wire as they are by the response
+ * marshaller of the method, so that responses are serialized once, when they are cached.
+ * The service and the interceptors that run after this one only see response messages
+ * of the method's own type, but on a cache hit of such a service the interceptors that
+ * run before it are given an opaque holder of the cached bytes instead, so they must not
+ * inspect the response messages of the cached methods.
+ *
+ * @author Dave Syer
+ */
+public class CachingServerInterceptor implements ServerInterceptor, Ordered {
+
+	/**
+	 * The default order of the interceptor, which places it after the other global
+	 * interceptors (e.g. security and rate limiting) so that they also apply to cache
+	 * hits.
+	 */
+	public static final int DEFAULT_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+	private final ResponseCache cache;
+
+	private final List<String> methodPatterns;
+
+	private final Map<String, Boolean> cachedMethods = new ConcurrentHashMap<>();
+
+	private LongSupplier clock = System::nanoTime;
+
+	private int order = DEFAULT_ORDER;
+
+	/**
+	 * Creates a new interceptor that caches the responses of the unary methods whose full
+	 * name matches any of the patterns, which may contain "*" wildcards (e.g.
+	 * "Simple/*").
+	 * @param cache the cache for the responses
+	 * @param methodPatterns the method name patterns
+	 */
+	public CachingServerInterceptor(ResponseCache cache, String... methodPatterns) {
+		Assert.notNull(cache, "cache must not be null");
+		this.cache = cache;
+		this.methodPatterns = List.of(methodPatterns);
+	}
+
+	/**
+	 * Returns a copy of this interceptor that also caches the responses of the methods
+	 * whose full name matches any of the given patterns. The copy shares the cache and
+	 * the settings of this interceptor, which is left unchanged, so it can be used for a
+	 * single service.
+	 * @param methodPatterns the additional full method name patterns
+	 * @return the new interceptor
+	 */
+	public CachingServerInterceptor withMethods(String... methodPatterns) {
+		Set<String> patterns = new LinkedHashSet<>(this.methodPatterns);
+		patterns.addAll(Arrays.asList(methodPatterns));
+		CachingServerInterceptor interceptor = new CachingServerInterceptor(this.cache,
+				patterns.toArray(String[]::new));
+		interceptor.clock = this.clock;
+		interceptor.order = this.order;
+		return interceptor;
+	}
+
+	public ResponseCache getCache() {
+		return this.cache;
+	}
+
+	public void setOrder(int order) {
+		this.order = order;
+	}
+
+	@Override
+	public int getOrder() {
+		return this.order;
+	}
+
+	void setClock(LongSupplier clock) {
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns a copy of the service definition in which the cached methods write
+	 * pre-serialized responses to the wire as they are, so that cache hits are not
+	 * parsed. The handlers of the methods are not changed, so the definition can be
+	 * prepared before or after binding interceptors.
+	 * @param definition the service definition
+	 * @return the service definition to register with the server
+	 */
+	public ServerServiceDefinition usePreSerializedResponses(ServerServiceDefinition definition) {
+		List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+		boolean changed = false;
+		for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+			ServerMethodDefinition<?, ?> prepared = isCached(method.getMethodDescriptor()) ? preSerialized(method)
+					: method;
+			changed = changed || prepared != method;
+			methods.add(prepared);
+		}
+		if (!changed) {
+			return definition;
+		}
+		ServiceDescriptor service = definition.getServiceDescriptor();
+		ServiceDescriptor.Builder serviceBuilder = ServiceDescriptor.newBuilder(service.getName())
+			.setSchemaDescriptor(service.getSchemaDescriptor());
+		methods.forEach((method) -> serviceBuilder.addMethod(method.getMethodDescriptor()));
+		ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(serviceBuilder.build());
+		methods.forEach(builder::addMethod);
+		return builder.build();
+	}
+
+	private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> preSerialized(
+			ServerMethodDefinition<ReqT, RespT> method) {
+		MethodDescriptor<ReqT, RespT> descriptor = method.getMethodDescriptor();
+		if (descriptor.getResponseMarshaller() instanceof PreSerializedMarshaller) {
+			return method;
+		}
+		MethodDescriptor<ReqT, RespT> prepared = descriptor.toBuilder()
+			.setResponseMarshaller(new PreSerializedMarshaller<>(descriptor.getResponseMarshaller()))
+			.build();
+		return ServerMethodDefinition.create(prepared, method.getServerCallHandler());
+	}
+
+	@Override
+	public <ReqT, RespT> Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+			ServerCallHandler<ReqT, RespT> next) {
+		if (!isCached(call.getMethodDescriptor())) {
+			return next.startCall(call, headers);
+		}
+		// The service is only started on a cache miss, so request the message ourselves
+		call.request(1);
+		return new CachingListener<>(call, headers, next);
+	}
+
+	private boolean isCached(MethodDescriptor<?, ?> method) {
+		return method.getType() == MethodType.UNARY
+				&& this.cachedMethods.computeIfAbsent(method.getFullMethodName(), (name) -> this.methodPatterns.stream()
+					.anyMatch((pattern) -> PatternMatchUtils.simpleMatch(pattern, name)));
+	}
+
+	private static <RespT> RespT response(Marshaller<RespT> marshaller, byte[] response) {
+		if (marshaller instanceof PreSerializedMarshaller<RespT> preSerialized) {
+			return preSerialized.cached(response);
+		}
+		return marshaller.parse(new ByteArrayInputStream(response));
+	}
+
+	private static <RespT> byte[] serialize(Marshaller<RespT> marshaller, RespT message) {
+		Marshaller<RespT> delegate = (marshaller instanceof PreSerializedMarshaller<RespT> preSerialized)
+				? preSerialized.getDelegate() : marshaller;
+		try (InputStream stream = delegate.stream(message)) {
+			return stream.readAllBytes();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private final class CachingListener<ReqT, RespT> extends Listener<ReqT> {
+
+		private final ServerCall<ReqT, RespT> call;
+
+		private final Metadata headers;
+
+		private final ServerCallHandler<ReqT, RespT> next;
+
+		@Nullable
+		private Listener<ReqT> delegate;
+
+		private boolean responded;
+
+		CachingListener(ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+			this.call = call;
+			this.headers = headers;
+			this.next = next;
+		}
+
+		@Override
+		public void onMessage(ReqT message) {
+			if (this.delegate != null) {
+				this.delegate.onMessage(message);
+				return;
+			}
+			if (this.responded) {
+				return;
+			}
+			MethodRequestKey key = MethodRequestKey.of(this.call.getMethodDescriptor(), message);
+			byte[] response = CachingServerInterceptor.this.cache.get(key,
+					CachingServerInterceptor.this.clock.getAsLong());
+			if (response != null) {
+				this.responded = true;
+				this.call.sendHeaders(new Metadata());
+				this.call.sendMessage(response(this.call.getMethodDescriptor().getResponseMarshaller(), response));
+				this.call.close(Status.OK, new Metadata());
+				return;
+			}
+			this.delegate = this.next.startCall(new CachingServerCall<>(this.call, key), this.headers);
+			this.delegate.onMessage(message);
+		}
+
+		@Override
+		public void onHalfClose() {
+			if (this.responded) {
+				return;
+			}
+			if (this.delegate == null) {
+				// No request message: let the service report the error
+				this.delegate = this.next.startCall(this.call, this.headers);
+			}
+			this.delegate.onHalfClose();
+		}
+
+		@Override
+		public void onCancel() {
+			if (this.delegate != null) {
+				this.delegate.onCancel();
+			}
+		}
+
+		@Override
+		public void onComplete() {
+			if (this.delegate != null) {
+				this.delegate.onComplete();
+			}
+		}
+
+		@Override
+		public void onReady() {
+			if (this.delegate != null) {
+				this.delegate.onReady();
+			}
+		}
+
+	}
+
+	private final class CachingServerCall<ReqT, RespT> extends SimpleForwardingServerCall<ReqT, RespT> {
+
+		private final MethodRequestKey key;
+
+		@Nullable
+		private byte[] response;
+
+		private int count;
+
+		CachingServerCall(ServerCall<ReqT, RespT> delegate, MethodRequestKey key) {
+			super(delegate);
+			this.key = key;
+		}
+
+		@Override
+		public void sendMessage(RespT message) {
+			Marshaller<RespT> marshaller = getMethodDescriptor().getResponseMarshaller();
+			byte[] response = serialize(marshaller, message);
+			this.response = response;
+			this.count++;
+			if (marshaller instanceof PreSerializedMarshaller<RespT> preSerialized) {
+				// Serialized once: the bytes that are cached are the ones sent to the client
+				preSerialized.register(message, response);
+			}
+			super.sendMessage(message);
+		}
+
+		@Override
+		public void close(Status status, Metadata trailers) {
+			if (status.isOk() && this.count == 1 && this.response != null) {
+				CachingServerInterceptor.this.cache.put(this.key, this.response,
+						CachingServerInterceptor.this.clock.getAsLong());
+			}
+			super.close(status, trailers);
+		}
+
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Map;
+
+import com.google.common.collect.MapMaker;
+import io.grpc.MethodDescriptor.Marshaller;
+
+/**
+ * A response {@link Marshaller} that writes the responses it has been given the
+ * serialized form of to the wire as they are, and delegates everything else to the
+ * marshaller of the method. Installed by {@link CachingServerInterceptor} on the methods
+ * it caches so that cache misses are only serialized once, and cache hits are sent as
+ * {@link #cached(byte[]) holders of the cached bytes} that are neither parsed nor
+ * serialized again.
+ *
+ * @param <T> the response type
+ * @author Dave Syer
+ */
+final class PreSerializedMarshaller<T> implements Marshaller<T> {
+
+	private final Marshaller<T> delegate;
+
+	// Weak keys are compared by identity, so only the exact message that was registered
+	// is written from its bytes, and a message that is never sent is not retained
+	private final Map<Object, byte[]> serialized = new MapMaker().weakKeys().makeMap();
+
+	PreSerializedMarshaller(Marshaller<T> delegate) {
+		this.delegate = delegate;
+	}
+
+	Marshaller<T> getDelegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * Register the serialized form of a response that is about to be sent.
+	 * @param message the response
+	 * @param bytes the serialized response
+	 */
+	void register(T message, byte[] bytes) {
+		this.serialized.put(message, bytes);
+	}
+
+	/**
+	 * Return a response that holds serialized bytes and is written to the wire as they
+	 * are. It is not an instance of the response type, so it must only be sent, not
+	 * inspected.
+	 * @param bytes the serialized response
+	 * @return the response to send
+	 */
+	@SuppressWarnings("unchecked")
+	T cached(byte[] bytes) {
+		return (T) new CachedResponse(bytes);
+	}
+
+	@Override
+	public InputStream stream(T value) {
+		if (value instanceof CachedResponse cached) {
+			return new ByteArrayInputStream(cached.bytes());
+		}
+		byte[] bytes = this.serialized.remove(value);
+		if (bytes != null) {
+			return new ByteArrayInputStream(bytes);
+		}
+		return this.delegate.stream(value);
+	}
+
+	@Override
+	public T parse(InputStream stream) {
+		return this.delegate.parse(stream);
+	}
+
+	private record CachedResponse(byte[] bytes) {
+
+		@Override
+		public String toString() {
+			return "CachedResponse[" + this.bytes.length + " bytes]";
+		}
+
+	}
+
+}
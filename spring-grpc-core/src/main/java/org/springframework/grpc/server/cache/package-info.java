@@ -0,0 +1,5 @@
+/**
+ * Caching of gRPC server responses.
+ */
+
+package org.springframework.grpc.server.cache;
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.compression;
+
+import org.springframework.grpc.compression.CompressionRules;
+import org.springframework.grpc.compression.CompressionRules.Compression;
+import org.springframework.util.Assert;
+
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCall.Listener;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+/**
+ * A gRPC {@link ServerInterceptor} that compresses the response messages of each call
+ * according to {@link CompressionRules}. The message encoding is set with
+ * {@link ServerCall#setCompression(String)}, so it is only used if the client advertised
+ * it as acceptable, and messages smaller than the minimum size of the method are sent
+ * uncompressed.
+ * <p>
+ * The encoding must be registered in the compressor registry of the server.
+ *
+ * @author Dave Syer
+ */
+public class CompressionServerInterceptor implements ServerInterceptor {
+
+	private final CompressionRules rules;
+
+	/**
+	 * Creates a new interceptor.
+	 * @param rules the compression rules
+	 */
+	public CompressionServerInterceptor(CompressionRules rules) {
+		Assert.notNull(rules, "rules must not be null");
+		this.rules = rules;
+	}
+
+	@Override
+	public <ReqT, RespT> Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+			ServerCallHandler<ReqT, RespT> next) {
+		Compression compression = this.rules.getCompression(call.getMethodDescriptor().getFullMethodName());
+		if (compression == null) {
+			return next.startCall(call, headers);
+		}
+		call.setCompression(compression.encoding());
+		if (compression.minMessageSize() <= 0) {
+			return next.startCall(call, headers);
+		}
+		return next.startCall(new SimpleForwardingServerCall<>(call) {
+
+			@Override
+			public void sendMessage(RespT message) {
+				setMessageCompression(compression.shouldCompress(message));
+				super.sendMessage(message);
+			}
+
+		}, headers);
+	}
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Compression of gRPC server responses.
+ */
+
+package org.springframework.grpc.server.compression;
@@ -15,9 +15,13 @@
  */
 package org.springframework.grpc.server.exception;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
 import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
 import io.grpc.Metadata;
 import io.grpc.ServerCall;
@@ -35,6 +39,14 @@ import io.grpc.StatusException;
  * {@link GrpcExceptionHandler}.
  *
  * <p>
+ * The {@link ServerCall} is also wrapped, so that exceptions that a service reports
+ * asynchronously (e.g. through {@code StreamObserver.onError}, which is what the reactive
+ * stubs do with errors from their publishers) are handled when the call is closed. Those
+ * arrive as an {@link Status.Code#UNKNOWN UNKNOWN} status with the exception as its
+ * cause. This means reactive services need no bytecode generated for them to have their
+ * errors mapped, so it works the same in a native image.
+ *
+ * <p>
  * A fallback mechanism is used to return UNKNOWN in case the {@link GrpcExceptionHandler}
  * returns a null.
  *
@@ -45,6 +57,8 @@ import io.grpc.StatusException;
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class GrpcExceptionHandlerInterceptor implements ServerInterceptor {
 
+	private static final Log logger = LogFactory.getLog(GrpcExceptionHandlerInterceptor.class);
+
 	private final GrpcExceptionHandler exceptionHandler;
 
 	public GrpcExceptionHandlerInterceptor(GrpcExceptionHandler exceptionHandler) {
@@ -66,7 +80,7 @@ public class GrpcExceptionHandlerInterceptor implements ServerInterceptor {
 		Listener<ReqT> listener;
 		FallbackHandler handler = new FallbackHandler(this.exceptionHandler);
 		try {
-			listener = next.startCall(call, headers);
+			listener = next.startCall(new ExceptionHandlerCall<>(call, this.exceptionHandler), headers);
 		}
 		catch (Throwable t) {
 			call.close(handler.handleException(t).getStatus(), headers(t));
@@ -143,6 +157,8 @@ public class GrpcExceptionHandlerInterceptor implements ServerInterceptor {
 				status = this.exceptionHandler.handleException(t);
 			}
 			catch (Throwable e) {
+				// The call still has to be closed, so the original status is sent
+				logger.warn("Failed to handle exception, closing the call with its original status", e);
 			}
 			try {
 				this.call.close(status.getStatus(), headers(t));
@@ -154,6 +170,41 @@ public class GrpcExceptionHandlerInterceptor implements ServerInterceptor {
 
 	}
 
+	static class ExceptionHandlerCall<ReqT, RespT> extends SimpleForwardingServerCall<ReqT, RespT> {
+
+		private final GrpcExceptionHandler exceptionHandler;
+
+		ExceptionHandlerCall(ServerCall<ReqT, RespT> delegate, GrpcExceptionHandler exceptionHandler) {
+			super(delegate);
+			this.exceptionHandler = exceptionHandler;
+		}
+
+		@Override
+		public void close(Status status, Metadata trailers) {
+			Throwable cause = status.getCause();
+			// Status.fromThrowable() keeps the code of a StatusException cause, so only an
+			// UNKNOWN status can carry an exception that has not been handled yet
+			if (status.getCode() == Status.Code.UNKNOWN && cause != null) {
+				StatusException handled = null;
+				try {
+					handled = this.exceptionHandler.handleException(cause);
+				}
+				catch (Throwable e) {
+					// The call still has to be closed, so the original status is sent
+					logger.warn("Failed to handle exception, closing the call with its original status", e);
+				}
+				if (handled != null) {
+					status = handled.getStatus();
+					if (handled.getTrailers() != null) {
+						trailers.merge(handled.getTrailers());
+					}
+				}
+			}
+			super.close(status, trailers);
+		}
+
+	}
+
 	static class FallbackHandler implements GrpcExceptionHandler {
 
 		private final GrpcExceptionHandler exceptionHandler;
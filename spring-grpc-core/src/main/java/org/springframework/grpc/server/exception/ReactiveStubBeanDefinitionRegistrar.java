@@ -41,7 +41,11 @@ import io.grpc.StatusException;
  * {@link GrpcExceptionHandler} beans.
  *
  * @author Dave Syer
+ * @deprecated since 0.9.0 in favour of the {@link GrpcExceptionHandlerInterceptor},
+ * which handles the errors of reactive services without subclassing them, so it also
+ * works with AOT processing and in native images
  */
+@Deprecated(since = "0.9.0", forRemoval = true)
 public class ReactiveStubBeanDefinitionRegistrar implements ImportBeanDefinitionRegistrar {
 
 	@Override
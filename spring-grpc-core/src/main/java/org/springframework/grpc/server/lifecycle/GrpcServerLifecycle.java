@@ -36,6 +36,14 @@ import io.grpc.Server;
 
 /**
  * Lifecycle bean that automatically starts and stops the grpc server.
+ * <p>
+ * The server is stopped in phases. First a {@link GrpcServerShutdownEvent} is published,
+ * so that listeners can mark the services as not serving (e.g. in the health service),
+ * then the {@link #setShutdownDelay(Duration) shutdown delay} gives clients and load
+ * balancers time to notice. Then the server stops accepting calls and tells the clients
+ * (with a GOAWAY on HTTP/2), and the calls in flight have up to the grace period to
+ * finish. The server terminates as soon as the last call finishes, so the grace period
+ * is only used up by calls that outlast it.
  *
  * @author Michael (yidongnan@gmail.com)
  * @author Dave Syer
@@ -52,6 +60,10 @@ public class GrpcServerLifecycle implements SmartLifecycle {
 
 	private final ApplicationEventPublisher eventPublisher;
 
+	private Duration shutdownDelay = Duration.ZERO;
+
+	private String name;
+
 	private Server server;
 
 	/**
@@ -67,6 +79,33 @@ public class GrpcServerLifecycle implements SmartLifecycle {
 		this.eventPublisher = eventPublisher;
 	}
 
+	/**
+	 * Set the time to wait after the {@link GrpcServerShutdownEvent} is published before
+	 * the server stops accepting calls, so that clients and load balancers can notice
+	 * that the services are not serving and route calls elsewhere.
+	 * @param shutdownDelay the shutdown delay (default zero)
+	 */
+	public void setShutdownDelay(Duration shutdownDelay) {
+		this.shutdownDelay = requireNonNull(shutdownDelay, "shutdownDelay");
+	}
+
+	/**
+	 * Set the name of the server, if it is one of several in the application (e.g. an
+	 * internal listener for admin services).
+	 * @param name the name of the server (default null for the main server)
+	 */
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * The name of the server, or null for the main server.
+	 * @return the name of the server
+	 */
+	public String getName() {
+		return this.name;
+	}
+
 	@Override
 	public void start() {
 		try {
@@ -82,10 +121,28 @@ public class GrpcServerLifecycle implements SmartLifecycle {
 		stopAndReleaseGrpcServer();
 	}
 
+	/**
+	 * Stop the server in the background and run the callback when it has terminated, so
+	 * that the other servers in the same phase (e.g. additional listeners) stop at the
+	 * same time and their shutdown delays and grace periods do not add up. The context
+	 * waits for the callback for up to the timeout of its shutdown phase.
+	 */
 	@Override
 	public void stop(final Runnable callback) {
-		stop();
-		callback.run();
+		if (this.server == null) {
+			callback.run();
+			return;
+		}
+		final Thread stopThread = new Thread(() -> {
+			try {
+				stop();
+			}
+			finally {
+				callback.run();
+			}
+		});
+		stopThread.setName("grpc-server-shutdown-" + ((this.name != null) ? this.name : "default"));
+		stopThread.start();
 	}
 
 	@Override
@@ -119,7 +176,8 @@ public class GrpcServerLifecycle implements SmartLifecycle {
 				this.server = localServer.start();
 				final String address = this.server.getListenSockets().toString();
 				final int port = this.server.getPort();
-				logger.info("gRPC Server started, listening on address: " + this.server.getListenSockets());
+				logger.info("gRPC Server " + ((this.name != null) ? "'" + this.name + "' " : "")
+						+ "started, listening on address: " + this.server.getListenSockets());
 				this.eventPublisher.publishEvent(new GrpcServerStartedEvent(this, localServer, address, port));
 
 				// Prevent the JVM from shutting down while the server is running
@@ -149,10 +207,19 @@ public class GrpcServerLifecycle implements SmartLifecycle {
 			final long millis = this.shutdownGracePeriod.toMillis();
 			logger.debug("Initiating gRPC server shutdown");
 			this.eventPublisher.publishEvent(new GrpcServerShutdownEvent(this, localServer));
+			try {
+				if (!this.shutdownDelay.isZero() && !this.shutdownDelay.isNegative()) {
+					logger.debug("Waiting " + this.shutdownDelay + " before stopping the gRPC server");
+					Thread.sleep(this.shutdownDelay.toMillis());
+				}
+			}
+			catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			// Stops accepting calls and sends GOAWAY to the clients
 			localServer.shutdown();
-			// Wait for the server to shutdown completely before continuing with
-			// destroying
-			// the spring context
+			// Wait for the calls in flight to finish before continuing with destroying
+			// the spring context, which happens as soon as the last one does
 			try {
 				if (millis > 0) {
 					localServer.awaitTermination(millis, TimeUnit.MILLISECONDS);
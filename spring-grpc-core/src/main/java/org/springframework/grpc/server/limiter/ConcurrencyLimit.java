@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.limiter;
+
+/**
+ * Strategy for estimating the number of calls that can be processed concurrently based on
+ * observed call latencies.
+ * <p>
+ * Implementations are expected to be thread-safe, as samples are reported concurrently by
+ * completing calls.
+ *
+ * @author Dave Syer
+ * @see ConcurrencyLimiter
+ */
+public interface ConcurrencyLimit {
+
+	/**
+	 * Get the current estimated limit.
+	 * @return the maximum number of concurrent calls
+	 */
+	int getLimit();
+
+	/**
+	 * Update the limit estimate with a completed call sample.
+	 * @param rttNanos the round trip time of the call in nanoseconds
+	 * @param inflight the number of calls in flight when the call was started
+	 * @param dropped whether the call was dropped (e.g. timed out) and should be treated
+	 * as a sign of overload
+	 */
+	void onSample(long rttNanos, int inflight, boolean dropped);
+
+}
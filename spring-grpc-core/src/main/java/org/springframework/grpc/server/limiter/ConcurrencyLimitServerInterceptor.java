@@ -0,0 +1,204 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.limiter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.core.Ordered;
+import org.springframework.grpc.server.limiter.ConcurrencyLimiter.Permit;
+import org.springframework.util.Assert;
+
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCall;
+import io.grpc.ServerCall.Listener;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+/**
+ * A gRPC {@link ServerInterceptor} that sheds load by rejecting calls as soon as the
+ * number of calls in flight reaches an adaptively estimated {@link ConcurrencyLimit}.
+ * Rejected calls are closed immediately, before any other interceptor or the service
+ * itself is invoked, so that latency stays bounded under overload.
+ * <p>
+ * Only unary calls contribute latency samples to the limit estimate, as the duration of a
+ * streaming call says little about the load on the server. Streaming calls still count
+ * towards the number of calls in flight.
+ * <p>
+ * By default all methods share one limit. When {@link #setPerMethod(boolean) per-method}
+ * limiting is enabled, each method gets its own limit so that a slow method cannot starve
+ * the others.
+ *
+ * @author Dave Syer
+ * @see ConcurrencyLimiter
+ */
+public class ConcurrencyLimitServerInterceptor implements ServerInterceptor, Ordered {
+
+	/**
+	 * The default order of the interceptor, which places it right after the exception
+	 * handling interceptor and ahead of the security interceptors.
+	 */
+	public static final int DEFAULT_ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+	private final Supplier<? extends ConcurrencyLimit> limitFactory;
+
+	private final ConcurrencyLimiter limiter;
+
+	private final Map<String, ConcurrencyLimiter> methodLimiters = new ConcurrentHashMap<>();
+
+	private boolean perMethod;
+
+	private Status rejectStatus = Status.UNAVAILABLE;
+
+	private int order = DEFAULT_ORDER;
+
+	/**
+	 * Creates a new interceptor.
+	 * @param limitFactory factory for the limit of each partition (one shared limit or
+	 * one limit per method)
+	 */
+	public ConcurrencyLimitServerInterceptor(Supplier<? extends ConcurrencyLimit> limitFactory) {
+		Assert.notNull(limitFactory, "limitFactory must not be null");
+		this.limitFactory = limitFactory;
+		this.limiter = new ConcurrencyLimiter(limitFactory.get());
+	}
+
+	/**
+	 * Set whether each method should be limited independently.
+	 * @param perMethod whether to use a limit per method (default false)
+	 */
+	public void setPerMethod(boolean perMethod) {
+		this.perMethod = perMethod;
+	}
+
+	/**
+	 * Set the status code used to reject calls that exceed the limit.
+	 * @param code the status code (default {@link Status.Code#UNAVAILABLE UNAVAILABLE})
+	 */
+	public void setRejectStatus(Status.Code code) {
+		Assert.notNull(code, "code must not be null");
+		this.rejectStatus = code.toStatus();
+	}
+
+	public void setOrder(int order) {
+		this.order = order;
+	}
+
+	@Override
+	public int getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Get the limiter used for the given method.
+	 * @param fullMethodName the full method name
+	 * @return the limiter
+	 */
+	public ConcurrencyLimiter getLimiter(String fullMethodName) {
+		if (!this.perMethod) {
+			return this.limiter;
+		}
+		return this.methodLimiters.computeIfAbsent(fullMethodName,
+				(name) -> new ConcurrencyLimiter(this.limitFactory.get()));
+	}
+
+	@Override
+	public <ReqT, RespT> Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+			ServerCallHandler<ReqT, RespT> next) {
+		String methodName = call.getMethodDescriptor().getFullMethodName();
+		Permit permit = getLimiter(methodName).tryAcquire();
+		if (permit == null) {
+			call.close(this.rejectStatus.withDescription("Concurrency limit exceeded for " + methodName),
+					new Metadata());
+			return new Listener<ReqT>() {
+			};
+		}
+		boolean sampled = call.getMethodDescriptor().getType() == MethodType.UNARY;
+		Listener<ReqT> listener;
+		try {
+			listener = next.startCall(new LimitedServerCall<>(call, permit, sampled), headers);
+		}
+		catch (RuntimeException | Error ex) {
+			permit.onIgnore();
+			throw ex;
+		}
+		return new SimpleForwardingServerCallListener<>(listener) {
+
+			@Override
+			public void onCancel() {
+				try {
+					super.onCancel();
+				}
+				finally {
+					permit.onIgnore();
+				}
+			}
+
+			@Override
+			public void onComplete() {
+				try {
+					super.onComplete();
+				}
+				finally {
+					permit.onIgnore();
+				}
+			}
+
+		};
+	}
+
+	private static final class LimitedServerCall<ReqT, RespT> extends SimpleForwardingServerCall<ReqT, RespT> {
+
+		private final Permit permit;
+
+		private final boolean sampled;
+
+		LimitedServerCall(ServerCall<ReqT, RespT> delegate, Permit permit, boolean sampled) {
+			super(delegate);
+			this.permit = permit;
+			this.sampled = sampled;
+		}
+
+		@Override
+		public void close(Status status, Metadata trailers) {
+			try {
+				super.close(status, trailers);
+			}
+			finally {
+				if (!this.sampled) {
+					this.permit.onIgnore();
+				}
+				else if (status.isOk()) {
+					this.permit.onSuccess();
+				}
+				else if (status.getCode() == Status.Code.DEADLINE_EXCEEDED) {
+					this.permit.onDropped();
+				}
+				else {
+					this.permit.onIgnore();
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.limiter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Tracks the number of calls in flight and admits new calls only while that number is
+ * below the limit estimated by a {@link ConcurrencyLimit}.
+ *
+ * @author Dave Syer
+ */
+public class ConcurrencyLimiter {
+
+	private final ConcurrencyLimit limit;
+
+	private final AtomicInteger inflight = new AtomicInteger();
+
+	public ConcurrencyLimiter(ConcurrencyLimit limit) {
+		Assert.notNull(limit, "limit must not be null");
+		this.limit = limit;
+	}
+
+	/**
+	 * Try to acquire a permit to process a call. The permit must be released through one
+	 * of its {@code on*} methods once the call completes.
+	 * @return the permit or null if the limit has been reached and the call should be
+	 * rejected
+	 */
+	@Nullable
+	public Permit tryAcquire() {
+		int current;
+		do {
+			current = this.inflight.get();
+			if (current >= this.limit.getLimit()) {
+				return null;
+			}
+		}
+		while (!this.inflight.compareAndSet(current, current + 1));
+		return new Permit(current + 1);
+	}
+
+	/**
+	 * Get the current concurrency limit.
+	 * @return the current limit
+	 */
+	public int getLimit() {
+		return this.limit.getLimit();
+	}
+
+	/**
+	 * Get the number of calls currently in flight.
+	 * @return the number of calls in flight
+	 */
+	public int getInflight() {
+		return this.inflight.get();
+	}
+
+	/**
+	 * A permit for a single call admitted by the limiter.
+	 */
+	public final class Permit {
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private final int inflight;
+
+		private final long startTime = System.nanoTime();
+
+		private Permit(int inflight) {
+			this.inflight = inflight;
+		}
+
+		/**
+		 * Release the permit and use the call latency to update the limit.
+		 */
+		public void onSuccess() {
+			release(true, false);
+		}
+
+		/**
+		 * Release the permit and signal that the call was dropped (e.g. it timed out),
+		 * which is treated as a sign of overload.
+		 */
+		public void onDropped() {
+			release(true, true);
+		}
+
+		/**
+		 * Release the permit without updating the limit (e.g. the call failed for reasons
+		 * unrelated to load or was cancelled).
+		 */
+		public void onIgnore() {
+			release(false, false);
+		}
+
+		private void release(boolean sample, boolean dropped) {
+			if (this.released.compareAndSet(false, true)) {
+				ConcurrencyLimiter.this.inflight.decrementAndGet();
+				if (sample) {
+					ConcurrencyLimiter.this.limit.onSample(System.nanoTime() - this.startTime, this.inflight, dropped);
+				}
+			}
+		}
+
+	}
+
+}
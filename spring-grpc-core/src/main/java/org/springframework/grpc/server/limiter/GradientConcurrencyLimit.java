@@ -0,0 +1,105 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.limiter;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConcurrencyLimit} that adjusts the limit using the gradient between a long term
+ * (exponentially averaged) round trip time and the round trip time of the most recent
+ * call. A gradient below 1 indicates that a queue is building up and the limit is reduced
+ * accordingly, while a small allowance for queueing (the square root of the limit) lets
+ * the limit grow when latency is stable.
+ *
+ * @author Dave Syer
+ */
+public class GradientConcurrencyLimit implements ConcurrencyLimit {
+
+	private static final int LONG_WINDOW = 600;
+
+	private static final double BACKOFF_RATIO = 0.9;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final double smoothing;
+
+	private final double rttTolerance;
+
+	private volatile double estimatedLimit;
+
+	private double longRtt;
+
+	/**
+	 * Creates a new gradient limit.
+	 * @param initialLimit the initial limit
+	 * @param minLimit the minimum limit
+	 * @param maxLimit the maximum limit
+	 * @param smoothing factor in the range {@code (0, 1]} used to smooth limit changes
+	 * @param rttTolerance how much the latency may grow above the long term average
+	 * before the limit is reduced (e.g. 1.5 tolerates a 50% increase)
+	 */
+	public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double smoothing,
+			double rttTolerance) {
+		Assert.isTrue(minLimit > 0, "minLimit must be positive");
+		Assert.isTrue(maxLimit >= minLimit, "maxLimit must not be less than minLimit");
+		Assert.isTrue(smoothing > 0 && smoothing <= 1.0, "smoothing must be in the range (0, 1]");
+		Assert.isTrue(rttTolerance >= 1.0, "rttTolerance must be at least 1.0");
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.smoothing = smoothing;
+		this.rttTolerance = rttTolerance;
+		this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+	}
+
+	@Override
+	public int getLimit() {
+		return (int) this.estimatedLimit;
+	}
+
+	@Override
+	public synchronized void onSample(long rttNanos, int inflight, boolean dropped) {
+		if (rttNanos <= 0) {
+			return;
+		}
+		double limit = this.estimatedLimit;
+		double newLimit;
+		if (dropped) {
+			newLimit = limit * BACKOFF_RATIO;
+		}
+		else {
+			this.longRtt = (this.longRtt == 0) ? rttNanos
+					: this.longRtt + (rttNanos - this.longRtt) / Math.min(LONG_WINDOW, limit * 10);
+			if (this.longRtt / rttNanos > 2) {
+				// Latency dropped sharply (e.g. after recovering from overload) so let
+				// the long term average catch up instead of growing the limit unbounded
+				this.longRtt *= 0.95;
+			}
+			if (inflight < limit / 2) {
+				// The service is not using the capacity it has, so there is
+				// nothing to learn from this sample
+				return;
+			}
+			double gradient = Math.max(0.5, Math.min(1.0, this.rttTolerance * this.longRtt / rttNanos));
+			newLimit = limit * gradient + Math.sqrt(limit);
+		}
+		newLimit = (1 - this.smoothing) * limit + this.smoothing * newLimit;
+		this.estimatedLimit = Math.max(this.minLimit, Math.min(this.maxLimit, newLimit));
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.grpc.server.limiter;
+
+import org.springframework.lang.Nullable;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+
+/**
+ * Strategy to resolve the principal a call is made on behalf of, so that rate limits can
+ * be applied to each caller independently.
+ *
+ * @author Dave Syer
+ * @see RateLimitServerInterceptor
+ */
+@FunctionalInterface
+public interface PrincipalResolver {
+
+	/**
+	 * Resolve the principal of the call.
+	 * @param call the server call
+	 * @param headers the request headers
+	 * @return the name of the principal or null if the call is anonymous
+	 */
+	@Nullable
+	String resolvePrincipal(ServerCall<?, ?> call, Metadata headers);
+
+}
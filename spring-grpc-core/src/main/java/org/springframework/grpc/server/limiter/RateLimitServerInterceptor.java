@@ -0,0 +1,309 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.grpc.server.limiter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.core.Ordered;
+import org.springframework.grpc.server.security.GrpcSecurity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.PatternMatchUtils;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCall.Listener;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+/**
+ * A gRPC {@link ServerInterceptor} that enforces request rate quotas per method and,
+ * optionally, per principal. Quotas are declared as rules that are matched in order
+ * against the full method name, for example:
+ *
+ * <pre class="code">
+ * RateLimitServerInterceptor interceptor = new RateLimitServerInterceptor();
+ * interceptor.methods("Simple/SayHello").perPrincipal().limit(10, Duration.ofSeconds(1))
+ * 	.allRequests().limit(1000, Duration.ofSeconds(1));
+ * </pre>
+ * <p>
+ * Each method matched by a rule gets its own {@link TokenBucket token bucket} (one per
+ * principal for rules that apply {@link RateLimitedCall#perPrincipal() per principal}).
+ * The buckets are lock-free so that a popular method does not become a contention point,
+ * and buckets that have been idle for longer than the {@link #setIdleTimeout(Duration)
+ * idle timeout} are evicted so that memory stays bounded with many principals.
+ * <p>
+ * Calls that exceed their quota are closed with {@link Status#RESOURCE_EXHAUSTED} and
+ * trailers that tell the client when to retry: {@value #RETRY_AFTER_HEADER} in seconds
+ * and {@value #RETRY_PUSHBACK_HEADER} in milliseconds, which is honoured by gRPC retry
+ * policies.
+ * <p>
+ * The principal is resolved by a {@link PrincipalResolver}, which by default reads the
+ * Spring Security context populated by the authentication interceptor if Spring Security
+ * is on the classpath. The interceptor is therefore ordered after the security
+ * interceptors.
+ *
+ * @author Dave Syer
+ */
+public class RateLimitServerInterceptor implements ServerInterceptor, Ordered {
+
+	/**
+	 * The default order of the interceptor, which places it after the security
+	 * interceptors so that the principal is known.
+	 */
+	public static final int DEFAULT_ORDER = GrpcSecurity.CONTEXT_FILTER_ORDER + 100;
+
+	/**
+	 * Name of the trailer with the number of seconds to wait before retrying.
+	 */
+	public static final String RETRY_AFTER_HEADER = "retry-after";
+
+	/**
+	 * Name of the trailer with the number of milliseconds to wait before retrying, as
+	 * understood by gRPC retry policies.
+	 */
+	public static final String RETRY_PUSHBACK_HEADER = "grpc-retry-pushback-ms";
+
+	private static final Metadata.Key<String> RETRY_AFTER_KEY = Metadata.Key.of(RETRY_AFTER_HEADER,
+			Metadata.ASCII_STRING_MARSHALLER);
+
+	private static final Metadata.Key<String> RETRY_PUSHBACK_KEY = Metadata.Key.of(RETRY_PUSHBACK_HEADER,
+			Metadata.ASCII_STRING_MARSHALLER);
+
+	private static final boolean SECURITY_PRESENT = ClassUtils.isPresent(
+			"org.springframework.security.core.context.SecurityContextHolder",
+			RateLimitServerInterceptor.class.getClassLoader());
+
+	private final List<RateLimitedCall> rateLimitedCalls = new ArrayList<>();
+
+	private final Map<String, RateLimitedCall> matchedCalls = new ConcurrentHashMap<>();
+
+	private final Map<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+	private final RateLimitedCall unlimited = new RateLimitedCall((method) -> true);
+
+	private PrincipalResolver principalResolver = SECURITY_PRESENT ? new SecurityContextPrincipalResolver()
+			: (call, headers) -> null;
+
+	private long idleTimeout = TimeUnit.MINUTES.toNanos(1);
+
+	private LongSupplier clock = System::nanoTime;
+
+	private final AtomicLong lastEviction = new AtomicLong(this.clock.getAsLong());
+
+	private int order = DEFAULT_ORDER;
+
+	/**
+	 * Declare a rate limit for all calls that are not matched by a previous rule.
+	 * @return the rule to configure
+	 */
+	public RateLimitedCall allRequests() {
+		return addRateLimitedCall(new RateLimitedCall((method) -> true));
+	}
+
+	/**
+	 * Declare a rate limit for the methods that match any of the patterns, unless they
+	 * were matched by a previous rule. Patterns are matched against the full method name
+	 * (e.g. "Simple/SayHello") and may contain "*" wildcards (e.g. "Simple/*").
+	 * @param patterns the method name patterns
+	 * @return the rule to configure
+	 */
+	public RateLimitedCall methods(String... patterns) {
+		return addRateLimitedCall(new RateLimitedCall((method) -> PatternMatchUtils.simpleMatch(patterns, method)));
+	}
+
+	private RateLimitedCall addRateLimitedCall(RateLimitedCall call) {
+		this.rateLimitedCalls.add(call);
+		this.matchedCalls.clear();
+		return call;
+	}
+
+	/**
+	 * Set the strategy used to resolve the principal of calls that are limited per
+	 * principal.
+	 * @param principalResolver the principal resolver
+	 */
+	public void setPrincipalResolver(PrincipalResolver principalResolver) {
+		Assert.notNull(principalResolver, "principalResolver must not be null");
+		this.principalResolver = principalResolver;
+	}
+
+	/**
+	 * Set the time after which the bucket of a method or principal that received no calls
+	 * is evicted.
+	 * @param idleTimeout the idle timeout (default 1 minute)
+	 */
+	public void setIdleTimeout(Duration idleTimeout) {
+		Assert.isTrue(idleTimeout != null && !idleTimeout.isNegative(), "idleTimeout must not be negative");
+		this.idleTimeout = idleTimeout.toNanos();
+	}
+
+	void setClock(LongSupplier clock) {
+		this.clock = clock;
+		this.lastEviction.set(clock.getAsLong());
+	}
+
+	public void setOrder(int order) {
+		this.order = order;
+	}
+
+	@Override
+	public int getOrder() {
+		return this.order;
+	}
+
+	int getBucketCount() {
+		return this.buckets.size();
+	}
+
+	@Override
+	public <ReqT, RespT> Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+			ServerCallHandler<ReqT, RespT> next) {
+		String methodName = call.getMethodDescriptor().getFullMethodName();
+		RateLimitedCall rateLimitedCall = this.matchedCalls.computeIfAbsent(methodName, this::findRateLimitedCall);
+		if (rateLimitedCall.emissionInterval <= 0) {
+			return next.startCall(call, headers);
+		}
+		long now = this.clock.getAsLong();
+		evictIdleBuckets(now);
+		String principal = rateLimitedCall.perPrincipal ? this.principalResolver.resolvePrincipal(call, headers) : null;
+		BucketKey key = new BucketKey(rateLimitedCall, methodName, principal);
+		TokenBucket bucket = this.buckets.get(key);
+		if (bucket == null) {
+			bucket = this.buckets.computeIfAbsent(key, (k) -> rateLimitedCall.createBucket(now));
+		}
+		long wait = bucket.tryAcquire(now);
+		if (wait > 0) {
+			Metadata trailers = new Metadata();
+			trailers.put(RETRY_AFTER_KEY, Long.toString(ceil(wait, TimeUnit.SECONDS)));
+			trailers.put(RETRY_PUSHBACK_KEY, Long.toString(ceil(wait, TimeUnit.MILLISECONDS)));
+			call.close(Status.RESOURCE_EXHAUSTED.withDescription("Rate limit exceeded for " + methodName), trailers);
+			return new Listener<>() {
+			};
+		}
+		return next.startCall(call, headers);
+	}
+
+	private RateLimitedCall findRateLimitedCall(String methodName) {
+		for (RateLimitedCall call : this.rateLimitedCalls) {
+			if (call.matcher.matches(methodName)) {
+				return call;
+			}
+		}
+		return this.unlimited;
+	}
+
+	private void evictIdleBuckets(long now) {
+		long last = this.lastEviction.get();
+		if (now - last < this.idleTimeout || !this.lastEviction.compareAndSet(last, now)) {
+			return;
+		}
+		this.buckets.values().removeIf((bucket) -> bucket.isIdle(now, this.idleTimeout));
+	}
+
+	private static long ceil(long nanos, TimeUnit unit) {
+		long unitNanos = unit.toNanos(1);
+		return (nanos + unitNanos - 1) / unitNanos;
+	}
+
+	private interface MethodMatcher {
+
+		boolean matches(String methodName);
+
+	}
+
+	private record BucketKey(RateLimitedCall call, String method, @Nullable String principal) {
+
+	}
+
+	/**
+	 * A rate limit rule for the calls that match a set of methods.
+	 */
+	public class RateLimitedCall {
+
+		private final MethodMatcher matcher;
+
+		private boolean perPrincipal;
+
+		private long emissionInterval;
+
+		private long burst;
+
+		RateLimitedCall(MethodMatcher matcher) {
+			this.matcher = matcher;
+		}
+
+		/**
+		 * Apply the limit to each principal independently. Calls without a principal
+		 * share one quota.
+		 * @return this rule
+		 */
+		public RateLimitedCall perPrincipal() {
+			this.perPrincipal = true;
+			return this;
+		}
+
+		/**
+		 * Allow the given number of calls per period, all of which may arrive at once.
+		 * @param permits the number of calls allowed per period
+		 * @param period the period
+		 * @return the interceptor to declare further rules
+		 */
+		public RateLimitServerInterceptor limit(long permits, Duration period) {
+			return limit(permits, period, permits);
+		}
+
+		/**
+		 * Allow the given number of calls per period, with a bounded burst size.
+		 * @param permits the number of calls allowed per period
+		 * @param period the period
+		 * @param burst the maximum number of calls that may arrive at once
+		 * @return the interceptor to declare further rules
+		 */
+		public RateLimitServerInterceptor limit(long permits, Duration period, long burst) {
+			Assert.isTrue(permits > 0, "permits must be positive");
+			Assert.isTrue(period != null && !period.isNegative() && !period.isZero(), "period must be positive");
+			Assert.isTrue(burst > 0, "burst must be positive");
+			this.emissionInterval = Math.max(1, period.toNanos() / permits);
+			this.burst = burst;
+			return RateLimitServerInterceptor.this;
+		}
+
+		/**
+		 * Do not limit the matching calls.
+		 * @return the interceptor to declare further rules
+		 */
+		public RateLimitServerInterceptor unlimited() {
+			this.emissionInterval = 0;
+			return RateLimitServerInterceptor.this;
+		}
+
+		TokenBucket createBucket(long now) {
+			return new TokenBucket(this.emissionInterval, this.burst, now);
+		}
+
+	}
+
+}
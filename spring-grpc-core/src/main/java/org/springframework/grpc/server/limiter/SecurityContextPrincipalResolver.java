@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.grpc.server.limiter;
+
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+
+/**
+ * A {@link PrincipalResolver} that uses the name of the authentication in the
+ * {@link SecurityContextHolder security context}, as set by the Spring Security server
+ * interceptors. Anonymous callers have no principal.
+ *
+ * @author Dave Syer
+ */
+public class SecurityContextPrincipalResolver implements PrincipalResolver {
+
+	@Override
+	@Nullable
+	public String resolvePrincipal(ServerCall<?, ?> call, Metadata headers) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+			return null;
+		}
+		return authentication.getName();
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.grpc.server.limiter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket implemented as a generic cell rate algorithm: instead of a
+ * token count that has to be refilled, it keeps the theoretical arrival time of the next
+ * permit in a single atomic value, so that acquiring a permit is a single compare and set
+ * and contended buckets never block.
+ *
+ * @author Dave Syer
+ */
+final class TokenBucket {
+
+	private final long emissionInterval;
+
+	private final long burstTolerance;
+
+	private final AtomicLong theoreticalArrival;
+
+	/**
+	 * Creates a new full bucket.
+	 * @param emissionInterval the time in nanoseconds it takes to refill one permit
+	 * @param burst the maximum number of permits that can be acquired at once
+	 * @param now the current time in nanoseconds
+	 */
+	TokenBucket(long emissionInterval, long burst, long now) {
+		this.emissionInterval = emissionInterval;
+		this.burstTolerance = emissionInterval * burst;
+		this.theoreticalArrival = new AtomicLong(now);
+	}
+
+	/**
+	 * Try to acquire a permit.
+	 * @param now the current time in nanoseconds
+	 * @return zero if a permit was acquired, otherwise the time in nanoseconds until the
+	 * next permit will be available
+	 */
+	long tryAcquire(long now) {
+		while (true) {
+			long current = this.theoreticalArrival.get();
+			long next = ((current - now > 0) ? current : now) + this.emissionInterval;
+			long excess = next - now - this.burstTolerance;
+			if (excess > 0) {
+				return excess;
+			}
+			if (this.theoreticalArrival.compareAndSet(current, next)) {
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * Whether the bucket has been full for longer than the given time, in which case it
+	 * can be discarded without loss since a new bucket would behave the same.
+	 * @param now the current time in nanoseconds
+	 * @param idleTime the idle time in nanoseconds
+	 * @return true if the bucket is idle
+	 */
+	boolean isIdle(long now, long idleTime) {
+		return now - this.theoreticalArrival.get() > idleTime;
+	}
+
+}
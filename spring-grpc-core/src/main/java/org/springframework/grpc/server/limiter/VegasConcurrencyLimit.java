@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.limiter;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConcurrencyLimit} based on TCP Vegas congestion control. The limit is adjusted
+ * by comparing the measured round trip time of each call with the lowest round trip time
+ * observed so far (the "no load" round trip time) to estimate the size of the queue
+ * building up in front of the service.
+ * <p>
+ * The limit is increased while the estimated queue is small and decreased as soon as it
+ * grows beyond a threshold proportional to the logarithm of the limit.
+ * <p>
+ * The no load round trip time is measured again every 15 to 30 times the limit samples,
+ * so that a single unusually fast call, or a service that has become slower for good,
+ * does not hold the limit down for ever.
+ *
+ * @author Dave Syer
+ */
+public class VegasConcurrencyLimit implements ConcurrencyLimit {
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final double smoothing;
+
+	private volatile double estimatedLimit;
+
+	private static final int PROBE_MULTIPLIER = 30;
+
+	private long rttNoLoad;
+
+	private long probeCount;
+
+	private double probeJitter = nextProbeJitter();
+
+	/**
+	 * Creates a new Vegas limit.
+	 * @param initialLimit the initial limit
+	 * @param minLimit the minimum limit
+	 * @param maxLimit the maximum limit
+	 * @param smoothing factor in the range {@code (0, 1]} used to smooth limit changes
+	 */
+	public VegasConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double smoothing) {
+		Assert.isTrue(minLimit > 0, "minLimit must be positive");
+		Assert.isTrue(maxLimit >= minLimit, "maxLimit must not be less than minLimit");
+		Assert.isTrue(smoothing > 0 && smoothing <= 1.0, "smoothing must be in the range (0, 1]");
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.smoothing = smoothing;
+		this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+	}
+
+	@Override
+	public int getLimit() {
+		return (int) this.estimatedLimit;
+	}
+
+	@Override
+	public synchronized void onSample(long rttNanos, int inflight, boolean dropped) {
+		if (rttNanos <= 0) {
+			return;
+		}
+		if (++this.probeCount >= PROBE_MULTIPLIER * this.estimatedLimit * this.probeJitter) {
+			// Start again from the current round trip time; the jitter keeps servers
+			// that started together from probing at the same time
+			this.probeCount = 0;
+			this.probeJitter = nextProbeJitter();
+			this.rttNoLoad = rttNanos;
+			return;
+		}
+		if (this.rttNoLoad == 0 || rttNanos < this.rttNoLoad) {
+			this.rttNoLoad = rttNanos;
+			return;
+		}
+		double limit = this.estimatedLimit;
+		double log = Math.max(1, Math.log10(limit));
+		double newLimit;
+		if (dropped) {
+			newLimit = limit - log;
+		}
+		else if (inflight * 2 < limit) {
+			// The service is not using the capacity it has, so there is nothing to learn
+			return;
+		}
+		else {
+			int queueSize = (int) Math.ceil(limit * (1 - (double) this.rttNoLoad / rttNanos));
+			if (queueSize <= log) {
+				newLimit = limit + 6 * log;
+			}
+			else if (queueSize < 3 * log) {
+				newLimit = limit + log;
+			}
+			else if (queueSize > 6 * log) {
+				newLimit = limit - log;
+			}
+			else {
+				return;
+			}
+		}
+		newLimit = Math.max(this.minLimit, Math.min(this.maxLimit, newLimit));
+		this.estimatedLimit = (1 - this.smoothing) * limit + this.smoothing * newLimit;
+	}
+
+	private static double nextProbeJitter() {
+		return ThreadLocalRandom.current().nextDouble(0.5, 1.0);
+	}
+
+}
@@ -0,0 +1,5 @@
+/**
+ * gRPC server load shedding and call limiting.
+ */
+
+package org.springframework.grpc.server.limiter;
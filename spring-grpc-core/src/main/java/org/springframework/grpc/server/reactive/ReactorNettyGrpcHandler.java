@@ -0,0 +1,328 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.reactive;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+import org.reactivestreams.Publisher;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import io.grpc.CompressorRegistry;
+import io.grpc.DecompressorRegistry;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.http.server.HttpServerRoutes;
+
+/**
+ * A Reactor Netty HTTP handler that serves gRPC calls, so that gRPC services can share
+ * the port and the event loops of a Reactor Netty server (e.g. the one of a WebFlux
+ * application) instead of running on a separate gRPC server. The server has to accept
+ * HTTP/2 (with TLS or in clear text) for gRPC clients to be able to connect to it.
+ * <p>
+ * Each request is adapted to a {@link io.grpc.ServerCall} and dispatched to the matching
+ * method of the services the handler was created with. Flow control is mapped onto
+ * Reactor demand: request messages are only read from the connection when the service
+ * asks for them, and the service is told it may send more responses when the outbound
+ * publisher is requested more. The listener of each call is invoked serially on the
+ * configured executor or, like on a native gRPC server, on a cached thread pool owned by
+ * the handler. Services that never block can be run on the event loop of the connection
+ * instead with {@link #directExecutor()}.
+ *
+ * @author Dave Syer
+ */
+public class ReactorNettyGrpcHandler
+		implements BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>>, DisposableBean {
+
+	/**
+	 * The default maximum size of a request message.
+	 */
+	public static final int DEFAULT_MAX_INBOUND_MESSAGE_SIZE = 4 * 1024 * 1024;
+
+	private final Map<String, ServerMethodDefinition<?, ?>> methods;
+
+	@Nullable
+	private Executor executor;
+
+	@Nullable
+	private ExecutorService defaultExecutor;
+
+	private boolean direct;
+
+	private int maxInboundMessageSize = DEFAULT_MAX_INBOUND_MESSAGE_SIZE;
+
+	private CompressorRegistry compressorRegistry = CompressorRegistry.getDefaultInstance();
+
+	private DecompressorRegistry decompressorRegistry = DecompressorRegistry.getDefaultInstance();
+
+	private boolean grpcWebEnabled;
+
+	private List<String> allowedOrigins = List.of();
+
+	private Duration maxAge = Duration.ofMinutes(30);
+
+	private Set<String> trailers = ReactorNettyServerCall.DEFAULT_TRAILERS;
+
+	/**
+	 * Creates a new handler for the methods of the services.
+	 * @param services the service definitions, with their interceptors already bound
+	 */
+	public ReactorNettyGrpcHandler(List<ServerServiceDefinition> services) {
+		Map<String, ServerMethodDefinition<?, ?>> methods = new HashMap<>();
+		for (ServerServiceDefinition service : services) {
+			for (ServerMethodDefinition<?, ?> method : service.getMethods()) {
+				methods.put(method.getMethodDescriptor().getFullMethodName(), method);
+			}
+		}
+		this.methods = Collections.unmodifiableMap(methods);
+	}
+
+	/**
+	 * Set the executor for the service calls. The default is a cached thread pool owned
+	 * by the handler.
+	 * @param executor the executor for the service calls, or null for the default
+	 */
+	public void setExecutor(@Nullable Executor executor) {
+		this.executor = executor;
+		this.direct = false;
+	}
+
+	/**
+	 * Call the services directly on the event loop of the connection. This saves a
+	 * thread hop per call, but a service that blocks stalls every connection on the same
+	 * event loop (including the ones of the web server), so only use it for services
+	 * that never block.
+	 */
+	public void directExecutor() {
+		this.executor = null;
+		this.direct = true;
+	}
+
+	public void setMaxInboundMessageSize(int maxInboundMessageSize) {
+		Assert.isTrue(maxInboundMessageSize > 0, "maxInboundMessageSize must be positive");
+		this.maxInboundMessageSize = maxInboundMessageSize;
+	}
+
+	public void setCompressorRegistry(CompressorRegistry compressorRegistry) {
+		this.compressorRegistry = compressorRegistry;
+	}
+
+	public void setDecompressorRegistry(DecompressorRegistry decompressorRegistry) {
+		this.decompressorRegistry = decompressorRegistry;
+	}
+
+	/**
+	 * Set whether gRPC-Web requests (from browsers) are served as well, so that they do
+	 * not need a translating proxy. The default is {@code false}.
+	 * @param grpcWebEnabled whether to serve gRPC-Web requests
+	 */
+	public void setGrpcWebEnabled(boolean grpcWebEnabled) {
+		this.grpcWebEnabled = grpcWebEnabled;
+	}
+
+	/**
+	 * Set the origins that browsers may call the services from with gRPC-Web (e.g.
+	 * {@code https://example.com} or {@code *}). The CORS pre-flight requests are
+	 * answered by the handler when there are any, since the calls do not go through the
+	 * filters of the web application. The default is none.
+	 * @param allowedOrigins the allowed origins
+	 */
+	public void setAllowedOrigins(List<String> allowedOrigins) {
+		this.allowedOrigins = List.copyOf(allowedOrigins);
+	}
+
+	/**
+	 * Set how long browsers may cache the response to a CORS pre-flight request. The
+	 * default is 30 minutes.
+	 * @param maxAge the maximum age of a pre-flight response
+	 */
+	public void setMaxAge(Duration maxAge) {
+		this.maxAge = maxAge;
+	}
+
+	/**
+	 * Set the names of the trailers that the services may send, besides the status and
+	 * the ones of built-in features (load reports and rate limits). HTTP trailers have to
+	 * be declared before the first response message, so other trailers of calls that
+	 * have sent messages are dropped, with a warning.
+	 * @param trailers the names of the trailers
+	 */
+	public void setTrailers(Collection<String> trailers) {
+		Set<String> declared = new LinkedHashSet<>(ReactorNettyServerCall.DEFAULT_TRAILERS);
+		trailers.forEach((name) -> declared.add(name.toLowerCase(Locale.ROOT)));
+		this.trailers = Collections.unmodifiableSet(declared);
+	}
+
+	/**
+	 * Add a route for the gRPC requests that this handler serves.
+	 * @param routes the routes of the server
+	 * @return the routes
+	 */
+	public HttpServerRoutes addRoutes(HttpServerRoutes routes) {
+		return routes.route(this::accepts, this);
+	}
+
+	private boolean accepts(HttpServerRequest request) {
+		return isGrpcRequest(request)
+				|| (this.grpcWebEnabled && (isGrpcWebRequest(request) || isPreFlightRequest(request)));
+	}
+
+	private boolean isPreFlightRequest(HttpServerRequest request) {
+		return !this.allowedOrigins.isEmpty() && HttpMethod.OPTIONS.equals(request.method())
+				&& request.requestHeaders().contains(HttpHeaderNames.ORIGIN)
+				&& request.requestHeaders().contains(HttpHeaderNames.ACCESS_CONTROL_REQUEST_METHOD)
+				&& this.methods.containsKey(methodName(request));
+	}
+
+	/**
+	 * Checks if a request is a gRPC call, i.e. a POST with a gRPC content type (gRPC-Web
+	 * requests are not).
+	 * @param request the request
+	 * @return true if it is a gRPC call
+	 */
+	public static boolean isGrpcRequest(HttpServerRequest request) {
+		if (!HttpMethod.POST.equals(request.method())) {
+			return false;
+		}
+		String contentType = request.requestHeaders().get(HttpHeaderNames.CONTENT_TYPE);
+		if (contentType == null || !contentType.startsWith(ReactorNettyServerCall.CONTENT_TYPE)) {
+			return false;
+		}
+		return contentType.length() == ReactorNettyServerCall.CONTENT_TYPE.length()
+				|| contentType.charAt(ReactorNettyServerCall.CONTENT_TYPE.length()) == '+'
+				|| contentType.charAt(ReactorNettyServerCall.CONTENT_TYPE.length()) == ';';
+	}
+
+	/**
+	 * Checks if a request is a gRPC-Web call, i.e. a POST with a binary or text gRPC-Web
+	 * content type.
+	 * @param request the request
+	 * @return true if it is a gRPC-Web call
+	 */
+	public static boolean isGrpcWebRequest(HttpServerRequest request) {
+		if (!HttpMethod.POST.equals(request.method())) {
+			return false;
+		}
+		String contentType = request.requestHeaders().get(HttpHeaderNames.CONTENT_TYPE);
+		return contentType != null && contentType.startsWith(ReactorNettyServerCall.GRPC_WEB_CONTENT_TYPE);
+	}
+
+	@Override
+	public Publisher<Void> apply(HttpServerRequest request, HttpServerResponse response) {
+		if (HttpMethod.OPTIONS.equals(request.method())) {
+			return preFlight(request, response);
+		}
+		if (isGrpcWebRequest(request)) {
+			allowOrigin(request, response);
+		}
+		String name = methodName(request);
+		ServerMethodDefinition<?, ?> method = this.methods.get(name);
+		if (method == null) {
+			return ReactorNettyServerCall.reject(response, ReactorNettyServerCall.Protocol.of(request),
+					Status.UNIMPLEMENTED.withDescription("Method not found: " + name));
+		}
+		return ReactorNettyServerCall
+			.create(method, request, response, executor(), this.maxInboundMessageSize, this.compressorRegistry,
+					this.decompressorRegistry, this.trailers)
+			.start();
+	}
+
+	private Publisher<Void> preFlight(HttpServerRequest request, HttpServerResponse response) {
+		String method = request.requestHeaders().get(HttpHeaderNames.ACCESS_CONTROL_REQUEST_METHOD);
+		if (!HttpMethod.POST.name().equals(method) || !allowOrigin(request, response)) {
+			return response.status(HttpResponseStatus.FORBIDDEN).send();
+		}
+		response.status(HttpResponseStatus.OK)
+			.header(HttpHeaderNames.ACCESS_CONTROL_ALLOW_METHODS, HttpMethod.POST.name())
+			.header(HttpHeaderNames.ACCESS_CONTROL_MAX_AGE, String.valueOf(this.maxAge.toSeconds()));
+		String headers = request.requestHeaders().get(HttpHeaderNames.ACCESS_CONTROL_REQUEST_HEADERS);
+		if (headers != null) {
+			// The call metadata is sent as headers, so any of them may be needed
+			response.header(HttpHeaderNames.ACCESS_CONTROL_ALLOW_HEADERS, headers);
+		}
+		return response.send();
+	}
+
+	private boolean allowOrigin(HttpServerRequest request, HttpServerResponse response) {
+		String origin = request.requestHeaders().get(HttpHeaderNames.ORIGIN);
+		if (origin == null) {
+			return false;
+		}
+		boolean any = this.allowedOrigins.contains("*");
+		if (!any && this.allowedOrigins.stream().noneMatch(origin::equalsIgnoreCase)) {
+			return false;
+		}
+		response.header(HttpHeaderNames.ACCESS_CONTROL_ALLOW_ORIGIN, any ? "*" : origin)
+			.header(HttpHeaderNames.VARY, HttpHeaderNames.ORIGIN)
+			.header(HttpHeaderNames.ACCESS_CONTROL_EXPOSE_HEADERS, "grpc-status,grpc-message");
+		return true;
+	}
+
+	private static String methodName(HttpServerRequest request) {
+		return request.fullPath().startsWith("/") ? request.fullPath().substring(1) : request.fullPath();
+	}
+
+	// Null means the event loop of the connection
+	@Nullable
+	private Executor executor() {
+		if (this.direct) {
+			return null;
+		}
+		if (this.executor != null) {
+			return this.executor;
+		}
+		synchronized (this) {
+			if (this.defaultExecutor == null) {
+				CustomizableThreadFactory threads = new CustomizableThreadFactory("grpc-default-executor-");
+				threads.setDaemon(true);
+				this.defaultExecutor = Executors.newCachedThreadPool(threads);
+			}
+			return this.defaultExecutor;
+		}
+	}
+
+	@Override
+	public void destroy() {
+		synchronized (this) {
+			if (this.defaultExecutor != null) {
+				this.defaultExecutor.shutdown();
+			}
+		}
+	}
+
+}
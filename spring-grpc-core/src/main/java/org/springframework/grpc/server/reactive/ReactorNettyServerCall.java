@@ -0,0 +1,803 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.reactive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import org.springframework.grpc.server.limiter.RateLimitServerInterceptor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import io.grpc.Attributes;
+import io.grpc.Codec;
+import io.grpc.Compressor;
+import io.grpc.CompressorRegistry;
+import io.grpc.Context;
+import io.grpc.Decompressor;
+import io.grpc.DecompressorRegistry;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.ssl.SslHandler;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * A {@link ServerCall} for a gRPC request received by a Reactor Netty HTTP server.
+ * Request messages are deframed from the request body, which is only read as far as the
+ * service has requested messages, and response messages are framed and emitted to the
+ * response body. The status and the trailers are sent as HTTP trailers.
+ * <p>
+ * Reactor Netty only sends the trailers that are declared in the response headers, so
+ * the call declares the status trailers, the ones of built-in features and the
+ * configured ones before its first message. Other trailers are dropped, with a warning,
+ * when the service closes a call that has already sent messages.
+ * <p>
+ * gRPC-Web calls use the same framing, with the trailers sent as a last frame of the
+ * body (flagged with {@code 0x80}) instead of HTTP trailers, so they also work over
+ * HTTP/1.1. The {@code grpc-web-text} variant base64 encodes the request and response
+ * bodies.
+ *
+ * @param <ReqT> the request type
+ * @param <RespT> the response type
+ * @author Dave Syer
+ */
+final class ReactorNettyServerCall<ReqT, RespT> extends ServerCall<ReqT, RespT> {
+
+	static final String CONTENT_TYPE = "application/grpc";
+
+	static final String GRPC_WEB_CONTENT_TYPE = "application/grpc-web";
+
+	static final String GRPC_WEB_TEXT_CONTENT_TYPE = "application/grpc-web-text";
+
+	private static final String STATUS = "grpc-status";
+
+	private static final String MESSAGE = "grpc-message";
+
+	private static final String STATUS_DETAILS = "grpc-status-details-bin";
+
+	private static final String ENCODING = "grpc-encoding";
+
+	private static final String ACCEPT_ENCODING = "grpc-accept-encoding";
+
+	private static final String TIMEOUT = "grpc-timeout";
+
+	// The status trailers and the ones of the load reports and rate limits
+	static final Set<String> DEFAULT_TRAILERS = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(STATUS,
+			MESSAGE, STATUS_DETAILS, "endpoint-load-metrics-bin", RateLimitServerInterceptor.RETRY_AFTER_HEADER,
+			RateLimitServerInterceptor.RETRY_PUSHBACK_HEADER)));
+
+	private static final Set<String> TRANSPORT_HEADERS = Set.of(HttpHeaderNames.CONTENT_TYPE.toString(),
+			HttpHeaderNames.CONTENT_LENGTH.toString(), HttpHeaderNames.TE.toString(), HttpHeaderNames.HOST.toString(),
+			HttpHeaderNames.CONNECTION.toString(), HttpHeaderNames.TRANSFER_ENCODING.toString(), ENCODING,
+			ACCEPT_ENCODING, TIMEOUT);
+
+	private static final int HEADER_LENGTH = 5;
+
+	private static final int TRAILERS_FLAG = 0x80;
+
+	private static final Log logger = LogFactory.getLog(ReactorNettyServerCall.class);
+
+	private final ServerMethodDefinition<ReqT, RespT> method;
+
+	private final HttpServerRequest request;
+
+	private final HttpServerResponse response;
+
+	private final Protocol protocol;
+
+	private final Executor executor;
+
+	private final Context.CancellableContext context;
+
+	private final Set<String> declaredTrailers;
+
+	private final Metadata headers;
+
+	@Nullable
+	private final Decompressor decompressor;
+
+	private final CompressorRegistry compressorRegistry;
+
+	private final Set<String> acceptedEncodings;
+
+	private final Attributes attributes;
+
+	private final int maxInboundMessageSize;
+
+	private final CompositeByteBuf inbound;
+
+	// Base64 characters of a gRPC-Web text request that did not make a full quantum yet
+	private byte[] textRemainder = new byte[0];
+
+	private volatile Map<String, String> trailers = Collections.emptyMap();
+
+	@Nullable
+	private Listener<ReqT> listener;
+
+	@Nullable
+	private FluxSink<ByteBuf> outbound;
+
+	@Nullable
+	private Subscription subscription;
+
+	// Inbound state, only accessed by the serializing executor
+
+	private int requested;
+
+	private boolean upstreamRequested;
+
+	private boolean inboundComplete;
+
+	private boolean halfClosed;
+
+	// Outbound state, accessed by the service
+
+	@Nullable
+	private Compressor compressor;
+
+	private boolean messageCompression = true;
+
+	private boolean headersSent;
+
+	private boolean messageSent;
+
+	private volatile boolean closed;
+
+	private volatile boolean cancelled;
+
+	private ReactorNettyServerCall(ServerMethodDefinition<ReqT, RespT> method, HttpServerRequest request,
+			HttpServerResponse response, Protocol protocol, Channel channel, @Nullable Executor executor,
+			int maxInboundMessageSize, CompressorRegistry compressorRegistry, @Nullable Decompressor decompressor,
+			@Nullable Long timeout, Set<String> declaredTrailers) {
+		this.method = method;
+		this.request = request;
+		this.response = response;
+		this.protocol = protocol;
+		this.executor = new SerializingExecutor((executor != null) ? executor : channel.eventLoop());
+		this.maxInboundMessageSize = maxInboundMessageSize;
+		this.compressorRegistry = compressorRegistry;
+		this.decompressor = decompressor;
+		this.declaredTrailers = declaredTrailers;
+		this.headers = headers(request.requestHeaders());
+		this.acceptedEncodings = StringUtils
+			.commaDelimitedListToSet(request.requestHeaders().get(ACCEPT_ENCODING, "").replace(" ", ""));
+		this.attributes = attributes(request, channel);
+		this.inbound = response.alloc().compositeBuffer(Integer.MAX_VALUE);
+		this.context = (timeout != null)
+				? Context.current().withDeadlineAfter(timeout, TimeUnit.NANOSECONDS, channel.eventLoop())
+				: Context.current().withCancellation();
+	}
+
+	// A call for the request, or one that rejects it if the headers are not valid
+	static Call create(ServerMethodDefinition<?, ?> method, HttpServerRequest request, HttpServerResponse response,
+			@Nullable Executor executor, int maxInboundMessageSize, CompressorRegistry compressorRegistry,
+			DecompressorRegistry decompressorRegistry, Set<String> declaredTrailers) {
+		Protocol protocol = Protocol.of(request);
+		String encoding = request.requestHeaders().get(ENCODING);
+		Decompressor decompressor = null;
+		if (encoding != null && !"identity".equals(encoding)) {
+			decompressor = decompressorRegistry.lookupDecompressor(encoding);
+			if (decompressor == null) {
+				return () -> reject(response, protocol, Status.UNIMPLEMENTED
+					.withDescription(String.format("Can't find decompressor for %s", encoding)));
+			}
+		}
+		Long timeout = null;
+		String value = request.requestHeaders().get(TIMEOUT);
+		if (value != null) {
+			try {
+				timeout = parseTimeout(value);
+			}
+			catch (IllegalArgumentException ex) {
+				return () -> reject(response, protocol,
+						Status.INTERNAL.withDescription("Invalid grpc-timeout: " + value));
+			}
+		}
+		Channel[] channel = new Channel[1];
+		request.withConnection((connection) -> channel[0] = connection.channel());
+		return new ReactorNettyServerCall<>(method, request, response, protocol, channel[0], executor,
+				maxInboundMessageSize, compressorRegistry, decompressor, timeout, declaredTrailers)::start;
+	}
+
+	// A "trailers-only" response with the status in the headers and no messages
+	static Publisher<Void> reject(HttpServerResponse response, Protocol protocol, Status status) {
+		HttpHeaders headers = response.status(HttpResponseStatus.OK)
+			.header(HttpHeaderNames.CONTENT_TYPE, protocol.contentType)
+			.responseHeaders();
+		statusTrailers(status).forEach(headers::set);
+		return response.send();
+	}
+
+	private Publisher<Void> start() {
+		this.response.status(HttpResponseStatus.OK).header(HttpHeaderNames.CONTENT_TYPE, this.protocol.contentType);
+		if (this.protocol == Protocol.GRPC) {
+			this.response.header(HttpHeaderNames.TRAILER, String.join(",", this.declaredTrailers));
+		}
+		this.context.addListener((context) -> {
+			if (context.getDeadline() != null && context.getDeadline().isExpired()) {
+				// Serialized with the listener, so that it does not race the service
+				// closing the call
+				execute(() -> abort(Status.DEADLINE_EXCEEDED));
+			}
+		}, Runnable::run);
+		Flux<ByteBuf> outbound = Flux.create(this::start, FluxSink.OverflowStrategy.BUFFER);
+		return this.response.trailerHeaders(this::writeTrailers)
+			.send(outbound)
+			.then()
+			.doOnSuccess((empty) -> complete())
+			.onErrorResume((ex) -> {
+				cancel(Status.CANCELLED.withDescription("Stream failed").withCause(ex));
+				return Mono.empty();
+			})
+			.doOnCancel(() -> cancel(Status.CANCELLED.withDescription("Stream cancelled")));
+	}
+
+	private void start(FluxSink<ByteBuf> sink) {
+		this.outbound = sink;
+		sink.onRequest((n) -> execute(this::ready));
+		sink.onCancel(() -> cancel(Status.CANCELLED.withDescription("Stream cancelled")));
+		execute(() -> {
+			this.listener = this.method.getServerCallHandler().startCall(this, this.headers);
+			this.request.receive().subscribe(new InboundSubscriber());
+		});
+	}
+
+	@Override
+	public void request(int numMessages) {
+		execute(() -> {
+			this.requested += numMessages;
+			deliver();
+		});
+	}
+
+	@Override
+	public void sendHeaders(Metadata headers) {
+		Assert.state(!this.headersSent, "sendHeaders has already been called");
+		Assert.state(!this.closed, "Call is closed");
+		this.headersSent = true;
+		if (this.compressor != null) {
+			this.response.header(ENCODING, this.compressor.getMessageEncoding());
+		}
+		HttpHeaders responseHeaders = this.response.responseHeaders();
+		metadata(headers).forEach(responseHeaders::add);
+	}
+
+	@Override
+	public void sendMessage(RespT message) {
+		Assert.state(!this.closed, "Call is closed");
+		if (this.cancelled || this.outbound == null) {
+			return;
+		}
+		boolean compressed = this.compressor != null && this.messageCompression;
+		ByteBuf buffer = this.response.alloc().buffer();
+		try (InputStream stream = this.method.getMethodDescriptor().streamResponse(message)) {
+			buffer.writeByte(compressed ? 1 : 0);
+			buffer.writeInt(0);
+			ByteBufOutputStream output = new ByteBufOutputStream(buffer);
+			if (compressed) {
+				try (OutputStream compressing = this.compressor.compress(output)) {
+					stream.transferTo(compressing);
+				}
+			}
+			else {
+				stream.transferTo(output);
+			}
+			buffer.setInt(1, buffer.readableBytes() - HEADER_LENGTH);
+		}
+		catch (IOException ex) {
+			buffer.release();
+			throw new UncheckedIOException(ex);
+		}
+		this.messageSent = true;
+		this.outbound.next(encode(buffer));
+	}
+
+	@Override
+	public boolean isReady() {
+		return !this.closed && this.outbound != null && this.outbound.requestedFromDownstream() > 0;
+	}
+
+	@Override
+	public void close(Status status, Metadata trailers) {
+		if (this.cancelled) {
+			// The call was aborted (e.g. by its deadline) before the service closed it
+			return;
+		}
+		Assert.state(!this.closed, "Call is already closed");
+		this.closed = true;
+		if (this.outbound == null) {
+			return;
+		}
+		Map<String, String> values = statusTrailers(status);
+		metadata(trailers).forEach(values::putIfAbsent);
+		if (!this.messageSent) {
+			// Nothing has been written yet so this is a "trailers-only" response
+			HttpHeaders headers = this.response.responseHeaders();
+			headers.remove(HttpHeaderNames.TRAILER);
+			values.forEach(headers::set);
+		}
+		else if (this.protocol != Protocol.GRPC) {
+			// gRPC-Web sends the trailers as the last frame of the body
+			this.outbound.next(encode(trailersFrame(values)));
+		}
+		else {
+			Set<String> dropped = new LinkedHashSet<>(values.keySet());
+			dropped.removeAll(this.declaredTrailers);
+			if (!dropped.isEmpty()) {
+				values.keySet().removeAll(dropped);
+				logger.warn("Dropped trailers " + dropped + " of "
+						+ this.method.getMethodDescriptor().getFullMethodName()
+						+ " because they were not declared before the first message, declare them with"
+						+ " ReactorNettyGrpcHandler.setTrailers()");
+			}
+			this.trailers = values;
+		}
+		this.outbound.complete();
+	}
+
+	@Override
+	public boolean isCancelled() {
+		return this.cancelled;
+	}
+
+	@Override
+	public void setMessageCompression(boolean enabled) {
+		this.messageCompression = enabled;
+	}
+
+	@Override
+	public void setCompression(String compressorName) {
+		Assert.state(!this.headersSent, "sendHeaders has already been called");
+		Compressor compressor = this.compressorRegistry.lookupCompressor(compressorName);
+		Assert.notNull(compressor, () -> "Unable to find compressor by name " + compressorName);
+		if (compressor != Codec.Identity.NONE && this.acceptedEncodings.contains(compressorName)) {
+			this.compressor = compressor;
+		}
+	}
+
+	@Override
+	public Attributes getAttributes() {
+		return this.attributes;
+	}
+
+	@Override
+	@Nullable
+	public String getAuthority() {
+		return this.request.requestHeaders().get(HttpHeaderNames.HOST);
+	}
+
+	@Override
+	public MethodDescriptor<ReqT, RespT> getMethodDescriptor() {
+		return this.method.getMethodDescriptor();
+	}
+
+	private ByteBuf trailersFrame(Map<String, String> trailers) {
+		StringBuilder builder = new StringBuilder();
+		trailers.forEach((name, value) -> builder.append(name).append(':').append(value).append("\r\n"));
+		byte[] bytes = builder.toString().getBytes(StandardCharsets.US_ASCII);
+		ByteBuf buffer = this.response.alloc().buffer(HEADER_LENGTH + bytes.length);
+		return buffer.writeByte(TRAILERS_FLAG).writeInt(bytes.length).writeBytes(bytes);
+	}
+
+	// Base64 encodes a frame for gRPC-Web text, each frame is padded on its own
+	private ByteBuf encode(ByteBuf buffer) {
+		if (this.protocol != Protocol.GRPC_WEB_TEXT) {
+			return buffer;
+		}
+		try {
+			return Unpooled.wrappedBuffer(Base64.getEncoder().encode(buffer.nioBuffer()));
+		}
+		finally {
+			buffer.release();
+		}
+	}
+
+	// Base64 decodes a chunk of a gRPC-Web text request, keeping incomplete quanta for
+	// the next chunk
+	private ByteBuf decode(ByteBuf buffer) {
+		if (this.protocol != Protocol.GRPC_WEB_TEXT) {
+			return buffer;
+		}
+		byte[] text;
+		try {
+			text = new byte[this.textRemainder.length + buffer.readableBytes()];
+			System.arraycopy(this.textRemainder, 0, text, 0, this.textRemainder.length);
+			buffer.readBytes(text, this.textRemainder.length, buffer.readableBytes());
+		}
+		finally {
+			buffer.release();
+		}
+		int length = text.length - text.length % 4;
+		this.textRemainder = Arrays.copyOfRange(text, length, text.length);
+		ByteBuf decoded = Unpooled.buffer(length / 4 * 3);
+		int start = 0;
+		while (start < length) {
+			// Padding can only be at the end of a quantum, but concatenated frames can
+			// be padded in the middle of a chunk
+			int end = start;
+			while (end < length && text[end + 3] != '=') {
+				end += 4;
+			}
+			end = Math.min(end + 4, length);
+			try {
+				decoded.writeBytes(Base64.getDecoder().decode(ByteBuffer.wrap(text, start, end - start)));
+			}
+			catch (IllegalArgumentException ex) {
+				decoded.release();
+				throw Status.INTERNAL.withDescription("Invalid gRPC-Web text request")
+					.withCause(ex)
+					.asRuntimeException();
+			}
+			start = end;
+		}
+		return decoded;
+	}
+
+	private void writeTrailers(HttpHeaders headers) {
+		this.trailers.forEach(headers::set);
+	}
+
+	private void ready() {
+		if (this.listener != null && !this.cancelled && isReady()) {
+			this.listener.onReady();
+		}
+	}
+
+	private void deliver() {
+		if (this.listener == null || this.cancelled) {
+			return;
+		}
+		try {
+			while (this.requested > 0) {
+				InputStream message = nextMessage();
+				if (message == null) {
+					break;
+				}
+				this.requested--;
+				ReqT value;
+				try (message) {
+					value = this.method.getMethodDescriptor().parseRequest(message);
+				}
+				this.listener.onMessage(value);
+			}
+			if (this.inboundComplete) {
+				if (this.inbound.isReadable() || this.textRemainder.length > 0) {
+					throw Status.INTERNAL.withDescription("Incomplete gRPC message at end of stream")
+						.asRuntimeException();
+				}
+				if (!this.halfClosed) {
+					this.halfClosed = true;
+					this.listener.onHalfClose();
+				}
+			}
+			else if (this.requested > 0 && !this.upstreamRequested && this.subscription != null) {
+				this.upstreamRequested = true;
+				this.subscription.request(1);
+			}
+		}
+		catch (StatusRuntimeException ex) {
+			abort(ex.getStatus());
+		}
+		catch (IOException ex) {
+			abort(Status.INTERNAL.withDescription("Failed to read gRPC message").withCause(ex));
+		}
+	}
+
+	private void receive(ByteBuf buffer) {
+		try {
+			this.inbound.addComponent(true, decode(buffer));
+		}
+		catch (StatusRuntimeException ex) {
+			abort(ex.getStatus());
+			return;
+		}
+		deliver();
+	}
+
+	@Nullable
+	private InputStream nextMessage() throws IOException {
+		// The previous message has been parsed and released so its components can go
+		this.inbound.discardReadComponents();
+		if (this.inbound.readableBytes() < HEADER_LENGTH) {
+			return null;
+		}
+		int index = this.inbound.readerIndex();
+		boolean compressed = (this.inbound.getByte(index) & 1) != 0;
+		long length = this.inbound.getUnsignedInt(index + 1);
+		if (length > this.maxInboundMessageSize) {
+			throw Status.RESOURCE_EXHAUSTED
+				.withDescription(
+						String.format("gRPC message exceeds maximum size %d: %d", this.maxInboundMessageSize, length))
+				.asRuntimeException();
+		}
+		if (this.inbound.readableBytes() < HEADER_LENGTH + length) {
+			return null;
+		}
+		this.inbound.skipBytes(HEADER_LENGTH);
+		InputStream message = new ByteBufInputStream(this.inbound.readRetainedSlice((int) length), true);
+		if (!compressed) {
+			return message;
+		}
+		if (this.decompressor == null) {
+			message.close();
+			throw Status.INTERNAL.withDescription("Can't decode compressed gRPC message as compression not configured")
+				.asRuntimeException();
+		}
+		return this.decompressor.decompress(message);
+	}
+
+	private void abort(Status status) {
+		if (!this.closed && this.outbound != null) {
+			close(status, new Metadata());
+		}
+		cancel(status);
+	}
+
+	private void complete() {
+		execute(() -> {
+			if (!this.cancelled && this.listener != null) {
+				this.listener.onComplete();
+			}
+			release();
+			this.context.cancel(null);
+		});
+	}
+
+	private void cancel(Status status) {
+		if (this.cancelled) {
+			return;
+		}
+		this.cancelled = true;
+		if (this.outbound != null && !this.closed) {
+			// Reset the stream rather than completing it normally
+			this.outbound.error(status.asRuntimeException());
+		}
+		execute(() -> {
+			if (this.listener != null) {
+				this.listener.onCancel();
+			}
+			release();
+			this.context.cancel(status.asRuntimeException());
+		});
+	}
+
+	private void release() {
+		if (this.subscription != null) {
+			this.subscription.cancel();
+		}
+		if (this.inbound.refCnt() > 0) {
+			this.inbound.release();
+		}
+	}
+
+	private void execute(Runnable task) {
+		this.executor.execute(() -> {
+			Context previous = this.context.attach();
+			try {
+				task.run();
+			}
+			catch (RuntimeException ex) {
+				logger.error("Exception in gRPC call to " + this.method.getMethodDescriptor().getFullMethodName(), ex);
+				abort(Status.fromThrowable(ex));
+			}
+			finally {
+				this.context.detach(previous);
+			}
+		});
+	}
+
+	private static long parseTimeout(String value) {
+		Assert.isTrue(value.length() > 1 && value.length() <= 9, "Invalid timeout");
+		long amount = Long.parseLong(value.substring(0, value.length() - 1));
+		return switch (value.charAt(value.length() - 1)) {
+			case 'n' -> amount;
+			case 'u' -> TimeUnit.MICROSECONDS.toNanos(amount);
+			case 'm' -> TimeUnit.MILLISECONDS.toNanos(amount);
+			case 'S' -> TimeUnit.SECONDS.toNanos(amount);
+			case 'M' -> TimeUnit.MINUTES.toNanos(amount);
+			case 'H' -> TimeUnit.HOURS.toNanos(amount);
+			default -> throw new IllegalArgumentException("Invalid timeout unit");
+		};
+	}
+
+	private static Metadata headers(HttpHeaders headers) {
+		Metadata metadata = new Metadata();
+		for (Map.Entry<String, String> header : headers) {
+			String name = header.getKey().toLowerCase(Locale.ROOT);
+			if (name.startsWith(":") || name.startsWith("x-http2-") || TRANSPORT_HEADERS.contains(name)) {
+				continue;
+			}
+			if (name.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+				Metadata.Key<byte[]> key = Metadata.Key.of(name, Metadata.BINARY_BYTE_MARSHALLER);
+				for (String value : StringUtils.commaDelimitedListToStringArray(header.getValue())) {
+					metadata.put(key, Base64.getDecoder().decode(value.trim()));
+				}
+			}
+			else {
+				metadata.put(Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER), header.getValue());
+			}
+		}
+		return metadata;
+	}
+
+	private static Map<String, String> metadata(Metadata metadata) {
+		Map<String, String> values = new LinkedHashMap<>();
+		for (String name : metadata.keys()) {
+			if (name.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+				Iterable<byte[]> all = metadata.getAll(Metadata.Key.of(name, Metadata.BINARY_BYTE_MARSHALLER));
+				List<String> encoded = new ArrayList<>();
+				all.forEach((value) -> encoded.add(Base64.getEncoder().withoutPadding().encodeToString(value)));
+				values.put(name, String.join(",", encoded));
+			}
+			else {
+				Iterable<String> all = metadata.getAll(Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER));
+				values.put(name, String.join(",", all));
+			}
+		}
+		return values;
+	}
+
+	private static Map<String, String> statusTrailers(Status status) {
+		Map<String, String> trailers = new LinkedHashMap<>();
+		trailers.put(STATUS, String.valueOf(status.getCode().value()));
+		if (status.getDescription() != null) {
+			trailers.put(MESSAGE, encodeMessage(status.getDescription()));
+		}
+		return trailers;
+	}
+
+	private static String encodeMessage(String message) {
+		StringBuilder builder = new StringBuilder();
+		for (byte b : message.getBytes(StandardCharsets.UTF_8)) {
+			if (b >= ' ' && b <= '~' && b != '%') {
+				builder.append((char) b);
+			}
+			else {
+				builder.append(String.format("%%%02X", b & 0xFF));
+			}
+		}
+		return builder.toString();
+	}
+
+	private static Attributes attributes(HttpServerRequest request, Channel channel) {
+		Attributes.Builder builder = Attributes.newBuilder()
+			.set(Grpc.TRANSPORT_ATTR_REMOTE_ADDR, request.remoteAddress())
+			.set(Grpc.TRANSPORT_ATTR_LOCAL_ADDR, request.hostAddress());
+		// HTTP/2 streams are child channels of the connection that has the SSL handler
+		Channel connection = (channel.parent() != null) ? channel.parent() : channel;
+		SslHandler ssl = connection.pipeline().get(SslHandler.class);
+		if (ssl != null) {
+			builder.set(Grpc.TRANSPORT_ATTR_SSL_SESSION, ssl.engine().getSession());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * The wire protocols of a call.
+	 */
+	enum Protocol {
+
+		GRPC(CONTENT_TYPE), GRPC_WEB(GRPC_WEB_CONTENT_TYPE + "+proto"),
+		GRPC_WEB_TEXT(GRPC_WEB_TEXT_CONTENT_TYPE + "+proto");
+
+		private final String contentType;
+
+		Protocol(String contentType) {
+			this.contentType = contentType;
+		}
+
+		static Protocol of(HttpServerRequest request) {
+			String contentType = request.requestHeaders().get(HttpHeaderNames.CONTENT_TYPE, CONTENT_TYPE);
+			if (contentType.startsWith(GRPC_WEB_TEXT_CONTENT_TYPE)) {
+				return GRPC_WEB_TEXT;
+			}
+			return contentType.startsWith(GRPC_WEB_CONTENT_TYPE) ? GRPC_WEB : GRPC;
+		}
+
+	}
+
+	/**
+	 * A call that is ready to start.
+	 */
+	interface Call {
+
+		Publisher<Void> start();
+
+	}
+
+	private final class InboundSubscriber extends BaseSubscriber<ByteBuf> {
+
+		@Override
+		protected void hookOnSubscribe(Subscription subscription) {
+			execute(() -> {
+				ReactorNettyServerCall.this.subscription = subscription;
+				deliver();
+			});
+		}
+
+		@Override
+		protected void hookOnNext(ByteBuf buffer) {
+			// The buffer is released by Reactor Netty when this method returns
+			buffer.retain();
+			execute(() -> {
+				ReactorNettyServerCall.this.upstreamRequested = false;
+				if (ReactorNettyServerCall.this.cancelled) {
+					buffer.release();
+					return;
+				}
+				receive(buffer);
+			});
+		}
+
+		@Override
+		protected void hookOnComplete() {
+			execute(() -> {
+				ReactorNettyServerCall.this.inboundComplete = true;
+				deliver();
+			});
+		}
+
+		@Override
+		protected void hookOnError(Throwable throwable) {
+			ReactorNettyServerCall.this
+				.cancel(Status.CANCELLED.withDescription("Failed to read request").withCause(throwable));
+		}
+
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.reactive;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * An {@link Executor} that runs the tasks submitted to it one at a time and in order, on
+ * the threads of another executor, so that the listener of a call is never invoked
+ * concurrently.
+ *
+ * @author Dave Syer
+ */
+final class SerializingExecutor implements Executor {
+
+	private static final Log logger = LogFactory.getLog(SerializingExecutor.class);
+
+	private final Executor delegate;
+
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	SerializingExecutor(Executor delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		this.tasks.add(task);
+		schedule();
+	}
+
+	private void schedule() {
+		if (this.running.compareAndSet(false, true)) {
+			try {
+				this.delegate.execute(this::drain);
+			}
+			catch (RejectedExecutionException ex) {
+				this.tasks.clear();
+				this.running.set(false);
+				throw ex;
+			}
+		}
+	}
+
+	private void drain() {
+		try {
+			Runnable task;
+			while ((task = this.tasks.poll()) != null) {
+				try {
+					task.run();
+				}
+				catch (RuntimeException ex) {
+					logger.error("Exception while executing task " + task, ex);
+				}
+			}
+		}
+		finally {
+			this.running.set(false);
+		}
+		// A task may have been added after the queue was found empty
+		if (!this.tasks.isEmpty()) {
+			schedule();
+		}
+	}
+
+}
@@ -0,0 +1,5 @@
+/**
+ * A gRPC transport for the Reactor Netty HTTP server.
+ */
+
+package org.springframework.grpc.server.reactive;
@@ -22,7 +22,10 @@ import java.util.List;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.grpc.internal.ApplicationContextBeanLookupUtils;
+import org.springframework.grpc.protobuf.ZeroCopyMarshalling;
+import org.springframework.grpc.protobuf.ZeroCopyProtoMarshaller;
 import org.springframework.grpc.server.GlobalServerInterceptor;
+import org.springframework.grpc.server.cache.CachingServerInterceptor;
 import org.springframework.lang.Nullable;
 
 import io.grpc.BindableService;
@@ -42,10 +45,36 @@ public class DefaultGrpcServiceConfigurer implements GrpcServiceConfigurer, Init
 
 	private List<ServerInterceptor> globalInterceptors;
 
+	@Nullable
+	private Integer zeroCopyMinMessageSize;
+
+	@Nullable
+	private ReactorServicePrefetch reactorPrefetch;
+
 	public DefaultGrpcServiceConfigurer(ApplicationContext applicationContext) {
 		this.applicationContext = applicationContext;
 	}
 
+	/**
+	 * Parse the protobuf messages of at least the given size straight from the transport
+	 * buffers, without copying them (see {@link ZeroCopyProtoMarshaller}). The default
+	 * (null) is to use the marshallers of the services as they are.
+	 * @param zeroCopyMinMessageSize the size in bytes from which messages are parsed
+	 * without copying
+	 */
+	public void setZeroCopyMinMessageSize(@Nullable Integer zeroCopyMinMessageSize) {
+		this.zeroCopyMinMessageSize = zeroCopyMinMessageSize;
+	}
+
+	/**
+	 * Configure the backpressure of Reactor services when they are bound. The default
+	 * (null) is to leave the services as they are.
+	 * @param reactorPrefetch the backpressure settings of the Reactor services
+	 */
+	public void setReactorPrefetch(@Nullable ReactorServicePrefetch reactorPrefetch) {
+		this.reactorPrefetch = reactorPrefetch;
+	}
+
 	@Override
 	public void afterPropertiesSet() {
 		this.globalInterceptors = findGlobalInterceptors();
@@ -53,7 +82,11 @@ public class DefaultGrpcServiceConfigurer implements GrpcServiceConfigurer, Init
 
 	@Override
 	public ServerServiceDefinition configure(BindableService bindableService, @Nullable GrpcServiceInfo serviceInfo) {
-		return bindInterceptors(bindableService, serviceInfo);
+		ServerServiceDefinition serviceDef = bindInterceptors(bindableService, serviceInfo);
+		if (this.zeroCopyMinMessageSize != null) {
+			serviceDef = ZeroCopyMarshalling.forService(serviceDef, this.zeroCopyMinMessageSize);
+		}
+		return serviceDef;
 	}
 
 	private List<ServerInterceptor> findGlobalInterceptors() {
@@ -64,8 +97,19 @@ public class DefaultGrpcServiceConfigurer implements GrpcServiceConfigurer, Init
 	private ServerServiceDefinition bindInterceptors(BindableService bindableService,
 			@Nullable GrpcServiceInfo serviceInfo) {
 		var serviceDef = bindableService.bindService();
+		if (this.reactorPrefetch != null) {
+			ReactorServicePrefetch prefetch = this.reactorPrefetch;
+			if (bindableService instanceof LazyBindableService lazy) {
+				// The real service is only bound on its first call
+				lazy.setBinder((service) -> prefetch.apply(service, service.bindService()));
+			}
+			else {
+				serviceDef = prefetch.apply(bindableService, serviceDef);
+			}
+		}
 		if (serviceInfo == null) {
-			return ServerInterceptors.interceptForward(serviceDef, this.globalInterceptors);
+			return prepareResponseCaching(ServerInterceptors.interceptForward(serviceDef, this.globalInterceptors),
+					this.globalInterceptors);
 		}
 		// Add global interceptors first
 		List<ServerInterceptor> allInterceptors = new ArrayList<>(this.globalInterceptors);
@@ -81,7 +125,35 @@ public class DefaultGrpcServiceConfigurer implements GrpcServiceConfigurer, Init
 			ApplicationContextBeanLookupUtils.sortBeansIncludingOrderAnnotation(this.applicationContext,
 					ServerInterceptor.class, allInterceptors);
 		}
-		return ServerInterceptors.interceptForward(serviceDef, allInterceptors);
+		List<ServerInterceptor> interceptors = withCachedMethods(allInterceptors,
+				serviceDef.getServiceDescriptor().getName(), serviceInfo);
+		return prepareResponseCaching(ServerInterceptors.interceptForward(serviceDef, interceptors), interceptors);
+	}
+
+	private List<ServerInterceptor> withCachedMethods(List<ServerInterceptor> interceptors, String serviceName,
+			GrpcServiceInfo serviceInfo) {
+		if (serviceInfo.cachedMethods().length == 0) {
+			return interceptors;
+		}
+		String[] methods = Arrays.stream(serviceInfo.cachedMethods())
+			.map((method) -> serviceName + "/" + method)
+			.toArray(String[]::new);
+		// The cache interceptor is shared by all services, so this one gets its own copy
+		return interceptors.stream()
+			.map((interceptor) -> (interceptor instanceof CachingServerInterceptor cachingInterceptor)
+					? cachingInterceptor.withMethods(methods) : interceptor)
+			.toList();
+	}
+
+	private ServerServiceDefinition prepareResponseCaching(ServerServiceDefinition serviceDef,
+			List<ServerInterceptor> interceptors) {
+		for (ServerInterceptor interceptor : interceptors) {
+			if (interceptor instanceof CachingServerInterceptor cachingInterceptor) {
+				// Cache hits are then sent as their cached bytes, without being parsed
+				serviceDef = cachingInterceptor.usePreSerializedResponses(serviceDef);
+			}
+		}
+		return serviceDef;
 	}
 
 }
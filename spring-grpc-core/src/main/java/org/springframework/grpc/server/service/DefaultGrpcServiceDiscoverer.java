@@ -16,7 +16,13 @@
 
 package org.springframework.grpc.server.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.grpc.internal.ApplicationContextBeanLookupUtils;
@@ -24,15 +30,22 @@ import org.springframework.lang.Nullable;
 
 import io.grpc.BindableService;
 import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
 
 /**
  * The default {@link GrpcServiceDiscoverer} that finds all {@link BindableService} beans
  * and configures and binds them.
+ * <p>
+ * Services marked {@link GrpcService#lazy() lazy} are not created here. They are bound
+ * from their generated service descriptor instead, after the other services, and the
+ * bean is only created when one of its methods is first called.
  *
  * @author Chris Bono
  */
 public class DefaultGrpcServiceDiscoverer implements GrpcServiceDiscoverer {
 
+	private static final Log logger = LogFactory.getLog(DefaultGrpcServiceDiscoverer.class);
+
 	private final GrpcServiceConfigurer serviceConfigurer;
 
 	private final ApplicationContext applicationContext;
@@ -45,12 +58,41 @@ public class DefaultGrpcServiceDiscoverer implements GrpcServiceDiscoverer {
 
 	@Override
 	public List<ServerServiceDefinition> findServices() {
-		return ApplicationContextBeanLookupUtils
-			.getOrderedBeansWithAnnotation(this.applicationContext, BindableService.class, GrpcService.class)
-			.entrySet()
-			.stream()
-			.map((e) -> this.serviceConfigurer.configure(e.getKey(), this.serviceInfo(e.getValue())))
-			.toList();
+		Map<String, ServiceDescriptor> lazyServices = findLazyServices();
+		Map<BindableService, GrpcService> services = lazyServices.isEmpty()
+				? ApplicationContextBeanLookupUtils.getOrderedBeansWithAnnotation(this.applicationContext,
+						BindableService.class, GrpcService.class)
+				: ApplicationContextBeanLookupUtils.getOrderedBeansWithAnnotation(this.applicationContext,
+						BindableService.class, GrpcService.class, (name) -> !lazyServices.containsKey(name));
+		List<ServerServiceDefinition> definitions = new ArrayList<>();
+		services.forEach((service, annotation) -> definitions
+			.add(this.serviceConfigurer.configure(service, this.serviceInfo(annotation))));
+		lazyServices.forEach((name, descriptor) -> {
+			BindableService service = new LazyBindableService(descriptor,
+					() -> this.applicationContext.getBean(name, BindableService.class));
+			GrpcService annotation = this.applicationContext.findAnnotationOnBean(name, GrpcService.class);
+			definitions.add(this.serviceConfigurer.configure(service, this.serviceInfo(annotation)));
+		});
+		return definitions;
+	}
+
+	private Map<String, ServiceDescriptor> findLazyServices() {
+		Map<String, ServiceDescriptor> lazyServices = new LinkedHashMap<>();
+		for (String name : this.applicationContext.getBeanNamesForAnnotation(GrpcService.class)) {
+			GrpcService annotation = this.applicationContext.findAnnotationOnBean(name, GrpcService.class);
+			if (annotation == null || !annotation.lazy()) {
+				continue;
+			}
+			ServiceDescriptor descriptor = LazyBindableService
+				.findServiceDescriptor(this.applicationContext.getType(name, false));
+			if (descriptor != null) {
+				lazyServices.put(name, descriptor);
+			}
+			else {
+				logger.warn("Service bean '" + name + "' is not a generated service so it cannot be bound lazily");
+			}
+		}
+		return lazyServices;
 	}
 
 	@Nullable
@@ -75,4 +75,24 @@ public @interface GrpcService {
 	 */
 	boolean blendWithGlobalInterceptors() default false;
 
+	/**
+	 * The names of the unary methods of the service (e.g. "SayHello") whose responses
+	 * should be cached by the server response cache. The methods are only cached if a
+	 * {@link org.springframework.grpc.server.cache.CachingServerInterceptor} is
+	 * registered with the server.
+	 * @return the names of the methods whose responses should be cached
+	 */
+	String[] cachedMethods() default {};
+
+	/**
+	 * Whether the service bean should only be created, and bound, when one of its methods
+	 * is first called, so that a service that is expensive to initialize does not slow
+	 * down startup. The methods are registered with the server up front from the
+	 * descriptor in the class generated by grpc-java, so the bean type must extend the
+	 * generated base class (e.g. {@code SimpleGrpc.SimpleImplBase}), otherwise the service
+	 * is created eagerly as usual.
+	 * @return whether the service should be created on its first call
+	 */
+	boolean lazy() default false;
+
 }
@@ -32,14 +32,22 @@ import io.grpc.ServerInterceptor;
  * the service
  * @param blendWithGlobalInterceptors whether the service specific interceptors should be
  * merged and sorted (blended) with the global interceptors
+ * @param cachedMethods names of the methods of the service whose responses should be
+ * cached
  * @author Chris Bono
  */
 public record GrpcServiceInfo(Class<? extends ServerInterceptor>[] interceptors, String[] interceptorNames,
-		boolean blendWithGlobalInterceptors) {
+		boolean blendWithGlobalInterceptors, String[] cachedMethods) {
 
 	public GrpcServiceInfo {
 		Assert.notNull(interceptors, "interceptors must not be null");
 		Assert.notNull(interceptorNames, "interceptorNames must not be null");
+		Assert.notNull(cachedMethods, "cachedMethods must not be null");
+	}
+
+	public GrpcServiceInfo(Class<? extends ServerInterceptor>[] interceptors, String[] interceptorNames,
+			boolean blendWithGlobalInterceptors) {
+		this(interceptors, interceptorNames, blendWithGlobalInterceptors, new String[0]);
 	}
 
 	/**
@@ -50,7 +58,7 @@ public record GrpcServiceInfo(Class<? extends ServerInterceptor>[] interceptors,
 	@Nullable
 	public static GrpcServiceInfo from(@Nullable GrpcService grpcService) {
 		return grpcService != null ? new GrpcServiceInfo(grpcService.interceptors(), grpcService.interceptorNames(),
-				grpcService.blendWithGlobalInterceptors()) : null;
+				grpcService.blendWithGlobalInterceptors(), grpcService.cachedMethods()) : null;
 	}
 
 	/**
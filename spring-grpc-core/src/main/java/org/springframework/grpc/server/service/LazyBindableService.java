@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.service;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import io.grpc.BindableService;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+
+/**
+ * A {@link BindableService} that stands in for a service that is created and bound when
+ * it is first called. The methods are bound up front from the service descriptor, so
+ * that the server (and any interceptors) know about them, and each call is handed to
+ * the method of the real service once it exists.
+ *
+ * @author Dave Syer
+ */
+final class LazyBindableService implements BindableService {
+
+	private static final String DESCRIPTOR_METHOD = "getServiceDescriptor";
+
+	private final ServiceDescriptor descriptor;
+
+	private final Supplier<BindableService> service;
+
+	private Function<BindableService, ServerServiceDefinition> binder = BindableService::bindService;
+
+	private volatile ServerServiceDefinition delegate;
+
+	LazyBindableService(ServiceDescriptor descriptor, Supplier<BindableService> service) {
+		this.descriptor = descriptor;
+		this.service = service;
+	}
+
+	/**
+	 * Set how the real service is bound once it exists. The default is to call
+	 * {@link BindableService#bindService()}.
+	 * @param binder the function that binds the real service
+	 */
+	void setBinder(Function<BindableService, ServerServiceDefinition> binder) {
+		this.binder = binder;
+	}
+
+	@Override
+	public ServerServiceDefinition bindService() {
+		ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(this.descriptor);
+		for (MethodDescriptor<?, ?> method : this.descriptor.getMethods()) {
+			addMethod(builder, method);
+		}
+		return builder.build();
+	}
+
+	private <ReqT, RespT> void addMethod(ServerServiceDefinition.Builder builder,
+			MethodDescriptor<ReqT, RespT> method) {
+		builder.addMethod(method, new LazyCallHandler<>(method.getFullMethodName()));
+	}
+
+	private ServerServiceDefinition delegate() {
+		ServerServiceDefinition delegate = this.delegate;
+		if (delegate == null) {
+			synchronized (this) {
+				delegate = this.delegate;
+				if (delegate == null) {
+					delegate = this.binder.apply(this.service.get());
+					this.delegate = delegate;
+				}
+			}
+		}
+		return delegate;
+	}
+
+	/**
+	 * Find the descriptor of a service from the class that grpc-java generates around
+	 * its base class (e.g. {@code SimpleGrpc.getServiceDescriptor()} for a subclass of
+	 * {@code SimpleGrpc.SimpleImplBase}), without creating an instance of it.
+	 * @param type the type of the service
+	 * @return the service descriptor or null if the type is not a generated service
+	 */
+	@Nullable
+	static ServiceDescriptor findServiceDescriptor(@Nullable Class<?> type) {
+		for (Class<?> candidate = type; candidate != null; candidate = candidate.getSuperclass()) {
+			Class<?> enclosing = candidate.getEnclosingClass();
+			if (enclosing == null) {
+				continue;
+			}
+			Method method = ReflectionUtils.findMethod(enclosing, DESCRIPTOR_METHOD);
+			if (method != null && Modifier.isStatic(method.getModifiers())
+					&& ServiceDescriptor.class.isAssignableFrom(method.getReturnType())) {
+				ReflectionUtils.makeAccessible(method);
+				return (ServiceDescriptor) ReflectionUtils.invokeMethod(method, null);
+			}
+		}
+		return null;
+	}
+
+	private final class LazyCallHandler<ReqT, RespT> implements ServerCallHandler<ReqT, RespT> {
+
+		private final String fullMethodName;
+
+		LazyCallHandler(String fullMethodName) {
+			this.fullMethodName = fullMethodName;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public ServerCall.Listener<ReqT> startCall(ServerCall<ReqT, RespT> call, Metadata headers) {
+			ServerMethodDefinition<?, ?> method = delegate().getMethod(this.fullMethodName);
+			if (method == null) {
+				call.close(Status.UNIMPLEMENTED.withDescription("Method not found: " + this.fullMethodName),
+						new Metadata());
+				return new ServerCall.Listener<>() {
+				};
+			}
+			return ((ServerCallHandler<ReqT, RespT>) method.getServerCallHandler()).startCall(call, headers);
+		}
+
+	}
+
+}
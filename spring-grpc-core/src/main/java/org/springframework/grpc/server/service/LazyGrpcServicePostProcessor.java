@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.service;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+/**
+ * A {@link BeanFactoryPostProcessor} that marks the beans of {@link GrpcService#lazy()
+ * lazy} services as lazy-init, so that they are not created when the context starts.
+ * The {@link DefaultGrpcServiceDiscoverer} creates them when they are first called.
+ *
+ * @author Dave Syer
+ */
+public class LazyGrpcServicePostProcessor implements BeanFactoryPostProcessor {
+
+	@Override
+	public void postProcessBeanFactory(ConfigurableListableBeanFactory factory) {
+		for (String name : factory.getBeanNamesForAnnotation(GrpcService.class)) {
+			GrpcService service = factory.findAnnotationOnBean(name, GrpcService.class, false);
+			if (service != null && service.lazy() && factory.containsBeanDefinition(name)
+					&& LazyBindableService.findServiceDescriptor(factory.getType(name, false)) != null) {
+				factory.getBeanDefinition(name).setLazyInit(true);
+			}
+		}
+	}
+
+}
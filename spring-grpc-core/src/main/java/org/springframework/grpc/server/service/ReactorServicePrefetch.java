@@ -0,0 +1,145 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.service;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import com.salesforce.reactorgrpc.stub.ReactorCallOptions;
+import com.salesforce.reactorgrpc.stub.ServerCalls;
+
+import io.grpc.BindableService;
+import io.grpc.CallOptions;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Configures the backpressure of Reactor services (generated by reactor-grpc) when they
+ * are bound. The generated services read the prefetch and low tide of their inbound
+ * streams from {@code getCallOptions}, which always returns the library defaults, so the
+ * client and bidi streaming methods of a service with settings get new call handlers
+ * that call the service method with the settings configured for the service, or the
+ * defaults. Errors are still mapped with the {@code onErrorMap} method of the service.
+ * <p>
+ * The service methods are looked up by reflection, so in a native image they need
+ * reflection hints, which are registered for the Reactor service beans by
+ * {@link org.springframework.grpc.server.aot.ReactorServiceBeanRegistrationsAotProcessor}.
+ *
+ * @author Dave Syer
+ */
+public class ReactorServicePrefetch {
+
+	private static final String CALL_OPTIONS_METHOD = "getCallOptions";
+
+	private static final String ERROR_MAP_METHOD = "onErrorMap";
+
+	private final Map<String, CallOptions> services = new HashMap<>();
+
+	@Nullable
+	private CallOptions defaults;
+
+	/**
+	 * Set the backpressure of the services that have none configured.
+	 * @param prefetch the number of messages requested from a stream up front
+	 * @param lowTide the number of messages consumed before more are requested
+	 */
+	public void setPrefetch(int prefetch, int lowTide) {
+		this.defaults = callOptions(prefetch, lowTide);
+	}
+
+	/**
+	 * Set the backpressure of a service.
+	 * @param service the full name of the service
+	 * @param prefetch the number of messages requested from a stream up front
+	 * @param lowTide the number of messages consumed before more are requested
+	 */
+	public void setPrefetch(String service, int prefetch, int lowTide) {
+		this.services.put(service, callOptions(prefetch, lowTide));
+	}
+
+	/**
+	 * Apply the backpressure configured for a service to its definition.
+	 * @param service the service
+	 * @param definition the definition bound from the service
+	 * @return the definition with the backpressure applied, or the same definition if
+	 * the service is not a Reactor service or has no settings
+	 */
+	public ServerServiceDefinition apply(BindableService service, ServerServiceDefinition definition) {
+		CallOptions options = this.services.getOrDefault(definition.getServiceDescriptor().getName(),
+				this.defaults);
+		Class<?> type = service.getClass();
+		Method errorMap = ReflectionUtils.findMethod(type, ERROR_MAP_METHOD, Throwable.class);
+		if (options == null || errorMap == null
+				|| ReflectionUtils.findMethod(type, CALL_OPTIONS_METHOD, int.class) == null) {
+			return definition;
+		}
+		ReflectionUtils.makeAccessible(errorMap);
+		Function<Throwable, Throwable> prepareError = (error) -> (Throwable) ReflectionUtils.invokeMethod(errorMap,
+				service, error);
+		ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(definition.getServiceDescriptor());
+		for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+			builder.addMethod(withPrefetch(service, method, prepareError, options));
+		}
+		return builder.build();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> withPrefetch(BindableService service,
+			ServerMethodDefinition<ReqT, RespT> method, Function<Throwable, Throwable> prepareError,
+			CallOptions options) {
+		MethodDescriptor<ReqT, RespT> descriptor = method.getMethodDescriptor();
+		MethodType type = descriptor.getType();
+		if (type != MethodType.CLIENT_STREAMING && type != MethodType.BIDI_STREAMING) {
+			// Only the inbound streams are buffered with the call options
+			return method;
+		}
+		Method target = ReflectionUtils.findMethod(service.getClass(),
+				StringUtils.uncapitalize(descriptor.getBareMethodName()), Flux.class);
+		if (target == null) {
+			return method;
+		}
+		ReflectionUtils.makeAccessible(target);
+		Function<Flux<ReqT>, Object> call = (requests) -> ReflectionUtils.invokeMethod(target, service, requests);
+		if (type == MethodType.CLIENT_STREAMING) {
+			return ServerMethodDefinition.create(descriptor,
+					io.grpc.stub.ServerCalls.asyncClientStreamingCall((responses) -> ServerCalls.manyToOne(responses,
+							(requests) -> (Mono<RespT>) call.apply(requests), prepareError, options)));
+		}
+		return ServerMethodDefinition.create(descriptor,
+				io.grpc.stub.ServerCalls.asyncBidiStreamingCall((responses) -> ServerCalls.manyToMany(responses,
+						(requests) -> (Flux<RespT>) call.apply(requests), prepareError, options)));
+	}
+
+	private static CallOptions callOptions(int prefetch, int lowTide) {
+		Assert.isTrue(prefetch > 0, "prefetch must be positive");
+		Assert.isTrue(lowTide > 0 && lowTide <= prefetch, "lowTide must be positive and at most the prefetch");
+		return CallOptions.DEFAULT.withOption(ReactorCallOptions.CALL_OPTIONS_PREFETCH, prefetch)
+			.withOption(ReactorCallOptions.CALL_OPTIONS_LOW_TIDE, lowTide);
+	}
+
+}
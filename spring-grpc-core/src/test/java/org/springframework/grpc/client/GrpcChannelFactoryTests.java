@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.List;
 
@@ -32,6 +33,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 
 import io.grpc.ClientInterceptor;
+import io.grpc.InsecureChannelCredentials;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.netty.NettyChannelBuilder;
@@ -159,6 +161,24 @@ class GrpcChannelFactoryTests {
 				.isInstanceOf(io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder.class)));
 		}
 
+		@Test
+		void nettyChannelFactoriesAskForCredentialsForTheirBuilderType() {
+			var credentials = mock(ChannelCredentialsProvider.class);
+			when(credentials.getChannelCredentials(anyString(), any())).thenReturn(InsecureChannelCredentials.create());
+			var channelFactory = new NettyGrpcChannelFactory(List.of(), mock());
+			channelFactory.setVirtualTargets(path -> path);
+			channelFactory.setCredentialsProvider(credentials);
+			channel = channelFactory.createChannel("localhost", ChannelBuilderOptions.defaults());
+			verify(credentials).getChannelCredentials("localhost", NettyChannelBuilder.class);
+			channel.shutdownNow();
+			var shadedChannelFactory = new ShadedNettyGrpcChannelFactory(List.of(), mock());
+			shadedChannelFactory.setVirtualTargets(path -> path);
+			shadedChannelFactory.setCredentialsProvider(credentials);
+			channel = shadedChannelFactory.createChannel("localhost", ChannelBuilderOptions.defaults());
+			verify(credentials).getChannelCredentials("localhost",
+					io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder.class);
+		}
+
 	}
 
 }
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.balancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.StringValue;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientInterceptors;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancerRegistry;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.NameResolver;
+import io.grpc.NameResolverProvider;
+import io.grpc.NameResolverRegistry;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.inprocess.InProcessSocketAddress;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.ServerCalls;
+
+/**
+ * Tests for {@link ConsistentHashLoadBalancer} and {@link HashKeyClientInterceptor}, with
+ * in-process backends.
+ *
+ * @author Dave Syer
+ */
+class ConsistentHashLoadBalancerTests {
+
+	private static final MethodDescriptor<StringValue, StringValue> METHOD = MethodDescriptor
+		.<StringValue, StringValue>newBuilder()
+		.setType(MethodType.UNARY)
+		.setFullMethodName("test.Echo/Echo")
+		.setRequestMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+		.setResponseMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+		.build();
+
+	private final List<Server> servers = new ArrayList<>();
+
+	private final List<SocketAddress> addresses = new ArrayList<>();
+
+	private final StaticNameResolverProvider resolver = new StaticNameResolverProvider();
+
+	@BeforeEach
+	void registerResolver() {
+		NameResolverRegistry.getDefaultRegistry().register(this.resolver);
+	}
+
+	@AfterEach
+	void shutdown() {
+		NameResolverRegistry.getDefaultRegistry().deregister(this.resolver);
+		this.servers.forEach(Server::shutdownNow);
+	}
+
+	@Test
+	void providerIsRegistered() {
+		assertThat(LoadBalancerRegistry.getDefaultRegistry().getProvider("consistent_hash"))
+			.isInstanceOf(ConsistentHashLoadBalancerProvider.class);
+	}
+
+	@Test
+	void configIsParsedFromServiceConfig() {
+		ConsistentHashLoadBalancerProvider provider = new ConsistentHashLoadBalancerProvider();
+		ConsistentHashLoadBalancer.Config config = (ConsistentHashLoadBalancer.Config) provider
+			.parseLoadBalancingPolicyConfig(Map.of("hashHeader", "x-user", "ringSize", 64.0, "loadFactor", 1.25))
+			.getConfig();
+		assertThat(config.hashHeader().name()).isEqualTo("x-user");
+		assertThat(config.ringSize()).isEqualTo(64);
+		assertThat(config.loadFactor()).isEqualTo(1.25);
+		config = (ConsistentHashLoadBalancer.Config) provider.parseLoadBalancingPolicyConfig(Map.of()).getConfig();
+		assertThat(config.hashHeader().name()).isEqualTo(ConsistentHashLoadBalancerProvider.DEFAULT_HASH_HEADER);
+		assertThat(config.ringSize()).isEqualTo(ConsistentHashLoadBalancerProvider.DEFAULT_RING_SIZE);
+		assertThat(config.loadFactor()).isInfinite();
+		assertThat(provider.parseLoadBalancingPolicyConfig(Map.of("ringSize", 0.0)).getError()).isNotNull();
+		assertThat(provider.parseLoadBalancingPolicyConfig(Map.of("loadFactor", 0.5)).getError()).isNotNull();
+		assertThat(provider.parseLoadBalancingPolicyConfig(Map.of("hashHeader", "x-key-bin")).getError())
+			.isNotNull();
+	}
+
+	@Test
+	void callsWithTheSameKeyGoToTheSameBackend() throws Exception {
+		List<AtomicInteger> backends = List.of(backend(), backend(), backend());
+		ManagedChannel channel = InProcessChannelBuilder.forTarget("consistent-hash-test:///backends")
+			.defaultLoadBalancingPolicy("consistent_hash")
+			.intercept(HashKeyClientInterceptor.forField(ConsistentHashLoadBalancerProvider.DEFAULT_HASH_HEADER,
+					"value"))
+			.build();
+		try {
+			warmUp(channel, backends);
+			for (int i = 0; i < 20; i++) {
+				call(channel, "alpha");
+			}
+			assertThat(backends).map(AtomicInteger::get).containsExactlyInAnyOrder(20, 0, 0);
+			backends.forEach((backend) -> backend.set(0));
+			for (int i = 0; i < 100; i++) {
+				call(channel, "key-" + i);
+			}
+			assertThat(backends).allSatisfy((backend) -> assertThat(backend.get()).isPositive());
+		}
+		finally {
+			channel.shutdownNow();
+		}
+	}
+
+	@Test
+	void keyCanBeSetInHeaders() throws Exception {
+		List<AtomicInteger> backends = List.of(backend(), backend(), backend());
+		ManagedChannel channel = InProcessChannelBuilder.forTarget("consistent-hash-test:///backends")
+			.defaultLoadBalancingPolicy("consistent_hash")
+			.build();
+		Metadata headers = new Metadata();
+		headers.put(Metadata.Key.of(ConsistentHashLoadBalancerProvider.DEFAULT_HASH_HEADER,
+				Metadata.ASCII_STRING_MARSHALLER), "alpha");
+		Channel keyed = ClientInterceptors.intercept(channel, MetadataUtils.newAttachHeadersInterceptor(headers));
+		try {
+			warmUp(channel, backends);
+			for (int i = 0; i < 20; i++) {
+				call(keyed, "value-" + i);
+			}
+			assertThat(backends).map(AtomicInteger::get).containsExactlyInAnyOrder(20, 0, 0);
+		}
+		finally {
+			channel.shutdownNow();
+		}
+	}
+
+	@Test
+	void keysAreEncodedForTheHeader() {
+		assertThat(HashKeyClientInterceptor.encode("user-42")).isEqualTo("user-42");
+		assertThat(HashKeyClientInterceptor.encode("caf\u00e9")).isEqualTo("caf%C3%A9");
+		assertThat(HashKeyClientInterceptor.encode("100%")).isEqualTo("100%25");
+		assertThat(HashKeyClientInterceptor.encode("\u00e9t\u00e9"))
+			.isNotEqualTo(HashKeyClientInterceptor.encode("\u00e0t\u00e0"));
+	}
+
+	// Calls until all the backends are ready and have had a call, then resets the counts
+	private static void warmUp(Channel channel, List<AtomicInteger> backends) {
+		for (int i = 0; i < 1000 && !backends.stream().allMatch((backend) -> backend.get() > 0); i++) {
+			call(channel, "warm-up-" + i);
+		}
+		assertThat(backends).allSatisfy((backend) -> assertThat(backend.get()).isPositive());
+		backends.forEach((backend) -> backend.set(0));
+	}
+
+	private static void call(Channel channel, String value) {
+		ClientCalls.blockingUnaryCall(channel, METHOD, CallOptions.DEFAULT.withWaitForReady(), StringValue.of(value));
+	}
+
+	private AtomicInteger backend() throws IOException {
+		AtomicInteger calls = new AtomicInteger();
+		ServerServiceDefinition service = ServerServiceDefinition.builder("test.Echo")
+			.addMethod(METHOD, ServerCalls.asyncUnaryCall((request, observer) -> {
+				calls.incrementAndGet();
+				observer.onNext(request);
+				observer.onCompleted();
+			}))
+			.build();
+		String name = InProcessServerBuilder.generateName();
+		this.servers.add(InProcessServerBuilder.forName(name).addService(service).build().start());
+		this.addresses.add(new InProcessSocketAddress(name));
+		return calls;
+	}
+
+	private final class StaticNameResolverProvider extends NameResolverProvider {
+
+		@Override
+		protected boolean isAvailable() {
+			return true;
+		}
+
+		@Override
+		protected int priority() {
+			return 5;
+		}
+
+		@Override
+		public String getDefaultScheme() {
+			return "consistent-hash-test";
+		}
+
+		@Override
+		protected Collection<Class<? extends SocketAddress>> getProducedSocketAddressTypes() {
+			return Set.of(InProcessSocketAddress.class);
+		}
+
+		@Override
+		public NameResolver newNameResolver(URI targetUri, NameResolver.Args args) {
+			if (!getDefaultScheme().equals(targetUri.getScheme())) {
+				return null;
+			}
+			return new NameResolver() {
+
+				@Override
+				public String getServiceAuthority() {
+					return "backends";
+				}
+
+				@Override
+				public void start(Listener2 listener) {
+					List<EquivalentAddressGroup> groups = ConsistentHashLoadBalancerTests.this.addresses.stream()
+						.map(EquivalentAddressGroup::new)
+						.toList();
+					listener.onResult(ResolutionResult.newBuilder().setAddresses(groups).build());
+				}
+
+				@Override
+				public void shutdown() {
+				}
+
+			};
+		}
+
+	}
+
+}
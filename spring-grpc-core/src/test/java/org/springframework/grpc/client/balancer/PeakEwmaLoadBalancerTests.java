@@ -0,0 +1,242 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.balancer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.StringValue;
+import io.grpc.CallOptions;
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.LoadBalancerRegistry;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.NameResolver;
+import io.grpc.NameResolverProvider;
+import io.grpc.NameResolverRegistry;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.inprocess.InProcessSocketAddress;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ServerCalls;
+
+/**
+ * Tests for {@link PeakEwmaLoadBalancer}, with in-process backends of different
+ * latencies.
+ *
+ * @author Dave Syer
+ */
+class PeakEwmaLoadBalancerTests {
+
+	private static final MethodDescriptor<StringValue, StringValue> METHOD = MethodDescriptor
+		.<StringValue, StringValue>newBuilder()
+		.setType(MethodType.UNARY)
+		.setFullMethodName("test.Echo/Echo")
+		.setRequestMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+		.setResponseMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+		.build();
+
+	private static final MethodDescriptor<StringValue, StringValue> STREAM = METHOD.toBuilder()
+		.setType(MethodType.SERVER_STREAMING)
+		.setFullMethodName("test.Echo/Stream")
+		.build();
+
+	private final List<Server> servers = new ArrayList<>();
+
+	private final List<SocketAddress> addresses = new ArrayList<>();
+
+	private final StaticNameResolverProvider resolver = new StaticNameResolverProvider();
+
+	@BeforeEach
+	void registerResolver() {
+		NameResolverRegistry.getDefaultRegistry().register(this.resolver);
+	}
+
+	@AfterEach
+	void shutdown() {
+		NameResolverRegistry.getDefaultRegistry().deregister(this.resolver);
+		this.servers.forEach(Server::shutdownNow);
+	}
+
+	@Test
+	void providerIsRegistered() {
+		assertThat(LoadBalancerRegistry.getDefaultRegistry().getProvider("peak_ewma"))
+			.isInstanceOf(PeakEwmaLoadBalancerProvider.class);
+	}
+
+	@Test
+	void decayTimeIsParsedFromServiceConfig() {
+		PeakEwmaLoadBalancerProvider provider = new PeakEwmaLoadBalancerProvider();
+		assertThat(provider.parseLoadBalancingPolicyConfig(Map.of("decayTime", "2.5s")).getConfig())
+			.isEqualTo(new PeakEwmaLoadBalancer.Config(Duration.ofMillis(2500)));
+		assertThat(provider.parseLoadBalancingPolicyConfig(Map.of()).getConfig())
+			.isEqualTo(new PeakEwmaLoadBalancer.Config(PeakEwmaLoadBalancerProvider.DEFAULT_DECAY_TIME));
+		assertThat(provider.parseLoadBalancingPolicyConfig(Map.of("decayTime", "soon")).getError()).isNotNull();
+	}
+
+	@Test
+	void slowBackendGetsFewerCalls() throws Exception {
+		AtomicInteger fast = backend(Duration.ZERO);
+		AtomicInteger slow = backend(Duration.ofMillis(20));
+		ManagedChannel channel = InProcessChannelBuilder.forTarget("peak-ewma-test:///backends")
+			.defaultLoadBalancingPolicy("peak_ewma")
+			.build();
+		try {
+			for (int i = 0; i < 100; i++) {
+				ClientCalls.blockingUnaryCall(channel, METHOD, CallOptions.DEFAULT.withWaitForReady(),
+						StringValue.of("hello"));
+			}
+		}
+		finally {
+			channel.shutdownNow();
+		}
+		assertThat(fast.get() + slow.get()).isEqualTo(100);
+		assertThat(slow.get()).isLessThan(10);
+	}
+
+	@Test
+	void longLivedStreamDoesNotCountAsSlowResponse() throws Exception {
+		AtomicInteger streamsOne = new AtomicInteger();
+		AtomicInteger one = backend(Duration.ZERO, streamsOne);
+		AtomicInteger two = backend(Duration.ZERO, new AtomicInteger());
+		ManagedChannel channel = InProcessChannelBuilder.forTarget("peak-ewma-test:///backends")
+			.defaultLoadBalancingPolicy("peak_ewma")
+			.build();
+		try {
+			// The first message comes straight away, but the stream stays open for a while
+			ClientCalls
+				.blockingServerStreamingCall(channel, STREAM, CallOptions.DEFAULT.withWaitForReady(),
+						StringValue.of("hello"))
+				.forEachRemaining((response) -> {
+				});
+			for (int i = 0; i < 100; i++) {
+				ClientCalls.blockingUnaryCall(channel, METHOD, CallOptions.DEFAULT.withWaitForReady(),
+						StringValue.of("hello"));
+			}
+		}
+		finally {
+			channel.shutdownNow();
+		}
+		AtomicInteger streamed = (streamsOne.get() > 0) ? one : two;
+		assertThat(streamed.get()).isPositive();
+	}
+
+	private AtomicInteger backend(Duration latency) throws IOException {
+		return backend(latency, new AtomicInteger());
+	}
+
+	private AtomicInteger backend(Duration latency, AtomicInteger streams) throws IOException {
+		AtomicInteger calls = new AtomicInteger();
+		ServerServiceDefinition service = ServerServiceDefinition.builder("test.Echo")
+			.addMethod(METHOD, ServerCalls.asyncUnaryCall((request, observer) -> {
+				calls.incrementAndGet();
+				sleep(latency);
+				observer.onNext(request);
+				observer.onCompleted();
+			}))
+			.addMethod(STREAM, ServerCalls.asyncServerStreamingCall((request, observer) -> {
+				streams.incrementAndGet();
+				observer.onNext(request);
+				sleep(Duration.ofMillis(200));
+				observer.onCompleted();
+			}))
+			.build();
+		String name = InProcessServerBuilder.generateName();
+		this.servers.add(InProcessServerBuilder.forName(name).addService(service).build().start());
+		this.addresses.add(new InProcessSocketAddress(name));
+		return calls;
+	}
+
+	private static void sleep(Duration latency) {
+		try {
+			Thread.sleep(latency);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private final class StaticNameResolverProvider extends NameResolverProvider {
+
+		@Override
+		protected boolean isAvailable() {
+			return true;
+		}
+
+		@Override
+		protected int priority() {
+			return 5;
+		}
+
+		@Override
+		public String getDefaultScheme() {
+			return "peak-ewma-test";
+		}
+
+		@Override
+		protected Collection<Class<? extends SocketAddress>> getProducedSocketAddressTypes() {
+			return Set.of(InProcessSocketAddress.class);
+		}
+
+		@Override
+		public NameResolver newNameResolver(URI targetUri, NameResolver.Args args) {
+			if (!getDefaultScheme().equals(targetUri.getScheme())) {
+				return null;
+			}
+			return new NameResolver() {
+
+				@Override
+				public String getServiceAuthority() {
+					return "backends";
+				}
+
+				@Override
+				public void start(Listener2 listener) {
+					List<EquivalentAddressGroup> groups = PeakEwmaLoadBalancerTests.this.addresses.stream()
+						.map(EquivalentAddressGroup::new)
+						.toList();
+					listener.onResult(ResolutionResult.newBuilder().setAddresses(groups).build());
+				}
+
+				@Override
+				public void shutdown() {
+				}
+
+			};
+		}
+
+	}
+
+}
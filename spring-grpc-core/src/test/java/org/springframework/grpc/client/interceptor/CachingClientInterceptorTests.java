@@ -0,0 +1,190 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.grpc.cache.ResponseCache;
+import org.springframework.grpc.client.interceptor.CoalescingClientInterceptorTests.StringMarshaller;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.Status;
+
+/**
+ * Tests for {@link CachingClientInterceptor} and {@link ResponseCache}.
+ */
+class CachingClientInterceptorTests {
+
+	private final Channel channel = mock();
+
+	private final ClientCall<String, String> call = mock();
+
+	private final AtomicLong time = new AtomicLong();
+
+	@BeforeEach
+	void setUp() {
+		given(this.channel.<String, String>newCall(any(), any())).willReturn(this.call);
+	}
+
+	@Test
+	void successfulResponseIsServedFromCache() {
+		ResponseCache cache = new ResponseCache(Duration.ofMinutes(1), 10, 1024);
+		CachingClientInterceptor interceptor = interceptor(cache);
+		unaryCall(interceptor, "test/Get", "foo", mock());
+		respond(0, "bar", Status.OK);
+		ClientCall.Listener<String> listener = mock();
+		unaryCall(interceptor, "test/Get", "foo", listener);
+		then(this.channel).should(times(1)).newCall(any(), any());
+		then(listener).should().onMessage("bar");
+		then(listener).should().onClose(eq(Status.OK), any());
+		assertThat(cache.getHitCount()).isOne();
+		assertThat(cache.getMissCount()).isOne();
+		assertThat(cache.getHitRatio()).isEqualTo(0.5);
+	}
+
+	@Test
+	void differentRequestsAreCachedSeparately() {
+		ResponseCache cache = new ResponseCache(Duration.ofMinutes(1), 10, 1024);
+		CachingClientInterceptor interceptor = interceptor(cache);
+		unaryCall(interceptor, "test/Get", "foo", mock());
+		respond(0, "bar", Status.OK);
+		unaryCall(interceptor, "test/Get", "baz", mock());
+		then(this.channel).should(times(2)).newCall(any(), any());
+		assertThat(cache.size()).isOne();
+	}
+
+	@Test
+	void failedResponseIsNotCached() {
+		ResponseCache cache = new ResponseCache(Duration.ofMinutes(1), 10, 1024);
+		CachingClientInterceptor interceptor = interceptor(cache);
+		unaryCall(interceptor, "test/Get", "foo", mock());
+		respond(0, null, Status.UNAVAILABLE);
+		unaryCall(interceptor, "test/Get", "foo", mock());
+		then(this.channel).should(times(2)).newCall(any(), any());
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void expiredEntryIsNotServed() {
+		ResponseCache cache = new ResponseCache(Duration.ofSeconds(10), 10, 1024);
+		CachingClientInterceptor interceptor = interceptor(cache);
+		unaryCall(interceptor, "test/Get", "foo", mock());
+		respond(0, "bar", Status.OK);
+		this.time.addAndGet(Duration.ofSeconds(11).toNanos());
+		unaryCall(interceptor, "test/Get", "foo", mock());
+		then(this.channel).should(times(2)).newCall(any(), any());
+		assertThat(cache.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	void leastRecentlyUsedEntryIsEvicted() {
+		ResponseCache cache = new ResponseCache(Duration.ofMinutes(1), 2, 1024);
+		CachingClientInterceptor interceptor = interceptor(cache);
+		unaryCall(interceptor, "test/Get", "one", mock());
+		respond(0, "1", Status.OK);
+		unaryCall(interceptor, "test/Get", "two", mock());
+		respond(1, "2", Status.OK);
+		unaryCall(interceptor, "test/Get", "one", mock());
+		unaryCall(interceptor, "test/Get", "three", mock());
+		respond(2, "3", Status.OK);
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getEvictionCount()).isOne();
+		unaryCall(interceptor, "test/Get", "one", mock());
+		then(this.channel).should(times(3)).newCall(any(), any());
+	}
+
+	@Test
+	void entriesAreEvictedWhenMaxBytesIsExceeded() {
+		ResponseCache cache = new ResponseCache(Duration.ofMinutes(1), 10, 30);
+		CachingClientInterceptor interceptor = interceptor(cache);
+		unaryCall(interceptor, "test/Get", "one", mock());
+		respond(0, "0123456789", Status.OK);
+		unaryCall(interceptor, "test/Get", "two", mock());
+		respond(1, "0123456789", Status.OK);
+		assertThat(cache.size()).isOne();
+		assertThat(cache.getBytes()).isLessThanOrEqualTo(30);
+	}
+
+	@Test
+	void onlyMatchingMethodsAreCached() {
+		CachingClientInterceptor interceptor = new CachingClientInterceptor(
+				new ResponseCache(Duration.ofMinutes(1), 10, 1024), "test/Get*");
+		assertThat(interceptor.interceptCall(method("test/Put", MethodType.UNARY), CallOptions.DEFAULT, this.channel))
+			.isSameAs(this.call);
+		assertThat(interceptor.interceptCall(method("test/Get", MethodType.SERVER_STREAMING), CallOptions.DEFAULT,
+				this.channel))
+			.isSameAs(this.call);
+		assertThat(interceptor.interceptCall(method("test/Get", MethodType.UNARY), CallOptions.DEFAULT, this.channel))
+			.isNotSameAs(this.call);
+	}
+
+	private CachingClientInterceptor interceptor(ResponseCache cache) {
+		CachingClientInterceptor interceptor = new CachingClientInterceptor(cache);
+		interceptor.setClock(this.time::get);
+		return interceptor;
+	}
+
+	private void unaryCall(CachingClientInterceptor interceptor, String methodName, String request,
+			ClientCall.Listener<String> listener) {
+		ClientCall<String, String> call = interceptor.interceptCall(method(methodName, MethodType.UNARY),
+				CallOptions.DEFAULT, this.channel);
+		call.start(listener, new Metadata());
+		call.request(2);
+		call.sendMessage(request);
+		call.halfClose();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void respond(int index, String response, Status status) {
+		ArgumentCaptor<ClientCall.Listener<String>> listener = ArgumentCaptor.forClass(ClientCall.Listener.class);
+		then(this.call).should(times(index + 1)).start(listener.capture(), any());
+		ClientCall.Listener<String> callListener = listener.getAllValues().get(index);
+		callListener.onHeaders(new Metadata());
+		if (response != null) {
+			callListener.onMessage(response);
+		}
+		callListener.onClose(status, new Metadata());
+	}
+
+	private MethodDescriptor<String, String> method(String name, MethodType type) {
+		return MethodDescriptor.<String, String>newBuilder()
+			.setType(type)
+			.setFullMethodName(name)
+			.setRequestMarshaller(new StringMarshaller())
+			.setResponseMarshaller(new StringMarshaller())
+			.build();
+	}
+
+}
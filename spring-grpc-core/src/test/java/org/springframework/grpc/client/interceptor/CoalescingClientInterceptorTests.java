@@ -0,0 +1,255 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.grpc.CallCredentials;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.Status;
+
+/**
+ * Tests for {@link CoalescingClientInterceptor}.
+ */
+class CoalescingClientInterceptorTests {
+
+	private final Channel channel = mock();
+
+	private final ClientCall<String, String> call = mock();
+
+	@BeforeEach
+	void setUp() {
+		given(this.channel.<String, String>newCall(any(), any())).willReturn(this.call);
+	}
+
+	@Test
+	void identicalCallsInFlightAreCoalesced() {
+		CoalescingClientInterceptor interceptor = new CoalescingClientInterceptor();
+		ClientCall.Listener<String> first = mock();
+		ClientCall.Listener<String> second = mock();
+		unaryCall(interceptor, method("test/Get", MethodType.UNARY), "foo", first);
+		unaryCall(interceptor, method("test/Get", MethodType.UNARY), "foo", second);
+		then(this.channel).should(times(1)).newCall(any(), any());
+		then(this.call).should().sendMessage("foo");
+		ClientCall.Listener<String> listener = callListener();
+		listener.onHeaders(new Metadata());
+		listener.onMessage("bar");
+		listener.onClose(Status.OK, new Metadata());
+		then(first).should().onMessage("bar");
+		then(first).should().onClose(any(), any());
+		then(second).should().onMessage("bar");
+		then(second).should().onClose(any(), any());
+		assertThat(interceptor.getFlightCount()).isZero();
+	}
+
+	@Test
+	void callsWithDifferentRequestsAreNotCoalesced() {
+		CoalescingClientInterceptor interceptor = new CoalescingClientInterceptor();
+		unaryCall(interceptor, method("test/Get", MethodType.UNARY), "foo", mock());
+		unaryCall(interceptor, method("test/Get", MethodType.UNARY), "bar", mock());
+		then(this.channel).should(times(2)).newCall(any(), any());
+		assertThat(interceptor.getFlightCount()).isEqualTo(2);
+	}
+
+	@Test
+	void callsAfterCompletionStartNewFlight() {
+		CoalescingClientInterceptor interceptor = new CoalescingClientInterceptor();
+		unaryCall(interceptor, method("test/Get", MethodType.UNARY), "foo", mock());
+		callListener().onClose(Status.OK, new Metadata());
+		unaryCall(interceptor, method("test/Get", MethodType.UNARY), "foo", mock());
+		then(this.channel).should(times(2)).newCall(any(), any());
+	}
+
+	@Test
+	void failuresAreSharedWithAllCalls() {
+		CoalescingClientInterceptor interceptor = new CoalescingClientInterceptor();
+		ClientCall.Listener<String> first = mock();
+		ClientCall.Listener<String> second = mock();
+		unaryCall(interceptor, method("test/Get", MethodType.UNARY), "foo", first);
+		unaryCall(interceptor, method("test/Get", MethodType.UNARY), "foo", second);
+		callListener().onClose(Status.UNAVAILABLE, new Metadata());
+		ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+		then(second).should().onClose(status.capture(), any());
+		assertThat(status.getValue().getCode()).isEqualTo(Status.Code.UNAVAILABLE);
+		then(first).should().onClose(any(), any());
+	}
+
+	@Test
+	void cancellingOneCallDetachesIt() {
+		CoalescingClientInterceptor interceptor = new CoalescingClientInterceptor();
+		ClientCall.Listener<String> first = mock();
+		ClientCall.Listener<String> second = mock();
+		ClientCall<String, String> leader = unaryCall(interceptor, method("test/Get", MethodType.UNARY), "foo", first);
+		ClientCall<String, String> follower = unaryCall(interceptor, method("test/Get", MethodType.UNARY), "foo",
+				second);
+		leader.cancel("bored", null);
+		ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+		then(first).should().onClose(status.capture(), any());
+		assertThat(status.getValue().getCode()).isEqualTo(Status.Code.CANCELLED);
+		then(this.call).should(never()).cancel(any(), any());
+		follower.cancel("bored", null);
+		then(this.call).should().cancel(any(), any());
+		assertThat(interceptor.getFlightCount()).isZero();
+	}
+
+	@Test
+	void expiredDeadlineDetachesOnlyThatCall() {
+		CoalescingClientInterceptor interceptor = new CoalescingClientInterceptor();
+		ClientCall.Listener<String> first = mock();
+		ClientCall.Listener<String> second = mock();
+		unaryCall(interceptor, CallOptions.DEFAULT, new Metadata(), "foo", first);
+		unaryCall(interceptor, CallOptions.DEFAULT.withDeadlineAfter(50, TimeUnit.MILLISECONDS), new Metadata(),
+				"foo", second);
+		ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+		then(second).should(timeout(5000)).onClose(status.capture(), any());
+		assertThat(status.getValue().getCode()).isEqualTo(Status.Code.DEADLINE_EXCEEDED);
+		then(first).should(never()).onClose(any(), any());
+		then(this.call).should(never()).cancel(any(), any());
+		callListener().onClose(Status.OK, new Metadata());
+		then(first).should().onClose(any(), any());
+	}
+
+	@Test
+	void sharedCallDoesNotHaveTheDeadlineOfTheLeader() {
+		CoalescingClientInterceptor interceptor = new CoalescingClientInterceptor();
+		unaryCall(interceptor, CallOptions.DEFAULT.withDeadlineAfter(1, TimeUnit.MINUTES), new Metadata(), "foo",
+				mock());
+		ArgumentCaptor<CallOptions> options = ArgumentCaptor.forClass(CallOptions.class);
+		then(this.channel).should().newCall(any(), options.capture());
+		assertThat(options.getValue().getDeadline()).isNull();
+	}
+
+	@Test
+	void callsWithDifferentAuthorizationAreNotCoalesced() {
+		CoalescingClientInterceptor interceptor = new CoalescingClientInterceptor();
+		unaryCall(interceptor, CallOptions.DEFAULT, authorization("Bearer one"), "foo", mock());
+		unaryCall(interceptor, CallOptions.DEFAULT, authorization("Bearer two"), "foo", mock());
+		unaryCall(interceptor, CallOptions.DEFAULT, authorization("Bearer two"), "foo", mock());
+		then(this.channel).should(times(2)).newCall(any(), any());
+		assertThat(interceptor.getFlightCount()).isEqualTo(2);
+	}
+
+	@Test
+	void callsWithCallCredentialsAreNotCoalesced() {
+		CoalescingClientInterceptor interceptor = new CoalescingClientInterceptor();
+		CallOptions options = CallOptions.DEFAULT.withCallCredentials(mock(CallCredentials.class));
+		assertThat(interceptor.interceptCall(method("test/Get", MethodType.UNARY), options, this.channel))
+			.isSameAs(this.call);
+	}
+
+	@Test
+	void streamingCallsAreNotCoalesced() {
+		CoalescingClientInterceptor interceptor = new CoalescingClientInterceptor();
+		MethodDescriptor<String, String> method = method("test/Stream", MethodType.SERVER_STREAMING);
+		assertThat(interceptor.interceptCall(method, CallOptions.DEFAULT, this.channel)).isSameAs(this.call);
+	}
+
+	@Test
+	void onlyMatchingMethodsAreCoalesced() {
+		CoalescingClientInterceptor interceptor = new CoalescingClientInterceptor("test/Get*");
+		MethodDescriptor<String, String> method = method("test/Put", MethodType.UNARY);
+		assertThat(interceptor.interceptCall(method, CallOptions.DEFAULT, this.channel)).isSameAs(this.call);
+		method = method("test/GetAll", MethodType.UNARY);
+		assertThat(interceptor.interceptCall(method, CallOptions.DEFAULT, this.channel)).isNotSameAs(this.call);
+	}
+
+	private ClientCall<String, String> unaryCall(CoalescingClientInterceptor interceptor,
+			MethodDescriptor<String, String> method, String request, ClientCall.Listener<String> listener) {
+		return unaryCall(interceptor, method, CallOptions.DEFAULT, new Metadata(), request, listener);
+	}
+
+	private ClientCall<String, String> unaryCall(CoalescingClientInterceptor interceptor, CallOptions options,
+			Metadata headers, String request, ClientCall.Listener<String> listener) {
+		return unaryCall(interceptor, method("test/Get", MethodType.UNARY), options, headers, request, listener);
+	}
+
+	private ClientCall<String, String> unaryCall(CoalescingClientInterceptor interceptor,
+			MethodDescriptor<String, String> method, CallOptions options, Metadata headers, String request,
+			ClientCall.Listener<String> listener) {
+		ClientCall<String, String> call = interceptor.interceptCall(method, options, this.channel);
+		call.start(listener, headers);
+		call.request(2);
+		call.sendMessage(request);
+		call.halfClose();
+		return call;
+	}
+
+	private static Metadata authorization(String value) {
+		Metadata headers = new Metadata();
+		headers.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), value);
+		return headers;
+	}
+
+	@SuppressWarnings("unchecked")
+	private ClientCall.Listener<String> callListener() {
+		ArgumentCaptor<ClientCall.Listener<String>> listener = ArgumentCaptor.forClass(ClientCall.Listener.class);
+		then(this.call).should().start(listener.capture(), any());
+		return listener.getValue();
+	}
+
+	private MethodDescriptor<String, String> method(String name, MethodType type) {
+		return MethodDescriptor.<String, String>newBuilder()
+			.setType(type)
+			.setFullMethodName(name)
+			.setRequestMarshaller(new StringMarshaller())
+			.setResponseMarshaller(new StringMarshaller())
+			.build();
+	}
+
+	static class StringMarshaller implements MethodDescriptor.Marshaller<String> {
+
+		@Override
+		public InputStream stream(String value) {
+			return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public String parse(InputStream stream) {
+			try {
+				return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.client.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.grpc.client.interceptor.CoalescingClientInterceptorTests.StringMarshaller;
+import org.springframework.grpc.compression.CompressionRules;
+
+import com.google.protobuf.StringValue;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+
+/**
+ * Tests for {@link CompressionClientInterceptor}.
+ *
+ * @author Dave Syer
+ */
+class CompressionClientInterceptorTests {
+
+	private final Channel channel = mock();
+
+	private final ClientCall<Object, Object> call = mock();
+
+	@Test
+	void encodingIsSetOnCallOptions() {
+		given(this.channel.newCall(any(), any())).willReturn(this.call);
+		CompressionClientInterceptor interceptor = new CompressionClientInterceptor(
+				new CompressionRules().methods(List.of("test/*"), "gzip", 0));
+		assertThat(interceptor.interceptCall(method("test/Get"), CallOptions.DEFAULT, this.channel))
+			.isSameAs(this.call);
+		ArgumentCaptor<CallOptions> options = ArgumentCaptor.forClass(CallOptions.class);
+		then(this.channel).should().newCall(any(), options.capture());
+		assertThat(options.getValue().getCompressor()).isEqualTo("gzip");
+	}
+
+	@Test
+	void explicitEncodingIsKept() {
+		given(this.channel.newCall(any(), any())).willReturn(this.call);
+		CompressionClientInterceptor interceptor = new CompressionClientInterceptor(new CompressionRules("gzip", 0));
+		interceptor.interceptCall(method("test/Get"), CallOptions.DEFAULT.withCompression("zstd"), this.channel);
+		ArgumentCaptor<CallOptions> options = ArgumentCaptor.forClass(CallOptions.class);
+		then(this.channel).should().newCall(any(), options.capture());
+		assertThat(options.getValue().getCompressor()).isEqualTo("zstd");
+	}
+
+	@Test
+	void methodsWithoutCompressionAreNotChanged() {
+		given(this.channel.newCall(any(), eq(CallOptions.DEFAULT))).willReturn(this.call);
+		CompressionClientInterceptor interceptor = new CompressionClientInterceptor(new CompressionRules());
+		assertThat(interceptor.interceptCall(method("test/Get"), CallOptions.DEFAULT, this.channel))
+			.isSameAs(this.call);
+	}
+
+	@Test
+	void smallMessagesAreSentUncompressed() {
+		given(this.channel.newCall(any(), any())).willReturn(this.call);
+		CompressionClientInterceptor interceptor = new CompressionClientInterceptor(new CompressionRules("gzip", 10));
+		ClientCall<Object, Object> call = interceptor.interceptCall(method("test/Get"), CallOptions.DEFAULT,
+				this.channel);
+		call.sendMessage(StringValue.of("small"));
+		then(this.call).should().setMessageCompression(false);
+		call.sendMessage(StringValue.of("large enough to compress"));
+		then(this.call).should().setMessageCompression(true);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static MethodDescriptor<Object, Object> method(String name) {
+		return (MethodDescriptor) MethodDescriptor.<String, String>newBuilder()
+			.setType(MethodType.UNARY)
+			.setFullMethodName(name)
+			.setRequestMarshaller(new StringMarshaller())
+			.setResponseMarshaller(new StringMarshaller())
+			.build();
+	}
+
+}
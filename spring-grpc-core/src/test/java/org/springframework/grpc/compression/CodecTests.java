@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.grpc.Codec;
+
+/**
+ * Tests for {@link ZstdCodec} and {@link Lz4Codec}.
+ *
+ * @author Dave Syer
+ */
+class CodecTests {
+
+	private static final byte[] MESSAGE = "hello world ".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	void zstdRoundTrip() throws IOException {
+		ZstdCodec codec = new ZstdCodec();
+		assertThat(codec.getMessageEncoding()).isEqualTo("zstd");
+		assertRoundTrip(codec);
+	}
+
+	@Test
+	void lz4RoundTrip() throws IOException {
+		Lz4Codec codec = new Lz4Codec();
+		assertThat(codec.getMessageEncoding()).isEqualTo("lz4");
+		assertRoundTrip(codec);
+	}
+
+	private void assertRoundTrip(Codec codec) throws IOException {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (OutputStream stream = codec.compress(compressed)) {
+			stream.write(MESSAGE);
+		}
+		assertThat(compressed.size()).isLessThan(MESSAGE.length);
+		try (InputStream stream = codec.decompress(new ByteArrayInputStream(compressed.toByteArray()))) {
+			assertThat(stream.readAllBytes()).isEqualTo(MESSAGE);
+		}
+	}
+
+}
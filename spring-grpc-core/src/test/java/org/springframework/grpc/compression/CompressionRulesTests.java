@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.grpc.compression.CompressionRules.Compression;
+
+import com.google.protobuf.StringValue;
+
+/**
+ * Tests for {@link CompressionRules}.
+ *
+ * @author Dave Syer
+ */
+class CompressionRulesTests {
+
+	@Test
+	void noCompressionByDefault() {
+		assertThat(new CompressionRules().getCompression("Simple/SayHello")).isNull();
+		assertThat(new CompressionRules("identity", 0).getCompression("Simple/SayHello")).isNull();
+	}
+
+	@Test
+	void defaultsApplyToAllMethods() {
+		CompressionRules rules = new CompressionRules("gzip", 1024);
+		assertThat(rules.getCompression("Simple/SayHello")).isEqualTo(new Compression("gzip", 1024));
+	}
+
+	@Test
+	void firstMatchingRuleApplies() {
+		CompressionRules rules = new CompressionRules("gzip", 1024).methods(List.of("Simple/Bulk*"), "zstd", 0)
+			.methods(List.of("Simple/*"), null, 0);
+		assertThat(rules.getCompression("Simple/BulkLoad")).isEqualTo(new Compression("zstd", 0));
+		assertThat(rules.getCompression("Simple/SayHello")).isNull();
+		assertThat(rules.getCompression("Other/SayHello")).isEqualTo(new Compression("gzip", 1024));
+	}
+
+	@Test
+	void smallProtobufMessagesAreNotCompressed() {
+		Compression compression = new Compression("gzip", 10);
+		assertThat(compression.shouldCompress(StringValue.of("small"))).isFalse();
+		assertThat(compression.shouldCompress(StringValue.of("large enough to compress"))).isTrue();
+	}
+
+	@Test
+	void messagesOfUnknownSizeAreCompressed() {
+		assertThat(new Compression("gzip", 1024).shouldCompress("small")).isTrue();
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.protobuf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.StringValue;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCalls;
+
+/**
+ * Tests for {@link ZeroCopyMarshalling}.
+ *
+ * @author Dave Syer
+ */
+class ZeroCopyMarshallingTests {
+
+	private static final MethodDescriptor<StringValue, BytesValue> PROTOBUF = MethodDescriptor
+		.<StringValue, BytesValue>newBuilder()
+		.setType(MethodType.UNARY)
+		.setFullMethodName("test/Get")
+		.setRequestMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+		.setResponseMarshaller(ProtoUtils.marshaller(BytesValue.getDefaultInstance()))
+		.build();
+
+	private static final MethodDescriptor<String, String> PLAIN = MethodDescriptor.<String, String>newBuilder()
+		.setType(MethodType.UNARY)
+		.setFullMethodName("test/Other")
+		.setRequestMarshaller(Mockito.mock())
+		.setResponseMarshaller(Mockito.mock())
+		.build();
+
+	@Test
+	void protobufMarshallersAreReplaced() {
+		MethodDescriptor<StringValue, BytesValue> method = ZeroCopyMarshalling.forMethod(PROTOBUF, 1024);
+		assertThat(method.getFullMethodName()).isEqualTo("test/Get");
+		assertThat(method.getRequestMarshaller()).isInstanceOf(ZeroCopyProtoMarshaller.class);
+		assertThat(method.getResponseMarshaller()).isInstanceOf(ZeroCopyProtoMarshaller.class)
+			.extracting("minMessageSize")
+			.isEqualTo(1024);
+		assertThat(ZeroCopyMarshalling.forMethod(method, 1024)).isSameAs(method);
+	}
+
+	@Test
+	void otherMarshallersAreKept() {
+		assertThat(ZeroCopyMarshalling.forMethod(PLAIN, 1024)).isSameAs(PLAIN);
+	}
+
+	@Test
+	void serviceDefinitionIsRebuilt() {
+		ServerServiceDefinition service = ServerServiceDefinition
+			.builder(ServiceDescriptor.newBuilder("test").addMethod(PROTOBUF).addMethod(PLAIN).build())
+			.addMethod(PROTOBUF, ServerCalls.asyncUnaryCall((request, responses) -> responses.onCompleted()))
+			.addMethod(PLAIN, ServerCalls.asyncUnaryCall((request, responses) -> responses.onCompleted()))
+			.build();
+		ServerServiceDefinition prepared = ZeroCopyMarshalling.forService(service, 1024);
+		assertThat(prepared.getMethod("test/Get").getMethodDescriptor().getRequestMarshaller())
+			.isInstanceOf(ZeroCopyProtoMarshaller.class);
+		assertThat(prepared.getMethod("test/Get").getServerCallHandler())
+			.isSameAs(service.getMethod("test/Get").getServerCallHandler());
+		assertThat(prepared.getMethod("test/Other")).isSameAs(service.getMethod("test/Other"));
+		assertThat(ZeroCopyMarshalling.forService(prepared, 1024)).isSameAs(prepared);
+	}
+
+}
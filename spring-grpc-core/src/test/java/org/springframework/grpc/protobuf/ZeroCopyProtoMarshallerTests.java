@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.protobuf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import io.grpc.internal.CompositeReadableBuffer;
+import io.grpc.internal.ReadableBuffers;
+
+/**
+ * Tests for {@link ZeroCopyProtoMarshaller}.
+ *
+ * @author Dave Syer
+ */
+class ZeroCopyProtoMarshallerTests {
+
+	private final ZeroCopyProtoMarshaller<BytesValue> marshaller = new ZeroCopyProtoMarshaller<>(
+			BytesValue.getDefaultInstance(), 1024);
+
+	@Test
+	void largeMessageAliasesTransportBuffer() {
+		byte[] bytes = serialize(4096);
+		BytesValue message = this.marshaller
+			.parse(ReadableBuffers.openStream(ReadableBuffers.wrap(ByteBuffer.wrap(bytes)), true));
+		assertThat(message.getValue().size()).isEqualTo(4096);
+		bytes[bytes.length - 1] = 'b';
+		assertThat(message.getValue().byteAt(4095)).isEqualTo((byte) 'b');
+	}
+
+	@Test
+	void largeMessageSpanningDirectBuffersIsParsed() {
+		byte[] bytes = serialize(4096);
+		CompositeReadableBuffer buffer = new CompositeReadableBuffer();
+		buffer.addBuffer(ReadableBuffers.wrap(direct(Arrays.copyOfRange(bytes, 0, 1000))));
+		buffer.addBuffer(ReadableBuffers.wrap(direct(Arrays.copyOfRange(bytes, 1000, bytes.length))));
+		BytesValue message = this.marshaller.parse(ReadableBuffers.openStream(buffer, true));
+		assertThat(message.getValue()).isEqualTo(ByteString.copyFrom(bytes, bytes.length - 4096, 4096));
+	}
+
+	@Test
+	void smallMessageIsCopied() {
+		byte[] bytes = serialize(100);
+		BytesValue message = this.marshaller
+			.parse(ReadableBuffers.openStream(ReadableBuffers.wrap(ByteBuffer.wrap(bytes)), true));
+		bytes[bytes.length - 1] = 'b';
+		assertThat(message.getValue().byteAt(99)).isEqualTo((byte) 'a');
+	}
+
+	@Test
+	void plainStreamIsParsedByStandardMarshaller() {
+		BytesValue value = value(4096);
+		BytesValue message = this.marshaller.parse(this.marshaller.stream(value));
+		assertThat(message).isEqualTo(value);
+	}
+
+	@Test
+	void prototypeIsExposed() {
+		assertThat(this.marshaller.getMessagePrototype()).isSameAs(BytesValue.getDefaultInstance());
+		assertThat(this.marshaller.getMessageClass()).isEqualTo(BytesValue.class);
+	}
+
+	private byte[] serialize(int size) {
+		try (InputStream stream = this.marshaller.stream(value(size))) {
+			return stream.readAllBytes();
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static BytesValue value(int size) {
+		byte[] value = new byte[size];
+		Arrays.fill(value, (byte) 'a');
+		return BytesValue.of(ByteString.copyFrom(value));
+	}
+
+	private static ByteBuffer direct(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+		buffer.put(bytes).flip();
+		return buffer;
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.grpc.client.ChannelBuilderOptions;
+import org.springframework.grpc.client.DefaultGrpcChannelFactory;
+import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
+import org.springframework.grpc.client.interceptor.DefaultDeadlineSetupClientInterceptor;
+
+import com.google.protobuf.StringValue;
+import io.grpc.CallOptions;
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ServerCalls;
+
+/**
+ * Tests for {@link LocalGrpcServer}.
+ *
+ * @author Dave Syer
+ */
+class LocalGrpcServerTests {
+
+	private static final MethodDescriptor<StringValue, StringValue> METHOD = MethodDescriptor
+		.<StringValue, StringValue>newBuilder()
+		.setType(MethodType.UNARY)
+		.setFullMethodName("test/Echo")
+		.setRequestMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+		.setResponseMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+		.build();
+
+	private final AtomicReference<StringValue> received = new AtomicReference<>();
+
+	private final AtomicReference<Deadline> deadline = new AtomicReference<>();
+
+	private final LocalGrpcServer server = new LocalGrpcServer(() -> List.of(service()), Duration.ZERO);
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private final DefaultGrpcChannelFactory<?> channels = new DefaultGrpcChannelFactory(List.of(), mock());
+
+	@AfterEach
+	void close() {
+		this.channels.destroy();
+		this.server.stop();
+	}
+
+	@Test
+	void localTargetsMatchWithoutPort() {
+		assertThat(this.server.isLocal("local:")).isTrue();
+		assertThat(this.server.isLocal("local:my-service")).isTrue();
+		assertThat(this.server.isLocal("localhost:9090")).isFalse();
+	}
+
+	@Test
+	void loopbackTargetsWithServerPortMatch() {
+		this.server.setPort(() -> 9090);
+		assertThat(this.server.isLocal("localhost:9090")).isTrue();
+		assertThat(this.server.isLocal("static://127.0.0.1:9090")).isTrue();
+		assertThat(this.server.isLocal("dns:///localhost:9090")).isTrue();
+		assertThat(this.server.isLocal("[::1]:9090")).isTrue();
+		assertThat(this.server.isLocal("localhost:9091")).isFalse();
+		assertThat(this.server.isLocal("example.com:9090")).isFalse();
+		assertThat(this.server.isLocal("localhost")).isFalse();
+	}
+
+	@Test
+	void localChannelIsServedInProcess() {
+		this.server.start();
+		this.channels.setLocalServer(this.server);
+		ManagedChannel channel = this.channels.createChannel("local:", ChannelBuilderOptions.defaults());
+		StringValue request = StringValue.of("hello");
+		StringValue response = ClientCalls.blockingUnaryCall(channel, METHOD, CallOptions.DEFAULT, request);
+		assertThat(response).isEqualTo(request).isNotSameAs(request);
+		assertThat(this.received.get()).isNotSameAs(request);
+	}
+
+	@Test
+	void directMarshallingPassesMessagesByReference() {
+		this.server.setDirectMarshalling(true);
+		this.server.start();
+		this.channels.setLocalServer(this.server);
+		ManagedChannel channel = this.channels.createChannel("local:", ChannelBuilderOptions.defaults());
+		StringValue request = StringValue.of("hello");
+		StringValue response = ClientCalls.blockingUnaryCall(channel, METHOD, CallOptions.DEFAULT, request);
+		assertThat(response).isSameAs(request);
+		assertThat(this.received.get()).isSameAs(request);
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void customizersApplyToLocalChannels() {
+		GrpcChannelBuilderCustomizer<NettyChannelBuilder> netty = (authority, builder) -> builder
+			.flowControlWindow(1024);
+		GrpcChannelBuilderCustomizer<InProcessChannelBuilder> deadline = new DeadlineCustomizer<>();
+		DefaultGrpcChannelFactory<?> channels = new DefaultGrpcChannelFactory(
+				List.of(new NettyFlowControlCustomizer(), netty, deadline), mock());
+		this.server.start();
+		channels.setLocalServer(this.server);
+		try {
+			ManagedChannel channel = channels.createChannel("local:", ChannelBuilderOptions.defaults());
+			ClientCalls.blockingUnaryCall(channel, METHOD, CallOptions.DEFAULT, StringValue.of("hello"));
+			assertThat(this.deadline.get()).isNotNull();
+		}
+		finally {
+			channels.destroy();
+		}
+	}
+
+	private ServerServiceDefinition service() {
+		return ServerServiceDefinition.builder("test")
+			.addMethod(METHOD, ServerCalls.asyncUnaryCall((request, observer) -> {
+				this.deadline.set(Context.current().getDeadline());
+				this.received.set(request);
+				observer.onNext(request);
+				observer.onCompleted();
+			}))
+			.build();
+	}
+
+	static class DeadlineCustomizer<T extends ManagedChannelBuilder<T>> implements GrpcChannelBuilderCustomizer<T> {
+
+		@Override
+		public void customize(String authority, T builder) {
+			builder.intercept(new DefaultDeadlineSetupClientInterceptor(Duration.ofSeconds(10)));
+		}
+
+	}
+
+	static class NettyFlowControlCustomizer implements GrpcChannelBuilderCustomizer<NettyChannelBuilder> {
+
+		@Override
+		public void customize(String authority, NettyChannelBuilder builder) {
+			builder.flowControlWindow(1024);
+		}
+
+	}
+
+}
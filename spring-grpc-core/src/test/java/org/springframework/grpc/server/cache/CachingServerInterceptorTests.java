@@ -0,0 +1,255 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.grpc.cache.ResponseCache;
+
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCall;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Tests for {@link CachingServerInterceptor}.
+ *
+ * @author Dave Syer
+ */
+class CachingServerInterceptorTests {
+
+	private final AtomicInteger invocations = new AtomicInteger();
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private final AtomicInteger serializations = new AtomicInteger();
+
+	private final AtomicInteger parses = new AtomicInteger();
+
+	@Test
+	void cacheHitSkipsServiceAndSerialization() {
+		ResponseCache cache = new ResponseCache(Duration.ofMinutes(1), 10, 1024);
+		CachingServerInterceptor interceptor = interceptor(cache, "test/Get");
+		ServerServiceDefinition service = interceptor.usePreSerializedResponses(service(interceptor));
+		Object first = call(service, "test/Get", "foo");
+		assertThat(wire(service, "test/Get", first)).isEqualTo("hello foo");
+		Object second = call(service, "test/Get", "foo");
+		assertThat(this.invocations).hasValue(1);
+		assertThat(first).isEqualTo("hello foo");
+		// The cached bytes are sent as they are
+		assertThat(second).isNotInstanceOf(String.class);
+		assertThat(wire(service, "test/Get", second)).isEqualTo("hello foo");
+		// Serialized once, when the response was cached, and never parsed
+		assertThat(this.serializations).hasValue(1);
+		assertThat(this.parses).hasValue(0);
+		assertThat(cache.getHitCount()).isOne();
+		assertThat(cache.getMissCount()).isOne();
+	}
+
+	@Test
+	void cacheHitWithoutPreSerializedResponsesParsesResponse() {
+		CachingServerInterceptor interceptor = interceptor(new ResponseCache(Duration.ofMinutes(1), 10, 1024),
+				"test/*");
+		ServerServiceDefinition service = service(interceptor);
+		assertThat(call(service, "test/Get", "foo")).isEqualTo("hello foo");
+		assertThat(call(service, "test/Get", "foo")).isEqualTo("hello foo");
+		assertThat(this.invocations).hasValue(1);
+		assertThat(this.parses).hasValue(1);
+	}
+
+	@Test
+	void differentRequestsAreCachedSeparately() {
+		CachingServerInterceptor interceptor = interceptor(new ResponseCache(Duration.ofMinutes(1), 10, 1024),
+				"test/Get");
+		ServerServiceDefinition service = service(interceptor);
+		call(service, "test/Get", "foo");
+		assertThat(call(service, "test/Get", "bar")).isEqualTo("hello bar");
+		assertThat(this.invocations).hasValue(2);
+	}
+
+	@Test
+	void methodsThatDoNotMatchAreNotCached() {
+		CachingServerInterceptor interceptor = interceptor(new ResponseCache(Duration.ofMinutes(1), 10, 1024),
+				"test/Get");
+		ServerServiceDefinition service = interceptor.usePreSerializedResponses(service(interceptor));
+		assertThat(service.getMethod("test/Other").getMethodDescriptor().getResponseMarshaller())
+			.isInstanceOf(StringMarshaller.class);
+		call(service, "test/Other", "foo");
+		assertThat(call(service, "test/Other", "foo")).isEqualTo("hello foo");
+		assertThat(this.invocations).hasValue(2);
+	}
+
+	@Test
+	void methodsCanBeAddedToCopy() {
+		CachingServerInterceptor interceptor = interceptor(new ResponseCache(Duration.ofMinutes(1), 10, 1024));
+		ServerServiceDefinition service = service(interceptor);
+		assertThat(interceptor.usePreSerializedResponses(service)).isSameAs(service);
+		CachingServerInterceptor copy = interceptor.withMethods("test/Other");
+		ServerServiceDefinition cached = service(copy);
+		call(cached, "test/Other", "foo");
+		call(cached, "test/Other", "foo");
+		assertThat(this.invocations).hasValue(1);
+		call(service, "test/Other", "foo");
+		assertThat(this.invocations).hasValue(2);
+		assertThat(copy.getCache()).isSameAs(interceptor.getCache());
+	}
+
+	@Test
+	void failedCallsAreNotCached() {
+		CachingServerInterceptor interceptor = interceptor(new ResponseCache(Duration.ofMinutes(1), 10, 1024),
+				"test/Get");
+		ServerServiceDefinition service = service(interceptor);
+		call(service, "test/Get", "fail");
+		call(service, "test/Get", "fail");
+		assertThat(this.invocations).hasValue(2);
+	}
+
+	@Test
+	void expiredResponsesAreNotServed() {
+		CachingServerInterceptor interceptor = interceptor(new ResponseCache(Duration.ofSeconds(10), 10, 1024),
+				"test/Get");
+		ServerServiceDefinition service = service(interceptor);
+		call(service, "test/Get", "foo");
+		this.clock.addAndGet(Duration.ofSeconds(11).toNanos());
+		call(service, "test/Get", "foo");
+		assertThat(this.invocations).hasValue(2);
+	}
+
+	private CachingServerInterceptor interceptor(ResponseCache cache, String... methods) {
+		CachingServerInterceptor interceptor = new CachingServerInterceptor(cache, methods);
+		interceptor.setClock(this.clock::get);
+		return interceptor;
+	}
+
+	private ServerServiceDefinition service(CachingServerInterceptor interceptor) {
+		MethodDescriptor<String, String> get = method("test/Get");
+		MethodDescriptor<String, String> other = method("test/Other");
+		ServerServiceDefinition service = ServerServiceDefinition
+			.builder(ServiceDescriptor.newBuilder("test").addMethod(get).addMethod(other).build())
+			.addMethod(get, ServerCalls.asyncUnaryCall(this::hello))
+			.addMethod(other, ServerCalls.asyncUnaryCall(this::hello))
+			.build();
+		return ServerInterceptors.interceptForward(service, interceptor);
+	}
+
+	private void hello(String request, StreamObserver<String> responses) {
+		this.invocations.incrementAndGet();
+		if (request.equals("fail")) {
+			responses.onError(Status.INTERNAL.asRuntimeException());
+			return;
+		}
+		responses.onNext("hello " + request);
+		responses.onCompleted();
+	}
+
+	private MethodDescriptor<String, String> method(String name) {
+		return MethodDescriptor.<String, String>newBuilder()
+			.setType(MethodType.UNARY)
+			.setFullMethodName(name)
+			.setRequestMarshaller(new StringMarshaller(new AtomicInteger(), new AtomicInteger()))
+			.setResponseMarshaller(new StringMarshaller(this.serializations, this.parses))
+			.build();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object call(ServerServiceDefinition service, String method, String request) {
+		ServerMethodDefinition<String, String> definition = (ServerMethodDefinition<String, String>) service
+			.getMethod(method);
+		ServerCall<String, String> call = mock();
+		given(call.getMethodDescriptor()).willReturn(definition.getMethodDescriptor());
+		given(call.isReady()).willReturn(true);
+		ServerCall.Listener<String> listener = definition.getServerCallHandler().startCall(call, new Metadata());
+		listener.onMessage(request);
+		listener.onHalfClose();
+		ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+		then(call).should().close(status.capture(), any());
+		if (!status.getValue().isOk()) {
+			return null;
+		}
+		ArgumentCaptor<Object> response = ArgumentCaptor.forClass(Object.class);
+		then(call).should().sendMessage((String) response.capture());
+		then(call).should().close(eq(Status.OK), any());
+		return response.getValue();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static String wire(ServerServiceDefinition service, String method, Object response) {
+		MethodDescriptor<String, Object> descriptor = (MethodDescriptor<String, Object>) service.getMethod(method)
+			.getMethodDescriptor();
+		try (InputStream stream = descriptor.streamResponse(response)) {
+			return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	static class StringMarshaller implements MethodDescriptor.Marshaller<String> {
+
+		private final AtomicInteger serializations;
+
+		private final AtomicInteger parses;
+
+		StringMarshaller(AtomicInteger serializations, AtomicInteger parses) {
+			this.serializations = serializations;
+			this.parses = parses;
+		}
+
+		@Override
+		public InputStream stream(String value) {
+			this.serializations.incrementAndGet();
+			return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public String parse(InputStream stream) {
+			this.parses.incrementAndGet();
+			try {
+				return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+	}
+
+}
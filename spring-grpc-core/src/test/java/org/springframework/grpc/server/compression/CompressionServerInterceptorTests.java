@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.compression;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.grpc.compression.CompressionRules;
+
+import com.google.protobuf.StringValue;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+
+/**
+ * Tests for {@link CompressionServerInterceptor}.
+ *
+ * @author Dave Syer
+ */
+class CompressionServerInterceptorTests {
+
+	private final ServerCall<Object, Object> call = mock();
+
+	private final ServerCallHandler<Object, Object> next = mock();
+
+	@Test
+	void encodingIsSetOnCall() {
+		given(this.call.getMethodDescriptor()).willReturn(method("test/Get"));
+		new CompressionServerInterceptor(new CompressionRules("zstd", 0)).interceptCall(this.call, new Metadata(),
+				this.next);
+		then(this.call).should().setCompression("zstd");
+		then(this.next).should().startCall(eq(this.call), any());
+	}
+
+	@Test
+	void methodsWithoutCompressionAreNotChanged() {
+		given(this.call.getMethodDescriptor()).willReturn(method("test/Get"));
+		new CompressionServerInterceptor(new CompressionRules("zstd", 0).methods(List.of("test/Get"), null, 0))
+			.interceptCall(this.call, new Metadata(), this.next);
+		then(this.call).should(never()).setCompression(any());
+		then(this.next).should().startCall(eq(this.call), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void smallMessagesAreSentUncompressed() {
+		given(this.call.getMethodDescriptor()).willReturn(method("test/Get"));
+		new CompressionServerInterceptor(new CompressionRules("gzip", 10)).interceptCall(this.call, new Metadata(),
+				this.next);
+		ArgumentCaptor<ServerCall<Object, Object>> wrapped = ArgumentCaptor.forClass(ServerCall.class);
+		then(this.next).should().startCall(wrapped.capture(), any());
+		wrapped.getValue().sendMessage(StringValue.of("small"));
+		then(this.call).should().setMessageCompression(false);
+		wrapped.getValue().sendMessage(StringValue.of("large enough to compress"));
+		then(this.call).should().setMessageCompression(true);
+	}
+
+	private static MethodDescriptor<Object, Object> method(String name) {
+		return MethodDescriptor.newBuilder()
+			.setType(MethodType.UNARY)
+			.setFullMethodName(name)
+			.setRequestMarshaller(mock())
+			.setResponseMarshaller(mock())
+			.build();
+	}
+
+}
@@ -16,17 +16,81 @@
 package org.springframework.grpc.server.exception;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import org.springframework.grpc.server.exception.GrpcExceptionHandlerInterceptor.FallbackHandler;
 
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+
 public class GrpcExceptionHandlerInterceptorTests {
 
+	private final ServerCall<Object, Object> call = mock();
+
+	private final ServerCallHandler<Object, Object> next = mock();
+
+	private final GrpcExceptionHandlerInterceptor interceptor = new GrpcExceptionHandlerInterceptor(
+			(exception) -> (exception instanceof IllegalArgumentException)
+					? Status.INVALID_ARGUMENT.withDescription(exception.getMessage()).asException() : null);
+
 	@Test
 	void testNullStatusHandled() {
 		assertThat(new FallbackHandler(exception -> null).handleException(new RuntimeException("Test exception")))
 			.isNotNull();
 	}
 
+	@Test
+	void asyncErrorIsHandledOnClose() {
+		Metadata trailers = new Metadata();
+		wrappedCall().close(Status.fromThrowable(new IllegalArgumentException("Bad")), trailers);
+		ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+		then(this.call).should().close(status.capture(), same(trailers));
+		assertThat(status.getValue().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+		assertThat(status.getValue().getDescription()).isEqualTo("Bad");
+	}
+
+	@Test
+	void unhandledAsyncErrorIsUnchanged() {
+		Status status = Status.fromThrowable(new IllegalStateException("Bad"));
+		wrappedCall().close(status, new Metadata());
+		then(this.call).should().close(same(status), any());
+	}
+
+	@Test
+	void statusFromServiceIsUnchanged() {
+		Status status = Status.NOT_FOUND.withCause(new IllegalArgumentException("Bad"));
+		wrappedCall().close(status, new Metadata());
+		then(this.call).should().close(same(status), any());
+	}
+
+	@Test
+	void failingHandlerLeavesAsyncErrorUnchanged() {
+		GrpcExceptionHandlerInterceptor interceptor = new GrpcExceptionHandlerInterceptor((exception) -> {
+			throw new IllegalStateException("Handler failed");
+		});
+		Status status = Status.fromThrowable(new IllegalArgumentException("Bad"));
+		wrappedCall(interceptor).close(status, new Metadata());
+		then(this.call).should().close(same(status), any());
+	}
+
+	private ServerCall<Object, Object> wrappedCall() {
+		return wrappedCall(this.interceptor);
+	}
+
+	@SuppressWarnings("unchecked")
+	private ServerCall<Object, Object> wrappedCall(GrpcExceptionHandlerInterceptor interceptor) {
+		interceptor.interceptCall(this.call, new Metadata(), this.next);
+		ArgumentCaptor<ServerCall<Object, Object>> wrapped = ArgumentCaptor.forClass(ServerCall.class);
+		then(this.next).should().startCall(wrapped.capture(), any());
+		return wrapped.getValue();
+	}
+
 }
@@ -27,6 +27,7 @@ import org.springframework.core.type.AnnotationMetadata;
 import io.grpc.BindableService;
 import io.grpc.ServerServiceDefinition;
 
+@SuppressWarnings("removal")
 public class ReactiveStubBeanDefinitionRegistrarTests {
 
 	private static final String BEAN_NAME = ReactiveStubBeanDefinitionRegistrar.ReactiveStubBeanFactoryPostProcessor.BEAN_NAME;
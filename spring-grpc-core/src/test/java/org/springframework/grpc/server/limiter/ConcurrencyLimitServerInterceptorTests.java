@@ -0,0 +1,188 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.limiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+
+/**
+ * Tests for {@link ConcurrencyLimitServerInterceptor}.
+ */
+class ConcurrencyLimitServerInterceptorTests {
+
+	private final ServerCallHandler<String, String> next = (call, headers) -> new ServerCall.Listener<>() {
+	};
+
+	@Test
+	void callsAboveLimitAreRejected() {
+		ConcurrencyLimitServerInterceptor interceptor = new ConcurrencyLimitServerInterceptor(() -> fixedLimit(1));
+		ServerCall<String, String> first = call("test/First");
+		ServerCall<String, String> second = call("test/First");
+		interceptor.interceptCall(first, new Metadata(), this.next);
+		interceptor.interceptCall(second, new Metadata(), this.next);
+		then(first).should(never()).close(any(), any());
+		assertThat(closedStatus(second).getCode()).isEqualTo(Status.Code.UNAVAILABLE);
+		assertThat(interceptor.getLimiter("test/First").getInflight()).isOne();
+	}
+
+	@Test
+	void permitIsReleasedWhenCallIsClosed() {
+		ConcurrencyLimitServerInterceptor interceptor = new ConcurrencyLimitServerInterceptor(() -> fixedLimit(1));
+		ServerCallHandler<String, String> handler = (call, headers) -> {
+			call.close(Status.OK, new Metadata());
+			return new ServerCall.Listener<>() {
+			};
+		};
+		ServerCall<String, String> first = call("test/First");
+		ServerCall<String, String> second = call("test/First");
+		interceptor.interceptCall(first, new Metadata(), handler);
+		interceptor.interceptCall(second, new Metadata(), handler);
+		assertThat(closedStatus(first).isOk()).isTrue();
+		assertThat(closedStatus(second).isOk()).isTrue();
+		assertThat(interceptor.getLimiter("test/First").getInflight()).isZero();
+	}
+
+	@Test
+	void permitIsReleasedWhenCallIsCancelled() {
+		ConcurrencyLimitServerInterceptor interceptor = new ConcurrencyLimitServerInterceptor(() -> fixedLimit(1));
+		ServerCall.Listener<String> listener = interceptor.interceptCall(call("test/First"), new Metadata(), this.next);
+		listener.onCancel();
+		assertThat(interceptor.getLimiter("test/First").getInflight()).isZero();
+	}
+
+	@Test
+	void perMethodLimitsAreIndependent() {
+		ConcurrencyLimitServerInterceptor interceptor = new ConcurrencyLimitServerInterceptor(() -> fixedLimit(1));
+		interceptor.setPerMethod(true);
+		ServerCall<String, String> first = call("test/First");
+		ServerCall<String, String> second = call("test/Second");
+		interceptor.interceptCall(first, new Metadata(), this.next);
+		interceptor.interceptCall(second, new Metadata(), this.next);
+		then(first).should(never()).close(any(), any());
+		then(second).should(never()).close(any(), any());
+		assertThat(interceptor.getLimiter("test/First")).isNotSameAs(interceptor.getLimiter("test/Second"));
+	}
+
+	@Test
+	void rejectStatusIsConfigurable() {
+		ConcurrencyLimitServerInterceptor interceptor = new ConcurrencyLimitServerInterceptor(() -> fixedLimit(0));
+		interceptor.setRejectStatus(Status.Code.RESOURCE_EXHAUSTED);
+		ServerCall<String, String> call = call("test/First");
+		interceptor.interceptCall(call, new Metadata(), this.next);
+		assertThat(closedStatus(call).getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+	}
+
+	@Test
+	void gradientLimitShrinksWhenLatencyGrows() {
+		GradientConcurrencyLimit limit = new GradientConcurrencyLimit(100, 10, 1000, 1.0, 1.0);
+		for (int i = 0; i < 100; i++) {
+			limit.onSample(1_000_000, 100, false);
+		}
+		int steady = limit.getLimit();
+		assertThat(steady).isGreaterThanOrEqualTo(100);
+		for (int i = 0; i < 10; i++) {
+			limit.onSample(10_000_000, limit.getLimit(), false);
+		}
+		assertThat(limit.getLimit()).isLessThan(steady);
+	}
+
+	@Test
+	void gradientLimitBacksOffWhenCallsAreDropped() {
+		GradientConcurrencyLimit limit = new GradientConcurrencyLimit(100, 10, 1000, 1.0, 1.5);
+		limit.onSample(1_000_000, 100, true);
+		assertThat(limit.getLimit()).isEqualTo(90);
+	}
+
+	@Test
+	void vegasLimitGrowsWhileLatencyIsStable() {
+		VegasConcurrencyLimit limit = new VegasConcurrencyLimit(20, 10, 1000, 1.0);
+		limit.onSample(1_000_000, 20, false);
+		for (int i = 0; i < 10; i++) {
+			limit.onSample(1_000_000, limit.getLimit(), false);
+		}
+		assertThat(limit.getLimit()).isGreaterThan(20);
+	}
+
+	@Test
+	void vegasLimitShrinksWhenQueueBuildsUp() {
+		VegasConcurrencyLimit limit = new VegasConcurrencyLimit(100, 10, 1000, 1.0);
+		limit.onSample(1_000_000, 100, false);
+		limit.onSample(10_000_000, 100, false);
+		assertThat(limit.getLimit()).isLessThan(100);
+	}
+
+	@Test
+	void vegasLimitRecoversFromUnusuallyFastSample() {
+		VegasConcurrencyLimit limit = new VegasConcurrencyLimit(20, 10, 1000, 1.0);
+		limit.onSample(100_000, 20, false);
+		limit.onSample(1_000_000, 20, false);
+		assertThat(limit.getLimit()).isLessThan(20);
+		for (int i = 0; i < 1000; i++) {
+			limit.onSample(1_000_000, limit.getLimit(), false);
+		}
+		assertThat(limit.getLimit()).isGreaterThan(20);
+	}
+
+	@SuppressWarnings("unchecked")
+	private ServerCall<String, String> call(String fullMethodName) {
+		ServerCall<String, String> call = mock();
+		MethodDescriptor<String, String> method = MethodDescriptor.<String, String>newBuilder()
+			.setType(MethodType.UNARY)
+			.setFullMethodName(fullMethodName)
+			.setRequestMarshaller(mock(MethodDescriptor.Marshaller.class))
+			.setResponseMarshaller(mock(MethodDescriptor.Marshaller.class))
+			.build();
+		given(call.getMethodDescriptor()).willReturn(method);
+		return call;
+	}
+
+	private Status closedStatus(ServerCall<String, String> call) {
+		ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+		then(call).should().close(status.capture(), any());
+		return status.getValue();
+	}
+
+	private ConcurrencyLimit fixedLimit(int value) {
+		return new ConcurrencyLimit() {
+
+			@Override
+			public int getLimit() {
+				return value;
+			}
+
+			@Override
+			public void onSample(long rttNanos, int inflight, boolean dropped) {
+			}
+
+		};
+	}
+
+}
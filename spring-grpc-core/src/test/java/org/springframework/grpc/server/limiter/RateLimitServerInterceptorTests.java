@@ -0,0 +1,175 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.limiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+
+/**
+ * Tests for {@link RateLimitServerInterceptor}.
+ */
+class RateLimitServerInterceptorTests {
+
+	private final ServerCallHandler<String, String> next = (call, headers) -> new ServerCall.Listener<>() {
+	};
+
+	private final AtomicLong time = new AtomicLong();
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void callsAboveLimitAreRejectedWithRetryAfter() {
+		RateLimitServerInterceptor interceptor = interceptor();
+		interceptor.allRequests().limit(2, Duration.ofSeconds(1));
+		assertThat(accepted(interceptor, "test/First")).isTrue();
+		assertThat(accepted(interceptor, "test/First")).isTrue();
+		ServerCall<String, String> call = call("test/First");
+		interceptor.interceptCall(call, new Metadata(), this.next);
+		ArgumentCaptor<Status> status = ArgumentCaptor.forClass(Status.class);
+		ArgumentCaptor<Metadata> trailers = ArgumentCaptor.forClass(Metadata.class);
+		then(call).should().close(status.capture(), trailers.capture());
+		assertThat(status.getValue().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+		assertThat(trailers.getValue().get(metadataKey(RateLimitServerInterceptor.RETRY_AFTER_HEADER))).isEqualTo("1");
+		assertThat(trailers.getValue().get(metadataKey(RateLimitServerInterceptor.RETRY_PUSHBACK_HEADER)))
+			.isEqualTo("500");
+	}
+
+	@Test
+	void permitsAreRefilledOverTime() {
+		RateLimitServerInterceptor interceptor = interceptor();
+		interceptor.allRequests().limit(2, Duration.ofSeconds(1));
+		accepted(interceptor, "test/First");
+		accepted(interceptor, "test/First");
+		assertThat(accepted(interceptor, "test/First")).isFalse();
+		this.time.addAndGet(Duration.ofMillis(500).toNanos());
+		assertThat(accepted(interceptor, "test/First")).isTrue();
+		assertThat(accepted(interceptor, "test/First")).isFalse();
+	}
+
+	@Test
+	void burstLimitsCallsArrivingAtOnce() {
+		RateLimitServerInterceptor interceptor = interceptor();
+		interceptor.allRequests().limit(10, Duration.ofSeconds(1), 1);
+		assertThat(accepted(interceptor, "test/First")).isTrue();
+		assertThat(accepted(interceptor, "test/First")).isFalse();
+	}
+
+	@Test
+	void rulesAreMatchedInOrder() {
+		RateLimitServerInterceptor interceptor = interceptor();
+		interceptor.methods("test/Free").unlimited().methods("test/*").limit(1, Duration.ofSeconds(1));
+		assertThat(accepted(interceptor, "test/Free")).isTrue();
+		assertThat(accepted(interceptor, "test/Free")).isTrue();
+		assertThat(accepted(interceptor, "test/First")).isTrue();
+		assertThat(accepted(interceptor, "test/First")).isFalse();
+		assertThat(accepted(interceptor, "other/First")).isTrue();
+		assertThat(accepted(interceptor, "other/First")).isTrue();
+	}
+
+	@Test
+	void eachMethodHasItsOwnQuota() {
+		RateLimitServerInterceptor interceptor = interceptor();
+		interceptor.allRequests().limit(1, Duration.ofSeconds(1));
+		assertThat(accepted(interceptor, "test/First")).isTrue();
+		assertThat(accepted(interceptor, "test/Second")).isTrue();
+		assertThat(accepted(interceptor, "test/First")).isFalse();
+	}
+
+	@Test
+	void eachPrincipalHasItsOwnQuota() {
+		RateLimitServerInterceptor interceptor = interceptor();
+		interceptor.allRequests().perPrincipal().limit(1, Duration.ofSeconds(1));
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", "secret"));
+		assertThat(accepted(interceptor, "test/First")).isTrue();
+		assertThat(accepted(interceptor, "test/First")).isFalse();
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bob", "secret"));
+		assertThat(accepted(interceptor, "test/First")).isTrue();
+	}
+
+	@Test
+	void idleBucketsAreEvicted() {
+		RateLimitServerInterceptor interceptor = interceptor();
+		interceptor.setIdleTimeout(Duration.ofSeconds(10));
+		interceptor.allRequests().limit(1, Duration.ofSeconds(1));
+		accepted(interceptor, "test/First");
+		accepted(interceptor, "test/Second");
+		assertThat(interceptor.getBucketCount()).isEqualTo(2);
+		this.time.addAndGet(Duration.ofSeconds(20).toNanos());
+		accepted(interceptor, "test/Third");
+		assertThat(interceptor.getBucketCount()).isOne();
+	}
+
+	private RateLimitServerInterceptor interceptor() {
+		RateLimitServerInterceptor interceptor = new RateLimitServerInterceptor();
+		interceptor.setClock(this.time::get);
+		return interceptor;
+	}
+
+	private boolean accepted(RateLimitServerInterceptor interceptor, String fullMethodName) {
+		ServerCall<String, String> call = call(fullMethodName);
+		interceptor.interceptCall(call, new Metadata(), this.next);
+		try {
+			then(call).should(never()).close(any(), any());
+			return true;
+		}
+		catch (AssertionError ex) {
+			return false;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private ServerCall<String, String> call(String fullMethodName) {
+		ServerCall<String, String> call = mock();
+		MethodDescriptor<String, String> method = MethodDescriptor.<String, String>newBuilder()
+			.setType(MethodType.UNARY)
+			.setFullMethodName(fullMethodName)
+			.setRequestMarshaller(mock(MethodDescriptor.Marshaller.class))
+			.setResponseMarshaller(mock(MethodDescriptor.Marshaller.class))
+			.build();
+		given(call.getMethodDescriptor()).willReturn(method);
+		return call;
+	}
+
+	private Metadata.Key<String> metadataKey(String name) {
+		return Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER);
+	}
+
+}
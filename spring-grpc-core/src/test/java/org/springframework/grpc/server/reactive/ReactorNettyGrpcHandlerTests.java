@@ -0,0 +1,431 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientInterceptors;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Tests for {@link ReactorNettyGrpcHandler}.
+ *
+ * @author Dave Syer
+ */
+class ReactorNettyGrpcHandlerTests {
+
+	private static final Metadata.Key<String> NAME = Metadata.Key.of("name", Metadata.ASCII_STRING_MARSHALLER);
+
+	private static final MethodDescriptor<String, String> HELLO = method("test/Hello", MethodType.UNARY);
+
+	private static final MethodDescriptor<String, String> STREAM = method("test/Stream", MethodType.SERVER_STREAMING);
+
+	private static final MethodDescriptor<String, String> JOIN = method("test/Join", MethodType.CLIENT_STREAMING);
+
+	private static final MethodDescriptor<String, String> FAIL = method("test/Fail", MethodType.UNARY);
+
+	private static final MethodDescriptor<String, String> STREAM_FAIL = method("test/StreamFail",
+			MethodType.SERVER_STREAMING);
+
+	private static final MethodDescriptor<String, String> THREAD = method("test/Thread", MethodType.UNARY);
+
+	private ReactorNettyGrpcHandler handler;
+
+	private DisposableServer server;
+
+	private ManagedChannel channel;
+
+	@BeforeEach
+	void start() {
+		ReactorNettyGrpcHandler handler = new ReactorNettyGrpcHandler(List.of(service()));
+		handler.setGrpcWebEnabled(true);
+		handler.setAllowedOrigins(List.of("https://example.com"));
+		this.handler = handler;
+		this.server = HttpServer.create()
+			.port(0)
+			.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+			.route(handler::addRoutes)
+			.bindNow();
+		this.channel = NettyChannelBuilder.forAddress("localhost", this.server.port()).usePlaintext().build();
+	}
+
+	@AfterEach
+	void stop() throws InterruptedException {
+		this.channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+		this.server.disposeNow();
+		this.handler.destroy();
+	}
+
+	@Test
+	void unaryCall() {
+		assertThat(ClientCalls.blockingUnaryCall(this.channel, HELLO, CallOptions.DEFAULT, "foo"))
+			.isEqualTo("hello foo");
+	}
+
+	@Test
+	void servicesRunOffTheEventLoopByDefault() {
+		assertThat(ClientCalls.blockingUnaryCall(this.channel, THREAD, CallOptions.DEFAULT, "foo"))
+			.startsWith("grpc-default-executor-");
+	}
+
+	@Test
+	void serverStreamingCall() {
+		Iterator<String> responses = ClientCalls.blockingServerStreamingCall(this.channel, STREAM, CallOptions.DEFAULT,
+				"foo");
+		List<String> values = new ArrayList<>();
+		responses.forEachRemaining(values::add);
+		assertThat(values).containsExactly("foo 0", "foo 1", "foo 2");
+	}
+
+	@Test
+	void clientStreamingCall() throws Exception {
+		List<String> responses = new ArrayList<>();
+		Recorder recorder = new Recorder(responses);
+		StreamObserver<String> requests = ClientCalls
+			.asyncClientStreamingCall(this.channel.newCall(JOIN, CallOptions.DEFAULT), recorder);
+		requests.onNext("a");
+		requests.onNext("b");
+		requests.onNext("c");
+		requests.onCompleted();
+		assertThat(recorder.await()).isNull();
+		assertThat(responses).containsExactly("a,b,c");
+	}
+
+	@Test
+	void largeMessagesAreDeframed() {
+		String request = "x".repeat(200_000);
+		assertThat(ClientCalls.blockingUnaryCall(this.channel, HELLO, CallOptions.DEFAULT, request))
+			.isEqualTo("hello " + request);
+	}
+
+	@Test
+	void headersAreMetadata() {
+		Metadata headers = new Metadata();
+		headers.put(NAME, "bar");
+		Channel channel = ClientInterceptors.intercept(this.channel,
+				MetadataUtils.newAttachHeadersInterceptor(headers));
+		assertThat(ClientCalls.blockingUnaryCall(channel, HELLO, CallOptions.DEFAULT, "foo")).isEqualTo("hello bar");
+	}
+
+	@Test
+	void errorStatusAndTrailersAreSent() {
+		assertThatExceptionOfType(StatusRuntimeException.class)
+			.isThrownBy(() -> ClientCalls.blockingUnaryCall(this.channel, FAIL, CallOptions.DEFAULT, "foo"))
+			.satisfies((ex) -> {
+				assertThat(ex.getStatus().getCode()).isEqualTo(Status.Code.FAILED_PRECONDITION);
+				assertThat(ex.getStatus().getDescription()).isEqualTo("No 100% café");
+				assertThat(ex.getTrailers().get(NAME)).isEqualTo("foo");
+			});
+	}
+
+	@Test
+	void declaredTrailersAreSentAfterMessages() {
+		this.handler.setTrailers(List.of("Name"));
+		Iterator<String> responses = ClientCalls.blockingServerStreamingCall(this.channel, STREAM_FAIL,
+				CallOptions.DEFAULT, "foo");
+		assertThat(responses.next()).isEqualTo("foo");
+		assertThatExceptionOfType(StatusRuntimeException.class).isThrownBy(responses::hasNext).satisfies((ex) -> {
+			assertThat(ex.getStatus().getCode()).isEqualTo(Status.Code.FAILED_PRECONDITION);
+			assertThat(ex.getTrailers().get(NAME)).isEqualTo("foo");
+		});
+	}
+
+	@Test
+	void unknownMethodIsUnimplemented() {
+		assertThatExceptionOfType(StatusRuntimeException.class)
+			.isThrownBy(() -> ClientCalls.blockingUnaryCall(this.channel, method("test/Missing", MethodType.UNARY),
+					CallOptions.DEFAULT, "foo"))
+			.satisfies((ex) -> assertThat(ex.getStatus().getCode()).isEqualTo(Status.Code.UNIMPLEMENTED));
+	}
+
+	@Test
+	void deadlineIsPropagated() {
+		assertThatExceptionOfType(StatusRuntimeException.class)
+			.isThrownBy(() -> ClientCalls.blockingUnaryCall(this.channel, HELLO,
+					CallOptions.DEFAULT.withDeadlineAfter(1, TimeUnit.NANOSECONDS), "foo"))
+			.satisfies((ex) -> assertThat(ex.getStatus().getCode()).isEqualTo(Status.Code.DEADLINE_EXCEEDED));
+	}
+
+	@Test
+	void grpcWebCall() {
+		byte[] body = grpcWeb("application/grpc-web+proto", "/test/Hello", frame(0, "foo"));
+		assertThat(body).isEqualTo(concat(frame(0, "hello foo"), frame(0x80, "grpc-status:0\r\n")));
+	}
+
+	@Test
+	void grpcWebTextServerStreamingCall() {
+		byte[] request = Base64.getEncoder().encode(frame(0, "foo"));
+		byte[] body = grpcWeb("application/grpc-web-text", "/test/Stream", request);
+		// Each frame is encoded (and padded) on its own
+		StringBuilder expected = new StringBuilder();
+		for (byte[] frame : List.of(frame(0, "foo 0"), frame(0, "foo 1"), frame(0, "foo 2"),
+				frame(0x80, "grpc-status:0\r\n"))) {
+			expected.append(Base64.getEncoder().encodeToString(frame));
+		}
+		assertThat(new String(body, StandardCharsets.US_ASCII)).isEqualTo(expected.toString());
+	}
+
+	@Test
+	void grpcWebErrorIsTrailersOnly() {
+		// Nothing was sent before the error, so the status is in the headers
+		String status = HttpClient.create()
+			.port(this.server.port())
+			.headers((headers) -> headers.set(HttpHeaderNames.CONTENT_TYPE, "application/grpc-web+proto"))
+			.post()
+			.uri("/test/Fail")
+			.send(ByteBufFlux.fromInbound(Mono.just(frame(0, "foo"))))
+			.responseSingle((response, content) -> Mono.just(response.responseHeaders().get("grpc-status")))
+			.block(Duration.ofSeconds(5));
+		assertThat(status).isEqualTo(String.valueOf(Status.Code.FAILED_PRECONDITION.value()));
+	}
+
+	@Test
+	void grpcWebPreFlightIsAnswered() {
+		HttpClientResponse response = preFlight("https://example.com");
+		assertThat(response.status()).isEqualTo(HttpResponseStatus.OK);
+		assertThat(response.responseHeaders().get(HttpHeaderNames.ACCESS_CONTROL_ALLOW_ORIGIN))
+			.isEqualTo("https://example.com");
+		assertThat(response.responseHeaders().get(HttpHeaderNames.ACCESS_CONTROL_ALLOW_HEADERS))
+			.isEqualTo("content-type,x-grpc-web");
+		assertThat(response.responseHeaders().get(HttpHeaderNames.ACCESS_CONTROL_EXPOSE_HEADERS))
+			.contains("grpc-status");
+	}
+
+	@Test
+	void grpcWebPreFlightFromOtherOriginIsForbidden() {
+		HttpClientResponse response = preFlight("https://other.com");
+		assertThat(response.status()).isEqualTo(HttpResponseStatus.FORBIDDEN);
+		assertThat(response.responseHeaders().contains(HttpHeaderNames.ACCESS_CONTROL_ALLOW_ORIGIN)).isFalse();
+	}
+
+	private HttpClientResponse preFlight(String origin) {
+		return HttpClient.create()
+			.port(this.server.port())
+			.headers((headers) -> headers.set(HttpHeaderNames.ORIGIN, origin)
+				.set(HttpHeaderNames.ACCESS_CONTROL_REQUEST_METHOD, "POST")
+				.set(HttpHeaderNames.ACCESS_CONTROL_REQUEST_HEADERS, "content-type,x-grpc-web"))
+			.options()
+			.uri("/test/Hello")
+			.response()
+			.block(Duration.ofSeconds(5));
+	}
+
+	private byte[] grpcWeb(String contentType, String path, byte[] request) {
+		return HttpClient.create()
+			.port(this.server.port())
+			.headers((headers) -> headers.set(HttpHeaderNames.CONTENT_TYPE, contentType))
+			.post()
+			.uri(path)
+			.send(ByteBufFlux.fromInbound(Mono.just(request)))
+			.responseSingle((response, content) -> content.asByteArray().defaultIfEmpty(new byte[0]))
+			.block(Duration.ofSeconds(5));
+	}
+
+	private static byte[] frame(int flags, String content) {
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+		return ByteBuffer.allocate(5 + bytes.length).put((byte) flags).putInt(bytes.length).put(bytes).array();
+	}
+
+	private static byte[] concat(byte[] first, byte[] second) {
+		return ByteBuffer.allocate(first.length + second.length).put(first).put(second).array();
+	}
+
+	private static ServerServiceDefinition service() {
+		ServerServiceDefinition service = ServerServiceDefinition
+			.builder(ServiceDescriptor.newBuilder("test")
+				.addMethod(HELLO)
+				.addMethod(STREAM)
+				.addMethod(JOIN)
+				.addMethod(FAIL)
+				.addMethod(STREAM_FAIL)
+				.addMethod(THREAD)
+				.build())
+			.addMethod(HELLO, ServerCalls.asyncUnaryCall((request, responses) -> {
+				String name = NameInterceptor.NAME_CONTEXT.get();
+				responses.onNext("hello " + ((name != null) ? name : request));
+				responses.onCompleted();
+			}))
+			.addMethod(STREAM, ServerCalls.asyncServerStreamingCall((request, responses) -> {
+				for (int i = 0; i < 3; i++) {
+					responses.onNext(request + " " + i);
+				}
+				responses.onCompleted();
+			}))
+			.addMethod(JOIN, ServerCalls.asyncClientStreamingCall(ReactorNettyGrpcHandlerTests::join))
+			.addMethod(THREAD, ServerCalls.asyncUnaryCall((request, responses) -> {
+				responses.onNext(Thread.currentThread().getName());
+				responses.onCompleted();
+			}))
+			.addMethod(FAIL, ServerCalls.asyncUnaryCall((request, responses) -> {
+				Metadata trailers = new Metadata();
+				trailers.put(NAME, request);
+				responses
+					.onError(Status.FAILED_PRECONDITION.withDescription("No 100% café").asRuntimeException(trailers));
+			}))
+			.addMethod(STREAM_FAIL, ServerCalls.asyncServerStreamingCall((request, responses) -> {
+				responses.onNext(request);
+				Metadata trailers = new Metadata();
+				trailers.put(NAME, request);
+				responses.onError(Status.FAILED_PRECONDITION.asRuntimeException(trailers));
+			}))
+			.build();
+		return ServerInterceptors.intercept(service, new NameInterceptor());
+	}
+
+	private static StreamObserver<String> join(StreamObserver<String> responses) {
+		List<String> values = new ArrayList<>();
+		return new StreamObserver<>() {
+
+			@Override
+			public void onNext(String value) {
+				values.add(value);
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+			}
+
+			@Override
+			public void onCompleted() {
+				responses.onNext(String.join(",", values));
+				responses.onCompleted();
+			}
+
+		};
+	}
+
+	private static MethodDescriptor<String, String> method(String name, MethodType type) {
+		return MethodDescriptor.<String, String>newBuilder()
+			.setType(type)
+			.setFullMethodName(name)
+			.setRequestMarshaller(new StringMarshaller())
+			.setResponseMarshaller(new StringMarshaller())
+			.build();
+	}
+
+	static class NameInterceptor implements ServerInterceptor {
+
+		static final Context.Key<String> NAME_CONTEXT = Context.key("name");
+
+		@Override
+		public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+				ServerCallHandler<ReqT, RespT> next) {
+			return Contexts.interceptCall(Context.current().withValue(NAME_CONTEXT, headers.get(NAME)), call, headers,
+					next);
+		}
+
+	}
+
+	static class Recorder implements StreamObserver<String> {
+
+		private final List<String> values;
+
+		private final CompletableFuture<Throwable> done = new CompletableFuture<>();
+
+		Recorder(List<String> values) {
+			this.values = values;
+		}
+
+		@Override
+		public void onNext(String value) {
+			this.values.add(value);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.done.complete(throwable);
+		}
+
+		@Override
+		public void onCompleted() {
+			this.done.complete(null);
+		}
+
+		Throwable await() throws Exception {
+			return this.done.get(5, TimeUnit.SECONDS);
+		}
+
+	}
+
+	static class StringMarshaller implements MethodDescriptor.Marshaller<String> {
+
+		@Override
+		public InputStream stream(String value) {
+			return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public String parse(InputStream stream) {
+			try {
+				return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+	}
+
+}
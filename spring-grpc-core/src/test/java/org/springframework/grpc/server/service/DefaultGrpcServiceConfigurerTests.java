@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Function;
 
@@ -39,11 +40,15 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.grpc.cache.ResponseCache;
 import org.springframework.grpc.server.GlobalServerInterceptor;
+import org.springframework.grpc.server.cache.CachingServerInterceptor;
 import org.springframework.grpc.server.lifecycle.GrpcServerLifecycle;
 import org.springframework.lang.Nullable;
 
 import io.grpc.BindableService;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
 import io.grpc.ServerInterceptor;
 import io.grpc.ServerInterceptors;
 import io.grpc.ServerServiceDefinition;
@@ -271,6 +276,42 @@ class DefaultGrpcServiceConfigurerTests {
 
 	}
 
+	@Nested
+	class WithCachingServerInterceptor {
+
+		@SuppressWarnings("unchecked")
+		@Test
+		void cachedMethodsOfServiceUsePreSerializedResponses() {
+			MethodDescriptor<Object, Object> method = MethodDescriptor.newBuilder()
+				.setType(MethodType.UNARY)
+				.setFullMethodName("test/Get")
+				.setRequestMarshaller(Mockito.mock())
+				.setResponseMarshaller(Mockito.mock())
+				.build();
+			ServerServiceDefinition serviceDef = ServerServiceDefinition.builder("test")
+				.addMethod(method, Mockito.mock())
+				.build();
+			BindableService service = Mockito.mock();
+			Mockito.when(service.bindService()).thenReturn(serviceDef);
+			GrpcServiceInfo serviceInfo = new GrpcServiceInfo(new Class[0], new String[0], false,
+					new String[] { "Get" });
+			DefaultGrpcServiceConfigurerTests.this.contextRunner()
+				.withUserConfiguration(CachingInterceptorConfig.class)
+				.run((context) -> {
+					DefaultGrpcServiceConfigurer configurer = context.getBean(DefaultGrpcServiceConfigurer.class);
+					ServerServiceDefinition configured = configurer.configure(service, serviceInfo);
+					Assertions
+						.assertThat(configured.getMethod("test/Get").getMethodDescriptor().getResponseMarshaller())
+						.isNotSameAs(method.getResponseMarshaller());
+					// The shared interceptor is not changed by the service that asked for caching
+					ServerServiceDefinition other = configurer.configure(service, null);
+					Assertions.assertThat(other.getMethod("test/Get").getMethodDescriptor().getResponseMarshaller())
+						.isSameAs(method.getResponseMarshaller());
+				});
+		}
+
+	}
+
 	interface TestServerInterceptorA extends ServerInterceptor {
 
 	}
@@ -320,6 +361,17 @@ class DefaultGrpcServiceConfigurerTests {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	static class CachingInterceptorConfig {
+
+		@Bean
+		@GlobalServerInterceptor
+		CachingServerInterceptor cachingServerInterceptor() {
+			return new CachingServerInterceptor(new ResponseCache(Duration.ofMinutes(1), 10, 1024));
+		}
+
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	static class ServiceSpecificInterceptorsConfig {
 
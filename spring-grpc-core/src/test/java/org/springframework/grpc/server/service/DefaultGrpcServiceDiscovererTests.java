@@ -21,7 +21,9 @@ import static org.springframework.grpc.server.service.DefaultGrpcServiceDiscover
 import static org.springframework.grpc.server.service.DefaultGrpcServiceDiscovererTests.DefaultGrpcServiceDiscovererTestsConfig.SERVICE_B;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
@@ -33,8 +35,20 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 
+import com.google.protobuf.StringValue;
 import io.grpc.BindableService;
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.Server;
 import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ServerCalls;
 
 /**
  * Tests for {@link DefaultGrpcServiceDiscoverer}.
@@ -63,6 +77,102 @@ class DefaultGrpcServiceDiscovererTests {
 			});
 	}
 
+	@Test
+	void lazyServiceIsCreatedOnFirstCall() {
+		new ApplicationContextRunner().withUserConfiguration(LazyServiceConfig.class).run((context) -> {
+			List<ServerServiceDefinition> services = context.getBean(GrpcServiceDiscoverer.class).findServices();
+			assertThat(services).hasSize(1);
+			assertThat(services.get(0).getServiceDescriptor().getName()).isEqualTo("test.Lazy");
+			assertThat(LazyServiceConfig.CREATED).hasValue(0);
+			String name = InProcessServerBuilder.generateName();
+			InProcessServerBuilder builder = InProcessServerBuilder.forName(name);
+			services.forEach(builder::addService);
+			Server server = builder.build().start();
+			ManagedChannel channel = InProcessChannelBuilder.forName(name).build();
+			try {
+				StringValue request = StringValue.of("hello");
+				assertThat(ClientCalls.blockingUnaryCall(channel, LazyGrpc.METHOD, CallOptions.DEFAULT, request))
+					.isEqualTo(request);
+				ClientCalls.blockingUnaryCall(channel, LazyGrpc.METHOD, CallOptions.DEFAULT, request);
+				assertThat(LazyServiceConfig.CREATED).hasValue(1);
+			}
+			finally {
+				channel.shutdownNow();
+				server.shutdownNow();
+			}
+		});
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	static class LazyServiceConfig {
+
+		static final AtomicInteger CREATED = new AtomicInteger();
+
+		@Bean
+		static LazyGrpcServicePostProcessor lazyGrpcServicePostProcessor() {
+			return new LazyGrpcServicePostProcessor();
+		}
+
+		@Bean
+		DefaultGrpcServiceConfigurer grpcServiceConfigurer(ApplicationContext applicationContext) {
+			return new DefaultGrpcServiceConfigurer(applicationContext);
+		}
+
+		@Bean
+		GrpcServiceDiscoverer grpcServiceDiscoverer(GrpcServiceConfigurer grpcServiceConfigurer,
+				ApplicationContext applicationContext) {
+			return new DefaultGrpcServiceDiscoverer(grpcServiceConfigurer, applicationContext);
+		}
+
+		@GrpcService(lazy = true)
+		@Bean
+		LazyService lazyService() {
+			CREATED.incrementAndGet();
+			return new LazyService();
+		}
+
+	}
+
+	static class LazyService extends LazyGrpc.LazyImplBase {
+
+	}
+
+	/**
+	 * The shape of a class generated by grpc-java.
+	 */
+	static final class LazyGrpc {
+
+		static final MethodDescriptor<StringValue, StringValue> METHOD = MethodDescriptor
+			.<StringValue, StringValue>newBuilder()
+			.setType(MethodType.UNARY)
+			.setFullMethodName("test.Lazy/Echo")
+			.setRequestMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+			.setResponseMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+			.build();
+
+		private LazyGrpc() {
+		}
+
+		static ServiceDescriptor getServiceDescriptor() {
+			return ServiceDescriptor.newBuilder("test.Lazy").addMethod(METHOD).build();
+		}
+
+		abstract static class LazyImplBase implements BindableService {
+
+			@Override
+			public ServerServiceDefinition bindService() {
+				return ServerServiceDefinition.builder(getServiceDescriptor())
+					.addMethod(METHOD, ServerCalls.asyncUnaryCall((request, responses) -> {
+						responses.onNext(request);
+						responses.onCompleted();
+					}))
+					.build();
+			}
+
+		}
+
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	static class DefaultGrpcServiceDiscovererTestsConfig {
 
@@ -88,6 +88,7 @@ class GrpcServiceInfoTests {
 				assertThat(serviceInfo.interceptors()).isEmpty();
 				assertThat(serviceInfo.interceptorNames()).isEmpty();
 				assertThat(serviceInfo.blendWithGlobalInterceptors()).isFalse();
+				assertThat(serviceInfo.cachedMethods()).isEmpty();
 			});
 		}
 
@@ -99,6 +100,7 @@ class GrpcServiceInfoTests {
 				assertThat(serviceInfo.interceptors()).containsExactly(ServerInterceptor.class);
 				assertThat(serviceInfo.interceptorNames()).containsExactly("myInterceptor");
 				assertThat(serviceInfo.blendWithGlobalInterceptors()).isTrue();
+				assertThat(serviceInfo.cachedMethods()).containsExactly("SayHello");
 			});
 		}
 
@@ -110,7 +112,7 @@ class GrpcServiceInfoTests {
 	}
 
 	@GrpcService(interceptors = ServerInterceptor.class, interceptorNames = "myInterceptor",
-			blendWithGlobalInterceptors = true)
+			blendWithGlobalInterceptors = true, cachedMethods = "SayHello")
 	static class TestServiceMarkedWithAttributes {
 
 	}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.grpc.BindableService;
+import io.grpc.CallOptions;
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests for {@link ReactorServicePrefetch}.
+ *
+ * @author Dave Syer
+ */
+class ReactorServicePrefetchTests {
+
+	private static final MethodDescriptor<String, String> HELLO = method("test/Hello", MethodType.UNARY);
+
+	private static final MethodDescriptor<String, String> CHAT = method("test/Chat", MethodType.BIDI_STREAMING);
+
+	private static final MethodDescriptor<String, String> JOIN = method("test/Join", MethodType.CLIENT_STREAMING);
+
+	private final ReactorServicePrefetch prefetch = new ReactorServicePrefetch();
+
+	private final List<Integer> requests = new CopyOnWriteArrayList<>();
+
+	private Server server;
+
+	private ManagedChannel channel;
+
+	@AfterEach
+	void stop() throws InterruptedException {
+		if (this.channel != null) {
+			this.channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+			this.server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void notConfiguredDoesNothing() {
+		MyReactiveService service = new MyReactiveService();
+		ServerServiceDefinition definition = service.bindService();
+		assertThat(this.prefetch.apply(service, definition)).isSameAs(definition);
+	}
+
+	@Test
+	void nonReactiveServiceIsNotChanged() {
+		this.prefetch.setPrefetch(32, 24);
+		MyService service = new MyService();
+		ServerServiceDefinition definition = service.bindService();
+		assertThat(this.prefetch.apply(service, definition)).isSameAs(definition);
+	}
+
+	@Test
+	void onlyInboundStreamsAreRebound() {
+		this.prefetch.setPrefetch(32, 24);
+		MyReactiveService service = new MyReactiveService();
+		ServerServiceDefinition definition = service.bindService();
+		ServerServiceDefinition applied = this.prefetch.apply(service, definition);
+		assertThat(applied.getMethod(HELLO.getFullMethodName()))
+			.isSameAs(definition.getMethod(HELLO.getFullMethodName()));
+		assertThat(applied.getMethod(CHAT.getFullMethodName()))
+			.isNotSameAs(definition.getMethod(CHAT.getFullMethodName()));
+		assertThat(applied.getMethod(JOIN.getFullMethodName()))
+			.isNotSameAs(definition.getMethod(JOIN.getFullMethodName()));
+	}
+
+	@Test
+	void serviceSettingsOverrideDefaults() throws Exception {
+		this.prefetch.setPrefetch(32, 24);
+		this.prefetch.setPrefetch("test", 8, 2);
+		start(new MyReactiveService());
+		assertThat(chat("a", "b")).containsExactly("Hello a", "Hello b");
+		assertThat(this.requests).contains(8).doesNotContain(32);
+	}
+
+	@Test
+	void defaultsApplyToOtherServices() throws Exception {
+		this.prefetch.setPrefetch(8, 6);
+		this.prefetch.setPrefetch("other", 32, 24);
+		start(new MyReactiveService());
+		assertThat(chat("a")).containsExactly("Hello a");
+		assertThat(this.requests).contains(8).doesNotContain(32);
+	}
+
+	@Test
+	void clientStreamingCallUsesTheServiceMethod() throws Exception {
+		this.prefetch.setPrefetch(8, 6);
+		start(new MyReactiveService());
+		Recorder responses = new Recorder();
+		StreamObserver<String> requests = ClientCalls
+			.asyncClientStreamingCall(this.channel.newCall(JOIN, CallOptions.DEFAULT), responses);
+		requests.onNext("a");
+		requests.onNext("b");
+		requests.onCompleted();
+		assertThat(responses.await()).containsExactly("a,b");
+	}
+
+	@Test
+	void lowTideMustNotExceedPrefetch() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.prefetch.setPrefetch(8, 16));
+	}
+
+	private void start(BindableService service) throws IOException {
+		String name = InProcessServerBuilder.generateName();
+		ServerServiceDefinition definition = this.prefetch.apply(service, service.bindService());
+		this.server = InProcessServerBuilder.forName(name)
+			.directExecutor()
+			.addService(ServerInterceptors.intercept(definition, new RequestRecorder()))
+			.build()
+			.start();
+		this.channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+	}
+
+	private List<String> chat(String... values) throws Exception {
+		Recorder responses = new Recorder();
+		StreamObserver<String> requests = ClientCalls
+			.asyncBidiStreamingCall(this.channel.newCall(CHAT, CallOptions.DEFAULT), responses);
+		for (String value : values) {
+			requests.onNext(value);
+		}
+		requests.onCompleted();
+		return responses.await();
+	}
+
+	private static MethodDescriptor<String, String> method(String name, MethodType type) {
+		return MethodDescriptor.<String, String>newBuilder()
+			.setType(type)
+			.setFullMethodName(name)
+			.setRequestMarshaller(new StringMarshaller())
+			.setResponseMarshaller(new StringMarshaller())
+			.build();
+	}
+
+	// Records how many messages the service asks for
+	class RequestRecorder implements ServerInterceptor {
+
+		@Override
+		public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+				ServerCallHandler<ReqT, RespT> next) {
+			return next.startCall(new SimpleForwardingServerCall<>(call) {
+				@Override
+				public void request(int numMessages) {
+					ReactorServicePrefetchTests.this.requests.add(numMessages);
+					super.request(numMessages);
+				}
+			}, headers);
+		}
+
+	}
+
+	static class Recorder implements StreamObserver<String> {
+
+		private final List<String> values = new CopyOnWriteArrayList<>();
+
+		private final CompletableFuture<List<String>> done = new CompletableFuture<>();
+
+		@Override
+		public void onNext(String value) {
+			this.values.add(value);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.done.completeExceptionally(throwable);
+		}
+
+		@Override
+		public void onCompleted() {
+			this.done.complete(this.values);
+		}
+
+		List<String> await() throws Exception {
+			return this.done.get(5, TimeUnit.SECONDS);
+		}
+
+	}
+
+	static class MyService implements BindableService {
+
+		@Override
+		public ServerServiceDefinition bindService() {
+			return ServerServiceDefinition.builder("test")
+				.addMethod(HELLO, ServerCalls.asyncUnaryCall((request, responses) -> {
+					responses.onNext("Hello " + request);
+					responses.onCompleted();
+				}))
+				.build();
+		}
+
+	}
+
+	static class MyReactiveService extends MyReactiveImplBase {
+
+		public Flux<String> chat(Flux<String> requests) {
+			return requests.map((request) -> "Hello " + request);
+		}
+
+		public Mono<String> join(Flux<String> requests) {
+			return requests.collectList().map((values) -> String.join(",", values));
+		}
+
+	}
+
+	// Like the base classes that reactor-grpc generates
+	static class MyReactiveImplBase implements BindableService {
+
+		@Override
+		public ServerServiceDefinition bindService() {
+			return ServerServiceDefinition.builder("test")
+				.addMethod(HELLO, ServerCalls.asyncUnaryCall((request, responses) -> {
+					responses.onNext("Hello " + request);
+					responses.onCompleted();
+				}))
+				.addMethod(CHAT, ServerCalls.asyncBidiStreamingCall(
+						(responses) -> ServerCalls.asyncUnimplementedStreamingCall(CHAT, responses)))
+				.addMethod(JOIN, ServerCalls.asyncClientStreamingCall(
+						(responses) -> ServerCalls.asyncUnimplementedStreamingCall(JOIN, responses)))
+				.build();
+		}
+
+		protected CallOptions getCallOptions(int methodId) {
+			return null;
+		}
+
+		protected Throwable onErrorMap(Throwable throwable) {
+			return throwable;
+		}
+
+	}
+
+	static class StringMarshaller implements MethodDescriptor.Marshaller<String> {
+
+		@Override
+		public InputStream stream(String value) {
+			return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public String parse(InputStream stream) {
+			try {
+				return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+	}
+
+}
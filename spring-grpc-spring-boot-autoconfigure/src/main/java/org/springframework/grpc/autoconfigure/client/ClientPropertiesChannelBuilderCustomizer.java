@@ -16,15 +16,29 @@
 package org.springframework.grpc.autoconfigure.client;
 
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.grpc.autoconfigure.client.GrpcClientProperties.ChannelConfig;
+import org.springframework.grpc.autoconfigure.client.GrpcClientProperties.ChannelConfig.Compression;
+import org.springframework.grpc.autoconfigure.client.GrpcClientProperties.ChannelConfig.LoadBalancing;
+import org.springframework.grpc.autoconfigure.client.GrpcClientProperties.ChannelConfig.MethodConfig;
 import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
+import org.springframework.grpc.client.balancer.ConsistentHashLoadBalancerProvider;
+import org.springframework.grpc.client.balancer.HashKeyClientInterceptor;
+import org.springframework.grpc.client.interceptor.CachingClientInterceptor;
+import org.springframework.grpc.client.interceptor.CoalescingClientInterceptor;
+import org.springframework.grpc.client.interceptor.CompressionClientInterceptor;
 import org.springframework.grpc.client.interceptor.DefaultDeadlineSetupClientInterceptor;
+import org.springframework.grpc.compression.CompressionRules;
 import org.springframework.util.unit.DataSize;
 
 /**
@@ -40,8 +54,11 @@ class ClientPropertiesChannelBuilderCustomizer<T extends ManagedChannelBuilder<T
 
 	private final GrpcClientProperties properties;
 
-	ClientPropertiesChannelBuilderCustomizer(GrpcClientProperties properties) {
+	private final ClientResponseCaches caches;
+
+	ClientPropertiesChannelBuilderCustomizer(GrpcClientProperties properties, ClientResponseCaches caches) {
 		this.properties = properties;
+		this.caches = caches;
 	}
 
 	@Override
@@ -58,15 +75,150 @@ class ClientPropertiesChannelBuilderCustomizer<T extends ManagedChannelBuilder<T
 		mapper.from(channel.getKeepAliveTimeout()).to(durationProperty(builder::keepAliveTimeout));
 		mapper.from(channel.getIdleTimeout()).to(durationProperty(builder::idleTimeout));
 		mapper.from(channel.isKeepAliveWithoutCalls()).to(builder::keepAliveWithoutCalls);
+		Map<String, Object> serviceConfig = serviceConfig(channel);
+		if (!authority.startsWith("unix:") && channel.getLoadBalancing().getPolicy() != null) {
+			serviceConfig.put("loadBalancingConfig", List.of(loadBalancingConfig(channel.getLoadBalancing())));
+		}
+		if (!serviceConfig.isEmpty()) {
+			builder.defaultServiceConfig(serviceConfig);
+		}
+		if (channel.getDefaultDeadline() != null && channel.getDefaultDeadline().toMillis() > 0L) {
+			builder.intercept(new DefaultDeadlineSetupClientInterceptor(channel.getDefaultDeadline()));
+		}
+		if (channel.getCompression().isEnabled()) {
+			builder.intercept(new CompressionClientInterceptor(compressionRules(channel.getCompression())));
+		}
+		if (channel.getCache().isEnabled()) {
+			builder.intercept(new CachingClientInterceptor(this.caches.getCache(authority, channel.getCache()),
+					channel.getCache().getMethods().toArray(String[]::new)));
+		}
+		if (channel.getCoalescing().isEnabled()) {
+			builder.intercept(
+					new CoalescingClientInterceptor(channel.getCoalescing().getMethods().toArray(String[]::new)));
+		}
+		LoadBalancing loadBalancing = channel.getLoadBalancing();
+		LoadBalancing.ConsistentHash hash = loadBalancing.getConsistentHash();
+		// Only the consistent_hash policy reads the key, so it is not computed otherwise
+		if (!authority.startsWith("unix:") && loadBalancing.getPolicy() == LoadBalancing.Policy.CONSISTENT_HASH
+				&& hash.getField() != null) {
+			String header = (hash.getHeader() != null) ? hash.getHeader()
+					: ConsistentHashLoadBalancerProvider.DEFAULT_HASH_HEADER;
+			builder.intercept(HashKeyClientInterceptor.forField(header, hash.getField()));
+		}
+	}
+
+	private CompressionRules compressionRules(Compression compression) {
+		CompressionRules rules = new CompressionRules(compression.getEncoding(),
+				compression.getMinMessageSize().toBytes());
+		for (Compression.Rule rule : compression.getRules()) {
+			String encoding = (rule.getEncoding() != null) ? rule.getEncoding() : compression.getEncoding();
+			DataSize minMessageSize = (rule.getMinMessageSize() != null) ? rule.getMinMessageSize()
+					: compression.getMinMessageSize();
+			rules.methods(rule.getMethods(), encoding, minMessageSize.toBytes());
+		}
+		return rules;
+	}
+
+	private Map<String, Object> serviceConfig(ChannelConfig channel) {
+		Map<String, Object> serviceConfig = new LinkedHashMap<>();
 		if (channel.getHealth().isEnabled()) {
 			String serviceNameToCheck = channel.getHealth().getServiceName() != null
 					? channel.getHealth().getServiceName() : "";
-			Map<String, ?> healthCheckConfig = Map.of("healthCheckConfig", Map.of("serviceName", serviceNameToCheck));
-			builder.defaultServiceConfig(healthCheckConfig);
+			serviceConfig.put("healthCheckConfig", Map.of("serviceName", serviceNameToCheck));
 		}
-		if (channel.getDefaultDeadline() != null && channel.getDefaultDeadline().toMillis() > 0L) {
-			builder.intercept(new DefaultDeadlineSetupClientInterceptor(channel.getDefaultDeadline()));
+		if (!channel.getMethodConfig().isEmpty()) {
+			serviceConfig.put("methodConfig", channel.getMethodConfig().stream().map(this::methodConfig).toList());
 		}
+		if (channel.getRetryThrottling().getMaxTokens() != null) {
+			serviceConfig.put("retryThrottling",
+					Map.of("maxTokens", channel.getRetryThrottling().getMaxTokens().doubleValue(), "tokenRatio",
+							channel.getRetryThrottling().getTokenRatio()));
+		}
+		return serviceConfig;
+	}
+
+	private Map<String, Object> loadBalancingConfig(LoadBalancing loadBalancing) {
+		Map<String, Object> config = new LinkedHashMap<>();
+		PropertyMapper mapper = PropertyMapper.get().alwaysApplyingWhenNonNull();
+		switch (loadBalancing.getPolicy()) {
+			case PICK_FIRST -> config.put("shuffleAddressList", loadBalancing.isShuffleAddressList());
+			case LEAST_REQUEST -> mapper.from(loadBalancing.getChoiceCount())
+				.to((count) -> config.put("choiceCount", count.doubleValue()));
+			case PEAK_EWMA -> mapper.from(loadBalancing.getDecayTime())
+				.to((time) -> config.put("decayTime", durationValue(time)));
+			case CONSISTENT_HASH -> {
+				LoadBalancing.ConsistentHash hash = loadBalancing.getConsistentHash();
+				mapper.from(hash.getHeader()).to((header) -> config.put("hashHeader", header));
+				mapper.from(hash.getRingSize()).to((size) -> config.put("ringSize", size.doubleValue()));
+				mapper.from(hash.getLoadFactor()).to((factor) -> config.put("loadFactor", factor));
+			}
+			case WEIGHTED_ROUND_ROBIN -> {
+				LoadBalancing.WeightedRoundRobin wrr = loadBalancing.getWeightedRoundRobin();
+				config.put("enableOobLoadReport", wrr.isEnableOobLoadReport());
+				mapper.from(wrr.getOobReportingPeriod())
+					.to((period) -> config.put("oobReportingPeriod", durationValue(period)));
+				mapper.from(wrr.getBlackoutPeriod())
+					.to((period) -> config.put("blackoutPeriod", durationValue(period)));
+				mapper.from(wrr.getWeightExpirationPeriod())
+					.to((period) -> config.put("weightExpirationPeriod", durationValue(period)));
+				mapper.from(wrr.getWeightUpdatePeriod())
+					.to((period) -> config.put("weightUpdatePeriod", durationValue(period)));
+				mapper.from(wrr.getErrorUtilizationPenalty())
+					.to((penalty) -> config.put("errorUtilizationPenalty", penalty));
+			}
+			case ROUND_ROBIN -> {
+			}
+		}
+		return Map.of(loadBalancing.getPolicy().getConfigName(), config);
+	}
+
+	// The service config values must be JSON types, so numbers are doubles and
+	// durations are strings
+	private Map<String, Object> methodConfig(MethodConfig methodConfig) {
+		Map<String, Object> config = new LinkedHashMap<>();
+		List<Map<String, Object>> names = new ArrayList<>();
+		for (MethodConfig.Name name : methodConfig.getName()) {
+			Map<String, Object> entry = new LinkedHashMap<>();
+			PropertyMapper mapper = PropertyMapper.get().alwaysApplyingWhenNonNull();
+			mapper.from(name.getService()).to((service) -> entry.put("service", service));
+			mapper.from(name.getMethod()).to((method) -> entry.put("method", method));
+			names.add(entry);
+		}
+		config.put("name", names.isEmpty() ? List.of(Map.of()) : names);
+		if (methodConfig.getTimeout() != null) {
+			config.put("timeout", durationValue(methodConfig.getTimeout()));
+		}
+		if (methodConfig.getWaitForReady() != null) {
+			config.put("waitForReady", methodConfig.getWaitForReady());
+		}
+		MethodConfig.Retry retry = methodConfig.getRetry();
+		MethodConfig.Hedging hedging = methodConfig.getHedging();
+		if (retry.getMaxAttempts() != null && hedging.getMaxAttempts() != null) {
+			throw new IllegalArgumentException(
+					"Only one of retry or hedging can be configured for method config " + names);
+		}
+		if (retry.getMaxAttempts() != null) {
+			config.put("retryPolicy",
+					Map.of("maxAttempts", retry.getMaxAttempts().doubleValue(), "initialBackoff",
+							durationValue(retry.getInitialBackoff()), "maxBackoff",
+							durationValue(retry.getMaxBackoff()), "backoffMultiplier", retry.getBackoffMultiplier(),
+							"retryableStatusCodes", statusCodes(retry.getRetryableStatusCodes())));
+		}
+		if (hedging.getMaxAttempts() != null) {
+			config.put("hedgingPolicy",
+					Map.of("maxAttempts", hedging.getMaxAttempts().doubleValue(), "hedgingDelay",
+							durationValue(hedging.getHedgingDelay()), "nonFatalStatusCodes",
+							statusCodes(hedging.getNonFatalStatusCodes())));
+		}
+		return config;
+	}
+
+	private String durationValue(Duration duration) {
+		return BigDecimal.valueOf(duration.toNanos(), 9).stripTrailingZeros().toPlainString() + "s";
+	}
+
+	private List<String> statusCodes(List<Status.Code> codes) {
+		return codes.stream().map(Status.Code::name).toList();
 	}
 
 	Consumer<Duration> durationProperty(BiConsumer<Long, TimeUnit> setter) {
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.client;
+
+import org.springframework.grpc.cache.ResponseCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * A {@link MeterBinder} that registers metrics for the client {@link ResponseCache
+ * response caches}, tagged with the channel name.
+ *
+ * @author Dave Syer
+ */
+class ClientResponseCacheMetrics implements MeterBinder {
+
+	private final ClientResponseCaches caches;
+
+	ClientResponseCacheMetrics(ClientResponseCaches caches) {
+		this.caches = caches;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		this.caches.forEachCache((name, cache) -> bindTo(registry, name, cache));
+	}
+
+	private void bindTo(MeterRegistry registry, String name, ResponseCache cache) {
+		Tags tags = Tags.of("channel", name);
+		FunctionCounter.builder("grpc.client.cache.gets", cache, ResponseCache::getHitCount)
+			.tags(tags)
+			.tag("result", "hit")
+			.description("The number of calls answered from the cache")
+			.register(registry);
+		FunctionCounter.builder("grpc.client.cache.gets", cache, ResponseCache::getMissCount)
+			.tags(tags)
+			.tag("result", "miss")
+			.description("The number of calls sent to the server because their response was not cached")
+			.register(registry);
+		FunctionCounter.builder("grpc.client.cache.evictions", cache, ResponseCache::getEvictionCount)
+			.tags(tags)
+			.description("The number of responses evicted from the cache")
+			.register(registry);
+		Gauge.builder("grpc.client.cache.hit.ratio", cache, ResponseCache::getHitRatio)
+			.tags(tags)
+			.description("The ratio of calls answered from the cache")
+			.register(registry);
+		Gauge.builder("grpc.client.cache.size", cache, ResponseCache::size)
+			.tags(tags)
+			.description("The number of responses in the cache")
+			.register(registry);
+		Gauge.builder("grpc.client.cache.bytes", cache, ResponseCache::getBytes)
+			.tags(tags)
+			.baseUnit("bytes")
+			.description("The size of the requests and responses in the cache")
+			.register(registry);
+	}
+
+}
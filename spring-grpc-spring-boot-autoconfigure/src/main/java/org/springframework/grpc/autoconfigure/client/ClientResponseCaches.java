@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.client;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import org.springframework.grpc.autoconfigure.client.GrpcClientProperties.ChannelConfig;
+import org.springframework.grpc.cache.ResponseCache;
+
+/**
+ * The client {@link ResponseCache response caches}, one per channel name, so that all the
+ * channels created with the same name share their cache.
+ *
+ * @author Dave Syer
+ */
+class ClientResponseCaches {
+
+	private final Map<String, ResponseCache> caches = new ConcurrentHashMap<>();
+
+	private final List<BiConsumer<String, ResponseCache>> listeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Gets the cache of the given channel, creating it if needed.
+	 * @param channelName the name of the channel
+	 * @param config the cache configuration of the channel
+	 * @return the cache
+	 */
+	ResponseCache getCache(String channelName, ChannelConfig.Cache config) {
+		return this.caches.computeIfAbsent(channelName, (name) -> {
+			ResponseCache cache = new ResponseCache(config.getTimeToLive(), config.getMaxEntries(),
+					config.getMaxSize().toBytes());
+			this.listeners.forEach((listener) -> listener.accept(name, cache));
+			return cache;
+		});
+	}
+
+	/**
+	 * Register a callback for the existing caches and the ones created later.
+	 * @param listener the callback, called with the channel name and cache
+	 */
+	void forEachCache(BiConsumer<String, ResponseCache> listener) {
+		this.listeners.add(listener);
+		this.caches.forEach(listener);
+	}
+
+}
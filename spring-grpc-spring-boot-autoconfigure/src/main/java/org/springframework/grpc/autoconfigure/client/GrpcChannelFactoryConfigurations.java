@@ -18,6 +18,7 @@ package org.springframework.grpc.autoconfigure.client;
 
 import java.util.List;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -29,6 +30,7 @@ import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
 import org.springframework.grpc.client.GrpcChannelFactory;
 import org.springframework.grpc.client.NettyGrpcChannelFactory;
 import org.springframework.grpc.client.ShadedNettyGrpcChannelFactory;
+import org.springframework.grpc.server.LocalGrpcServer;
 
 import io.grpc.netty.NettyChannelBuilder;
 
@@ -48,12 +50,15 @@ class GrpcChannelFactoryConfigurations {
 		@Bean
 		ShadedNettyGrpcChannelFactory shadedNettyGrpcChannelFactory(GrpcClientProperties properties,
 				ChannelBuilderCustomizers channelBuilderCustomizers,
-				ClientInterceptorsConfigurer interceptorsConfigurer, ChannelCredentialsProvider credentials) {
+				ClientInterceptorsConfigurer interceptorsConfigurer, ChannelCredentialsProvider credentials,
+				ObjectProvider<LocalGrpcServer> localServer) {
+			ShadedNettyChannelFactoryPropertyMapper mapper = new ShadedNettyChannelFactoryPropertyMapper(properties);
 			List<GrpcChannelBuilderCustomizer<io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder>> builderCustomizers = List
-				.of(channelBuilderCustomizers::customize);
+				.of(mapper, channelBuilderCustomizers::customize);
 			var factory = new ShadedNettyGrpcChannelFactory(builderCustomizers, interceptorsConfigurer);
 			factory.setCredentialsProvider(credentials);
 			factory.setVirtualTargets(properties);
+			localServer.ifAvailable(factory::setLocalServer);
 			return factory;
 		}
 
@@ -68,12 +73,15 @@ class GrpcChannelFactoryConfigurations {
 		@Bean
 		NettyGrpcChannelFactory nettyGrpcChannelFactory(GrpcClientProperties properties,
 				ChannelBuilderCustomizers channelBuilderCustomizers,
-				ClientInterceptorsConfigurer interceptorsConfigurer, ChannelCredentialsProvider credentials) {
-			List<GrpcChannelBuilderCustomizer<NettyChannelBuilder>> builderCustomizers = List
-				.of(channelBuilderCustomizers::customize);
+				ClientInterceptorsConfigurer interceptorsConfigurer, ChannelCredentialsProvider credentials,
+				ObjectProvider<LocalGrpcServer> localServer) {
+			NettyChannelFactoryPropertyMapper mapper = new NettyChannelFactoryPropertyMapper(properties);
+			List<GrpcChannelBuilderCustomizer<NettyChannelBuilder>> builderCustomizers = List.of(mapper,
+					channelBuilderCustomizers::customize);
 			var factory = new NettyGrpcChannelFactory(builderCustomizers, interceptorsConfigurer);
 			factory.setCredentialsProvider(credentials);
 			factory.setVirtualTargets(properties);
+			localServer.ifAvailable(factory::setLocalServer);
 			return factory;
 		}
 
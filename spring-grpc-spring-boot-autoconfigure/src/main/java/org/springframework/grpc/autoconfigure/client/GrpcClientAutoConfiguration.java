@@ -18,18 +18,26 @@ package org.springframework.grpc.autoconfigure.client;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.ssl.SslBundles;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.grpc.autoconfigure.client.GrpcClientProperties.ChannelConfig.Reactor;
 import org.springframework.grpc.autoconfigure.common.codec.GrpcCodecConfiguration;
 import org.springframework.grpc.client.ChannelCredentialsProvider;
 import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
+import org.springframework.grpc.client.GrpcClientFactory;
+import org.springframework.grpc.client.GrpcClientFactoryCustomizer;
 
 import io.grpc.CompressorRegistry;
 import io.grpc.DecompressorRegistry;
 import io.grpc.ManagedChannelBuilder;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import reactor.util.concurrent.Queues;
 
 @AutoConfiguration
 @ConditionalOnGrpcClientEnabled
@@ -45,10 +53,21 @@ public class GrpcClientAutoConfiguration {
 		return new NamedChannelCredentialsProvider(bundles, properties);
 	}
 
+	@Bean
+	ClientResponseCaches grpcClientResponseCaches() {
+		return new ClientResponseCaches();
+	}
+
 	@Bean
 	<T extends ManagedChannelBuilder<T>> GrpcChannelBuilderCustomizer<T> clientPropertiesChannelCustomizer(
-			GrpcClientProperties properties) {
-		return new ClientPropertiesChannelBuilderCustomizer<>(properties);
+			GrpcClientProperties properties, ClientResponseCaches caches) {
+		return new ClientPropertiesChannelBuilderCustomizer<>(properties, caches);
+	}
+
+	@ConditionalOnProperty(prefix = "spring.grpc.client.zero-copy", name = "enabled", havingValue = "true")
+	@Bean
+	GrpcClientFactoryCustomizer zeroCopyClientFactoryCustomizer(GrpcClientProperties properties) {
+		return (factory) -> factory.zeroCopy((int) properties.getZeroCopy().getMinMessageSize().toBytes());
 	}
 
 	@ConditionalOnBean(CompressorRegistry.class)
@@ -65,6 +84,41 @@ public class GrpcClientAutoConfiguration {
 		return (name, builder) -> builder.decompressorRegistry(registry);
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "com.salesforce.reactorgrpc.stub.ReactorCallOptions")
+	static class ReactorStubConfiguration {
+
+		@Bean
+		GrpcClientFactoryCustomizer reactorPrefetchClientFactoryCustomizer(GrpcClientProperties properties) {
+			return (factory) -> {
+				prefetch(factory, "default", properties.getDefaultChannel().getReactor());
+				properties.getChannels().forEach((name, channel) -> prefetch(factory, name, channel.getReactor()));
+			};
+		}
+
+		private static void prefetch(GrpcClientFactory factory, String target, Reactor reactor) {
+			if (reactor.getPrefetch() == null && reactor.getLowTide() == null) {
+				return;
+			}
+			int prefetch = (reactor.getPrefetch() != null) ? reactor.getPrefetch() : Queues.SMALL_BUFFER_SIZE;
+			// Same as Reactor's limitRate()
+			int lowTide = (reactor.getLowTide() != null) ? reactor.getLowTide() : prefetch - (prefetch >> 2);
+			factory.prefetch(target, prefetch, lowTide);
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	static class ClientResponseCacheMetricsConfiguration {
+
+		@Bean
+		ClientResponseCacheMetrics grpcClientResponseCacheMetrics(ClientResponseCaches caches) {
+			return new ClientResponseCacheMetrics(caches);
+		}
+
+	}
+
 	@ConditionalOnMissingBean
 	@Bean
 	ChannelBuilderCustomizers channelBuilderCustomizers(ObjectProvider<GrpcChannelBuilderCustomizer<?>> customizers) {
@@ -17,11 +17,14 @@ package org.springframework.grpc.autoconfigure.client;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DataSizeUnit;
 import org.springframework.boot.convert.DurationUnit;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.core.env.Environment;
@@ -29,8 +32,10 @@ import org.springframework.core.env.StandardEnvironment;
 import org.springframework.grpc.client.NegotiationType;
 import org.springframework.grpc.client.VirtualTargets;
 import org.springframework.util.unit.DataSize;
+import org.springframework.util.unit.DataUnit;
 
 import io.grpc.ManagedChannel;
+import io.grpc.Status;
 
 @ConfigurationProperties(prefix = "spring.grpc.client")
 public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
@@ -45,6 +50,8 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 	 */
 	private final Map<String, ChannelConfig> channels = new HashMap<>();
 
+	private final ZeroCopy zeroCopy = new ZeroCopy();
+
 	private Environment environment;
 
 	GrpcClientProperties() {
@@ -60,6 +67,10 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 		return this.channels;
 	}
 
+	public ZeroCopy getZeroCopy() {
+		return this.zeroCopy;
+	}
+
 	@Override
 	public void setEnvironment(Environment environment) {
 		this.environment = environment;
@@ -107,6 +118,38 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 		return this.environment.resolvePlaceholders(address);
 	}
 
+	public static class ZeroCopy {
+
+		/**
+		 * Whether to parse large protobuf response messages received by the client stubs
+		 * straight from the transport buffers, without copying them.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Minimum size of the messages that are parsed without copying. The buffers of
+		 * these messages are retained for as long as the parsed message is in use.
+		 */
+		private DataSize minMessageSize = DataSize.ofKilobytes(256);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public DataSize getMinMessageSize() {
+			return this.minMessageSize;
+		}
+
+		public void setMinMessageSize(DataSize minMessageSize) {
+			this.minMessageSize = minMessageSize;
+		}
+
+	}
+
 	/**
 	 * Represents the configuration for a {@link ManagedChannel gRPC channel}.
 	 */
@@ -142,6 +185,12 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			this.defaultLoadBalancingPolicy = defaultLoadBalancingPolicy;
 		}
 
+		private final LoadBalancing loadBalancing = new LoadBalancing();
+
+		public LoadBalancing getLoadBalancing() {
+			return this.loadBalancing;
+		}
+
 		// --------------------------------------------------
 
 		private final Health health = new Health();
@@ -292,6 +341,77 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			}
 		}
 
+		// --------------------------------------------------
+		// Service config
+		// --------------------------------------------------
+
+		/**
+		 * Per-method configuration (retry, hedging, timeouts) added to the default
+		 * service config of the channel. The first entry whose name matches a method
+		 * applies.
+		 */
+		private final List<MethodConfig> methodConfig = new ArrayList<>();
+
+		private final RetryThrottling retryThrottling = new RetryThrottling();
+
+		public List<MethodConfig> getMethodConfig() {
+			return this.methodConfig;
+		}
+
+		public RetryThrottling getRetryThrottling() {
+			return this.retryThrottling;
+		}
+
+		// --------------------------------------------------
+		// Coalescing
+		// --------------------------------------------------
+
+		private final Coalescing coalescing = new Coalescing();
+
+		public Coalescing getCoalescing() {
+			return this.coalescing;
+		}
+
+		// --------------------------------------------------
+		// Cache
+		// --------------------------------------------------
+
+		private final Cache cache = new Cache();
+
+		public Cache getCache() {
+			return this.cache;
+		}
+
+		// --------------------------------------------------
+		// Compression
+		// --------------------------------------------------
+
+		private final Compression compression = new Compression();
+
+		public Compression getCompression() {
+			return this.compression;
+		}
+
+		// --------------------------------------------------
+		// Netty
+		// --------------------------------------------------
+
+		private final Netty netty = new Netty();
+
+		public Netty getNetty() {
+			return this.netty;
+		}
+
+		// --------------------------------------------------
+		// Reactor
+		// --------------------------------------------------
+
+		private final Reactor reactor = new Reactor();
+
+		public Reactor getReactor() {
+			return this.reactor;
+		}
+
 		// --------------------------------------------------
 
 		/**
@@ -339,6 +459,14 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			copy.userAgent = this.userAgent;
 			copy.defaultDeadline = this.defaultDeadline;
 			copy.health.copyValuesFrom(this.getHealth());
+			copy.netty.copyValuesFrom(this.getNetty());
+			copy.reactor.copyValuesFrom(this.getReactor());
+			this.methodConfig.forEach((methodConfig) -> copy.methodConfig.add(methodConfig.copy()));
+			copy.retryThrottling.copyValuesFrom(this.getRetryThrottling());
+			copy.loadBalancing.copyValuesFrom(this.getLoadBalancing());
+			copy.coalescing.copyValuesFrom(this.getCoalescing());
+			copy.cache.copyValuesFrom(this.getCache());
+			copy.compression.copyValuesFrom(this.getCompression());
 			copy.ssl.copyValuesFrom(this.getSsl());
 			return copy;
 		}
@@ -380,10 +508,38 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			 */
 			private String bundle;
 
+			/**
+			 * The TLS implementation to use. By default OpenSSL (BoringSSL) is used when
+			 * netty-tcnative is on the classpath, and the JDK otherwise.
+			 */
+			private Provider provider;
+
+			/**
+			 * The maximum number of TLS sessions to cache for resumption. The default
+			 * depends on the provider.
+			 */
+			private Long sessionCacheSize;
+
+			/**
+			 * How long a cached TLS session can be resumed. The default depends on the
+			 * provider. If a duration suffix is not specified, seconds will be used.
+			 */
+			@DurationUnit(ChronoUnit.SECONDS)
+			private Duration sessionTimeout;
+
 			public boolean isEnabled() {
 				return (this.enabled != null) ? this.enabled : this.bundle != null;
 			}
 
+			/**
+			 * Whether any of the provider or session settings are set, so that the SSL
+			 * context has to be configured explicitly.
+			 * @return true if the SSL context needs explicit configuration
+			 */
+			public boolean requiresSslContext() {
+				return this.provider != null || this.sessionCacheSize != null || this.sessionTimeout != null;
+			}
+
 			public void setEnabled(boolean enabled) {
 				this.enabled = enabled;
 			}
@@ -403,6 +559,983 @@ public class GrpcClientProperties implements EnvironmentAware, VirtualTargets {
 			public void copyValuesFrom(Ssl other) {
 				this.enabled = other.enabled;
 				this.bundle = other.bundle;
+				this.provider = other.provider;
+				this.sessionCacheSize = other.sessionCacheSize;
+				this.sessionTimeout = other.sessionTimeout;
+			}
+
+			public Provider getProvider() {
+				return this.provider;
+			}
+
+			public void setProvider(Provider provider) {
+				this.provider = provider;
+			}
+
+			public Long getSessionCacheSize() {
+				return this.sessionCacheSize;
+			}
+
+			public void setSessionCacheSize(Long sessionCacheSize) {
+				this.sessionCacheSize = sessionCacheSize;
+			}
+
+			public Duration getSessionTimeout() {
+				return this.sessionTimeout;
+			}
+
+			public void setSessionTimeout(Duration sessionTimeout) {
+				this.sessionTimeout = sessionTimeout;
+			}
+
+			public enum Provider {
+
+				/**
+				 * The TLS implementation of the JDK.
+				 */
+				JDK,
+
+				/**
+				 * OpenSSL or BoringSSL through netty-tcnative, which must be on the
+				 * classpath.
+				 */
+				OPENSSL
+
+			}
+
+		}
+
+		public static class Netty {
+
+			/**
+			 * Initial HTTP/2 flow control window size for each stream and the connection
+			 * (default 1MiB).
+			 */
+			@DataSizeUnit(DataUnit.BYTES)
+			private DataSize initialFlowControlWindow = null;
+
+			/**
+			 * Whether to automatically grow the flow control window based on the measured
+			 * bandwidth-delay product. When false, the window stays fixed at the initial
+			 * size (default true).
+			 */
+			private boolean autoFlowControl = true;
+
+			public DataSize getInitialFlowControlWindow() {
+				return this.initialFlowControlWindow;
+			}
+
+			public void setInitialFlowControlWindow(DataSize initialFlowControlWindow) {
+				this.initialFlowControlWindow = initialFlowControlWindow;
+			}
+
+			public boolean isAutoFlowControl() {
+				return this.autoFlowControl;
+			}
+
+			public void setAutoFlowControl(boolean autoFlowControl) {
+				this.autoFlowControl = autoFlowControl;
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			public void copyValuesFrom(Netty other) {
+				this.initialFlowControlWindow = other.initialFlowControlWindow;
+				this.autoFlowControl = other.autoFlowControl;
+			}
+
+		}
+
+		public static class Reactor {
+
+			/**
+			 * Number of messages that Reactor stubs request from a stream up front. Large
+			 * values buffer more messages in memory, small values stall fast producers
+			 * (default 256).
+			 */
+			private Integer prefetch = null;
+
+			/**
+			 * Number of messages consumed before Reactor stubs request more, at most the
+			 * prefetch (default 75% of the prefetch).
+			 */
+			private Integer lowTide = null;
+
+			public Integer getPrefetch() {
+				return this.prefetch;
+			}
+
+			public void setPrefetch(Integer prefetch) {
+				this.prefetch = prefetch;
+			}
+
+			public Integer getLowTide() {
+				return this.lowTide;
+			}
+
+			public void setLowTide(Integer lowTide) {
+				this.lowTide = lowTide;
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			public void copyValuesFrom(Reactor other) {
+				this.prefetch = other.prefetch;
+				this.lowTide = other.lowTide;
+			}
+
+		}
+
+		public static class MethodConfig {
+
+			/**
+			 * Names of the methods this configuration applies to. A name without a
+			 * service applies to all methods, and a name without a method applies to all
+			 * methods of the service.
+			 */
+			private final List<Name> name = new ArrayList<>();
+
+			/**
+			 * Default deadline of the calls to the methods.
+			 */
+			private Duration timeout = null;
+
+			/**
+			 * Whether calls to the methods wait for the channel to be ready instead of
+			 * failing fast.
+			 */
+			private Boolean waitForReady = null;
+
+			private final Retry retry = new Retry();
+
+			private final Hedging hedging = new Hedging();
+
+			public List<Name> getName() {
+				return this.name;
+			}
+
+			public Duration getTimeout() {
+				return this.timeout;
+			}
+
+			public void setTimeout(Duration timeout) {
+				this.timeout = timeout;
+			}
+
+			public Boolean getWaitForReady() {
+				return this.waitForReady;
+			}
+
+			public void setWaitForReady(Boolean waitForReady) {
+				this.waitForReady = waitForReady;
+			}
+
+			public Retry getRetry() {
+				return this.retry;
+			}
+
+			public Hedging getHedging() {
+				return this.hedging;
+			}
+
+			/**
+			 * Provide a copy of the method config instance.
+			 * @return a copy of the method config instance.
+			 */
+			public MethodConfig copy() {
+				MethodConfig copy = new MethodConfig();
+				this.name.forEach((name) -> copy.name.add(name.copy()));
+				copy.timeout = this.timeout;
+				copy.waitForReady = this.waitForReady;
+				copy.retry.copyValuesFrom(this.retry);
+				copy.hedging.copyValuesFrom(this.hedging);
+				return copy;
+			}
+
+			public static class Name {
+
+				/**
+				 * Fully qualified name of the service (e.g. "my.package.MyService").
+				 */
+				private String service;
+
+				/**
+				 * Name of the method within the service.
+				 */
+				private String method;
+
+				public String getService() {
+					return this.service;
+				}
+
+				public void setService(String service) {
+					this.service = service;
+				}
+
+				public String getMethod() {
+					return this.method;
+				}
+
+				public void setMethod(String method) {
+					this.method = method;
+				}
+
+				/**
+				 * Provide a copy of the name instance.
+				 * @return a copy of the name instance.
+				 */
+				public Name copy() {
+					Name copy = new Name();
+					copy.service = this.service;
+					copy.method = this.method;
+					return copy;
+				}
+
+			}
+
+			public static class Retry {
+
+				/**
+				 * Maximum number of attempts, including the original call. Retries are
+				 * disabled when not set.
+				 */
+				private Integer maxAttempts = null;
+
+				/**
+				 * Initial delay before the first retry.
+				 */
+				private Duration initialBackoff = Duration.ofMillis(100);
+
+				/**
+				 * Upper bound of the delay between retries.
+				 */
+				private Duration maxBackoff = Duration.ofSeconds(1);
+
+				/**
+				 * Factor by which the delay grows after each retry.
+				 */
+				private double backoffMultiplier = 2.0;
+
+				/**
+				 * Status codes that are retried.
+				 */
+				private List<Status.Code> retryableStatusCodes = new ArrayList<>(List.of(Status.Code.UNAVAILABLE));
+
+				public Integer getMaxAttempts() {
+					return this.maxAttempts;
+				}
+
+				public void setMaxAttempts(Integer maxAttempts) {
+					this.maxAttempts = maxAttempts;
+				}
+
+				public Duration getInitialBackoff() {
+					return this.initialBackoff;
+				}
+
+				public void setInitialBackoff(Duration initialBackoff) {
+					this.initialBackoff = initialBackoff;
+				}
+
+				public Duration getMaxBackoff() {
+					return this.maxBackoff;
+				}
+
+				public void setMaxBackoff(Duration maxBackoff) {
+					this.maxBackoff = maxBackoff;
+				}
+
+				public double getBackoffMultiplier() {
+					return this.backoffMultiplier;
+				}
+
+				public void setBackoffMultiplier(double backoffMultiplier) {
+					this.backoffMultiplier = backoffMultiplier;
+				}
+
+				public List<Status.Code> getRetryableStatusCodes() {
+					return this.retryableStatusCodes;
+				}
+
+				public void setRetryableStatusCodes(List<Status.Code> retryableStatusCodes) {
+					this.retryableStatusCodes = retryableStatusCodes;
+				}
+
+				/**
+				 * Copies the values from another instance.
+				 * @param other instance to copy values from
+				 */
+				public void copyValuesFrom(Retry other) {
+					this.maxAttempts = other.maxAttempts;
+					this.initialBackoff = other.initialBackoff;
+					this.maxBackoff = other.maxBackoff;
+					this.backoffMultiplier = other.backoffMultiplier;
+					this.retryableStatusCodes = new ArrayList<>(other.retryableStatusCodes);
+				}
+
+			}
+
+			public static class Hedging {
+
+				/**
+				 * Maximum number of calls sent in parallel, including the original call.
+				 * Hedging is disabled when not set. Only use hedging for idempotent
+				 * methods.
+				 */
+				private Integer maxAttempts = null;
+
+				/**
+				 * Delay before each additional call is sent. A zero delay sends all calls
+				 * at once.
+				 */
+				private Duration hedgingDelay = Duration.ZERO;
+
+				/**
+				 * Status codes that do not cancel the outstanding calls, letting another
+				 * attempt succeed.
+				 */
+				private List<Status.Code> nonFatalStatusCodes = new ArrayList<>();
+
+				public Integer getMaxAttempts() {
+					return this.maxAttempts;
+				}
+
+				public void setMaxAttempts(Integer maxAttempts) {
+					this.maxAttempts = maxAttempts;
+				}
+
+				public Duration getHedgingDelay() {
+					return this.hedgingDelay;
+				}
+
+				public void setHedgingDelay(Duration hedgingDelay) {
+					this.hedgingDelay = hedgingDelay;
+				}
+
+				public List<Status.Code> getNonFatalStatusCodes() {
+					return this.nonFatalStatusCodes;
+				}
+
+				public void setNonFatalStatusCodes(List<Status.Code> nonFatalStatusCodes) {
+					this.nonFatalStatusCodes = nonFatalStatusCodes;
+				}
+
+				/**
+				 * Copies the values from another instance.
+				 * @param other instance to copy values from
+				 */
+				public void copyValuesFrom(Hedging other) {
+					this.maxAttempts = other.maxAttempts;
+					this.hedgingDelay = other.hedgingDelay;
+					this.nonFatalStatusCodes = new ArrayList<>(other.nonFatalStatusCodes);
+				}
+
+			}
+
+		}
+
+		public static class RetryThrottling {
+
+			/**
+			 * Size of the token bucket that throttles retries and hedged calls on the
+			 * channel. Each failure takes one token, and retries stop while fewer than
+			 * half the tokens are left. Throttling is disabled when not set.
+			 */
+			private Integer maxTokens = null;
+
+			/**
+			 * Number of tokens added back for each successful call.
+			 */
+			private double tokenRatio = 0.1;
+
+			public Integer getMaxTokens() {
+				return this.maxTokens;
+			}
+
+			public void setMaxTokens(Integer maxTokens) {
+				this.maxTokens = maxTokens;
+			}
+
+			public double getTokenRatio() {
+				return this.tokenRatio;
+			}
+
+			public void setTokenRatio(double tokenRatio) {
+				this.tokenRatio = tokenRatio;
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			public void copyValuesFrom(RetryThrottling other) {
+				this.maxTokens = other.maxTokens;
+				this.tokenRatio = other.tokenRatio;
+			}
+
+		}
+
+		public static class LoadBalancing {
+
+			/**
+			 * The load balancing policy, configured through the service config. Takes
+			 * precedence over "default-load-balancing-policy" when set.
+			 */
+			private Policy policy;
+
+			/**
+			 * Whether the pick_first policy shuffles the addresses before connecting, so
+			 * that clients spread over the backends.
+			 */
+			private boolean shuffleAddressList = false;
+
+			/**
+			 * Number of backends the least_request policy compares for each call
+			 * (default 2).
+			 */
+			private Integer choiceCount;
+
+			/**
+			 * Time over which the peak_ewma policy forgets the latency of a backend
+			 * (default 10s).
+			 */
+			private Duration decayTime;
+
+			private final WeightedRoundRobin weightedRoundRobin = new WeightedRoundRobin();
+
+			private final ConsistentHash consistentHash = new ConsistentHash();
+
+			public Policy getPolicy() {
+				return this.policy;
+			}
+
+			public void setPolicy(Policy policy) {
+				this.policy = policy;
+			}
+
+			public boolean isShuffleAddressList() {
+				return this.shuffleAddressList;
+			}
+
+			public void setShuffleAddressList(boolean shuffleAddressList) {
+				this.shuffleAddressList = shuffleAddressList;
+			}
+
+			public Integer getChoiceCount() {
+				return this.choiceCount;
+			}
+
+			public void setChoiceCount(Integer choiceCount) {
+				this.choiceCount = choiceCount;
+			}
+
+			public Duration getDecayTime() {
+				return this.decayTime;
+			}
+
+			public void setDecayTime(Duration decayTime) {
+				this.decayTime = decayTime;
+			}
+
+			public WeightedRoundRobin getWeightedRoundRobin() {
+				return this.weightedRoundRobin;
+			}
+
+			public ConsistentHash getConsistentHash() {
+				return this.consistentHash;
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			public void copyValuesFrom(LoadBalancing other) {
+				this.policy = other.policy;
+				this.shuffleAddressList = other.shuffleAddressList;
+				this.choiceCount = other.choiceCount;
+				this.decayTime = other.decayTime;
+				this.weightedRoundRobin.copyValuesFrom(other.weightedRoundRobin);
+				this.consistentHash.copyValuesFrom(other.consistentHash);
+			}
+
+			public enum Policy {
+
+				/**
+				 * Connect to the first reachable backend and send all calls to it.
+				 */
+				PICK_FIRST("pick_first"),
+
+				/**
+				 * Send calls to each backend in turn.
+				 */
+				ROUND_ROBIN("round_robin"),
+
+				/**
+				 * Send calls to the backends in proportion to their capacity, as reported
+				 * by their ORCA load reports. Requires grpc-xds.
+				 */
+				WEIGHTED_ROUND_ROBIN("weighted_round_robin"),
+
+				/**
+				 * Send each call to the backend with the fewest calls in flight, out of
+				 * a random sample. Requires grpc-xds.
+				 */
+				LEAST_REQUEST("least_request_experimental"),
+
+				/**
+				 * Send each call to the better of two random backends, judged by their
+				 * peak latency and the number of calls in flight.
+				 */
+				PEAK_EWMA("peak_ewma"),
+
+				/**
+				 * Send all the calls with the same hash key to the same backend, so that
+				 * per-key state on the backends (such as a cache) is not spread over all
+				 * of them.
+				 */
+				CONSISTENT_HASH("consistent_hash");
+
+				private final String configName;
+
+				Policy(String configName) {
+					this.configName = configName;
+				}
+
+				/**
+				 * The name of the policy in the service config.
+				 * @return the policy name
+				 */
+				public String getConfigName() {
+					return this.configName;
+				}
+
+			}
+
+			public static class WeightedRoundRobin {
+
+				/**
+				 * Whether to get the load reports from the ORCA service of the backends
+				 * (out of band) rather than from the trailers of each call.
+				 */
+				private boolean enableOobLoadReport = false;
+
+				/**
+				 * How often the backends send out of band load reports (default 10s).
+				 */
+				private Duration oobReportingPeriod;
+
+				/**
+				 * How long a backend is sent calls at the average weight after its first
+				 * load report, so that a single report does not skew it (default 10s).
+				 */
+				private Duration blackoutPeriod;
+
+				/**
+				 * How long the weight of a backend is used without a new load report
+				 * (default 3m).
+				 */
+				private Duration weightExpirationPeriod;
+
+				/**
+				 * How often the weights are recomputed (default 1s).
+				 */
+				private Duration weightUpdatePeriod;
+
+				/**
+				 * How much the error rate of a backend adds to its utilization when
+				 * computing its weight (default 1.0).
+				 */
+				private Double errorUtilizationPenalty;
+
+				public boolean isEnableOobLoadReport() {
+					return this.enableOobLoadReport;
+				}
+
+				public void setEnableOobLoadReport(boolean enableOobLoadReport) {
+					this.enableOobLoadReport = enableOobLoadReport;
+				}
+
+				public Duration getOobReportingPeriod() {
+					return this.oobReportingPeriod;
+				}
+
+				public void setOobReportingPeriod(Duration oobReportingPeriod) {
+					this.oobReportingPeriod = oobReportingPeriod;
+				}
+
+				public Duration getBlackoutPeriod() {
+					return this.blackoutPeriod;
+				}
+
+				public void setBlackoutPeriod(Duration blackoutPeriod) {
+					this.blackoutPeriod = blackoutPeriod;
+				}
+
+				public Duration getWeightExpirationPeriod() {
+					return this.weightExpirationPeriod;
+				}
+
+				public void setWeightExpirationPeriod(Duration weightExpirationPeriod) {
+					this.weightExpirationPeriod = weightExpirationPeriod;
+				}
+
+				public Duration getWeightUpdatePeriod() {
+					return this.weightUpdatePeriod;
+				}
+
+				public void setWeightUpdatePeriod(Duration weightUpdatePeriod) {
+					this.weightUpdatePeriod = weightUpdatePeriod;
+				}
+
+				public Double getErrorUtilizationPenalty() {
+					return this.errorUtilizationPenalty;
+				}
+
+				public void setErrorUtilizationPenalty(Double errorUtilizationPenalty) {
+					this.errorUtilizationPenalty = errorUtilizationPenalty;
+				}
+
+				/**
+				 * Copies the values from another instance.
+				 * @param other instance to copy values from
+				 */
+				public void copyValuesFrom(WeightedRoundRobin other) {
+					this.enableOobLoadReport = other.enableOobLoadReport;
+					this.oobReportingPeriod = other.oobReportingPeriod;
+					this.blackoutPeriod = other.blackoutPeriod;
+					this.weightExpirationPeriod = other.weightExpirationPeriod;
+					this.weightUpdatePeriod = other.weightUpdatePeriod;
+					this.errorUtilizationPenalty = other.errorUtilizationPenalty;
+				}
+
+			}
+
+			public static class ConsistentHash {
+
+				/**
+				 * Name of the request header whose value is hashed to choose the backend
+				 * of a call (default "x-hash-key").
+				 */
+				private String header;
+
+				/**
+				 * Name of a field of the (protobuf) request messages to send in the hash
+				 * header, for unary and server streaming calls that do not set it
+				 * already.
+				 */
+				private String field;
+
+				/**
+				 * Minimum number of points on the hash ring, shared out between the
+				 * backends (default 1024). More points spread the keys more evenly.
+				 */
+				private Integer ringSize;
+
+				/**
+				 * How many times the average number of calls in flight a backend may take
+				 * before its keys spill over to the next backend on the ring, e.g. 1.25.
+				 * No bound if not set.
+				 */
+				private Double loadFactor;
+
+				public String getHeader() {
+					return this.header;
+				}
+
+				public void setHeader(String header) {
+					this.header = header;
+				}
+
+				public String getField() {
+					return this.field;
+				}
+
+				public void setField(String field) {
+					this.field = field;
+				}
+
+				public Integer getRingSize() {
+					return this.ringSize;
+				}
+
+				public void setRingSize(Integer ringSize) {
+					this.ringSize = ringSize;
+				}
+
+				public Double getLoadFactor() {
+					return this.loadFactor;
+				}
+
+				public void setLoadFactor(Double loadFactor) {
+					this.loadFactor = loadFactor;
+				}
+
+				/**
+				 * Copies the values from another instance.
+				 * @param other instance to copy values from
+				 */
+				public void copyValuesFrom(ConsistentHash other) {
+					this.header = other.header;
+					this.field = other.field;
+					this.ringSize = other.ringSize;
+					this.loadFactor = other.loadFactor;
+				}
+
+			}
+
+		}
+
+		public static class Coalescing {
+
+			/**
+			 * Whether identical unary calls (same method and request) that are in flight
+			 * at the same time are coalesced into a single call to the server. Only
+			 * enable for idempotent methods whose response does not depend on the caller.
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * Full method name patterns (e.g. "Simple/SayHello" or "Simple/*") of the
+			 * unary methods to coalesce. Applies to all unary methods when empty.
+			 */
+			private List<String> methods = new ArrayList<>();
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public List<String> getMethods() {
+				return this.methods;
+			}
+
+			public void setMethods(List<String> methods) {
+				this.methods = methods;
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			public void copyValuesFrom(Coalescing other) {
+				this.enabled = other.enabled;
+				this.methods = new ArrayList<>(other.methods);
+			}
+
+		}
+
+		public static class Cache {
+
+			/**
+			 * Whether responses of unary calls are cached on the client, keyed by method
+			 * and request. Only enable for idempotent methods whose response does not
+			 * depend on the caller.
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * Full method name patterns (e.g. "Simple/SayHello" or "Simple/*") of the
+			 * unary methods to cache. Applies to all unary methods when empty.
+			 */
+			private List<String> methods = new ArrayList<>();
+
+			/**
+			 * Time after which a cached response expires.
+			 */
+			private Duration timeToLive = Duration.ofMinutes(1);
+
+			/**
+			 * Maximum number of cached responses.
+			 */
+			private int maxEntries = 1000;
+
+			/**
+			 * Maximum total size of the cached requests and responses.
+			 */
+			private DataSize maxSize = DataSize.ofMegabytes(10);
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public List<String> getMethods() {
+				return this.methods;
+			}
+
+			public void setMethods(List<String> methods) {
+				this.methods = methods;
+			}
+
+			public Duration getTimeToLive() {
+				return this.timeToLive;
+			}
+
+			public void setTimeToLive(Duration timeToLive) {
+				this.timeToLive = timeToLive;
+			}
+
+			public int getMaxEntries() {
+				return this.maxEntries;
+			}
+
+			public void setMaxEntries(int maxEntries) {
+				this.maxEntries = maxEntries;
+			}
+
+			public DataSize getMaxSize() {
+				return this.maxSize;
+			}
+
+			public void setMaxSize(DataSize maxSize) {
+				this.maxSize = maxSize;
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			public void copyValuesFrom(Cache other) {
+				this.enabled = other.enabled;
+				this.methods = new ArrayList<>(other.methods);
+				this.timeToLive = other.timeToLive;
+				this.maxEntries = other.maxEntries;
+				this.maxSize = other.maxSize;
+			}
+
+		}
+
+		public static class Compression {
+
+			/**
+			 * Whether request messages are compressed.
+			 */
+			private boolean enabled = false;
+
+			/**
+			 * Message encoding used to compress requests (e.g. "gzip", "zstd" or "lz4").
+			 * The server must be able to decompress it.
+			 */
+			private String encoding = "gzip";
+
+			/**
+			 * Minimum size of the request messages that are compressed. Smaller messages
+			 * are sent uncompressed.
+			 */
+			private DataSize minMessageSize = DataSize.ofKilobytes(1);
+
+			/**
+			 * Compression settings for specific methods, applied in order. The first rule
+			 * that matches a method applies.
+			 */
+			private List<Rule> rules = new ArrayList<>();
+
+			public boolean isEnabled() {
+				return this.enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public String getEncoding() {
+				return this.encoding;
+			}
+
+			public void setEncoding(String encoding) {
+				this.encoding = encoding;
+			}
+
+			public DataSize getMinMessageSize() {
+				return this.minMessageSize;
+			}
+
+			public void setMinMessageSize(DataSize minMessageSize) {
+				this.minMessageSize = minMessageSize;
+			}
+
+			public List<Rule> getRules() {
+				return this.rules;
+			}
+
+			public void setRules(List<Rule> rules) {
+				this.rules = rules;
+			}
+
+			/**
+			 * Copies the values from another instance.
+			 * @param other instance to copy values from
+			 */
+			public void copyValuesFrom(Compression other) {
+				this.enabled = other.enabled;
+				this.encoding = other.encoding;
+				this.minMessageSize = other.minMessageSize;
+				this.rules = new ArrayList<>();
+				other.rules.forEach((rule) -> this.rules.add(rule.copy()));
+			}
+
+			public static class Rule {
+
+				/**
+				 * Full method name patterns (e.g. "Simple/SayHello" or "Simple/*") the
+				 * rule applies to.
+				 */
+				private List<String> methods = new ArrayList<>();
+
+				/**
+				 * Message encoding for the methods, or "identity" for no compression.
+				 * Defaults to the encoding of the channel.
+				 */
+				private String encoding;
+
+				/**
+				 * Minimum size of the messages that are compressed. Defaults to the
+				 * minimum size of the channel.
+				 */
+				private DataSize minMessageSize;
+
+				public List<String> getMethods() {
+					return this.methods;
+				}
+
+				public void setMethods(List<String> methods) {
+					this.methods = methods;
+				}
+
+				public String getEncoding() {
+					return this.encoding;
+				}
+
+				public void setEncoding(String encoding) {
+					this.encoding = encoding;
+				}
+
+				public DataSize getMinMessageSize() {
+					return this.minMessageSize;
+				}
+
+				public void setMinMessageSize(DataSize minMessageSize) {
+					this.minMessageSize = minMessageSize;
+				}
+
+				public Rule copy() {
+					Rule copy = new Rule();
+					copy.methods = new ArrayList<>(this.methods);
+					copy.encoding = this.encoding;
+					copy.minMessageSize = this.minMessageSize;
+					return copy;
+				}
+
 			}
 
 		}
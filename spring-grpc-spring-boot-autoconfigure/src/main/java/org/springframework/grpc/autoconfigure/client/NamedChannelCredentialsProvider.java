@@ -15,30 +15,51 @@
  */
 package org.springframework.grpc.autoconfigure.client;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.TrustManagerFactory;
 
 import org.springframework.boot.ssl.SslBundle;
 import org.springframework.boot.ssl.SslBundles;
 import org.springframework.grpc.autoconfigure.client.GrpcClientProperties.ChannelConfig;
+import org.springframework.grpc.autoconfigure.client.GrpcClientProperties.ChannelConfig.Ssl.Provider;
 import org.springframework.grpc.client.ChannelCredentialsProvider;
 import org.springframework.grpc.client.NegotiationType;
 import org.springframework.grpc.internal.InsecureTrustManagerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
 import io.grpc.ChannelCredentials;
 import io.grpc.InsecureChannelCredentials;
 import io.grpc.TlsChannelCredentials;
 
 /**
- * Provides channel credentials using channel configuration and {@link SslBundles}.
+ * Provides channel credentials using channel configuration and {@link SslBundles}. The
+ * credentials are shared by all channels with the same SSL settings, and rebuilt when
+ * their bundle is updated.
  *
  * @author David Syer
  */
 public class NamedChannelCredentialsProvider implements ChannelCredentialsProvider {
 
+	// The autoconfiguration prefers grpc-netty-shaded when both are available, so that is
+	// the transport to build an SSL context for if the builder type is not known
+	private static final boolean SHADED_NETTY_PRESENT = ClassUtils.isPresent(
+			"io.grpc.netty.shaded.io.grpc.netty.NettySslContextChannelCredentials",
+			NamedChannelCredentialsProvider.class.getClassLoader());
+
 	private final SslBundles bundles;
 
 	private final GrpcClientProperties properties;
 
+	private final Map<CredentialsKey, ChannelCredentials> credentials = new ConcurrentHashMap<>();
+
+	private final Set<String> watchedBundles = ConcurrentHashMap.newKeySet();
+
 	public NamedChannelCredentialsProvider(SslBundles bundles, GrpcClientProperties properties) {
 		this.bundles = bundles;
 		this.properties = properties;
@@ -46,29 +67,101 @@ public class NamedChannelCredentialsProvider implements ChannelCredentialsProvid
 
 	@Override
 	public ChannelCredentials getChannelCredentials(String path) {
+		return getChannelCredentials(path, null);
+	}
+
+	@Override
+	public ChannelCredentials getChannelCredentials(String path, @Nullable Class<?> builderType) {
 		ChannelConfig channel = this.properties.getChannel(path);
 		if (!channel.getSsl().isEnabled() && channel.getNegotiationType() == NegotiationType.PLAINTEXT) {
 			return InsecureChannelCredentials.create();
 		}
-		SslBundle bundle = channel.getSsl().isEnabled() ? this.bundles.getBundle(channel.getSsl().getBundle()) : null;
-		if (bundle != null) {
-			TrustManagerFactory trustManagers = channel.isSecure() ? bundle.getManagers().getTrustManagerFactory()
-					: InsecureTrustManagerFactory.INSTANCE;
-			return TlsChannelCredentials.newBuilder()
-				.keyManager(bundle.getManagers().getKeyManagerFactory().getKeyManagers())
-				.trustManager(trustManagers.getTrustManagers())
-				.build();
+		Transport transport = Transport.of(builderType, channel.getSsl().requiresSslContext());
+		CredentialsKey key = new CredentialsKey(channel, transport);
+		return this.credentials.computeIfAbsent(key, (k) -> createChannelCredentials(path, channel, transport));
+	}
+
+	private ChannelCredentials createChannelCredentials(String path, ChannelConfig channel, Transport transport) {
+		SslBundle bundle = channel.getSsl().isEnabled() ? getBundle(channel.getSsl().getBundle()) : null;
+		KeyManagerFactory keyManager = (bundle != null) ? bundle.getManagers().getKeyManagerFactory() : null;
+		TrustManagerFactory trustManager = null;
+		if (!channel.isSecure()) {
+			trustManager = InsecureTrustManagerFactory.INSTANCE;
+		}
+		else if (bundle != null) {
+			trustManager = bundle.getManagers().getTrustManagerFactory();
+		}
+		// A Netty SSL context is built once here and shared by the channels, whereas the
+		// transport builds a new one for each channel from generic TLS credentials
+		if (transport == Transport.SHADED_NETTY) {
+			return ShadedNettySslChannelCredentials.create(path, channel.getSsl(), keyManager, trustManager);
+		}
+		if (transport == Transport.NETTY) {
+			return NettySslChannelCredentials.create(path, channel.getSsl(), keyManager, trustManager);
 		}
-		else {
-			if (channel.isSecure()) {
-				return TlsChannelCredentials.create();
+		TlsChannelCredentials.Builder builder = TlsChannelCredentials.newBuilder();
+		if (keyManager != null) {
+			builder.keyManager(keyManager.getKeyManagers());
+		}
+		if (trustManager != null) {
+			builder.trustManager(trustManager.getTrustManagers());
+		}
+		return builder.build();
+	}
+
+	@Nullable
+	private SslBundle getBundle(@Nullable String name) {
+		if (name == null) {
+			// SSL with the default key and trust material
+			return null;
+		}
+		SslBundle bundle = this.bundles.getBundle(name);
+		if (this.watchedBundles.add(name)) {
+			// Credentials built from the old key material must not be handed out again
+			this.bundles.addBundleUpdateHandler(name,
+					(updated) -> this.credentials.keySet().removeIf((key) -> name.equals(key.bundle())));
+		}
+		return bundle;
+	}
+
+	/**
+	 * The channel settings that determine the credentials, so that channels with the same
+	 * settings share them (and their SSL context, which makes session resumption work
+	 * across channels), as long as they use the same Netty transport.
+	 */
+	private record CredentialsKey(@Nullable String bundle, boolean secure, @Nullable Provider provider,
+			@Nullable Long sessionCacheSize, @Nullable Duration sessionTimeout, Transport transport) {
+
+		CredentialsKey(ChannelConfig channel, Transport transport) {
+			this(channel.getSsl().isEnabled() ? channel.getSsl().getBundle() : null, channel.isSecure(),
+					channel.getSsl().getProvider(), channel.getSsl().getSessionCacheSize(),
+					channel.getSsl().getSessionTimeout(), transport);
+		}
+
+	}
+
+	/**
+	 * The transport that the credentials are built for.
+	 */
+	private enum Transport {
+
+		NETTY, SHADED_NETTY, OTHER;
+
+		static Transport of(@Nullable Class<?> builderType, boolean requiresSslContext) {
+			String name = (builderType != null) ? builderType.getName() : "";
+			if (name.startsWith("io.grpc.netty.shaded.")) {
+				return SHADED_NETTY;
+			}
+			if (name.startsWith("io.grpc.netty.")) {
+				return NETTY;
 			}
-			else {
-				return TlsChannelCredentials.newBuilder()
-					.trustManager(InsecureTrustManagerFactory.INSTANCE.getTrustManagers())
-					.build();
+			if (requiresSslContext) {
+				// Only Netty can apply the provider and session settings
+				return SHADED_NETTY_PRESENT ? SHADED_NETTY : NETTY;
 			}
+			return OTHER;
 		}
+
 	}
 
 }
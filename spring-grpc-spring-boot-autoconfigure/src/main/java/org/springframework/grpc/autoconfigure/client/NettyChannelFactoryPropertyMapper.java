@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.client;
+
+import org.springframework.grpc.autoconfigure.client.GrpcClientProperties.ChannelConfig;
+import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
+import org.springframework.grpc.client.NettyGrpcChannelFactory;
+
+import io.grpc.netty.NettyChannelBuilder;
+
+/**
+ * A {@link GrpcChannelBuilderCustomizer} that maps the Netty specific
+ * {@link GrpcClientProperties client properties} to channels created by the
+ * {@link NettyGrpcChannelFactory}.
+ *
+ * @author Chris Bono
+ */
+class NettyChannelFactoryPropertyMapper implements GrpcChannelBuilderCustomizer<NettyChannelBuilder> {
+
+	private final GrpcClientProperties properties;
+
+	NettyChannelFactoryPropertyMapper(GrpcClientProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public void customize(String authority, NettyChannelBuilder builder) {
+		ChannelConfig.Netty nettyProps = this.properties.getChannel(authority).getNetty();
+		int flowControlWindow = (nettyProps.getInitialFlowControlWindow() != null)
+				? Math.toIntExact(nettyProps.getInitialFlowControlWindow().toBytes())
+				: NettyChannelBuilder.DEFAULT_FLOW_CONTROL_WINDOW;
+		if (!nettyProps.isAutoFlowControl()) {
+			builder.flowControlWindow(flowControlWindow);
+		}
+		else if (nettyProps.getInitialFlowControlWindow() != null) {
+			builder.initialFlowControlWindow(flowControlWindow);
+		}
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.client;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.springframework.grpc.autoconfigure.client.GrpcClientProperties.ChannelConfig;
+import org.springframework.lang.Nullable;
+
+import io.grpc.ChannelCredentials;
+import io.grpc.netty.GrpcSslContexts;
+import io.grpc.netty.NettySslContextChannelCredentials;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+
+/**
+ * Helper class used to build Netty channel credentials from an SSL context configured
+ * with {@link ChannelConfig.Ssl the provider and session properties}.
+ * <p>
+ * Sessions are cached per host and port, so reconnecting to a server resumes its
+ * session instead of repeating the full handshake.
+ *
+ * @author Dave Syer
+ */
+final class NettySslChannelCredentials {
+
+	private NettySslChannelCredentials() {
+	}
+
+	/**
+	 * Create the channel credentials.
+	 * @param name the name of the channel
+	 * @param ssl the SSL properties
+	 * @param keyManager the key manager, or null for no client certificate
+	 * @param trustManager the trust manager, or null for the default
+	 * @return the channel credentials
+	 */
+	static ChannelCredentials create(String name, ChannelConfig.Ssl ssl, @Nullable KeyManagerFactory keyManager,
+			@Nullable TrustManagerFactory trustManager) {
+		SslContextBuilder builder = SslContextBuilder.forClient().keyManager(keyManager).trustManager(trustManager);
+		if (ssl.getProvider() != null) {
+			GrpcSslContexts.configure(builder, SslProvider.valueOf(ssl.getProvider().name()));
+		}
+		else {
+			GrpcSslContexts.configure(builder);
+		}
+		if (ssl.getSessionCacheSize() != null) {
+			builder.sessionCacheSize(ssl.getSessionCacheSize());
+		}
+		if (ssl.getSessionTimeout() != null) {
+			builder.sessionTimeout(ssl.getSessionTimeout().toSeconds());
+		}
+		try {
+			return NettySslContextChannelCredentials.create(builder.build());
+		}
+		catch (SSLException ex) {
+			throw new IllegalStateException("Cannot create SSL context for gRPC channel '" + name + "'", ex);
+		}
+	}
+
+}
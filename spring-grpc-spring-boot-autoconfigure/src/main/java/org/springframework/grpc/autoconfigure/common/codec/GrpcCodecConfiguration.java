@@ -23,11 +23,15 @@ import io.grpc.DecompressorRegistry;
 import io.grpc.CompressorRegistry;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.grpc.compression.Lz4Codec;
+import org.springframework.grpc.compression.ZstdCodec;
 
 /**
- * The configuration that contains all codec related beans for clients/servers.
+ * The configuration that contains all codec related beans for clients/servers. The zstd
+ * and lz4 codecs are registered when their libraries are on the classpath.
  *
  * @author Andrei Lisa
  */
@@ -44,9 +48,36 @@ public class GrpcCodecConfiguration {
 
 	@Bean
 	DecompressorRegistry decompressorRegistry(ObjectProvider<Decompressor> decompressors) {
+		// The registry is immutable and each decompressor is advertised to peers
 		DecompressorRegistry registry = DecompressorRegistry.getDefaultInstance();
-		decompressors.orderedStream().forEachOrdered(decompressor -> registry.with(decompressor, false));
+		for (Decompressor decompressor : decompressors.orderedStream().toList()) {
+			registry = registry.with(decompressor, true);
+		}
 		return registry;
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "com.github.luben.zstd.ZstdOutputStream")
+	static class ZstdCodecConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		ZstdCodec grpcZstdCodec() {
+			return new ZstdCodec();
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "net.jpountz.lz4.LZ4FrameOutputStream")
+	static class Lz4CodecConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		Lz4Codec grpcLz4Codec() {
+			return new Lz4Codec();
+		}
+
+	}
+
 }
@@ -21,6 +21,7 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
@@ -28,19 +29,26 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.grpc.autoconfigure.common.codec.GrpcCodecConfiguration;
+import org.springframework.grpc.compression.CompressionRules;
+import org.springframework.grpc.server.GlobalServerInterceptor;
 import org.springframework.grpc.server.GrpcServerFactory;
+import org.springframework.grpc.server.LocalGrpcServer;
 import org.springframework.grpc.server.ServerBuilderCustomizer;
-import org.springframework.grpc.server.exception.ReactiveStubBeanDefinitionRegistrar;
+import org.springframework.grpc.server.compression.CompressionServerInterceptor;
 import org.springframework.grpc.server.lifecycle.GrpcServerLifecycle;
 import org.springframework.grpc.server.service.DefaultGrpcServiceConfigurer;
 import org.springframework.grpc.server.service.DefaultGrpcServiceDiscoverer;
 import org.springframework.grpc.server.service.GrpcServiceConfigurer;
 import org.springframework.grpc.server.service.GrpcServiceDiscoverer;
+import org.springframework.grpc.server.service.LazyGrpcServicePostProcessor;
+import org.springframework.grpc.server.service.ReactorServicePrefetch;
+import org.springframework.util.unit.DataSize;
 
 import io.grpc.BindableService;
 import io.grpc.CompressorRegistry;
 import io.grpc.DecompressorRegistry;
 import io.grpc.ServerBuilder;
+import reactor.util.concurrent.Queues;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for gRPC server-side components.
@@ -68,7 +76,10 @@ public class GrpcServerAutoConfiguration {
 	@ConditionalOnMissingBean
 	@Bean
 	GrpcServerLifecycle grpcServerLifecycle(GrpcServerFactory factory, ApplicationEventPublisher eventPublisher) {
-		return new GrpcServerLifecycle(factory, this.properties.getShutdownGracePeriod(), eventPublisher);
+		GrpcServerLifecycle lifecycle = new GrpcServerLifecycle(factory, this.properties.getShutdownGracePeriod(),
+				eventPublisher);
+		lifecycle.setShutdownDelay(this.properties.getShutdownDelay());
+		return lifecycle;
 	}
 
 	@ConditionalOnMissingBean
@@ -79,8 +90,15 @@ public class GrpcServerAutoConfiguration {
 
 	@ConditionalOnMissingBean(GrpcServiceConfigurer.class)
 	@Bean
-	DefaultGrpcServiceConfigurer grpcServiceConfigurer(ApplicationContext applicationContext) {
-		return new DefaultGrpcServiceConfigurer(applicationContext);
+	DefaultGrpcServiceConfigurer grpcServiceConfigurer(ApplicationContext applicationContext,
+			ObjectProvider<ReactorServicePrefetch> reactorPrefetch) {
+		DefaultGrpcServiceConfigurer configurer = new DefaultGrpcServiceConfigurer(applicationContext);
+		GrpcServerProperties.ZeroCopy zeroCopy = this.properties.getZeroCopy();
+		if (zeroCopy.isEnabled()) {
+			configurer.setZeroCopyMinMessageSize((int) zeroCopy.getMinMessageSize().toBytes());
+		}
+		reactorPrefetch.ifAvailable(configurer::setReactorPrefetch);
+		return configurer;
 	}
 
 	@ConditionalOnMissingBean(GrpcServiceDiscoverer.class)
@@ -90,6 +108,31 @@ public class GrpcServerAutoConfiguration {
 		return new DefaultGrpcServiceDiscoverer(grpcServiceConfigurer, applicationContext);
 	}
 
+	@Bean
+	static LazyGrpcServicePostProcessor lazyGrpcServicePostProcessor() {
+		return new LazyGrpcServicePostProcessor();
+	}
+
+	@ConditionalOnClass(name = "io.grpc.inprocess.InProcessServerBuilder")
+	@ConditionalOnProperty(prefix = "spring.grpc.server.local", name = "enabled", havingValue = "true")
+	@ConditionalOnMissingBean
+	@Bean
+	LocalGrpcServer localGrpcServer(GrpcServiceDiscoverer grpcServiceDiscoverer,
+			ObjectProvider<GrpcServerLifecycle> lifecycle) {
+		LocalGrpcServer server = new LocalGrpcServer(grpcServiceDiscoverer::findServices,
+				this.properties.getShutdownGracePeriod());
+		server.setDirectMarshalling(this.properties.getLocal().isDirectMarshalling());
+		// Without a lifecycle the services are served by a web server on another port
+		server.setPort(() -> {
+			GrpcServerLifecycle serverLifecycle = lifecycle.getIfAvailable();
+			if (serverLifecycle == null) {
+				return -1;
+			}
+			return serverLifecycle.isRunning() ? serverLifecycle.getPort() : this.properties.getPort();
+		});
+		return server;
+	}
+
 	@ConditionalOnBean(CompressorRegistry.class)
 	@Bean
 	<T extends ServerBuilder<T>> ServerBuilderCustomizer<T> compressionServerConfigurer(CompressorRegistry registry) {
@@ -103,11 +146,54 @@ public class GrpcServerAutoConfiguration {
 		return builder -> builder.decompressorRegistry(registry);
 	}
 
-	@ConditionalOnClass(name = "com.salesforce.reactivegrpc.common.Function")
+	@ConditionalOnProperty(prefix = "spring.grpc.server.compression", name = "enabled", havingValue = "true")
+	@ConditionalOnMissingBean
+	@GlobalServerInterceptor
+	@Bean
+	CompressionServerInterceptor compressionServerInterceptor() {
+		GrpcServerProperties.Compression compression = this.properties.getCompression();
+		CompressionRules rules = new CompressionRules(compression.getEncoding(),
+				compression.getMinMessageSize().toBytes());
+		for (GrpcServerProperties.Compression.Rule rule : compression.getRules()) {
+			String encoding = (rule.getEncoding() != null) ? rule.getEncoding() : compression.getEncoding();
+			DataSize minMessageSize = (rule.getMinMessageSize() != null) ? rule.getMinMessageSize()
+					: compression.getMinMessageSize();
+			rules.methods(rule.getMethods(), encoding, minMessageSize.toBytes());
+		}
+		return new CompressionServerInterceptor(rules);
+	}
+
+	@ConditionalOnClass(name = "com.salesforce.reactorgrpc.stub.ReactorCallOptions")
 	@Configuration
-	@Import(ReactiveStubBeanDefinitionRegistrar.class)
 	static class ReactiveStubConfiguration {
 
+		@ConditionalOnMissingBean
+		@Bean
+		ReactorServicePrefetch reactorServicePrefetch(GrpcServerProperties properties) {
+			GrpcServerProperties.Reactor reactor = properties.getReactor();
+			ReactorServicePrefetch prefetch = new ReactorServicePrefetch();
+			if (reactor.getPrefetch() != null || reactor.getLowTide() != null) {
+				int defaultPrefetch = prefetch(reactor.getPrefetch());
+				prefetch.setPrefetch(defaultPrefetch, lowTide(defaultPrefetch, reactor.getLowTide()));
+			}
+			reactor.getServices().forEach((service, config) -> {
+				int servicePrefetch = prefetch(
+						(config.getPrefetch() != null) ? config.getPrefetch() : reactor.getPrefetch());
+				Integer lowTide = (config.getLowTide() != null) ? config.getLowTide() : reactor.getLowTide();
+				prefetch.setPrefetch(service, servicePrefetch, lowTide(servicePrefetch, lowTide));
+			});
+			return prefetch;
+		}
+
+		private static int prefetch(Integer prefetch) {
+			return (prefetch != null) ? prefetch : Queues.SMALL_BUFFER_SIZE;
+		}
+
+		private static int lowTide(int prefetch, Integer lowTide) {
+			// Same as Reactor's limitRate()
+			return (lowTide != null) ? lowTide : prefetch - (prefetch >> 2);
+		}
+
 	}
 
 }
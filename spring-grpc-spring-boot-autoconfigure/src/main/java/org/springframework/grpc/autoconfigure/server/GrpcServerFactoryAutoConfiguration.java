@@ -18,8 +18,11 @@ package org.springframework.grpc.autoconfigure.server;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.apache.catalina.startup.Tomcat;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -31,19 +34,38 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClas
 import org.springframework.boot.autoconfigure.condition.ConditionalOnNotWebApplication;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.NoneNestedConditions;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.NettyRouteProvider;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.Http2;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.grpc.autoconfigure.server.GrpcServerProperties.Servlet.Executor;
+import org.springframework.grpc.server.reactive.ReactorNettyGrpcHandler;
 import org.springframework.grpc.server.service.GrpcServiceDiscoverer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.unit.DataSize;
 
 import io.grpc.BindableService;
+import io.grpc.CompressorRegistry;
+import io.grpc.DecompressorRegistry;
 import io.grpc.servlet.jakarta.GrpcServlet;
 import io.grpc.servlet.jakarta.ServletServerBuilder;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import reactor.netty.http.server.HttpServer;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for gRPC server-side components.
@@ -72,6 +94,27 @@ public class GrpcServerFactoryAutoConfiguration {
 
 		}
 
+		@Bean
+		SslHandshakeStatistics grpcServerSslHandshakeStatistics() {
+			return new SslHandshakeStatistics();
+		}
+
+		@Bean
+		SessionTicketKeys grpcServerSessionTicketKeys() {
+			return new SessionTicketKeys();
+		}
+
+		@Configuration(proxyBeanMethods = false)
+		@ConditionalOnClass(MeterBinder.class)
+		static class SslHandshakeMetricsConfiguration {
+
+			@Bean
+			SslHandshakeMetrics grpcServerSslHandshakeMetrics(SslHandshakeStatistics statistics) {
+				return new SslHandshakeMetrics(statistics);
+			}
+
+		}
+
 	}
 
 	@Configuration(proxyBeanMethods = false)
@@ -82,7 +125,9 @@ public class GrpcServerFactoryAutoConfiguration {
 
 		@Bean
 		public ServletRegistrationBean<GrpcServlet> grpcServlet(GrpcServerProperties properties,
-				GrpcServiceDiscoverer discoverer, ServerBuilderCustomizers serverBuilderCustomizers) {
+				GrpcServiceDiscoverer discoverer, ServerBuilderCustomizers serverBuilderCustomizers,
+				Environment environment) {
+			assertNoListeners(properties, "servlet");
 			List<String> paths = discoverer.listServiceNames()
 				.stream()
 				.map(service -> "/" + service + "/*")
@@ -96,6 +141,10 @@ public class GrpcServerFactoryAutoConfiguration {
 			mapper.from(properties.getMaxInboundMessageSize())
 				.asInt(DataSize::toBytes)
 				.to(servletServerBuilder::maxInboundMessageSize);
+			mapper.from(properties.getMaxInboundMetadataSize())
+				.asInt(DataSize::toBytes)
+				.to(servletServerBuilder::maxInboundMetadataSize);
+			configureExecutor(servletServerBuilder, properties.getServlet().getExecutor(), environment);
 			serverBuilderCustomizers.customize(servletServerBuilder);
 			ServletRegistrationBean<GrpcServlet> servlet = new ServletRegistrationBean<>(
 					servletServerBuilder.buildServlet());
@@ -103,6 +152,147 @@ public class GrpcServerFactoryAutoConfiguration {
 			return servlet;
 		}
 
+		@Bean
+		@ConditionalOnProperty(prefix = "spring.grpc.server", name = "grpc-web.enabled", havingValue = "true")
+		public FilterRegistrationBean<GrpcWebFilter> grpcWebFilter(GrpcServerProperties properties,
+				GrpcServiceDiscoverer discoverer) {
+			GrpcServerProperties.GrpcWeb grpcWeb = properties.getGrpcWeb();
+			FilterRegistrationBean<GrpcWebFilter> filter = new FilterRegistrationBean<>(
+					new GrpcWebFilter(grpcWeb.getAllowedOrigins(), grpcWeb.getMaxAge()));
+			filter.setUrlPatterns(discoverer.listServiceNames().stream().map(service -> "/" + service + "/*").toList());
+			filter.setAsyncSupported(true);
+			// Ahead of Spring Security, so that it sees gRPC requests and pre-flight
+			// requests are answered without authentication
+			filter.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+			return filter;
+		}
+
+		private void configureExecutor(ServletServerBuilder builder, @Nullable Executor executor,
+				Environment environment) {
+			if (executor == null) {
+				executor = Threading.VIRTUAL.isActive(environment) ? Executor.VIRTUAL : Executor.DEFAULT;
+			}
+			switch (executor) {
+				case DIRECT -> builder.directExecutor();
+				case VIRTUAL -> builder.executor(new VirtualThreadTaskExecutor("grpc-"));
+				case DEFAULT -> {
+				}
+			}
+		}
+
+		@Configuration(proxyBeanMethods = false)
+		@ConditionalOnClass({ Tomcat.class, Http2Protocol.class })
+		static class GrpcTomcatConfiguration {
+
+			@Bean
+			WebServerFactoryCustomizer<TomcatServletWebServerFactory> grpcTomcatWebServerFactoryCustomizer(
+					GrpcServerProperties properties) {
+				return (factory) -> factory.addConnectorCustomizers(new GrpcTomcatConnectorCustomizer(properties));
+			}
+
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Conditional(OnReactiveGrpcCondition.class)
+	public static class GrpcReactiveConfiguration {
+
+		private static Log logger = LogFactory.getLog(GrpcReactiveConfiguration.class);
+
+		@Bean
+		public ReactorNettyGrpcHandler grpcReactorNettyHandler(GrpcServerProperties properties,
+				GrpcServiceDiscoverer discoverer, ObjectProvider<CompressorRegistry> compressorRegistry,
+				ObjectProvider<DecompressorRegistry> decompressorRegistry, Environment environment) {
+			assertNoListeners(properties, "reactive");
+			if (logger.isInfoEnabled()) {
+				discoverer.listServiceNames().forEach(service -> logger.info("Registering gRPC service: " + service));
+			}
+			ReactorNettyGrpcHandler handler = new ReactorNettyGrpcHandler(discoverer.findServices());
+			PropertyMapper mapper = PropertyMapper.get().alwaysApplyingWhenNonNull();
+			mapper.from(properties.getMaxInboundMessageSize())
+				.asInt(DataSize::toBytes)
+				.to(handler::setMaxInboundMessageSize);
+			handler.setGrpcWebEnabled(properties.getGrpcWeb().isEnabled());
+			handler.setAllowedOrigins(properties.getGrpcWeb().getAllowedOrigins());
+			handler.setMaxAge(properties.getGrpcWeb().getMaxAge());
+			handler.setTrailers(properties.getReactive().getTrailers());
+			compressorRegistry.ifAvailable(handler::setCompressorRegistry);
+			decompressorRegistry.ifAvailable(handler::setDecompressorRegistry);
+			GrpcServerProperties.Reactive.Executor executor = properties.getReactive().getExecutor();
+			if (executor == null) {
+				executor = Threading.VIRTUAL.isActive(environment) ? GrpcServerProperties.Reactive.Executor.VIRTUAL
+						: GrpcServerProperties.Reactive.Executor.POOL;
+			}
+			switch (executor) {
+				case VIRTUAL -> handler.setExecutor(new VirtualThreadTaskExecutor("grpc-"));
+				case DIRECT -> handler.directExecutor();
+				case POOL -> {
+					// The handler's own cached thread pool
+				}
+			}
+			return handler;
+		}
+
+		@Bean
+		public NettyRouteProvider grpcNettyRouteProvider(ReactorNettyGrpcHandler handler) {
+			return handler::addRoutes;
+		}
+
+		@Bean
+		WebServerFactoryCustomizer<NettyReactiveWebServerFactory> grpcNettyWebServerFactoryCustomizer() {
+			// gRPC needs HTTP/2, so enable it even if 'server.http2.enabled' is not set
+			return (factory) -> {
+				Http2 http2 = (factory.getHttp2() != null) ? factory.getHttp2() : new Http2();
+				http2.setEnabled(true);
+				factory.setHttp2(http2);
+			};
+		}
+
+	}
+
+	private static void assertNoListeners(GrpcServerProperties properties, String transport) {
+		// The listeners are extra native servers, which the embedded web server cannot
+		// provide, so fail rather than ignore them
+		Assert.state(properties.getListeners().isEmpty(),
+				() -> "The spring.grpc.server.listeners need the native gRPC server and are not supported by the "
+						+ transport + " transport");
+	}
+
+	public static class OnReactiveGrpcCondition extends AllNestedConditions {
+
+		OnReactiveGrpcCondition() {
+			super(ConfigurationPhase.PARSE_CONFIGURATION);
+		}
+
+		@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+		static class OnReactiveWebApplication {
+
+		}
+
+		@ConditionalOnClass({ ReactorNettyGrpcHandler.class, HttpServer.class })
+		static class OnReactorNettyClass {
+
+		}
+
+		@ConditionalOnProperty(prefix = "spring.grpc.server", name = "reactive.enabled", havingValue = "true")
+		static class OnExplicitlyEnabled {
+
+		}
+
+	}
+
+	public static class OnNoReactiveGrpcCondition extends NoneNestedConditions {
+
+		OnNoReactiveGrpcCondition() {
+			super(ConfigurationPhase.PARSE_CONFIGURATION);
+		}
+
+		@Conditional(OnReactiveGrpcCondition.class)
+		static class OnReactiveGrpc {
+
+		}
+
 	}
 
 	public static class OnGrpcServletCondition extends AllNestedConditions {
@@ -141,6 +331,7 @@ public class GrpcServerFactoryAutoConfiguration {
 		}
 
 		@ConditionalOnMissingClass("io.grpc.servlet.jakarta.GrpcServlet")
+		@Conditional(OnNoReactiveGrpcCondition.class)
 		static class OnGrpcServletClass {
 
 		}
@@ -154,6 +345,8 @@ public class GrpcServerFactoryAutoConfiguration {
 		}
 
 		@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+		@ConditionalOnProperty(prefix = "spring.grpc.server", name = "reactive.enabled", havingValue = "false",
+				matchIfMissing = true)
 		static class OnExplicitlyDisabledWebflux {
 
 		}
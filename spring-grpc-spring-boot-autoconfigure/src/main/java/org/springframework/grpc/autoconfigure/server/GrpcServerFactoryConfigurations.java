@@ -17,6 +17,7 @@
 package org.springframework.grpc.autoconfigure.server;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.TrustManagerFactory;
@@ -26,6 +27,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.ssl.SslBundle;
 import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.grpc.server.GrpcServerFactory;
@@ -33,7 +35,10 @@ import org.springframework.grpc.server.NettyGrpcServerFactory;
 import org.springframework.grpc.server.ServerBuilderCustomizer;
 import org.springframework.grpc.server.ShadedNettyGrpcServerFactory;
 import org.springframework.grpc.server.service.GrpcServiceDiscoverer;
+import org.springframework.lang.Nullable;
 
+import io.grpc.ServerBuilder;
+import io.grpc.ServerServiceDefinition;
 import io.grpc.netty.NettyServerBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 
@@ -53,21 +58,46 @@ class GrpcServerFactoryConfigurations {
 		@Bean
 		ShadedNettyGrpcServerFactory shadedNettyGrpcServerFactory(GrpcServerProperties properties,
 				GrpcServiceDiscoverer grpcServicesDiscoverer, ServerBuilderCustomizers serverBuilderCustomizers,
-				SslBundles bundles) {
+				SslBundles bundles, SslHandshakeStatistics statistics, SessionTicketKeys ticketKeys) {
+			ShadedNettyGrpcServerFactory factory = serverFactory(SslHandshakeStatistics.DEFAULT_SERVER,
+					properties.getAddress(), properties.getSsl(), properties, serverBuilderCustomizers, bundles,
+					statistics, ticketKeys, null);
+			findServices(grpcServicesDiscoverer, properties.getServices()).forEach(factory::addService);
+			return factory;
+		}
+
+		@Bean
+		GrpcServerListeners grpcServerListeners(GrpcServerProperties properties,
+				GrpcServiceDiscoverer grpcServicesDiscoverer, ServerBuilderCustomizers serverBuilderCustomizers,
+				SslBundles bundles, SslHandshakeStatistics statistics, SessionTicketKeys ticketKeys,
+				ApplicationEventPublisher eventPublisher) {
+			return new GrpcServerListeners(properties, grpcServicesDiscoverer, eventPublisher,
+					(name, listener, executor) -> serverFactory(name, listener.getAddress(), listener.getSsl(),
+							properties, serverBuilderCustomizers, bundles, statistics, ticketKeys, executor));
+		}
+
+		private static ShadedNettyGrpcServerFactory serverFactory(String name, String address,
+				GrpcServerProperties.Ssl ssl, GrpcServerProperties properties,
+				ServerBuilderCustomizers serverBuilderCustomizers, SslBundles bundles,
+				SslHandshakeStatistics statistics, SessionTicketKeys ticketKeys, @Nullable Executor executor) {
 			ShadedNettyServerFactoryPropertyMapper mapper = new ShadedNettyServerFactoryPropertyMapper(properties);
 			List<ServerBuilderCustomizer<io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder>> builderCustomizers = List
-				.of(mapper::customizeServerBuilder, serverBuilderCustomizers::customize);
+				.of(mapper::customizeServerBuilder, serverBuilderCustomizers::customize, executor(executor));
 			KeyManagerFactory keyManager = null;
 			TrustManagerFactory trustManager = null;
-			if (properties.getSsl().isEnabled()) {
-				SslBundle bundle = bundles.getBundle(properties.getSsl().getBundle());
+			if (ssl.isEnabled()) {
+				SslBundle bundle = bundles.getBundle(ssl.getBundle());
 				keyManager = bundle.getManagers().getKeyManagerFactory();
-				trustManager = properties.getSsl().isSecure() ? bundle.getManagers().getTrustManagerFactory()
+				trustManager = ssl.isSecure() ? bundle.getManagers().getTrustManagerFactory()
 						: io.grpc.netty.shaded.io.netty.handler.ssl.util.InsecureTrustManagerFactory.INSTANCE;
 			}
-			ShadedNettyGrpcServerFactory factory = new ShadedNettyGrpcServerFactory(properties.getAddress(),
-					builderCustomizers, keyManager, trustManager, properties.getSsl().getClientAuth());
-			grpcServicesDiscoverer.findServices().forEach(factory::addService);
+			ShadedNettyGrpcServerFactory factory = new ShadedNettyGrpcServerFactory(address, builderCustomizers,
+					keyManager, trustManager, ssl.getClientAuth());
+			if (ssl.isEnabled() && ssl.requiresSslContext()) {
+				factory.setCredentials(
+						ShadedNettySslServerCredentials.create(name, ssl, keyManager, trustManager, statistics,
+								ticketKeys));
+			}
 			return factory;
 		}
 
@@ -82,24 +112,65 @@ class GrpcServerFactoryConfigurations {
 		@Bean
 		NettyGrpcServerFactory nettyGrpcServerFactory(GrpcServerProperties properties,
 				GrpcServiceDiscoverer grpcServicesDiscoverer, ServerBuilderCustomizers serverBuilderCustomizers,
-				SslBundles bundles) {
+				SslBundles bundles, SslHandshakeStatistics statistics, SessionTicketKeys ticketKeys) {
+			NettyGrpcServerFactory factory = serverFactory(SslHandshakeStatistics.DEFAULT_SERVER,
+					properties.getAddress(), properties.getSsl(), properties, serverBuilderCustomizers, bundles,
+					statistics, ticketKeys, null);
+			findServices(grpcServicesDiscoverer, properties.getServices()).forEach(factory::addService);
+			return factory;
+		}
+
+		@Bean
+		GrpcServerListeners grpcServerListeners(GrpcServerProperties properties,
+				GrpcServiceDiscoverer grpcServicesDiscoverer, ServerBuilderCustomizers serverBuilderCustomizers,
+				SslBundles bundles, SslHandshakeStatistics statistics, SessionTicketKeys ticketKeys,
+				ApplicationEventPublisher eventPublisher) {
+			return new GrpcServerListeners(properties, grpcServicesDiscoverer, eventPublisher,
+					(name, listener, executor) -> serverFactory(name, listener.getAddress(), listener.getSsl(),
+							properties, serverBuilderCustomizers, bundles, statistics, ticketKeys, executor));
+		}
+
+		private static NettyGrpcServerFactory serverFactory(String name, String address,
+				GrpcServerProperties.Ssl ssl, GrpcServerProperties properties,
+				ServerBuilderCustomizers serverBuilderCustomizers, SslBundles bundles,
+				SslHandshakeStatistics statistics, SessionTicketKeys ticketKeys, @Nullable Executor executor) {
 			NettyServerFactoryPropertyMapper mapper = new NettyServerFactoryPropertyMapper(properties);
 			List<ServerBuilderCustomizer<NettyServerBuilder>> builderCustomizers = List
-				.of(mapper::customizeServerBuilder, serverBuilderCustomizers::customize);
+				.of(mapper::customizeServerBuilder, serverBuilderCustomizers::customize, executor(executor));
 			KeyManagerFactory keyManager = null;
 			TrustManagerFactory trustManager = null;
-			if (properties.getSsl().isEnabled()) {
-				SslBundle bundle = bundles.getBundle(properties.getSsl().getBundle());
+			if (ssl.isEnabled()) {
+				SslBundle bundle = bundles.getBundle(ssl.getBundle());
 				keyManager = bundle.getManagers().getKeyManagerFactory();
-				trustManager = properties.getSsl().isSecure() ? bundle.getManagers().getTrustManagerFactory()
+				trustManager = ssl.isSecure() ? bundle.getManagers().getTrustManagerFactory()
 						: InsecureTrustManagerFactory.INSTANCE;
 			}
-			NettyGrpcServerFactory factory = new NettyGrpcServerFactory(properties.getAddress(), builderCustomizers,
-					keyManager, trustManager, properties.getSsl().getClientAuth());
-			grpcServicesDiscoverer.findServices().forEach(factory::addService);
+			NettyGrpcServerFactory factory = new NettyGrpcServerFactory(address, builderCustomizers, keyManager,
+					trustManager, ssl.getClientAuth());
+			if (ssl.isEnabled() && ssl.requiresSslContext()) {
+				factory.setCredentials(
+						NettySslServerCredentials.create(name, ssl, keyManager, trustManager, statistics, ticketKeys));
+			}
 			return factory;
 		}
 
 	}
 
+	static List<ServerServiceDefinition> findServices(GrpcServiceDiscoverer discoverer,
+			GrpcServerProperties.Services services) {
+		return discoverer.findServices()
+			.stream()
+			.filter((service) -> services.matches(service.getServiceDescriptor().getName()))
+			.toList();
+	}
+
+	// Applied last, so that the executor of a listener wins over any customizer
+	private static <T extends ServerBuilder<T>> ServerBuilderCustomizer<T> executor(@Nullable Executor executor) {
+		return (builder) -> {
+			if (executor != null) {
+				builder.executor(executor);
+			}
+		};
+	}
+
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.grpc.autoconfigure.server.GrpcServerProperties.Listener;
+import org.springframework.grpc.server.GrpcServerFactory;
+import org.springframework.grpc.server.lifecycle.GrpcServerLifecycle;
+import org.springframework.grpc.server.service.GrpcServiceDiscoverer;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Starts and stops a {@link GrpcServerLifecycle server} for each of the
+ * {@code spring.grpc.server.listeners}, alongside the main server. Each one listens on
+ * its own address, serves the services that match its include and exclude lists, and
+ * runs the calls on its own executor if it has a number of threads, so that the
+ * services it serves keep working when the main server is saturated.
+ *
+ * @author Dave Syer
+ */
+public class GrpcServerListeners implements SmartLifecycle, DisposableBean {
+
+	private final Map<String, GrpcServerLifecycle> servers = new LinkedHashMap<>();
+
+	private final List<ExecutorService> executors = new ArrayList<>();
+
+	private volatile boolean running;
+
+	GrpcServerListeners(GrpcServerProperties properties, GrpcServiceDiscoverer discoverer,
+			ApplicationEventPublisher eventPublisher, ListenerServerFactory serverFactory) {
+		properties.getListeners().forEach((name, listener) -> {
+			Assert.hasText(listener.getAddress(), () -> "Listener '" + name + "' must have an address");
+			ExecutorService executor = null;
+			if (listener.getThreads() != null) {
+				executor = Executors.newFixedThreadPool(listener.getThreads(),
+						new CustomizableThreadFactory("grpc-" + name + "-"));
+				this.executors.add(executor);
+			}
+			GrpcServerFactory factory = serverFactory.create(name, listener, executor);
+			discoverer.findServices()
+				.stream()
+				.filter((service) -> listener.getServices().matches(service.getServiceDescriptor().getName()))
+				.forEach(factory::addService);
+			GrpcServerLifecycle server = new GrpcServerLifecycle(factory, properties.getShutdownGracePeriod(),
+					eventPublisher);
+			server.setShutdownDelay(properties.getShutdownDelay());
+			server.setName(name);
+			this.servers.put(name, server);
+		});
+	}
+
+	/**
+	 * The port of the named listener once it is running.
+	 * @param name the name of the listener
+	 * @return the port, or 0 if the listener is not running
+	 */
+	public int getPort(String name) {
+		GrpcServerLifecycle server = this.servers.get(name);
+		return (server != null) ? server.getPort() : 0;
+	}
+
+	@Override
+	public void start() {
+		this.servers.values().forEach(GrpcServerLifecycle::start);
+		this.running = true;
+	}
+
+	@Override
+	public void stop() {
+		CountDownLatch latch = new CountDownLatch(1);
+		stop(latch::countDown);
+		try {
+			latch.await();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void stop(Runnable callback) {
+		// Each server stops in the background, at the same time as each other and as the
+		// main server, so that the shutdown delays and grace periods do not add up
+		AtomicInteger remaining = new AtomicInteger(this.servers.size() + 1);
+		Runnable countDown = () -> {
+			if (remaining.decrementAndGet() == 0) {
+				this.running = false;
+				callback.run();
+			}
+		};
+		this.servers.values().forEach((server) -> server.stop(countDown));
+		countDown.run();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public int getPhase() {
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public void destroy() {
+		this.executors.forEach(ExecutorService::shutdownNow);
+	}
+
+	/**
+	 * Creates the server factory of a listener, for the same transport as the main
+	 * server.
+	 */
+	@FunctionalInterface
+	interface ListenerServerFactory {
+
+		/**
+		 * Create a server factory for the listener.
+		 * @param name the name of the listener
+		 * @param listener the listener properties
+		 * @param executor the executor for the calls, or null for the default
+		 * @return the server factory
+		 */
+		GrpcServerFactory create(String name, Listener listener, @Nullable ExecutorService executor);
+
+	}
+
+}
@@ -18,15 +18,19 @@ package org.springframework.grpc.autoconfigure.server;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.convert.DataSizeUnit;
 import org.springframework.boot.convert.DurationUnit;
 import org.springframework.grpc.internal.GrpcUtils;
+import org.springframework.util.PatternMatchUtils;
 import org.springframework.util.unit.DataSize;
 import org.springframework.util.unit.DataUnit;
 
+import io.grpc.Status;
 import io.grpc.TlsServerCredentials.ClientAuth;
 
 @ConfigurationProperties(prefix = "spring.grpc.server")
@@ -56,6 +60,14 @@ public class GrpcServerProperties {
 	@DurationUnit(ChronoUnit.SECONDS)
 	private Duration shutdownGracePeriod = Duration.ofSeconds(30);
 
+	/**
+	 * Time to wait, after the services are marked as not serving in the health service,
+	 * before the server stops accepting calls. Gives clients and load balancers time to
+	 * stop routing calls to the server. The default is 0.
+	 */
+	@DurationUnit(ChronoUnit.SECONDS)
+	private Duration shutdownDelay = Duration.ZERO;
+
 	/**
 	 * Maximum message size allowed to be received by the server (default 4MiB).
 	 */
@@ -72,6 +84,39 @@ public class GrpcServerProperties {
 
 	private final KeepAlive keepAlive = new KeepAlive();
 
+	private final Netty netty = new Netty();
+
+	private final Servlet servlet = new Servlet();
+
+	private final Reactive reactive = new Reactive();
+
+	private final GrpcWeb grpcWeb = new GrpcWeb();
+
+	private final Reactor reactor = new Reactor();
+
+	private final Limiter limiter = new Limiter();
+
+	private final RateLimit rateLimit = new RateLimit();
+
+	private final Orca orca = new Orca();
+
+	private final Cache cache = new Cache();
+
+	private final Compression compression = new Compression();
+
+	private final ZeroCopy zeroCopy = new ZeroCopy();
+
+	private final Local local = new Local();
+
+	private final Services services = new Services();
+
+	/**
+	 * Additional servers, each listening on its own address with its own executor, and
+	 * serving a subset of the services (e.g. an internal port for health and admin
+	 * services), keyed by name.
+	 */
+	private final Map<String, Listener> listeners = new LinkedHashMap<>();
+
 	/**
 	 * The address to bind to. could be a host:port combination or a pseudo URL like
 	 * static://host:port. Can not be set if host or port are set independently.
@@ -119,6 +164,14 @@ public class GrpcServerProperties {
 		this.shutdownGracePeriod = shutdownGracePeriod;
 	}
 
+	public Duration getShutdownDelay() {
+		return this.shutdownDelay;
+	}
+
+	public void setShutdownDelay(Duration shutdownDelay) {
+		this.shutdownDelay = shutdownDelay;
+	}
+
 	public DataSize getMaxInboundMessageSize() {
 		return this.maxInboundMessageSize;
 	}
@@ -143,6 +196,62 @@ public class GrpcServerProperties {
 		return this.keepAlive;
 	}
 
+	public Netty getNetty() {
+		return this.netty;
+	}
+
+	public Servlet getServlet() {
+		return this.servlet;
+	}
+
+	public Reactive getReactive() {
+		return this.reactive;
+	}
+
+	public GrpcWeb getGrpcWeb() {
+		return this.grpcWeb;
+	}
+
+	public Reactor getReactor() {
+		return this.reactor;
+	}
+
+	public Limiter getLimiter() {
+		return this.limiter;
+	}
+
+	public RateLimit getRateLimit() {
+		return this.rateLimit;
+	}
+
+	public Orca getOrca() {
+		return this.orca;
+	}
+
+	public Cache getCache() {
+		return this.cache;
+	}
+
+	public Compression getCompression() {
+		return this.compression;
+	}
+
+	public ZeroCopy getZeroCopy() {
+		return this.zeroCopy;
+	}
+
+	public Local getLocal() {
+		return this.local;
+	}
+
+	public Services getServices() {
+		return this.services;
+	}
+
+	public Map<String, Listener> getListeners() {
+		return this.listeners;
+	}
+
 	public static class Health {
 
 		/**
@@ -342,76 +451,1171 @@ public class GrpcServerProperties {
 
 	}
 
-	private final Ssl ssl = new Ssl();
+	public static class Netty {
+
+		/**
+		 * Initial HTTP/2 flow control window size for each stream and the connection
+		 * (default 1MiB).
+		 */
+		@DataSizeUnit(DataUnit.BYTES)
+		private DataSize initialFlowControlWindow = null;
+
+		/**
+		 * Whether to automatically grow the flow control window based on the measured
+		 * bandwidth-delay product. When false, the window stays fixed at the initial size
+		 * (default true).
+		 */
+		private boolean autoFlowControl = true;
+
+		/**
+		 * Maximum number of concurrent calls permitted for each incoming connection
+		 * (default unlimited).
+		 */
+		private Integer maxConcurrentCallsPerConnection = null;
+
+		/**
+		 * Maximum time for the TLS and HTTP/2 handshake of a new connection to complete
+		 * (default 120s).
+		 */
+		@DurationUnit(ChronoUnit.SECONDS)
+		private Duration handshakeTimeout = null;
+
+		public DataSize getInitialFlowControlWindow() {
+			return this.initialFlowControlWindow;
+		}
+
+		public void setInitialFlowControlWindow(DataSize initialFlowControlWindow) {
+			this.initialFlowControlWindow = initialFlowControlWindow;
+		}
+
+		public boolean isAutoFlowControl() {
+			return this.autoFlowControl;
+		}
+
+		public void setAutoFlowControl(boolean autoFlowControl) {
+			this.autoFlowControl = autoFlowControl;
+		}
+
+		public Integer getMaxConcurrentCallsPerConnection() {
+			return this.maxConcurrentCallsPerConnection;
+		}
+
+		public void setMaxConcurrentCallsPerConnection(Integer maxConcurrentCallsPerConnection) {
+			this.maxConcurrentCallsPerConnection = maxConcurrentCallsPerConnection;
+		}
+
+		public Duration getHandshakeTimeout() {
+			return this.handshakeTimeout;
+		}
+
+		public void setHandshakeTimeout(Duration handshakeTimeout) {
+			this.handshakeTimeout = handshakeTimeout;
+		}
 
-	public Ssl getSsl() {
-		return this.ssl;
 	}
 
-	public static class Ssl {
+	public static class Servlet {
 
 		/**
-		 * Whether to enable SSL support. Enabled automatically if "bundle" is provided
-		 * unless specified otherwise.
+		 * Executor used to run the gRPC calls of the servlet. Defaults to virtual threads
+		 * when 'spring.threads.virtual.enabled' is set, otherwise to the gRPC default
+		 * cached thread pool.
 		 */
-		private Boolean enabled;
+		private Executor executor = null;
+
+		private final Http2 http2 = new Http2();
+
+		public Executor getExecutor() {
+			return this.executor;
+		}
+
+		public void setExecutor(Executor executor) {
+			this.executor = executor;
+		}
+
+		public Http2 getHttp2() {
+			return this.http2;
+		}
+
+		public enum Executor {
+
+			/**
+			 * The gRPC default cached thread pool.
+			 */
+			DEFAULT,
+
+			/**
+			 * Run the calls on the container threads. Only suitable for services that
+			 * never block, or when the container itself runs on virtual threads.
+			 */
+			DIRECT,
+
+			/**
+			 * A new virtual thread for each task (requires Java 21).
+			 */
+			VIRTUAL
+
+		}
 
 		/**
-		 * Client authentication mode.
+		 * HTTP/2 settings of the embedded Tomcat connector.
 		 */
-		private ClientAuth clientAuth = ClientAuth.NONE;
+		public static class Http2 {
+
+			/**
+			 * Maximum number of concurrent streams for each connection (Tomcat default
+			 * 100).
+			 */
+			private Long maxConcurrentStreams = null;
+
+			/**
+			 * Maximum number of streams of each connection that are processed at the same
+			 * time (Tomcat default 20).
+			 */
+			private Integer maxConcurrentStreamExecution = null;
+
+			/**
+			 * Initial HTTP/2 flow control window size for each stream (Tomcat default
+			 * 64KiB).
+			 */
+			@DataSizeUnit(DataUnit.BYTES)
+			private DataSize initialWindowSize = null;
+
+			/**
+			 * Whether Tomcat closes connections that send many small frames. gRPC streams
+			 * routinely send small DATA and WINDOW_UPDATE frames, so this can disconnect
+			 * well-behaved clients.
+			 */
+			private boolean overheadProtection = true;
+
+			public Long getMaxConcurrentStreams() {
+				return this.maxConcurrentStreams;
+			}
+
+			public void setMaxConcurrentStreams(Long maxConcurrentStreams) {
+				this.maxConcurrentStreams = maxConcurrentStreams;
+			}
+
+			public Integer getMaxConcurrentStreamExecution() {
+				return this.maxConcurrentStreamExecution;
+			}
+
+			public void setMaxConcurrentStreamExecution(Integer maxConcurrentStreamExecution) {
+				this.maxConcurrentStreamExecution = maxConcurrentStreamExecution;
+			}
+
+			public DataSize getInitialWindowSize() {
+				return this.initialWindowSize;
+			}
+
+			public void setInitialWindowSize(DataSize initialWindowSize) {
+				this.initialWindowSize = initialWindowSize;
+			}
+
+			public boolean isOverheadProtection() {
+				return this.overheadProtection;
+			}
+
+			public void setOverheadProtection(boolean overheadProtection) {
+				this.overheadProtection = overheadProtection;
+			}
+
+		}
+
+	}
+
+	public static class Reactive {
 
 		/**
-		 * SSL bundle name. Should match a bundle configured in spring.ssl.bundle.
+		 * Whether to serve gRPC on the Reactor Netty server of a WebFlux application
+		 * instead of starting a separate native gRPC server.
 		 */
-		private String bundle;
+		private boolean enabled = false;
 
 		/**
-		 * Flag to indicate that client authentication is secure (i.e. certificates are
-		 * checked). Do not set this to false in production.
+		 * Executor used to run the gRPC calls. Defaults to virtual threads when
+		 * 'spring.threads.virtual.enabled' is set, otherwise to a cached thread pool like
+		 * the one of the native gRPC server.
 		 */
-		private boolean secure = true;
+		private Executor executor = null;
+
+		/**
+		 * Names of the trailers that services may send after response messages,
+		 * besides the status and the trailers of built-in features. Other trailers of
+		 * such calls are dropped, since HTTP trailers have to be declared up front.
+		 */
+		private List<String> trailers = new ArrayList<>();
 
 		public boolean isEnabled() {
-			return (this.enabled != null) ? this.enabled : this.bundle != null;
+			return this.enabled;
 		}
 
-		public void copyDefaultsFrom(Ssl config) {
-			if (this.enabled == null) {
-				this.enabled = config.enabled;
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Executor getExecutor() {
+			return this.executor;
+		}
+
+		public void setExecutor(Executor executor) {
+			this.executor = executor;
+		}
+
+		public List<String> getTrailers() {
+			return this.trailers;
+		}
+
+		public void setTrailers(List<String> trailers) {
+			this.trailers = trailers;
+		}
+
+		public enum Executor {
+
+			/**
+			 * A cached thread pool, like the one of the native gRPC server.
+			 */
+			POOL,
+
+			/**
+			 * Run the calls on the event loop of the connection. Only suitable for
+			 * services that never block, since a blocked call stalls the web server.
+			 */
+			DIRECT,
+
+			/**
+			 * A new virtual thread for each task (requires Java 21).
+			 */
+			VIRTUAL
+
+		}
+
+	}
+
+	public static class Reactor {
+
+		/**
+		 * Number of messages that Reactor services request from a stream up front, for
+		 * services that have none configured. Large values buffer more messages in
+		 * memory, small values stall fast producers (default 256).
+		 */
+		private Integer prefetch = null;
+
+		/**
+		 * Number of messages consumed before Reactor services request more, at most the
+		 * prefetch (default 75% of the prefetch).
+		 */
+		private Integer lowTide = null;
+
+		/**
+		 * Backpressure of individual services, keyed by the full service name.
+		 */
+		private final Map<String, Service> services = new LinkedHashMap<>();
+
+		public Integer getPrefetch() {
+			return this.prefetch;
+		}
+
+		public void setPrefetch(Integer prefetch) {
+			this.prefetch = prefetch;
+		}
+
+		public Integer getLowTide() {
+			return this.lowTide;
+		}
+
+		public void setLowTide(Integer lowTide) {
+			this.lowTide = lowTide;
+		}
+
+		public Map<String, Service> getServices() {
+			return this.services;
+		}
+
+		public static class Service {
+
+			/**
+			 * Number of messages that the service requests from a stream up front.
+			 */
+			private Integer prefetch = null;
+
+			/**
+			 * Number of messages consumed before the service requests more.
+			 */
+			private Integer lowTide = null;
+
+			public Integer getPrefetch() {
+				return this.prefetch;
 			}
-			if (this.bundle == null) {
-				this.bundle = config.bundle;
+
+			public void setPrefetch(Integer prefetch) {
+				this.prefetch = prefetch;
+			}
+
+			public Integer getLowTide() {
+				return this.lowTide;
 			}
 
+			public void setLowTide(Integer lowTide) {
+				this.lowTide = lowTide;
+			}
+
+		}
+
+	}
+
+	public static class GrpcWeb {
+
+		/**
+		 * Whether the servlet and WebFlux transports also serve gRPC-Web requests from
+		 * browsers, without a translating proxy.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Origins that browsers may call the services from (e.g. 'https://example.com' or
+		 * '*'). The CORS pre-flight requests are answered by the gRPC transport when this
+		 * is set, otherwise CORS is left to the application.
+		 */
+		private List<String> allowedOrigins = new ArrayList<>();
+
+		/**
+		 * How long browsers may cache the response to a CORS pre-flight request.
+		 */
+		@DurationUnit(ChronoUnit.SECONDS)
+		private Duration maxAge = Duration.ofMinutes(30);
+
+		public boolean isEnabled() {
+			return this.enabled;
 		}
 
 		public void setEnabled(boolean enabled) {
 			this.enabled = enabled;
 		}
 
-		public String getBundle() {
-			return this.bundle;
+		public List<String> getAllowedOrigins() {
+			return this.allowedOrigins;
 		}
 
-		public void setBundle(String bundle) {
-			this.bundle = bundle;
+		public void setAllowedOrigins(List<String> allowedOrigins) {
+			this.allowedOrigins = allowedOrigins;
 		}
 
-		public void setClientAuth(ClientAuth clientAuth) {
-			this.clientAuth = clientAuth;
+		public Duration getMaxAge() {
+			return this.maxAge;
 		}
 
-		public ClientAuth getClientAuth() {
-			return this.clientAuth;
+		public void setMaxAge(Duration maxAge) {
+			this.maxAge = maxAge;
 		}
 
-		public void setSecure(boolean secure) {
-			this.secure = secure;
+	}
+
+	public static class Orca {
+
+		/**
+		 * Whether to publish ORCA backend metrics (CPU and memory utilization and the
+		 * call rate), so that clients using the weighted_round_robin load balancing
+		 * policy can weight the server by its actual load. Requires grpc-xds.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * How often the metrics are recomputed from the meter registry.
+		 */
+		private Duration updateInterval = Duration.ofSeconds(5);
+
+		/**
+		 * The shortest reporting period the ORCA service grants to clients that ask
+		 * for out of band load reports.
+		 */
+		private Duration minReportingInterval = Duration.ofSeconds(10);
+
+		/**
+		 * The name of the gauge that provides the CPU utilization, between 0 and 1.
+		 */
+		private String cpuMeter = "process.cpu.usage";
+
+		public boolean isEnabled() {
+			return this.enabled;
 		}
 
-		public boolean isSecure() {
-			return this.secure;
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getUpdateInterval() {
+			return this.updateInterval;
+		}
+
+		public void setUpdateInterval(Duration updateInterval) {
+			this.updateInterval = updateInterval;
+		}
+
+		public Duration getMinReportingInterval() {
+			return this.minReportingInterval;
+		}
+
+		public void setMinReportingInterval(Duration minReportingInterval) {
+			this.minReportingInterval = minReportingInterval;
+		}
+
+		public String getCpuMeter() {
+			return this.cpuMeter;
+		}
+
+		public void setCpuMeter(String cpuMeter) {
+			this.cpuMeter = cpuMeter;
+		}
+
+	}
+
+	public static class Limiter {
+
+		/**
+		 * Whether to limit the number of concurrent calls with an adaptive concurrency
+		 * limit. Calls that exceed the limit are rejected immediately.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Algorithm used to estimate the concurrency limit from observed latencies.
+		 */
+		private Algorithm algorithm = Algorithm.GRADIENT;
+
+		/**
+		 * Concurrency limit used before any latency has been observed.
+		 */
+		private int initialLimit = 20;
+
+		/**
+		 * Lower bound of the concurrency limit.
+		 */
+		private int minLimit = 10;
+
+		/**
+		 * Upper bound of the concurrency limit.
+		 */
+		private int maxLimit = 1000;
+
+		/**
+		 * Weight given to each new estimate of the limit, between 0 (ignore it) and 1
+		 * (replace the current limit).
+		 */
+		private double smoothing = 0.2;
+
+		/**
+		 * Ratio by which the short term latency may exceed the long term latency before
+		 * the gradient algorithm reduces the limit.
+		 */
+		private double rttTolerance = 1.5;
+
+		/**
+		 * Status code used to reject calls that exceed the limit.
+		 */
+		private Status.Code rejectStatus = Status.Code.UNAVAILABLE;
+
+		/**
+		 * Whether each method gets its own limit instead of sharing one limit for the
+		 * whole server.
+		 */
+		private boolean perMethod = false;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Algorithm getAlgorithm() {
+			return this.algorithm;
+		}
+
+		public void setAlgorithm(Algorithm algorithm) {
+			this.algorithm = algorithm;
+		}
+
+		public int getInitialLimit() {
+			return this.initialLimit;
+		}
+
+		public void setInitialLimit(int initialLimit) {
+			this.initialLimit = initialLimit;
+		}
+
+		public int getMinLimit() {
+			return this.minLimit;
+		}
+
+		public void setMinLimit(int minLimit) {
+			this.minLimit = minLimit;
+		}
+
+		public int getMaxLimit() {
+			return this.maxLimit;
+		}
+
+		public void setMaxLimit(int maxLimit) {
+			this.maxLimit = maxLimit;
+		}
+
+		public double getSmoothing() {
+			return this.smoothing;
+		}
+
+		public void setSmoothing(double smoothing) {
+			this.smoothing = smoothing;
+		}
+
+		public double getRttTolerance() {
+			return this.rttTolerance;
+		}
+
+		public void setRttTolerance(double rttTolerance) {
+			this.rttTolerance = rttTolerance;
+		}
+
+		public Status.Code getRejectStatus() {
+			return this.rejectStatus;
+		}
+
+		public void setRejectStatus(Status.Code rejectStatus) {
+			this.rejectStatus = rejectStatus;
+		}
+
+		public boolean isPerMethod() {
+			return this.perMethod;
+		}
+
+		public void setPerMethod(boolean perMethod) {
+			this.perMethod = perMethod;
+		}
+
+		public enum Algorithm {
+
+			/**
+			 * Compare short and long term latency averages and shrink the limit when the
+			 * short term latency grows.
+			 */
+			GRADIENT,
+
+			/**
+			 * Estimate the queue size from the minimum observed latency, in the style of
+			 * TCP Vegas.
+			 */
+			VEGAS
+
+		}
+
+	}
+
+	public static class RateLimit {
+
+		/**
+		 * Whether to enforce the configured rate limits.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Time after which the quota of a method or principal that received no calls is
+		 * discarded.
+		 */
+		private Duration idleTimeout = Duration.ofMinutes(1);
+
+		/**
+		 * Rate limit rules, applied in order. The first rule that matches a method
+		 * applies.
+		 */
+		private final List<Rule> rules = new ArrayList<>();
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getIdleTimeout() {
+			return this.idleTimeout;
+		}
+
+		public void setIdleTimeout(Duration idleTimeout) {
+			this.idleTimeout = idleTimeout;
+		}
+
+		public List<Rule> getRules() {
+			return this.rules;
+		}
+
+		public static class Rule {
+
+			/**
+			 * Full method name patterns (e.g. "Simple/SayHello" or "Simple/*") the rule
+			 * applies to. Applies to all methods when empty.
+			 */
+			private List<String> methods = new ArrayList<>();
+
+			/**
+			 * Number of calls allowed per period for each method. The methods are not
+			 * limited when not set.
+			 */
+			private Long permits;
+
+			/**
+			 * Period over which the permits are granted.
+			 */
+			private Duration period = Duration.ofSeconds(1);
+
+			/**
+			 * Maximum number of calls that may arrive at once (default same as permits).
+			 */
+			private Long burst;
+
+			/**
+			 * Whether each authenticated principal gets its own quota.
+			 */
+			private boolean perPrincipal = false;
+
+			public List<String> getMethods() {
+				return this.methods;
+			}
+
+			public void setMethods(List<String> methods) {
+				this.methods = methods;
+			}
+
+			public Long getPermits() {
+				return this.permits;
+			}
+
+			public void setPermits(Long permits) {
+				this.permits = permits;
+			}
+
+			public Duration getPeriod() {
+				return this.period;
+			}
+
+			public void setPeriod(Duration period) {
+				this.period = period;
+			}
+
+			public Long getBurst() {
+				return this.burst;
+			}
+
+			public void setBurst(Long burst) {
+				this.burst = burst;
+			}
+
+			public boolean isPerPrincipal() {
+				return this.perPrincipal;
+			}
+
+			public void setPerPrincipal(boolean perPrincipal) {
+				this.perPrincipal = perPrincipal;
+			}
+
+		}
+
+	}
+
+	public static class Cache {
+
+		/**
+		 * Whether responses of unary methods are cached on the server, keyed by method
+		 * and request. Only enable for methods whose response is a pure function of their
+		 * request.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Full method name patterns (e.g. "Simple/SayHello" or "Simple/*") of the unary
+		 * methods to cache, in addition to the methods listed in @GrpcService
+		 * annotations.
+		 */
+		private List<String> methods = new ArrayList<>();
+
+		/**
+		 * Time after which a cached response expires.
+		 */
+		private Duration timeToLive = Duration.ofMinutes(1);
+
+		/**
+		 * Maximum number of cached responses.
+		 */
+		private int maxEntries = 10000;
+
+		/**
+		 * Maximum total size of the cached requests and responses.
+		 */
+		private DataSize maxSize = DataSize.ofMegabytes(50);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public List<String> getMethods() {
+			return this.methods;
+		}
+
+		public void setMethods(List<String> methods) {
+			this.methods = methods;
+		}
+
+		public Duration getTimeToLive() {
+			return this.timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+		public int getMaxEntries() {
+			return this.maxEntries;
+		}
+
+		public void setMaxEntries(int maxEntries) {
+			this.maxEntries = maxEntries;
+		}
+
+		public DataSize getMaxSize() {
+			return this.maxSize;
+		}
+
+		public void setMaxSize(DataSize maxSize) {
+			this.maxSize = maxSize;
+		}
+
+	}
+
+	public static class ZeroCopy {
+
+		/**
+		 * Whether to parse large protobuf request messages straight from the transport
+		 * buffers, without copying them.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Minimum size of the messages that are parsed without copying. The buffers of
+		 * these messages are retained for as long as the parsed message is in use.
+		 */
+		private DataSize minMessageSize = DataSize.ofKilobytes(256);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public DataSize getMinMessageSize() {
+			return this.minMessageSize;
+		}
+
+		public void setMinMessageSize(DataSize minMessageSize) {
+			this.minMessageSize = minMessageSize;
+		}
+
+	}
+
+	public static class Local {
+
+		/**
+		 * Whether to also serve the services in-process, and route the channels of this
+		 * application that target the gRPC server of the application (or a 'local:'
+		 * target) to it.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Whether the local clients and services pass messages by reference instead of
+		 * serializing them. Only safe if the messages are immutable, like protobuf
+		 * messages.
+		 */
+		private boolean directMarshalling = false;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public boolean isDirectMarshalling() {
+			return this.directMarshalling;
+		}
+
+		public void setDirectMarshalling(boolean directMarshalling) {
+			this.directMarshalling = directMarshalling;
+		}
+
+	}
+
+	public static class Services {
+
+		/**
+		 * Names of the services to serve, which may contain '*' wildcards (e.g.
+		 * 'grpc.health.*'). The default is all services.
+		 */
+		private List<String> include = new ArrayList<>();
+
+		/**
+		 * Names of the services not to serve, which may contain '*' wildcards.
+		 */
+		private List<String> exclude = new ArrayList<>();
+
+		public List<String> getInclude() {
+			return this.include;
+		}
+
+		public void setInclude(List<String> include) {
+			this.include = include;
+		}
+
+		public List<String> getExclude() {
+			return this.exclude;
+		}
+
+		public void setExclude(List<String> exclude) {
+			this.exclude = exclude;
+		}
+
+		/**
+		 * Whether the service with the given full name should be served.
+		 * @param serviceName the full name of the service
+		 * @return true if the service is included and not excluded
+		 */
+		public boolean matches(String serviceName) {
+			return (this.include.isEmpty() || PatternMatchUtils.simpleMatch(this.include.toArray(new String[0]),
+					serviceName)) && !PatternMatchUtils.simpleMatch(this.exclude.toArray(new String[0]), serviceName);
+		}
+
+	}
+
+	public static class Listener {
+
+		/**
+		 * The address to bind to, a host:port combination.
+		 */
+		private String address;
+
+		/**
+		 * Number of threads that run the calls of this listener. The default is to use
+		 * the same executor as the main server.
+		 */
+		private Integer threads;
+
+		private final Ssl ssl = new Ssl();
+
+		private final Services services = new Services();
+
+		public String getAddress() {
+			return this.address;
+		}
+
+		public void setAddress(String address) {
+			this.address = address;
+		}
+
+		public Integer getThreads() {
+			return this.threads;
+		}
+
+		public void setThreads(Integer threads) {
+			this.threads = threads;
+		}
+
+		public Ssl getSsl() {
+			return this.ssl;
+		}
+
+		public Services getServices() {
+			return this.services;
+		}
+
+	}
+
+	public static class Compression {
+
+		/**
+		 * Whether response messages are compressed. Responses are only compressed when
+		 * the client accepts the encoding.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Message encoding used to compress responses (e.g. "gzip", "zstd" or "lz4").
+		 */
+		private String encoding = "gzip";
+
+		/**
+		 * Minimum size of the response messages that are compressed. Smaller messages are
+		 * sent uncompressed.
+		 */
+		private DataSize minMessageSize = DataSize.ofKilobytes(1);
+
+		/**
+		 * Compression settings for specific methods, applied in order. The first rule
+		 * that matches a method applies.
+		 */
+		private final List<Rule> rules = new ArrayList<>();
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String getEncoding() {
+			return this.encoding;
+		}
+
+		public void setEncoding(String encoding) {
+			this.encoding = encoding;
+		}
+
+		public DataSize getMinMessageSize() {
+			return this.minMessageSize;
+		}
+
+		public void setMinMessageSize(DataSize minMessageSize) {
+			this.minMessageSize = minMessageSize;
+		}
+
+		public List<Rule> getRules() {
+			return this.rules;
+		}
+
+		public static class Rule {
+
+			/**
+			 * Full method name patterns (e.g. "Simple/SayHello" or "Simple/*") the rule
+			 * applies to.
+			 */
+			private List<String> methods = new ArrayList<>();
+
+			/**
+			 * Message encoding for the methods, or "identity" for no compression.
+			 * Defaults to the encoding of the server.
+			 */
+			private String encoding;
+
+			/**
+			 * Minimum size of the messages that are compressed. Defaults to the minimum
+			 * size of the server.
+			 */
+			private DataSize minMessageSize;
+
+			public List<String> getMethods() {
+				return this.methods;
+			}
+
+			public void setMethods(List<String> methods) {
+				this.methods = methods;
+			}
+
+			public String getEncoding() {
+				return this.encoding;
+			}
+
+			public void setEncoding(String encoding) {
+				this.encoding = encoding;
+			}
+
+			public DataSize getMinMessageSize() {
+				return this.minMessageSize;
+			}
+
+			public void setMinMessageSize(DataSize minMessageSize) {
+				this.minMessageSize = minMessageSize;
+			}
+
+		}
+
+	}
+
+	private final Ssl ssl = new Ssl();
+
+	public Ssl getSsl() {
+		return this.ssl;
+	}
+
+	public static class Ssl {
+
+		/**
+		 * Whether to enable SSL support. Enabled automatically if "bundle" is provided
+		 * unless specified otherwise.
+		 */
+		private Boolean enabled;
+
+		/**
+		 * Client authentication mode.
+		 */
+		private ClientAuth clientAuth = ClientAuth.NONE;
+
+		/**
+		 * SSL bundle name. Should match a bundle configured in spring.ssl.bundle.
+		 */
+		private String bundle;
+
+		/**
+		 * Flag to indicate that client authentication is secure (i.e. certificates are
+		 * checked). Do not set this to false in production.
+		 */
+		private boolean secure = true;
+
+		/**
+		 * The TLS implementation to use. By default OpenSSL (BoringSSL) is used when
+		 * netty-tcnative is on the classpath, and the JDK otherwise.
+		 */
+		private Provider provider;
+
+		/**
+		 * The maximum number of TLS sessions to cache for resumption. The default
+		 * depends on the provider.
+		 */
+		private Long sessionCacheSize;
+
+		/**
+		 * How long a cached TLS session can be resumed. The default depends on the
+		 * provider. If a duration suffix is not specified, seconds will be used.
+		 */
+		@DurationUnit(ChronoUnit.SECONDS)
+		private Duration sessionTimeout;
+
+		/**
+		 * Whether to issue TLS session tickets, so that clients can resume a session
+		 * without the server caching it. Only applies to the OpenSSL provider; the JDK
+		 * issues tickets by default for TLS 1.3.
+		 */
+		private boolean sessionTickets;
+
+		/**
+		 * How often to replace the key that encrypts the session tickets. The previous
+		 * key still decrypts tickets until the next rotation, so a ticket can be resumed
+		 * for up to twice this long. Zero to keep the same key for the life of the
+		 * server.
+		 */
+		private Duration sessionTicketKeyRotation = Duration.ofHours(1);
+
+		public boolean isEnabled() {
+			return (this.enabled != null) ? this.enabled : this.bundle != null;
+		}
+
+		/**
+		 * Whether any of the provider or session settings are set, so that the SSL
+		 * context has to be configured explicitly.
+		 * @return true if the SSL context needs explicit configuration
+		 */
+		public boolean requiresSslContext() {
+			return this.provider != null || this.sessionCacheSize != null || this.sessionTimeout != null
+					|| this.sessionTickets;
+		}
+
+		public void copyDefaultsFrom(Ssl config) {
+			if (this.enabled == null) {
+				this.enabled = config.enabled;
+			}
+			if (this.bundle == null) {
+				this.bundle = config.bundle;
+			}
+
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String getBundle() {
+			return this.bundle;
+		}
+
+		public void setBundle(String bundle) {
+			this.bundle = bundle;
+		}
+
+		public void setClientAuth(ClientAuth clientAuth) {
+			this.clientAuth = clientAuth;
+		}
+
+		public ClientAuth getClientAuth() {
+			return this.clientAuth;
+		}
+
+		public void setSecure(boolean secure) {
+			this.secure = secure;
+		}
+
+		public boolean isSecure() {
+			return this.secure;
+		}
+
+		public Provider getProvider() {
+			return this.provider;
+		}
+
+		public void setProvider(Provider provider) {
+			this.provider = provider;
+		}
+
+		public Long getSessionCacheSize() {
+			return this.sessionCacheSize;
+		}
+
+		public void setSessionCacheSize(Long sessionCacheSize) {
+			this.sessionCacheSize = sessionCacheSize;
+		}
+
+		public Duration getSessionTimeout() {
+			return this.sessionTimeout;
+		}
+
+		public void setSessionTimeout(Duration sessionTimeout) {
+			this.sessionTimeout = sessionTimeout;
+		}
+
+		public boolean isSessionTickets() {
+			return this.sessionTickets;
+		}
+
+		public void setSessionTickets(boolean sessionTickets) {
+			this.sessionTickets = sessionTickets;
+		}
+
+		public Duration getSessionTicketKeyRotation() {
+			return this.sessionTicketKeyRotation;
+		}
+
+		public void setSessionTicketKeyRotation(Duration sessionTicketKeyRotation) {
+			this.sessionTicketKeyRotation = sessionTicketKeyRotation;
+		}
+
+		public enum Provider {
+
+			/**
+			 * The TLS implementation of the JDK.
+			 */
+			JDK,
+
+			/**
+			 * OpenSSL or BoringSSL through netty-tcnative, which must be on the
+			 * classpath.
+			 */
+			OPENSSL
+
 		}
 
 	}
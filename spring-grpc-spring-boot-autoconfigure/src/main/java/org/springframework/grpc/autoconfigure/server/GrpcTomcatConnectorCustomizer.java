@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server;
+
+import java.time.Duration;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http11.AbstractHttp11Protocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * {@link TomcatConnectorCustomizer} that applies the gRPC server properties to the HTTP/2
+ * protocol of the embedded Tomcat connector, so that the servlet transport can be tuned
+ * for gRPC traffic.
+ *
+ * @author Dave Syer
+ */
+class GrpcTomcatConnectorCustomizer implements TomcatConnectorCustomizer {
+
+	private final GrpcServerProperties properties;
+
+	GrpcTomcatConnectorCustomizer(GrpcServerProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public void customize(Connector connector) {
+		for (UpgradeProtocol protocol : connector.findUpgradeProtocols()) {
+			if (protocol instanceof Http2Protocol http2) {
+				customize(http2);
+			}
+		}
+		if (connector.getProtocolHandler() instanceof AbstractHttp11Protocol<?> http11) {
+			// HTTP/2 shares the header size limit of the HTTP/1.1 protocol, so only raise
+			// it
+			int maxHeaderSize = (int) this.properties.getMaxInboundMetadataSize().toBytes();
+			if (maxHeaderSize > http11.getMaxHttpRequestHeaderSize()) {
+				http11.setMaxHttpRequestHeaderSize(maxHeaderSize);
+			}
+		}
+	}
+
+	private void customize(Http2Protocol protocol) {
+		GrpcServerProperties.Servlet.Http2 http2 = this.properties.getServlet().getHttp2();
+		PropertyMapper mapper = PropertyMapper.get().alwaysApplyingWhenNonNull();
+		mapper.from(http2.getMaxConcurrentStreams()).to(protocol::setMaxConcurrentStreams);
+		mapper.from(http2.getMaxConcurrentStreamExecution()).to(protocol::setMaxConcurrentStreamExecution);
+		mapper.from(http2.getInitialWindowSize()).asInt(DataSize::toBytes).to(protocol::setInitialWindowSize);
+		mapper.from(this.properties.getKeepAlive().getMaxIdle())
+			.as(Duration::toMillis)
+			.to(protocol::setKeepAliveTimeout);
+		if (!http2.isOverheadProtection()) {
+			protocol.setOverheadCountFactor(0);
+		}
+	}
+
+}
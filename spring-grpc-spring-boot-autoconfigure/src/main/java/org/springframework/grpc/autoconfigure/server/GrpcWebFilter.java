@@ -0,0 +1,522 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsProcessor;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.cors.DefaultCorsProcessor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Servlet filter that lets the gRPC servlet serve gRPC-Web requests from browsers, so
+ * that they do not need a translating proxy. The request and the response are adapted
+ * around the servlet, and the messages are passed through as they are.
+ * <p>
+ * The trailers that the servlet would send as HTTP trailers are written as the last frame
+ * of the body (flagged with {@code 0x80}) when the call completes, and the bodies of
+ * {@code grpc-web-text} calls are base64 decoded and encoded on the fly.
+ * <p>
+ * If there are allowed origins the filter also answers the CORS pre-flight requests that
+ * browsers send before a call from another origin, and exposes the {@code grpc-status}
+ * and {@code grpc-message} headers of the responses.
+ *
+ * @author Dave Syer
+ */
+class GrpcWebFilter extends OncePerRequestFilter {
+
+	static final String GRPC_WEB_CONTENT_TYPE = "application/grpc-web";
+
+	static final String GRPC_WEB_TEXT_CONTENT_TYPE = "application/grpc-web-text";
+
+	private static final String GRPC_CONTENT_TYPE = "application/grpc";
+
+	private static final int TRAILERS_FLAG = 0x80;
+
+	private static final Log logger = LogFactory.getLog(GrpcWebFilter.class);
+
+	private final CorsProcessor corsProcessor = new DefaultCorsProcessor();
+
+	@Nullable
+	private final CorsConfiguration cors;
+
+	GrpcWebFilter() {
+		this(List.of(), Duration.ZERO);
+	}
+
+	/**
+	 * Creates a new filter that allows calls from the given origins.
+	 * @param allowedOrigins the origins that may call the services (e.g.
+	 * {@code https://example.com} or {@code *}), or empty to leave CORS to the application
+	 * @param maxAge how long browsers may cache the pre-flight responses
+	 */
+	GrpcWebFilter(List<String> allowedOrigins, Duration maxAge) {
+		this.cors = allowedOrigins.isEmpty() ? null : corsConfiguration(allowedOrigins, maxAge);
+	}
+
+	private static CorsConfiguration corsConfiguration(List<String> allowedOrigins, Duration maxAge) {
+		CorsConfiguration cors = new CorsConfiguration();
+		cors.setAllowedOrigins(allowedOrigins);
+		cors.setAllowedMethods(List.of(HttpMethod.POST.name()));
+		// The call metadata is sent as headers, so any of them may be needed
+		cors.addAllowedHeader(CorsConfiguration.ALL);
+		cors.setExposedHeaders(List.of("grpc-status", "grpc-message"));
+		cors.setMaxAge(maxAge);
+		return cors;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		if (this.cors != null && CorsUtils.isPreFlightRequest(request)) {
+			return false;
+		}
+		String contentType = request.getContentType();
+		return !HttpMethod.POST.matches(request.getMethod()) || contentType == null
+				|| !contentType.startsWith(GRPC_WEB_CONTENT_TYPE);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		if (this.cors != null) {
+			boolean valid = this.corsProcessor.processRequest(this.cors, request, response);
+			if (!valid || CorsUtils.isPreFlightRequest(request)) {
+				return;
+			}
+		}
+		boolean text = request.getContentType().startsWith(GRPC_WEB_TEXT_CONTENT_TYPE);
+		GrpcWebResponse webResponse = new GrpcWebResponse(response, text);
+		filterChain.doFilter(new GrpcWebRequest(request, webResponse, text), webResponse);
+	}
+
+	private static final class GrpcWebRequest extends HttpServletRequestWrapper {
+
+		private final GrpcWebResponse response;
+
+		private final boolean text;
+
+		@Nullable
+		private ServletInputStream inputStream;
+
+		GrpcWebRequest(HttpServletRequest request, GrpcWebResponse response, boolean text) {
+			super(request);
+			this.response = response;
+			this.text = text;
+		}
+
+		@Override
+		public String getContentType() {
+			return GRPC_CONTENT_TYPE;
+		}
+
+		@Override
+		public String getHeader(String name) {
+			return HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) ? GRPC_CONTENT_TYPE : super.getHeader(name);
+		}
+
+		@Override
+		public Enumeration<String> getHeaders(String name) {
+			return HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) ? Collections.enumeration(List.of(GRPC_CONTENT_TYPE))
+					: super.getHeaders(name);
+		}
+
+		@Override
+		public ServletInputStream getInputStream() throws IOException {
+			if (!this.text) {
+				return super.getInputStream();
+			}
+			if (this.inputStream == null) {
+				this.inputStream = new Base64InputStream(super.getInputStream());
+			}
+			return this.inputStream;
+		}
+
+		@Override
+		public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+			return new GrpcWebAsyncContext(super.startAsync(servletRequest, servletResponse), this.response);
+		}
+
+	}
+
+	private static final class GrpcWebResponse extends HttpServletResponseWrapper {
+
+		private final String contentType;
+
+		private final boolean text;
+
+		@Nullable
+		private ServletOutputStream outputStream;
+
+		@Nullable
+		private Supplier<Map<String, String>> trailers;
+
+		GrpcWebResponse(HttpServletResponse response, boolean text) {
+			super(response);
+			this.text = text;
+			this.contentType = (text ? GRPC_WEB_TEXT_CONTENT_TYPE : GRPC_WEB_CONTENT_TYPE) + "+proto";
+		}
+
+		@Override
+		public void setContentType(String type) {
+			super.setContentType(webContentType(type));
+		}
+
+		@Override
+		public void setHeader(String name, String value) {
+			super.setHeader(name, HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) ? webContentType(value) : value);
+		}
+
+		@Override
+		public void addHeader(String name, String value) {
+			super.addHeader(name, HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) ? webContentType(value) : value);
+		}
+
+		@Override
+		public void setTrailerFields(Supplier<Map<String, String>> supplier) {
+			// Sent in the body when the call completes
+			this.trailers = supplier;
+		}
+
+		@Override
+		public Supplier<Map<String, String>> getTrailerFields() {
+			return this.trailers;
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			if (this.outputStream == null) {
+				this.outputStream = this.text ? new Base64OutputStream(super.getOutputStream())
+						: super.getOutputStream();
+			}
+			return this.outputStream;
+		}
+
+		private String webContentType(String type) {
+			return (type != null && type.startsWith(GRPC_CONTENT_TYPE)) ? this.contentType : type;
+		}
+
+		void writeTrailers() throws IOException {
+			Map<String, String> trailers = (this.trailers != null) ? this.trailers.get() : null;
+			if (trailers == null || trailers.isEmpty()) {
+				// A "trailers-only" response has the status in the headers
+				return;
+			}
+			StringBuilder builder = new StringBuilder();
+			trailers.forEach((name, value) -> builder.append(name).append(':').append(value).append("\r\n"));
+			byte[] bytes = builder.toString().getBytes(StandardCharsets.US_ASCII);
+			ByteArrayOutputStream frame = new ByteArrayOutputStream(5 + bytes.length);
+			frame.write(TRAILERS_FLAG);
+			frame.write(bytes.length >>> 24);
+			frame.write(bytes.length >>> 16);
+			frame.write(bytes.length >>> 8);
+			frame.write(bytes.length);
+			frame.write(bytes);
+			getOutputStream().write(frame.toByteArray());
+		}
+
+		// Fails the call with an HTTP error while that is still possible, otherwise the
+		// response is already broken or completed by the container
+		void abort() {
+			if (isCommitted()) {
+				return;
+			}
+			try {
+				resetBuffer();
+				sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+			}
+			catch (IOException | IllegalStateException ex) {
+				logger.debug("Failed to abort gRPC-Web response", ex);
+			}
+		}
+
+	}
+
+	private static final class GrpcWebAsyncContext implements AsyncContext {
+
+		private final AsyncContext delegate;
+
+		private final GrpcWebResponse response;
+
+		GrpcWebAsyncContext(AsyncContext delegate, GrpcWebResponse response) {
+			this.delegate = delegate;
+			this.response = response;
+		}
+
+		@Override
+		public void complete() {
+			try {
+				this.response.writeTrailers();
+			}
+			catch (IOException | IllegalStateException ex) {
+				// Without the trailers the client would see a body without a status
+				logger.warn("Failed to write gRPC-Web trailers, aborting the response", ex);
+				this.response.abort();
+			}
+			try {
+				this.delegate.complete();
+			}
+			catch (IllegalStateException ex) {
+				// The container already completed the request (e.g. after a timeout)
+				logger.debug("Failed to complete gRPC-Web call", ex);
+			}
+		}
+
+		@Override
+		public ServletRequest getRequest() {
+			return this.delegate.getRequest();
+		}
+
+		@Override
+		public ServletResponse getResponse() {
+			return this.delegate.getResponse();
+		}
+
+		@Override
+		public boolean hasOriginalRequestAndResponse() {
+			return this.delegate.hasOriginalRequestAndResponse();
+		}
+
+		@Override
+		public void dispatch() {
+			this.delegate.dispatch();
+		}
+
+		@Override
+		public void dispatch(String path) {
+			this.delegate.dispatch(path);
+		}
+
+		@Override
+		public void dispatch(ServletContext context, String path) {
+			this.delegate.dispatch(context, path);
+		}
+
+		@Override
+		public void start(Runnable run) {
+			this.delegate.start(run);
+		}
+
+		@Override
+		public void addListener(AsyncListener listener) {
+			this.delegate.addListener(listener);
+		}
+
+		@Override
+		public void addListener(AsyncListener listener, ServletRequest servletRequest,
+				ServletResponse servletResponse) {
+			this.delegate.addListener(listener, servletRequest, servletResponse);
+		}
+
+		@Override
+		public <T extends AsyncListener> T createListener(Class<T> clazz) throws ServletException {
+			return this.delegate.createListener(clazz);
+		}
+
+		@Override
+		public void setTimeout(long timeout) {
+			this.delegate.setTimeout(timeout);
+		}
+
+		@Override
+		public long getTimeout() {
+			return this.delegate.getTimeout();
+		}
+
+	}
+
+	/**
+	 * Decodes a base64 request body, keeping incomplete quanta until more is read.
+	 * Concatenated chunks may be padded in the middle of the body.
+	 */
+	private static final class Base64InputStream extends ServletInputStream {
+
+		private final ServletInputStream delegate;
+
+		private final byte[] buffer = new byte[4096];
+
+		private byte[] remainder = new byte[0];
+
+		private byte[] decoded = new byte[0];
+
+		private int position;
+
+		private boolean nonBlocking;
+
+		Base64InputStream(ServletInputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean isFinished() {
+			return this.position == this.decoded.length && this.delegate.isFinished();
+		}
+
+		@Override
+		public boolean isReady() {
+			return this.position < this.decoded.length || this.delegate.isReady();
+		}
+
+		@Override
+		public void setReadListener(ReadListener readListener) {
+			this.nonBlocking = true;
+			this.delegate.setReadListener(readListener);
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] single = new byte[1];
+			int count = read(single, 0, 1);
+			if (count == 0) {
+				throw new IllegalStateException("No gRPC-Web text content is ready to be read");
+			}
+			return (count < 0) ? -1 : single[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) throws IOException {
+			if (length == 0) {
+				return 0;
+			}
+			// A blocking read waits until a whole quantum has arrived, a non-blocking one
+			// stops when the container has no more input for now
+			while (this.position == this.decoded.length) {
+				if (this.nonBlocking && !this.delegate.isReady()) {
+					return 0;
+				}
+				int count = this.delegate.read(this.buffer);
+				if (count < 0) {
+					if (this.remainder.length > 0) {
+						throw new IOException("Incomplete base64 content in gRPC-Web text request");
+					}
+					return -1;
+				}
+				decode(count);
+			}
+			int count = Math.min(length, this.decoded.length - this.position);
+			System.arraycopy(this.decoded, this.position, bytes, offset, count);
+			this.position += count;
+			return count;
+		}
+
+		private void decode(int count) throws IOException {
+			byte[] text = new byte[this.remainder.length + count];
+			System.arraycopy(this.remainder, 0, text, 0, this.remainder.length);
+			System.arraycopy(this.buffer, 0, text, this.remainder.length, count);
+			int length = text.length - text.length % 4;
+			this.remainder = Arrays.copyOfRange(text, length, text.length);
+			ByteArrayOutputStream decoded = new ByteArrayOutputStream(length / 4 * 3);
+			int start = 0;
+			while (start < length) {
+				int end = start;
+				while (end < length && text[end + 3] != '=') {
+					end += 4;
+				}
+				end = Math.min(end + 4, length);
+				try {
+					decoded.write(Base64.getDecoder().decode(Arrays.copyOfRange(text, start, end)));
+				}
+				catch (IllegalArgumentException ex) {
+					throw new IOException("Invalid base64 content in gRPC-Web text request", ex);
+				}
+				start = end;
+			}
+			this.decoded = decoded.toByteArray();
+			this.position = 0;
+		}
+
+	}
+
+	/**
+	 * Encodes a response body with base64, each write padded on its own.
+	 */
+	private static final class Base64OutputStream extends ServletOutputStream {
+
+		private final ServletOutputStream delegate;
+
+		Base64OutputStream(ServletOutputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean isReady() {
+			return this.delegate.isReady();
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			this.delegate.setWriteListener(writeListener);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException {
+			if (length > 0) {
+				this.delegate.write(Base64.getEncoder().encode(Arrays.copyOfRange(bytes, offset, offset + length)));
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			this.delegate.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.delegate.close();
+		}
+
+	}
+
+}
@@ -18,6 +18,7 @@ package org.springframework.grpc.autoconfigure.server;
 
 import io.grpc.netty.NettyServerBuilder;
 
+import org.springframework.boot.context.properties.PropertyMapper;
 import org.springframework.grpc.server.NettyGrpcServerFactory;
 
 /**
@@ -35,6 +36,28 @@ class NettyServerFactoryPropertyMapper extends DefaultServerFactoryPropertyMappe
 	@Override
 	void customizeServerBuilder(NettyServerBuilder nettyServerBuilder) {
 		super.customizeServerBuilder(nettyServerBuilder);
+		customizeNetty(nettyServerBuilder, PropertyMapper.get().alwaysApplyingWhenNonNull());
+	}
+
+	/**
+	 * Map the Netty specific properties to the server factory's server builder.
+	 * @param nettyServerBuilder the builder
+	 * @param mapper the property mapper
+	 */
+	void customizeNetty(NettyServerBuilder nettyServerBuilder, PropertyMapper mapper) {
+		GrpcServerProperties.Netty nettyProps = this.properties.getNetty();
+		int flowControlWindow = (nettyProps.getInitialFlowControlWindow() != null)
+				? Math.toIntExact(nettyProps.getInitialFlowControlWindow().toBytes())
+				: NettyServerBuilder.DEFAULT_FLOW_CONTROL_WINDOW;
+		if (!nettyProps.isAutoFlowControl()) {
+			nettyServerBuilder.flowControlWindow(flowControlWindow);
+		}
+		else if (nettyProps.getInitialFlowControlWindow() != null) {
+			nettyServerBuilder.initialFlowControlWindow(flowControlWindow);
+		}
+		mapper.from(nettyProps.getMaxConcurrentCallsPerConnection())
+			.to(nettyServerBuilder::maxConcurrentCallsPerConnection);
+		mapper.from(nettyProps.getHandshakeTimeout()).to(durationProperty(nettyServerBuilder::handshakeTimeout));
 	}
 
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.TrustManagerFactory;
+
+import io.grpc.ServerCredentials;
+import io.grpc.netty.GrpcSslContexts;
+import io.grpc.netty.NettySslContextServerCredentials;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+
+/**
+ * Helper class used to build Netty server credentials from an SSL context configured
+ * with {@link GrpcServerProperties.Ssl the provider and session properties}.
+ *
+ * @author Dave Syer
+ */
+final class NettySslServerCredentials {
+
+	private NettySslServerCredentials() {
+	}
+
+	/**
+	 * Create the server credentials, and register the handshake counts of the server
+	 * if its provider keeps them.
+	 * @param name the name of the server
+	 * @param ssl the SSL properties
+	 * @param keyManager the key manager
+	 * @param trustManager the trust manager
+	 * @param statistics the handshake statistics to register with
+	 * @param ticketKeys the session ticket keys to rotate
+	 * @return the server credentials
+	 */
+	static ServerCredentials create(String name, GrpcServerProperties.Ssl ssl, KeyManagerFactory keyManager,
+			TrustManagerFactory trustManager, SslHandshakeStatistics statistics, SessionTicketKeys ticketKeys) {
+		SslContextBuilder builder = SslContextBuilder.forServer(keyManager)
+			.trustManager(trustManager)
+			.clientAuth(ClientAuth.valueOf(ssl.getClientAuth().name()));
+		if (ssl.getProvider() != null) {
+			GrpcSslContexts.configure(builder, SslProvider.valueOf(ssl.getProvider().name()));
+		}
+		else {
+			GrpcSslContexts.configure(builder);
+		}
+		if (ssl.getSessionCacheSize() != null) {
+			builder.sessionCacheSize(ssl.getSessionCacheSize());
+		}
+		if (ssl.getSessionTimeout() != null) {
+			builder.sessionTimeout(ssl.getSessionTimeout().toSeconds());
+		}
+		SslContext context;
+		try {
+			context = builder.build();
+		}
+		catch (SSLException ex) {
+			throw new IllegalStateException("Cannot create SSL context for gRPC server '" + name + "'", ex);
+		}
+		if (context.sessionContext() instanceof OpenSslSessionContext sessions) {
+			if (ssl.isSessionTickets()) {
+				ticketKeys.add(ssl.getSessionTicketKeyRotation(),
+						(keys) -> sessions.setTicketKeys(keys.stream()
+							.map((key) -> new OpenSslSessionTicketKey(key.name(), key.hmacKey(), key.aesKey()))
+							.toArray(OpenSslSessionTicketKey[]::new)));
+			}
+			statistics.add(name, () -> sessions.stats().acceptGood() - sessions.stats().hits(),
+					() -> sessions.stats().hits());
+		}
+		return NettySslContextServerCredentials.create(context);
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Generates the keys that the native gRPC servers use to encrypt TLS session tickets,
+ * and replaces them periodically, so that a key that leaks cannot decrypt the sessions
+ * of the whole lifetime of the server. The previous key is kept to decrypt the tickets
+ * that it issued until the next rotation, so clients can resume their sessions across a
+ * rotation. The keys are random and per server, so tickets are not resumed by other
+ * instances of the application.
+ *
+ * @author Dave Syer
+ */
+class SessionTicketKeys implements DisposableBean {
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * Set new keys on a server now and after each rotation period.
+	 * @param rotation the time between rotations, or null or zero to keep the first key
+	 * @param target sets the keys on the server, the first of them for new tickets
+	 */
+	synchronized void add(@Nullable Duration rotation, Consumer<List<Key>> target) {
+		Rotation keys = new Rotation(target);
+		keys.run();
+		if (rotation != null && rotation.isPositive()) {
+			if (this.scheduler == null) {
+				CustomizableThreadFactory threads = new CustomizableThreadFactory("grpc-session-ticket-keys-");
+				threads.setDaemon(true);
+				this.scheduler = Executors.newSingleThreadScheduledExecutor(threads);
+			}
+			this.scheduler.scheduleAtFixedRate(keys, rotation.toMillis(), rotation.toMillis(),
+					TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public synchronized void destroy() {
+		if (this.scheduler != null) {
+			this.scheduler.shutdownNow();
+		}
+	}
+
+	/**
+	 * A session ticket key.
+	 *
+	 * @param name the name of the key, which identifies it in the tickets
+	 * @param hmacKey the key that signs the tickets
+	 * @param aesKey the key that encrypts the tickets
+	 */
+	record Key(byte[] name, byte[] hmacKey, byte[] aesKey) {
+
+		static Key random() {
+			return new Key(randomBytes(), randomBytes(), randomBytes());
+		}
+
+		private static byte[] randomBytes() {
+			byte[] bytes = new byte[16];
+			RANDOM.nextBytes(bytes);
+			return bytes;
+		}
+
+	}
+
+	private static final class Rotation implements Runnable {
+
+		private final Consumer<List<Key>> target;
+
+		private Key current;
+
+		Rotation(Consumer<List<Key>> target) {
+			this.target = target;
+		}
+
+		@Override
+		public void run() {
+			Key next = Key.random();
+			this.target.accept((this.current != null) ? List.of(next, this.current) : List.of(next));
+			this.current = next;
+		}
+
+	}
+
+}
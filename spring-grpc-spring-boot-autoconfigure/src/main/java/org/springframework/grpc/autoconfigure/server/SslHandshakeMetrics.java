@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * A {@link MeterBinder} that registers the TLS handshake counts of the native gRPC
+ * servers, so that the share of resumed sessions can be monitored.
+ *
+ * @author Dave Syer
+ */
+class SslHandshakeMetrics implements MeterBinder {
+
+	private final SslHandshakeStatistics statistics;
+
+	SslHandshakeMetrics(SslHandshakeStatistics statistics) {
+		this.statistics = statistics;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		this.statistics.getServers().forEach((server, counts) -> {
+			FunctionCounter.builder("grpc.server.tls.handshakes", counts, (c) -> c.full().getAsLong())
+				.tag("server", server)
+				.tag("type", "full")
+				.description("The number of TLS handshakes that created a new session")
+				.register(registry);
+			FunctionCounter.builder("grpc.server.tls.handshakes", counts, (c) -> c.resumed().getAsLong())
+				.tag("server", server)
+				.tag("type", "resumed")
+				.description("The number of TLS handshakes that resumed a cached session or a ticket")
+				.register(registry);
+		});
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * The TLS handshake counts of the native gRPC servers, keyed by the name of the server.
+ * Only servers whose TLS provider keeps such counts (OpenSSL) are registered.
+ *
+ * @author Dave Syer
+ */
+class SslHandshakeStatistics {
+
+	/**
+	 * The name of the main server, as opposed to the named listeners.
+	 */
+	static final String DEFAULT_SERVER = "default";
+
+	private final Map<String, Counts> servers = new ConcurrentHashMap<>();
+
+	void add(String server, LongSupplier full, LongSupplier resumed) {
+		this.servers.put(server, new Counts(full, resumed));
+	}
+
+	Map<String, Counts> getServers() {
+		return this.servers;
+	}
+
+	/**
+	 * The handshake counts of one server.
+	 *
+	 * @param full the number of full handshakes
+	 * @param resumed the number of handshakes that resumed a cached session or ticket
+	 */
+	record Counts(LongSupplier full, LongSupplier resumed) {
+
+	}
+
+}
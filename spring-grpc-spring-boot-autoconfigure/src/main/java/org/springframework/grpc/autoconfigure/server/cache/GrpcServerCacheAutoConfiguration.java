@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server.cache;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.grpc.autoconfigure.server.ConditionalOnGrpcServerEnabled;
+import org.springframework.grpc.autoconfigure.server.GrpcServerProperties;
+import org.springframework.grpc.cache.ResponseCache;
+import org.springframework.grpc.server.GlobalServerInterceptor;
+import org.springframework.grpc.server.cache.CachingServerInterceptor;
+
+import io.grpc.Grpc;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for caching the responses of gRPC
+ * server methods.
+ * <p>
+ * This auto-configuration is disabled by default. To enable it, set the configuration
+ * flag {spring.grpc.server.cache.enabled=true} in your application properties and list
+ * the methods to cache in {spring.grpc.server.cache.methods} or in the
+ * {@code cachedMethods} attribute of {@code @GrpcService}.
+ *
+ * @author Dave Syer
+ */
+@AutoConfiguration
+@ConditionalOnGrpcServerEnabled
+@ConditionalOnClass(Grpc.class)
+@ConditionalOnProperty(prefix = "spring.grpc.server.cache", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(GrpcServerProperties.class)
+public class GrpcServerCacheAutoConfiguration {
+
+	@GlobalServerInterceptor
+	@Bean
+	@ConditionalOnMissingBean
+	CachingServerInterceptor cachingServerInterceptor(GrpcServerProperties properties) {
+		GrpcServerProperties.Cache cache = properties.getCache();
+		return new CachingServerInterceptor(
+				new ResponseCache(cache.getTimeToLive(), cache.getMaxEntries(), cache.getMaxSize().toBytes()),
+				cache.getMethods().toArray(String[]::new));
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	static class ServerResponseCacheMetricsConfiguration {
+
+		@Bean
+		ServerResponseCacheMetrics grpcServerResponseCacheMetrics(CachingServerInterceptor interceptor) {
+			return new ServerResponseCacheMetrics(interceptor.getCache());
+		}
+
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server.cache;
+
+import org.springframework.grpc.cache.ResponseCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * A {@link MeterBinder} that registers metrics for the server {@link ResponseCache
+ * response cache}.
+ *
+ * @author Dave Syer
+ */
+class ServerResponseCacheMetrics implements MeterBinder {
+
+	private final ResponseCache cache;
+
+	ServerResponseCacheMetrics(ResponseCache cache) {
+		this.cache = cache;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("grpc.server.cache.gets", this.cache, ResponseCache::getHitCount)
+			.tag("result", "hit")
+			.description("The number of calls answered from the cache")
+			.register(registry);
+		FunctionCounter.builder("grpc.server.cache.gets", this.cache, ResponseCache::getMissCount)
+			.tag("result", "miss")
+			.description("The number of calls passed to the service because their response was not cached")
+			.register(registry);
+		FunctionCounter.builder("grpc.server.cache.evictions", this.cache, ResponseCache::getEvictionCount)
+			.description("The number of responses evicted from the cache")
+			.register(registry);
+		Gauge.builder("grpc.server.cache.hit.ratio", this.cache, ResponseCache::getHitRatio)
+			.description("The ratio of calls answered from the cache")
+			.register(registry);
+		Gauge.builder("grpc.server.cache.size", this.cache, ResponseCache::size)
+			.description("The number of responses in the cache")
+			.register(registry);
+		Gauge.builder("grpc.server.cache.bytes", this.cache, ResponseCache::getBytes)
+			.baseUnit("bytes")
+			.description("The size of the requests and responses in the cache")
+			.register(registry);
+	}
+
+}
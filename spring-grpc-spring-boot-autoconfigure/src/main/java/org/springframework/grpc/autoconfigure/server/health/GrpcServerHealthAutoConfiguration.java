@@ -38,6 +38,7 @@ import org.springframework.boot.context.properties.bind.BindResult;
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Conditional;
@@ -46,6 +47,7 @@ import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.grpc.autoconfigure.server.ConditionalOnGrpcServerEnabled;
 import org.springframework.grpc.autoconfigure.server.GrpcServerFactoryAutoConfiguration;
 import org.springframework.grpc.autoconfigure.server.GrpcServerProperties;
+import org.springframework.grpc.server.lifecycle.GrpcServerShutdownEvent;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 import io.grpc.BindableService;
@@ -74,6 +76,12 @@ public class GrpcServerHealthAutoConfiguration {
 		return healthStatusManager.getHealthService();
 	}
 
+	@Bean
+	ApplicationListener<GrpcServerShutdownEvent> grpcHealthShutdownListener(HealthStatusManager healthStatusManager) {
+		// All services become NOT_SERVING, and stay that way, as soon as shutdown starts
+		return (event) -> healthStatusManager.enterTerminalState();
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnClass(HealthEndpoint.class)
 	@ConditionalOnAvailableEndpoint(endpoint = HealthEndpoint.class)
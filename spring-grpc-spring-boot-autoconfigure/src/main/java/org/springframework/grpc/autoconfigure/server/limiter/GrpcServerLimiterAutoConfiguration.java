@@ -0,0 +1,119 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server.limiter;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.grpc.autoconfigure.server.ConditionalOnGrpcServerEnabled;
+import org.springframework.grpc.autoconfigure.server.GrpcServerProperties;
+import org.springframework.grpc.server.GlobalServerInterceptor;
+import org.springframework.grpc.server.limiter.ConcurrencyLimit;
+import org.springframework.grpc.server.limiter.ConcurrencyLimitServerInterceptor;
+import org.springframework.grpc.server.limiter.GradientConcurrencyLimit;
+import org.springframework.grpc.server.limiter.PrincipalResolver;
+import org.springframework.grpc.server.limiter.RateLimitServerInterceptor;
+import org.springframework.grpc.server.limiter.RateLimitServerInterceptor.RateLimitedCall;
+import org.springframework.grpc.server.limiter.VegasConcurrencyLimit;
+
+import io.grpc.Grpc;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for concurrency and rate limiting of
+ * gRPC server calls.
+ * <p>
+ * This auto-configuration is disabled by default. To enable it, set the configuration
+ * flag {spring.grpc.server.limiter.enabled=true} (adaptive concurrency limit) or
+ * {spring.grpc.server.rate-limit.enabled=true} (rate limit rules) in your application
+ * properties.
+ *
+ * @author Dave Syer
+ */
+@AutoConfiguration
+@ConditionalOnGrpcServerEnabled
+@ConditionalOnClass(Grpc.class)
+@EnableConfigurationProperties(GrpcServerProperties.class)
+public class GrpcServerLimiterAutoConfiguration {
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(prefix = "spring.grpc.server.limiter", name = "enabled", havingValue = "true")
+	static class ConcurrencyLimitConfiguration {
+
+		@GlobalServerInterceptor
+		@Bean
+		@ConditionalOnMissingBean
+		ConcurrencyLimitServerInterceptor concurrencyLimitServerInterceptor(GrpcServerProperties properties) {
+			GrpcServerProperties.Limiter limiter = properties.getLimiter();
+			ConcurrencyLimitServerInterceptor interceptor = new ConcurrencyLimitServerInterceptor(
+					limitFactory(limiter));
+			interceptor.setPerMethod(limiter.isPerMethod());
+			interceptor.setRejectStatus(limiter.getRejectStatus());
+			return interceptor;
+		}
+
+		private Supplier<ConcurrencyLimit> limitFactory(GrpcServerProperties.Limiter limiter) {
+			return switch (limiter.getAlgorithm()) {
+				case VEGAS -> () -> new VegasConcurrencyLimit(limiter.getInitialLimit(), limiter.getMinLimit(),
+						limiter.getMaxLimit(), limiter.getSmoothing());
+				case GRADIENT -> () -> new GradientConcurrencyLimit(limiter.getInitialLimit(), limiter.getMinLimit(),
+						limiter.getMaxLimit(), limiter.getSmoothing(), limiter.getRttTolerance());
+			};
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(prefix = "spring.grpc.server.rate-limit", name = "enabled", havingValue = "true")
+	static class RateLimitConfiguration {
+
+		@GlobalServerInterceptor
+		@Bean
+		@ConditionalOnMissingBean
+		RateLimitServerInterceptor rateLimitServerInterceptor(GrpcServerProperties properties,
+				ObjectProvider<PrincipalResolver> principalResolver) {
+			GrpcServerProperties.RateLimit rateLimit = properties.getRateLimit();
+			RateLimitServerInterceptor interceptor = new RateLimitServerInterceptor();
+			interceptor.setIdleTimeout(rateLimit.getIdleTimeout());
+			principalResolver.ifAvailable(interceptor::setPrincipalResolver);
+			for (GrpcServerProperties.RateLimit.Rule rule : rateLimit.getRules()) {
+				RateLimitedCall call = rule.getMethods().isEmpty() ? interceptor.allRequests()
+						: interceptor.methods(rule.getMethods().toArray(String[]::new));
+				if (rule.isPerPrincipal()) {
+					call.perPrincipal();
+				}
+				if (rule.getPermits() == null) {
+					call.unlimited();
+				}
+				else {
+					call.limit(rule.getPermits(), rule.getPeriod(),
+							(rule.getBurst() != null) ? rule.getBurst() : rule.getPermits());
+				}
+			}
+			return interceptor;
+		}
+
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server.orca;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.grpc.autoconfigure.server.ConditionalOnGrpcServerEnabled;
+import org.springframework.grpc.autoconfigure.server.GrpcServerFactoryAutoConfiguration;
+import org.springframework.grpc.autoconfigure.server.GrpcServerProperties;
+import org.springframework.grpc.server.GlobalServerInterceptor;
+
+import io.grpc.BindableService;
+import io.grpc.services.MetricRecorder;
+import io.grpc.xds.orca.OrcaMetricReportingServerInterceptor;
+import io.grpc.xds.orca.OrcaServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for ORCA backend metrics, which
+ * clients using the weighted_round_robin load balancing policy read to weight the
+ * server by its load. The metrics are sent in the trailers of each call, and by the ORCA
+ * service to clients that ask for out of band reports.
+ * <p>
+ * This auto-configuration is disabled by default. To enable it, set the configuration
+ * flag {spring.grpc.server.orca.enabled=true} in your application properties.
+ *
+ * @author Dave Syer
+ */
+@AutoConfiguration(before = GrpcServerFactoryAutoConfiguration.class,
+		afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@ConditionalOnGrpcServerEnabled
+@ConditionalOnClass({ OrcaServiceImpl.class, MeterRegistry.class })
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(name = "spring.grpc.server.orca.enabled", havingValue = "true")
+@EnableConfigurationProperties(GrpcServerProperties.class)
+public class GrpcServerOrcaAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	MetricRecorder grpcOrcaMetricRecorder() {
+		return MetricRecorder.newInstance();
+	}
+
+	@Bean
+	@GlobalServerInterceptor
+	MicrometerOrcaLoadReporter grpcOrcaLoadReporter(MeterRegistry registry, MetricRecorder recorder,
+			GrpcServerProperties properties) {
+		GrpcServerProperties.Orca orca = properties.getOrca();
+		return new MicrometerOrcaLoadReporter(registry, recorder, orca.getCpuMeter(), orca.getUpdateInterval());
+	}
+
+	@Bean
+	@GlobalServerInterceptor
+	OrcaMetricReportingServerInterceptor grpcOrcaMetricReportingServerInterceptor(MetricRecorder recorder) {
+		return OrcaMetricReportingServerInterceptor.create(recorder);
+	}
+
+	@Bean
+	BindableService grpcOrcaService(MicrometerOrcaLoadReporter reporter, MetricRecorder recorder,
+			GrpcServerProperties properties) {
+		return OrcaServiceImpl.createService(reporter.getExecutor(), recorder,
+				properties.getOrca().getMinReportingInterval().toNanos(), TimeUnit.NANOSECONDS);
+	}
+
+}
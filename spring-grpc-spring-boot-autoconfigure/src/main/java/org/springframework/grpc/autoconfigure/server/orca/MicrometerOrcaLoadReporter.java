@@ -0,0 +1,142 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server.orca;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.grpc.services.MetricRecorder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps an ORCA {@link MetricRecorder} up to date with the load of the server: the CPU
+ * utilization from a Micrometer gauge, the heap utilization from the JVM memory gauges,
+ * and the rates of calls and errors, which it counts as a {@link ServerInterceptor}.
+ *
+ * @author Dave Syer
+ */
+class MicrometerOrcaLoadReporter implements ServerInterceptor, DisposableBean {
+
+	private final MeterRegistry registry;
+
+	private final MetricRecorder recorder;
+
+	private final String cpuMeter;
+
+	private final ScheduledExecutorService executor;
+
+	private final LongAdder calls = new LongAdder();
+
+	private final LongAdder errors = new LongAdder();
+
+	private long lastCalls;
+
+	private long lastErrors;
+
+	private long lastUpdate = System.nanoTime();
+
+	MicrometerOrcaLoadReporter(MeterRegistry registry, MetricRecorder recorder, String cpuMeter,
+			Duration updateInterval) {
+		this.registry = registry;
+		this.recorder = recorder;
+		this.cpuMeter = cpuMeter;
+		CustomizableThreadFactory threads = new CustomizableThreadFactory("grpc-orca-");
+		threads.setDaemon(true);
+		this.executor = Executors.newSingleThreadScheduledExecutor(threads);
+		this.executor.scheduleAtFixedRate(this::update, updateInterval.toNanos(), updateInterval.toNanos(),
+				TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * The executor that updates the metrics, which can also send the out of band
+	 * reports.
+	 * @return the executor
+	 */
+	ScheduledExecutorService getExecutor() {
+		return this.executor;
+	}
+
+	@Override
+	public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+			ServerCallHandler<ReqT, RespT> next) {
+		this.calls.increment();
+		return next.startCall(new SimpleForwardingServerCall<>(call) {
+			@Override
+			public void close(Status status, Metadata trailers) {
+				if (!status.isOk()) {
+					MicrometerOrcaLoadReporter.this.errors.increment();
+				}
+				super.close(status, trailers);
+			}
+		}, headers);
+	}
+
+	void update() {
+		Gauge cpu = this.registry.find(this.cpuMeter).gauge();
+		if (cpu != null && cpu.value() >= 0) {
+			this.recorder.setCpuUtilizationMetric(cpu.value());
+		}
+		double used = sum("jvm.memory.used");
+		double max = sum("jvm.memory.max");
+		if (used >= 0 && max > 0) {
+			this.recorder.setMemoryUtilizationMetric(used / max);
+		}
+		long now = System.nanoTime();
+		long calls = this.calls.sum();
+		long errors = this.errors.sum();
+		double seconds = (now - this.lastUpdate) / 1e9;
+		if (seconds > 0) {
+			this.recorder.setQpsMetric((calls - this.lastCalls) / seconds);
+			this.recorder.setEpsMetric((errors - this.lastErrors) / seconds);
+		}
+		this.lastCalls = calls;
+		this.lastErrors = errors;
+		this.lastUpdate = now;
+	}
+
+	// The heap pools without a limit report a max of -1, so the sum is only used if
+	// every pool has one
+	private double sum(String name) {
+		double sum = 0;
+		for (Gauge gauge : this.registry.find(name).tag("area", "heap").gauges()) {
+			if (!(gauge.value() >= 0)) {
+				return -1;
+			}
+			sum += gauge.value();
+		}
+		return sum;
+	}
+
+	@Override
+	public void destroy() {
+		this.executor.shutdownNow();
+	}
+
+}
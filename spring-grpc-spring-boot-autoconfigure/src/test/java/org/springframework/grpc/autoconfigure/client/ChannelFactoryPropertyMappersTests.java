@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.client;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.unit.DataSize;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+/**
+ * Tests for {@link NettyChannelFactoryPropertyMapper} and
+ * {@link ShadedNettyChannelFactoryPropertyMapper}.
+ *
+ * @author Chris Bono
+ */
+class ChannelFactoryPropertyMappersTests {
+
+	@Test
+	void customizeNettyChannelBuilderWithAutoFlowControl() {
+		GrpcClientProperties properties = new GrpcClientProperties();
+		properties.getDefaultChannel().getNetty().setInitialFlowControlWindow(DataSize.ofMegabytes(4));
+		io.grpc.netty.NettyChannelBuilder builder = mock();
+		new NettyChannelFactoryPropertyMapper(properties).customize("default", builder);
+		then(builder).should().initialFlowControlWindow(Math.toIntExact(DataSize.ofMegabytes(4).toBytes()));
+		then(builder).should(never()).flowControlWindow(anyInt());
+	}
+
+	@Test
+	void customizeNettyChannelBuilderWithFixedFlowControl() {
+		GrpcClientProperties properties = new GrpcClientProperties();
+		properties.getDefaultChannel().getNetty().setAutoFlowControl(false);
+		io.grpc.netty.NettyChannelBuilder builder = mock();
+		new NettyChannelFactoryPropertyMapper(properties).customize("default", builder);
+		then(builder).should().flowControlWindow(io.grpc.netty.NettyChannelBuilder.DEFAULT_FLOW_CONTROL_WINDOW);
+		then(builder).should(never()).initialFlowControlWindow(anyInt());
+	}
+
+	@Test
+	void customizeNettyChannelBuilderWithDefaults() {
+		io.grpc.netty.NettyChannelBuilder builder = mock();
+		new NettyChannelFactoryPropertyMapper(new GrpcClientProperties()).customize("default", builder);
+		then(builder).should(never()).initialFlowControlWindow(anyInt());
+		then(builder).should(never()).flowControlWindow(anyInt());
+	}
+
+	@Test
+	void customizeShadedNettyChannelBuilderForNamedChannel() {
+		GrpcClientProperties properties = new GrpcClientProperties();
+		GrpcClientProperties.ChannelConfig channel = properties.getDefaultChannel().copy();
+		channel.getNetty().setInitialFlowControlWindow(DataSize.ofMegabytes(16));
+		channel.getNetty().setAutoFlowControl(false);
+		properties.getChannels().put("c1", channel);
+		io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder builder = mock();
+		new ShadedNettyChannelFactoryPropertyMapper(properties).customize("c1", builder);
+		then(builder).should().flowControlWindow(Math.toIntExact(DataSize.ofMegabytes(16).toBytes()));
+		then(builder).should(never()).initialFlowControlWindow(anyInt());
+	}
+
+}
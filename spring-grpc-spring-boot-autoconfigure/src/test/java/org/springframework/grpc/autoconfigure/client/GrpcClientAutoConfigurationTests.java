@@ -17,18 +17,24 @@
 package org.springframework.grpc.autoconfigure.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
@@ -43,15 +49,42 @@ import org.springframework.core.annotation.Order;
 import org.springframework.grpc.client.ChannelCredentialsProvider;
 import org.springframework.grpc.client.GrpcChannelBuilderCustomizer;
 import org.springframework.grpc.client.GrpcChannelFactory;
+import org.springframework.grpc.client.GrpcClientFactory;
+import org.springframework.grpc.client.GrpcClientFactoryCustomizer;
 import org.springframework.grpc.client.NettyGrpcChannelFactory;
 import org.springframework.grpc.client.ShadedNettyGrpcChannelFactory;
-
+import org.springframework.grpc.client.balancer.HashKeyClientInterceptor;
+import org.springframework.grpc.client.interceptor.CachingClientInterceptor;
+import org.springframework.grpc.client.interceptor.CoalescingClientInterceptor;
+import org.springframework.grpc.client.interceptor.CompressionClientInterceptor;
+import org.springframework.grpc.client.interceptor.ZeroCopyClientInterceptor;
+import org.springframework.grpc.compression.CompressionRules;
+import org.springframework.grpc.compression.CompressionRules.Compression;
+import org.springframework.grpc.server.LocalGrpcServer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.google.protobuf.StringValue;
+import io.grpc.CallOptions;
+import io.grpc.ChannelCredentials;
+import io.grpc.ClientInterceptor;
 import io.grpc.Codec;
 import io.grpc.CompressorRegistry;
+import io.grpc.Context;
+import io.grpc.Deadline;
 import io.grpc.DecompressorRegistry;
+import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.TlsChannelCredentials;
 import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.protobuf.ProtoUtils;
 import io.grpc.stub.AbstractStub;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ServerCalls;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Tests for {@link GrpcClientAutoConfiguration}.
@@ -110,6 +143,50 @@ class GrpcClientAutoConfigurationTests {
 				.isInstanceOf(SslBundles.class));
 	}
 
+	@Test
+	void credentialsProviderSharesCredentialsOfChannelsWithTheSameSettings() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.default-channel.ssl.enabled=true",
+					"spring.grpc.client.channels.insecure.ssl.enabled=true",
+					"spring.grpc.client.channels.insecure.secure=false")
+			.run((context) -> {
+				NamedChannelCredentialsProvider provider = context.getBean(NamedChannelCredentialsProvider.class);
+				ChannelCredentials credentials = provider.getChannelCredentials("localhost:9090");
+				assertThat(provider.getChannelCredentials("localhost:9091")).isSameAs(credentials);
+				assertThat(provider.getChannelCredentials("insecure")).isNotSameAs(credentials);
+			});
+	}
+
+	@Test
+	void credentialsProviderSharesSslContextOfNettyChannelsByDefault() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.default-channel.ssl.enabled=true")
+			.run((context) -> {
+				NamedChannelCredentialsProvider provider = context.getBean(NamedChannelCredentialsProvider.class);
+				ChannelCredentials credentials = provider.getChannelCredentials("localhost:9090",
+						NettyChannelBuilder.class);
+				assertThat(credentials).isNotInstanceOf(TlsChannelCredentials.class);
+				assertThat(provider.getChannelCredentials("localhost:9091", NettyChannelBuilder.class))
+					.isSameAs(credentials);
+			});
+	}
+
+	@Test
+	void credentialsProviderBuildsSslContextForTheTransportOfTheChannel() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.default-channel.ssl.enabled=true",
+					"spring.grpc.client.default-channel.ssl.session-cache-size=100")
+			.run((context) -> {
+				NamedChannelCredentialsProvider provider = context.getBean(NamedChannelCredentialsProvider.class);
+				ChannelCredentials netty = provider.getChannelCredentials("localhost:9090", NettyChannelBuilder.class);
+				ChannelCredentials shaded = provider.getChannelCredentials("localhost:9090",
+						io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder.class);
+				assertThat(netty.getClass().getName()).startsWith("io.grpc.netty.")
+					.doesNotStartWith("io.grpc.netty.shaded.");
+				assertThat(shaded.getClass().getName()).startsWith("io.grpc.netty.shaded.");
+			});
+	}
+
 	@Test
 	void clientPropertiesAutoConfiguredResolvesPlaceholders() {
 		this.contextRunner()
@@ -148,6 +225,213 @@ class GrpcClientAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	void clientPropertiesChannelCustomizerAutoConfiguredWithMethodConfigAsExpected() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.health.enabled=true",
+					"spring.grpc.client.channels.test.method-config[0].name[0].service=my.Service",
+					"spring.grpc.client.channels.test.method-config[0].name[0].method=Get",
+					"spring.grpc.client.channels.test.method-config[0].hedging.max-attempts=3",
+					"spring.grpc.client.channels.test.method-config[0].hedging.hedging-delay=50ms",
+					"spring.grpc.client.channels.test.method-config[0].hedging.non-fatal-status-codes=unavailable",
+					"spring.grpc.client.channels.test.method-config[1].timeout=1500ms",
+					"spring.grpc.client.channels.test.method-config[1].retry.max-attempts=4",
+					"spring.grpc.client.channels.test.retry-throttling.max-tokens=10")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				Map<String, ?> serviceConfig = Map
+					.of("healthCheckConfig", Map.of("serviceName", ""), "methodConfig", List.of(
+							Map.of("name", List.of(Map.of("service", "my.Service", "method", "Get")), "hedgingPolicy",
+									Map.of("maxAttempts", 3.0, "hedgingDelay", "0.05s", "nonFatalStatusCodes",
+											List.of("UNAVAILABLE"))),
+							Map.of("name", List.of(Map.of()), "timeout", "1.5s", "retryPolicy",
+									Map.of("maxAttempts", 4.0, "initialBackoff", "0.1s", "maxBackoff", "1s",
+											"backoffMultiplier", 2.0, "retryableStatusCodes", List.of("UNAVAILABLE")))),
+							"retryThrottling", Map.of("maxTokens", 10.0, "tokenRatio", 0.1));
+				verify(builder).defaultServiceConfig(serviceConfig);
+				// The service config is parsed and validated when the channel is built
+				NettyChannelBuilder channelBuilder = NettyChannelBuilder.forTarget("localhost:9090");
+				customizer.customize("test", channelBuilder);
+				channelBuilder.build().shutdownNow();
+			});
+	}
+
+	@Test
+	void clientPropertiesChannelCustomizerAutoConfiguredWithLoadBalancingAsExpected() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.load-balancing.policy=weighted-round-robin",
+					"spring.grpc.client.channels.test.load-balancing.weighted-round-robin.blackout-period=5s",
+					"spring.grpc.client.channels.test.load-balancing.weighted-round-robin.error-utilization-penalty=2")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				Map<String, ?> serviceConfig = Map.of("loadBalancingConfig",
+						List.of(Map.of("weighted_round_robin", Map.of("enableOobLoadReport", false, "blackoutPeriod",
+								"5s", "errorUtilizationPenalty", 2.0))));
+				verify(builder).defaultServiceConfig(serviceConfig);
+			});
+	}
+
+	@Test
+	void clientPropertiesChannelCustomizerAutoConfiguredWithConsistentHashAsExpected() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.load-balancing.policy=consistent-hash",
+					"spring.grpc.client.channels.test.load-balancing.consistent-hash.header=x-user",
+					"spring.grpc.client.channels.test.load-balancing.consistent-hash.field=user_id",
+					"spring.grpc.client.channels.test.load-balancing.consistent-hash.load-factor=1.25")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				Map<String, ?> serviceConfig = Map.of("loadBalancingConfig",
+						List.of(Map.of("consistent_hash", Map.of("hashHeader", "x-user", "loadFactor", 1.25))));
+				verify(builder).defaultServiceConfig(serviceConfig);
+				ArgumentCaptor<ClientInterceptor> interceptor = ArgumentCaptor.forClass(ClientInterceptor.class);
+				verify(builder).intercept(interceptor.capture());
+				assertThat(interceptor.getValue()).isInstanceOf(HashKeyClientInterceptor.class);
+			});
+	}
+
+	@Test
+	void hashKeyInterceptorNotInstalledWithOtherPolicies() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.load-balancing.policy=round-robin",
+					"spring.grpc.client.channels.test.load-balancing.consistent-hash.field=user_id")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				verify(builder, never()).intercept(any(ClientInterceptor.class));
+			});
+	}
+
+	@Test
+	void clientPropertiesChannelCustomizerAutoConfiguredWithCoalescingAsExpected() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.coalescing.enabled=true",
+					"spring.grpc.client.channels.test.coalescing.methods=Simple/Get*")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				ArgumentCaptor<ClientInterceptor> interceptor = ArgumentCaptor.forClass(ClientInterceptor.class);
+				verify(builder).intercept(interceptor.capture());
+				assertThat(interceptor.getValue()).isInstanceOf(CoalescingClientInterceptor.class)
+					.hasFieldOrPropertyWithValue("methodPatterns", new String[] { "Simple/Get*" });
+			});
+	}
+
+	@Test
+	void whenZeroCopyPropertyNotSetClientFactoryIsNotCustomized() {
+		this.contextRunner().run((context) -> assertThat(context).doesNotHaveBean("zeroCopyClientFactoryCustomizer"));
+	}
+
+	@Test
+	void whenZeroCopyPropertySetClientFactoryUsesZeroCopyMarshallers() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.zero-copy.enabled=true",
+					"spring.grpc.client.zero-copy.min-message-size=1MB")
+			.run((context) -> {
+				GrpcClientFactory factory = new GrpcClientFactory(context);
+				context.getBean("zeroCopyClientFactoryCustomizer", GrpcClientFactoryCustomizer.class)
+					.customize(factory);
+				assertThat(factory).extracting("zeroCopy")
+					.isInstanceOf(ZeroCopyClientInterceptor.class)
+					.extracting("minMessageSize")
+					.isEqualTo(1024 * 1024);
+			});
+	}
+
+	@Test
+	void clientPropertiesChannelCustomizerAutoConfiguredWithCompressionAsExpected() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.compression.enabled=true",
+					"spring.grpc.client.channels.test.compression.encoding=zstd",
+					"spring.grpc.client.channels.test.compression.rules[0].methods=Simple/Bulk*",
+					"spring.grpc.client.channels.test.compression.rules[0].min-message-size=0")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				ArgumentCaptor<ClientInterceptor> interceptor = ArgumentCaptor.forClass(ClientInterceptor.class);
+				verify(builder).intercept(interceptor.capture());
+				assertThat(interceptor.getValue()).isInstanceOf(CompressionClientInterceptor.class)
+					.extracting("rules", InstanceOfAssertFactories.type(CompressionRules.class))
+					.satisfies((rules) -> {
+						assertThat(rules.getCompression("Simple/SayHello")).isEqualTo(new Compression("zstd", 1024));
+						assertThat(rules.getCompression("Simple/BulkLoad")).isEqualTo(new Compression("zstd", 0));
+					});
+			});
+	}
+
+	@Test
+	void clientPropertiesChannelCustomizerAutoConfiguredWithCacheAsExpected() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.cache.enabled=true",
+					"spring.grpc.client.channels.test.cache.max-entries=5")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				customizer.customize("test", builder);
+				customizer.customize("test", builder);
+				ArgumentCaptor<ClientInterceptor> interceptor = ArgumentCaptor.forClass(ClientInterceptor.class);
+				verify(builder, times(2)).intercept(interceptor.capture());
+				assertThat(interceptor.getAllValues())
+					.allSatisfy((value) -> assertThat(value).isInstanceOf(CachingClientInterceptor.class));
+				Object cache = ReflectionTestUtils.getField(interceptor.getAllValues().get(0), "cache");
+				assertThat(cache).hasFieldOrPropertyWithValue("maxEntries", 5);
+				assertThat(ReflectionTestUtils.getField(interceptor.getAllValues().get(1), "cache")).isSameAs(cache);
+			});
+	}
+
+	@Test
+	void clientResponseCacheMetricsAreRegistered() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.cache.enabled=true")
+			.run((context) -> {
+				SimpleMeterRegistry registry = new SimpleMeterRegistry();
+				context.getBean(ClientResponseCacheMetrics.class).bindTo(registry);
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				customizer.customize("test", Mockito.mock(ManagedChannelBuilder.class));
+				assertThat(registry.get("grpc.client.cache.hit.ratio").tag("channel", "test").gauge().value())
+					.isEqualTo(1.0);
+				assertThat(registry.get("grpc.client.cache.gets").tag("result", "miss").functionCounter().count())
+					.isZero();
+			});
+	}
+
+	@Test
+	void whenMicrometerNotOnClasspathCacheMetricsAreSkipped() {
+		this.contextRunner()
+			.withClassLoader(new FilteredClassLoader(MeterBinder.class))
+			.run((context) -> assertThat(context).doesNotHaveBean(ClientResponseCacheMetrics.class));
+	}
+
+	@Test
+	void clientPropertiesChannelCustomizerWithRetryAndHedgingFails() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.client.channels.test.method-config[0].retry.max-attempts=3",
+					"spring.grpc.client.channels.test.method-config[0].hedging.max-attempts=3")
+			.run((context) -> {
+				var customizer = context.getBean("clientPropertiesChannelCustomizer",
+						GrpcChannelBuilderCustomizer.class);
+				ManagedChannelBuilder<?> builder = Mockito.mock();
+				assertThatIllegalArgumentException().isThrownBy(() -> customizer.customize("test", builder))
+					.withMessageContaining("Only one of retry or hedging");
+			});
+	}
+
 	@Test
 	void whenNoCompressorRegistryAutoConfigurationIsSkipped() {
 		// Codec class guards the imported GrpcCodecConfiguration which provides the
@@ -248,6 +532,39 @@ class GrpcClientAutoConfigurationTests {
 				NettyGrpcChannelFactory.class);
 	}
 
+	@Test
+	void defaultDeadlineAppliesToLocalChannels() {
+		AtomicReference<Deadline> deadline = new AtomicReference<>();
+		MethodDescriptor<StringValue, StringValue> method = MethodDescriptor.<StringValue, StringValue>newBuilder()
+			.setType(MethodType.UNARY)
+			.setFullMethodName("test/Echo")
+			.setRequestMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+			.setResponseMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+			.build();
+		ServerServiceDefinition service = ServerServiceDefinition.builder("test")
+			.addMethod(method, ServerCalls.asyncUnaryCall((request, observer) -> {
+				deadline.set(Context.current().getDeadline());
+				observer.onNext(request);
+				observer.onCompleted();
+			}))
+			.build();
+		LocalGrpcServer server = new LocalGrpcServer(() -> List.of(service), Duration.ZERO);
+		server.start();
+		try {
+			this.contextRunner()
+				.withPropertyValues("spring.grpc.client.default-channel.default-deadline=10s")
+				.withBean(LocalGrpcServer.class, () -> server)
+				.run((context) -> {
+					ManagedChannel channel = context.getBean(GrpcChannelFactory.class).createChannel("local:");
+					ClientCalls.blockingUnaryCall(channel, method, CallOptions.DEFAULT, StringValue.of("hello"));
+					assertThat(deadline.get()).isNotNull();
+				});
+		}
+		finally {
+			server.stop();
+		}
+	}
+
 	@Test
 	void noChannelFactoryAutoConfiguredAsExpected() {
 		this.contextRunner()
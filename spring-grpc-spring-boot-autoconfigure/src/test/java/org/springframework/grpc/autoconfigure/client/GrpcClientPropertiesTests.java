@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.entry;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -35,6 +36,8 @@ import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.unit.DataSize;
 
+import io.grpc.Status;
+
 /**
  * Tests for {@link GrpcClientProperties}.
  *
@@ -92,6 +95,22 @@ class GrpcClientPropertiesTests {
 			assertThat(channel.isSecure()).isTrue();
 			assertThat(channel.getSsl().isEnabled()).isFalse();
 			assertThat(channel.getSsl().getBundle()).isNull();
+			assertThat(channel.getNetty().getInitialFlowControlWindow()).isNull();
+			assertThat(channel.getNetty().isAutoFlowControl()).isTrue();
+			assertThat(channel.getMethodConfig()).isEmpty();
+			assertThat(channel.getRetryThrottling().getMaxTokens()).isNull();
+			assertThat(channel.getRetryThrottling().getTokenRatio()).isEqualTo(0.1);
+			assertThat(channel.getCoalescing().isEnabled()).isFalse();
+			assertThat(channel.getCoalescing().getMethods()).isEmpty();
+			assertThat(channel.getCache().isEnabled()).isFalse();
+			assertThat(channel.getCache().getMethods()).isEmpty();
+			assertThat(channel.getCache().getTimeToLive()).isEqualTo(Duration.ofMinutes(1));
+			assertThat(channel.getCache().getMaxEntries()).isEqualTo(1000);
+			assertThat(channel.getCache().getMaxSize()).isEqualTo(DataSize.ofMegabytes(10));
+			assertThat(channel.getCompression().isEnabled()).isFalse();
+			assertThat(channel.getCompression().getEncoding()).isEqualTo("gzip");
+			assertThat(channel.getCompression().getMinMessageSize()).isEqualTo(DataSize.ofKilobytes(1));
+			assertThat(channel.getCompression().getRules()).isEmpty();
 		}
 
 		@Test
@@ -124,6 +143,35 @@ class GrpcClientPropertiesTests {
 			map.put("%s.secure".formatted(propPrefix), "false");
 			map.put("%s.ssl.enabled".formatted(propPrefix), "true");
 			map.put("%s.ssl.bundle".formatted(propPrefix), "my-bundle");
+			map.put("%s.netty.initial-flow-control-window".formatted(propPrefix), "4MB");
+			map.put("%s.netty.auto-flow-control".formatted(propPrefix), "false");
+			map.put("%s.method-config[0].name[0].service".formatted(propPrefix), "my.Service");
+			map.put("%s.method-config[0].name[0].method".formatted(propPrefix), "Get");
+			map.put("%s.method-config[0].timeout".formatted(propPrefix), "2s");
+			map.put("%s.method-config[0].wait-for-ready".formatted(propPrefix), "true");
+			map.put("%s.method-config[0].retry.max-attempts".formatted(propPrefix), "3");
+			map.put("%s.method-config[0].retry.initial-backoff".formatted(propPrefix), "50ms");
+			map.put("%s.method-config[0].retry.max-backoff".formatted(propPrefix), "5s");
+			map.put("%s.method-config[0].retry.backoff-multiplier".formatted(propPrefix), "1.5");
+			map.put("%s.method-config[0].retry.retryable-status-codes".formatted(propPrefix),
+					"unavailable,resource_exhausted");
+			map.put("%s.method-config[1].hedging.max-attempts".formatted(propPrefix), "2");
+			map.put("%s.method-config[1].hedging.hedging-delay".formatted(propPrefix), "10ms");
+			map.put("%s.method-config[1].hedging.non-fatal-status-codes".formatted(propPrefix), "unavailable");
+			map.put("%s.retry-throttling.max-tokens".formatted(propPrefix), "100");
+			map.put("%s.retry-throttling.token-ratio".formatted(propPrefix), "0.5");
+			map.put("%s.coalescing.enabled".formatted(propPrefix), "true");
+			map.put("%s.coalescing.methods".formatted(propPrefix), "Simple/Get*");
+			map.put("%s.cache.enabled".formatted(propPrefix), "true");
+			map.put("%s.cache.methods".formatted(propPrefix), "Simple/List*");
+			map.put("%s.cache.time-to-live".formatted(propPrefix), "5m");
+			map.put("%s.cache.max-entries".formatted(propPrefix), "50");
+			map.put("%s.cache.max-size".formatted(propPrefix), "1MB");
+			map.put("%s.compression.enabled".formatted(propPrefix), "true");
+			map.put("%s.compression.encoding".formatted(propPrefix), "zstd");
+			map.put("%s.compression.min-message-size".formatted(propPrefix), "2KB");
+			map.put("%s.compression.rules[0].methods".formatted(propPrefix), "Simple/Small*");
+			map.put("%s.compression.rules[0].encoding".formatted(propPrefix), "identity");
 			GrpcClientProperties properties = bindProperties(map);
 			var channel = channelFromProperties.apply(properties);
 			assertThat(channel.getAddress()).isEqualTo("static://my-server:8888");
@@ -143,6 +191,46 @@ class GrpcClientPropertiesTests {
 			assertThat(channel.isSecure()).isFalse();
 			assertThat(channel.getSsl().isEnabled()).isTrue();
 			assertThat(channel.getSsl().getBundle()).isEqualTo("my-bundle");
+			assertThat(channel.getNetty().getInitialFlowControlWindow()).isEqualTo(DataSize.ofMegabytes(4));
+			assertThat(channel.getNetty().isAutoFlowControl()).isFalse();
+			assertThat(channel.getMethodConfig()).hasSize(2);
+			var methodConfig = channel.getMethodConfig().get(0);
+			assertThat(methodConfig.getName()).singleElement().satisfies((name) -> {
+				assertThat(name.getService()).isEqualTo("my.Service");
+				assertThat(name.getMethod()).isEqualTo("Get");
+			});
+			assertThat(methodConfig.getTimeout()).isEqualTo(Duration.ofSeconds(2));
+			assertThat(methodConfig.getWaitForReady()).isTrue();
+			assertThat(methodConfig.getRetry().getMaxAttempts()).isEqualTo(3);
+			assertThat(methodConfig.getRetry().getInitialBackoff()).isEqualTo(Duration.ofMillis(50));
+			assertThat(methodConfig.getRetry().getMaxBackoff()).isEqualTo(Duration.ofSeconds(5));
+			assertThat(methodConfig.getRetry().getBackoffMultiplier()).isEqualTo(1.5);
+			assertThat(methodConfig.getRetry().getRetryableStatusCodes()).containsExactly(Status.Code.UNAVAILABLE,
+					Status.Code.RESOURCE_EXHAUSTED);
+			assertThat(methodConfig.getHedging().getMaxAttempts()).isNull();
+			methodConfig = channel.getMethodConfig().get(1);
+			assertThat(methodConfig.getName()).isEmpty();
+			assertThat(methodConfig.getRetry().getMaxAttempts()).isNull();
+			assertThat(methodConfig.getHedging().getMaxAttempts()).isEqualTo(2);
+			assertThat(methodConfig.getHedging().getHedgingDelay()).isEqualTo(Duration.ofMillis(10));
+			assertThat(methodConfig.getHedging().getNonFatalStatusCodes()).containsExactly(Status.Code.UNAVAILABLE);
+			assertThat(channel.getRetryThrottling().getMaxTokens()).isEqualTo(100);
+			assertThat(channel.getRetryThrottling().getTokenRatio()).isEqualTo(0.5);
+			assertThat(channel.getCoalescing().isEnabled()).isTrue();
+			assertThat(channel.getCoalescing().getMethods()).containsExactly("Simple/Get*");
+			assertThat(channel.getCache().isEnabled()).isTrue();
+			assertThat(channel.getCache().getMethods()).containsExactly("Simple/List*");
+			assertThat(channel.getCache().getTimeToLive()).isEqualTo(Duration.ofMinutes(5));
+			assertThat(channel.getCache().getMaxEntries()).isEqualTo(50);
+			assertThat(channel.getCache().getMaxSize()).isEqualTo(DataSize.ofMegabytes(1));
+			assertThat(channel.getCompression().isEnabled()).isTrue();
+			assertThat(channel.getCompression().getEncoding()).isEqualTo("zstd");
+			assertThat(channel.getCompression().getMinMessageSize()).isEqualTo(DataSize.ofKilobytes(2));
+			assertThat(channel.getCompression().getRules()).singleElement().satisfies((rule) -> {
+				assertThat(rule.getMethods()).containsExactly("Simple/Small*");
+				assertThat(rule.getEncoding()).isEqualTo("identity");
+				assertThat(rule.getMinMessageSize()).isNull();
+			});
 		}
 
 		@Test
@@ -163,10 +251,12 @@ class GrpcClientPropertiesTests {
 			Map<String, String> map = new HashMap<>();
 			map.put("spring.grpc.client.default-channel.max-inbound-message-size", "1000");
 			map.put("spring.grpc.client.default-channel.max-inbound-metadata-size", "256");
+			map.put("spring.grpc.client.default-channel.netty.initial-flow-control-window", "65535");
 			GrpcClientProperties properties = bindProperties(map);
 			var defaultChannel = properties.getDefaultChannel();
 			assertThat(defaultChannel.getMaxInboundMessageSize()).isEqualTo(DataSize.ofBytes(1000));
 			assertThat(defaultChannel.getMaxInboundMetadataSize()).isEqualTo(DataSize.ofBytes(256));
+			assertThat(defaultChannel.getNetty().getInitialFlowControlWindow()).isEqualTo(DataSize.ofBytes(65535));
 		}
 
 	}
@@ -211,6 +301,25 @@ class GrpcClientPropertiesTests {
 			defaultChannel.setDefaultDeadline(Duration.ofMinutes(1));
 			defaultChannel.getSsl().setEnabled(true);
 			defaultChannel.getSsl().setBundle("custom-bundle");
+			defaultChannel.getNetty().setInitialFlowControlWindow(DataSize.ofMegabytes(2));
+			defaultChannel.getNetty().setAutoFlowControl(false);
+			var methodConfig = new ChannelConfig.MethodConfig();
+			var name = new ChannelConfig.MethodConfig.Name();
+			name.setService("my.Service");
+			methodConfig.getName().add(name);
+			methodConfig.getHedging().setMaxAttempts(3);
+			defaultChannel.getMethodConfig().add(methodConfig);
+			defaultChannel.getRetryThrottling().setMaxTokens(10);
+			defaultChannel.getCoalescing().setEnabled(true);
+			defaultChannel.getCoalescing().setMethods(List.of("Simple/*"));
+			defaultChannel.getCache().setEnabled(true);
+			defaultChannel.getCache().setMethods(List.of("Simple/*"));
+			defaultChannel.getCache().setTimeToLive(Duration.ofSeconds(30));
+			defaultChannel.getCompression().setEnabled(true);
+			var compressionRule = new ChannelConfig.Compression.Rule();
+			compressionRule.setMethods(List.of("Simple/Bulk*"));
+			compressionRule.setEncoding("lz4");
+			defaultChannel.getCompression().getRules().add(compressionRule);
 			var properties = newProperties(defaultChannel, Map.of());
 			var newChannel = properties.getChannel("new-channel");
 			assertThat(newChannel).usingRecursiveComparison().isEqualTo(defaultChannel);
@@ -20,8 +20,11 @@ import io.grpc.CompressorRegistry;
 import io.grpc.DecompressorRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.grpc.autoconfigure.common.codec.GrpcCodecConfiguration;
+import org.springframework.grpc.compression.Lz4Codec;
+import org.springframework.grpc.compression.ZstdCodec;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -45,4 +48,20 @@ public class GrpcCodecConfigurationTest {
 		contextRunner.run(context -> assertThat(context).hasSingleBean(DecompressorRegistry.class));
 	}
 
+	@Test
+	void testZstdAndLz4CodecsRegistered() {
+		contextRunner.run(context -> {
+			assertThat(context).hasSingleBean(ZstdCodec.class).hasSingleBean(Lz4Codec.class);
+			assertThat(context.getBean(CompressorRegistry.class).lookupCompressor("zstd")).isNotNull();
+			assertThat(context.getBean(DecompressorRegistry.class).getAdvertisedMessageEncodings()).contains("zstd",
+					"lz4");
+		});
+	}
+
+	@Test
+	void testZstdAndLz4CodecsNotRegisteredWithoutLibraries() {
+		contextRunner.withClassLoader(new FilteredClassLoader("com.github.luben.zstd", "net.jpountz.lz4"))
+			.run(context -> assertThat(context).doesNotHaveBean(ZstdCodec.class).doesNotHaveBean(Lz4Codec.class));
+	}
+
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.ssl.SslAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.embedded.netty.NettyRouteProvider;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.grpc.autoconfigure.server.GrpcServerFactoryAutoConfiguration.GrpcReactiveConfiguration;
+import org.springframework.grpc.server.GrpcServerFactory;
+import org.springframework.grpc.server.lifecycle.GrpcServerLifecycle;
+import org.springframework.grpc.server.reactive.ReactorNettyGrpcHandler;
+import org.springframework.util.unit.DataSize;
+
+import io.grpc.BindableService;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.servlet.jakarta.GrpcServlet;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Tests for {@link GrpcReactiveConfiguration}.
+ *
+ * @author Dave Syer
+ */
+class GrpcReactiveAutoConfigurationTests {
+
+	private ReactiveWebApplicationContextRunner contextRunner() {
+		BindableService service = mock();
+		ServerServiceDefinition serviceDefinition = ServerServiceDefinition.builder("my-service").build();
+		when(service.bindService()).thenReturn(serviceDefinition);
+		return new ReactiveWebApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(SslAutoConfiguration.class, GrpcServerAutoConfiguration.class,
+					GrpcServerFactoryAutoConfiguration.class))
+			.withBean(BindableService.class, () -> service);
+	}
+
+	@Test
+	void whenNotEnabledNativeServerIsUsed() {
+		this.contextRunner()
+			.run((context) -> assertThat(context).doesNotHaveBean(ReactorNettyGrpcHandler.class)
+				.hasSingleBean(GrpcServerFactory.class));
+	}
+
+	@Test
+	void whenEnabledHandlerIsAutoConfigured() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.reactive.enabled=true")
+			.run((context) -> assertThat(context).hasSingleBean(ReactorNettyGrpcHandler.class)
+				.hasSingleBean(NettyRouteProvider.class)
+				.doesNotHaveBean(GrpcServerFactory.class));
+	}
+
+	@Test
+	void whenEnabledWithoutGrpcServletNativeServerIsNotUsed() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.reactive.enabled=true")
+			.withClassLoader(new FilteredClassLoader(GrpcServlet.class))
+			.run((context) -> assertThat(context).hasSingleBean(ReactorNettyGrpcHandler.class)
+				.doesNotHaveBean(GrpcServerFactory.class)
+				.doesNotHaveBean(GrpcServerLifecycle.class));
+	}
+
+	@Test
+	void whenListenersAreSetContextFails() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.reactive.enabled=true",
+					"spring.grpc.server.listeners.admin.address=localhost:0")
+			.run((context) -> assertThat(context).hasFailed()
+				.getFailure()
+				.rootCause()
+				.hasMessageContaining("not supported by the reactive transport"));
+	}
+
+	@Test
+	void whenReactorNettyNotOnClasspathNativeServerIsUsed() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.reactive.enabled=true")
+			.withClassLoader(new FilteredClassLoader(HttpServer.class))
+			.run((context) -> assertThat(context).doesNotHaveBean(GrpcReactiveConfiguration.class));
+	}
+
+	@Test
+	void whenMaxInboundMessageSizeIsSetThenItIsUsed() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.reactive.enabled=true",
+					"spring.grpc.server.max-inbound-message-size=10KB")
+			.run((context) -> assertThat(context).getBean(ReactorNettyGrpcHandler.class)
+				.hasFieldOrPropertyWithValue("maxInboundMessageSize",
+						Math.toIntExact(DataSize.ofKilobytes(10).toBytes())));
+	}
+
+	@Test
+	void whenExecutorIsNotSetThenThreadPoolIsUsed() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.reactive.enabled=true")
+			.run((context) -> assertThat(context).getBean(ReactorNettyGrpcHandler.class)
+				.hasFieldOrPropertyWithValue("executor", null)
+				.hasFieldOrPropertyWithValue("direct", false));
+	}
+
+	@Test
+	void whenExecutorIsDirectThenEventLoopIsUsed() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.reactive.enabled=true",
+					"spring.grpc.server.reactive.executor=direct")
+			.run((context) -> assertThat(context).getBean(ReactorNettyGrpcHandler.class)
+				.hasFieldOrPropertyWithValue("direct", true));
+	}
+
+	@Test
+	void whenExecutorIsVirtualThenVirtualThreadsAreUsed() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.reactive.enabled=true",
+					"spring.grpc.server.reactive.executor=virtual")
+			.run((context) -> assertThat(context).getBean(ReactorNettyGrpcHandler.class)
+				.extracting("executor")
+				.isInstanceOf(VirtualThreadTaskExecutor.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void whenEnabledHttp2IsEnabled() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.reactive.enabled=true")
+			.run((context) -> {
+				NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+				context.getBeansOfType(WebServerFactoryCustomizer.class)
+					.values()
+					.forEach((customizer) -> customizer.customize(factory));
+				assertThat(factory.getHttp2().isEnabled()).isTrue();
+			});
+	}
+
+}
@@ -44,9 +44,13 @@ import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.grpc.compression.CompressionRules;
+import org.springframework.grpc.compression.CompressionRules.Compression;
 import org.springframework.grpc.server.GrpcServerFactory;
+import org.springframework.grpc.server.LocalGrpcServer;
 import org.springframework.grpc.server.NettyGrpcServerFactory;
 import org.springframework.grpc.server.ServerBuilderCustomizer;
+import org.springframework.grpc.server.compression.CompressionServerInterceptor;
 import org.springframework.grpc.server.ShadedNettyGrpcServerFactory;
 import org.springframework.grpc.server.lifecycle.GrpcServerLifecycle;
 import org.springframework.grpc.server.service.DefaultGrpcServiceConfigurer;
@@ -197,6 +201,65 @@ class GrpcServerAutoConfigurationTests {
 						ServerBuilderCustomizersConfig.CUSTOMIZER_FOO));
 	}
 
+	@Test
+	void whenCompressionPropertyNotSetCompressionInterceptorIsNotAutoConfigured() {
+		this.contextRunner().run((context) -> assertThat(context).doesNotHaveBean(CompressionServerInterceptor.class));
+	}
+
+	@Test
+	void compressionInterceptorAutoConfiguredAsExpected() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.compression.enabled=true",
+					"spring.grpc.server.compression.encoding=zstd",
+					"spring.grpc.server.compression.rules[0].methods=Simple/Bulk*",
+					"spring.grpc.server.compression.rules[0].min-message-size=0",
+					"spring.grpc.server.compression.rules[1].methods=Simple/Small*",
+					"spring.grpc.server.compression.rules[1].encoding=identity")
+			.run((context) -> assertThat(context).getBean(CompressionServerInterceptor.class)
+				.extracting("rules", InstanceOfAssertFactories.type(CompressionRules.class))
+				.satisfies((rules) -> {
+					assertThat(rules.getCompression("Simple/SayHello")).isEqualTo(new Compression("zstd", 1024));
+					assertThat(rules.getCompression("Simple/BulkLoad")).isEqualTo(new Compression("zstd", 0));
+					assertThat(rules.getCompression("Simple/SmallTalk")).isNull();
+				}));
+	}
+
+	@Test
+	void whenZeroCopyPropertyNotSetServiceConfigurerUsesStandardMarshallers() {
+		this.contextRunner()
+			.run((context) -> assertThat(context).getBean(DefaultGrpcServiceConfigurer.class)
+				.extracting("zeroCopyMinMessageSize")
+				.isNull());
+	}
+
+	@Test
+	void whenZeroCopyPropertySetServiceConfigurerUsesZeroCopyMarshallers() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.zero-copy.enabled=true",
+					"spring.grpc.server.zero-copy.min-message-size=1MB")
+			.run((context) -> assertThat(context).getBean(DefaultGrpcServiceConfigurer.class)
+				.extracting("zeroCopyMinMessageSize")
+				.isEqualTo(1024 * 1024));
+	}
+
+	@Test
+	void whenLocalPropertyNotSetLocalServerIsNotAutoConfigured() {
+		this.contextRunner().run((context) -> assertThat(context).doesNotHaveBean(LocalGrpcServer.class));
+	}
+
+	@Test
+	void localServerAutoConfiguredAsExpected() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.local.enabled=true",
+					"spring.grpc.server.local.direct-marshalling=true", "spring.grpc.server.port=9876")
+			.run((context) -> {
+				LocalGrpcServer server = context.getBean(LocalGrpcServer.class);
+				assertThat(server.isDirectMarshalling()).isTrue();
+				assertThat(server.isLocal("localhost:9876")).isTrue();
+				assertThat(server.isLocal("localhost:9090")).isFalse();
+			});
+	}
+
 	@Test
 	void whenHasUserDefinedServerFactoryDoesNotAutoConfigureBean() {
 		GrpcServerFactory customServerFactory = mock(GrpcServerFactory.class);
@@ -246,6 +309,24 @@ class GrpcServerAutoConfigurationTests {
 			.run((context) -> assertThat(context).doesNotHaveBean(GrpcServerFactory.class));
 	}
 
+	@Test
+	void excludedServicesAreNotAddedToServerFactory() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.services.exclude=my-*")
+			.run((context) -> assertThat(context).getBean(GrpcServerFactory.class)
+				.extracting("serviceList", InstanceOfAssertFactories.list(ServerServiceDefinition.class))
+				.isEmpty());
+	}
+
+	@Test
+	void listenerServesIncludedServicesOnItsOwnPort() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.listeners.admin.address=localhost:0",
+					"spring.grpc.server.listeners.admin.threads=2",
+					"spring.grpc.server.listeners.admin.services.include=my-service")
+			.run((context) -> assertThat(context.getBean(GrpcServerListeners.class).getPort("admin")).isPositive());
+	}
+
 	private void serverFactoryAutoConfiguredAsExpected(AbstractApplicationContextRunner<?, ?, ?> contextRunner,
 			Class<?> expectedServerFactoryType) {
 		contextRunner.withPropertyValues("spring.grpc.server.host=myhost", "spring.grpc.server.port=6160")
@@ -320,6 +401,21 @@ class GrpcServerAutoConfigurationTests {
 				NettyGrpcServerFactory.class);
 	}
 
+	@Test
+	void nettyServerFactoryAutoConfiguredWithSslContext() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.ssl.bundle=ssltest", "spring.grpc.server.ssl.provider=jdk",
+					"spring.grpc.server.ssl.session-cache-size=100", "spring.grpc.server.ssl.session-timeout=300",
+					"spring.ssl.bundle.jks.ssltest.keystore.location=classpath:test.jks",
+					"spring.ssl.bundle.jks.ssltest.keystore.password=secret",
+					"spring.ssl.bundle.jks.ssltest.key.password=password")
+			.withClassLoader(new FilteredClassLoader(io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder.class))
+			.run((context) -> assertThat(context).getBean(GrpcServerFactory.class)
+				.isInstanceOf(NettyGrpcServerFactory.class)
+				.extracting("credentials")
+				.isNotNull());
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	static class ServerBuilderCustomizersConfig {
 
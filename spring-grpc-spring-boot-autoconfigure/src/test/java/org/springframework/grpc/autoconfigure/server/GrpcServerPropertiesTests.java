@@ -31,6 +31,8 @@ import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
 import org.springframework.util.unit.DataSize;
 
+import io.grpc.Status;
+
 /**
  * Tests for {@link GrpcServerProperties}.
  *
@@ -165,6 +167,243 @@ class GrpcServerPropertiesTests {
 
 	}
 
+	@Nested
+	class NettyProperties {
+
+		@Test
+		void bindWithNoSettings() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.host", "my-server-ip");
+			GrpcServerProperties.Netty properties = bindProperties(map).getNetty();
+			assertThat(properties.getInitialFlowControlWindow()).isNull();
+			assertThat(properties.isAutoFlowControl()).isTrue();
+			assertThat(properties.getMaxConcurrentCallsPerConnection()).isNull();
+			assertThat(properties.getHandshakeTimeout()).isNull();
+		}
+
+		@Test
+		void bind() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.netty.initial-flow-control-window", "16MB");
+			map.put("spring.grpc.server.netty.auto-flow-control", "false");
+			map.put("spring.grpc.server.netty.max-concurrent-calls-per-connection", "200");
+			map.put("spring.grpc.server.netty.handshake-timeout", "10");
+			GrpcServerProperties.Netty properties = bindProperties(map).getNetty();
+			assertThat(properties.getInitialFlowControlWindow()).isEqualTo(DataSize.ofMegabytes(16));
+			assertThat(properties.isAutoFlowControl()).isFalse();
+			assertThat(properties.getMaxConcurrentCallsPerConnection()).isEqualTo(200);
+			assertThat(properties.getHandshakeTimeout()).isEqualTo(Duration.ofSeconds(10));
+		}
+
+	}
+
+	@Nested
+	class LimiterProperties {
+
+		@Test
+		void bindWithNoSettings() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.host", "my-server-ip");
+			GrpcServerProperties.Limiter properties = bindProperties(map).getLimiter();
+			assertThat(properties.isEnabled()).isFalse();
+			assertThat(properties.getAlgorithm()).isEqualTo(GrpcServerProperties.Limiter.Algorithm.GRADIENT);
+			assertThat(properties.getInitialLimit()).isEqualTo(20);
+			assertThat(properties.getRejectStatus()).isEqualTo(Status.Code.UNAVAILABLE);
+			assertThat(properties.isPerMethod()).isFalse();
+		}
+
+		@Test
+		void bind() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.limiter.enabled", "true");
+			map.put("spring.grpc.server.limiter.algorithm", "vegas");
+			map.put("spring.grpc.server.limiter.initial-limit", "50");
+			map.put("spring.grpc.server.limiter.min-limit", "5");
+			map.put("spring.grpc.server.limiter.max-limit", "500");
+			map.put("spring.grpc.server.limiter.smoothing", "0.5");
+			map.put("spring.grpc.server.limiter.rtt-tolerance", "2.0");
+			map.put("spring.grpc.server.limiter.reject-status", "resource_exhausted");
+			map.put("spring.grpc.server.limiter.per-method", "true");
+			GrpcServerProperties.Limiter properties = bindProperties(map).getLimiter();
+			assertThat(properties.isEnabled()).isTrue();
+			assertThat(properties.getAlgorithm()).isEqualTo(GrpcServerProperties.Limiter.Algorithm.VEGAS);
+			assertThat(properties.getInitialLimit()).isEqualTo(50);
+			assertThat(properties.getMinLimit()).isEqualTo(5);
+			assertThat(properties.getMaxLimit()).isEqualTo(500);
+			assertThat(properties.getSmoothing()).isEqualTo(0.5);
+			assertThat(properties.getRttTolerance()).isEqualTo(2.0);
+			assertThat(properties.getRejectStatus()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+			assertThat(properties.isPerMethod()).isTrue();
+		}
+
+	}
+
+	@Nested
+	class CacheProperties {
+
+		@Test
+		void bindWithNoSettings() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.host", "my-server-ip");
+			GrpcServerProperties.Cache properties = bindProperties(map).getCache();
+			assertThat(properties.isEnabled()).isFalse();
+			assertThat(properties.getMethods()).isEmpty();
+			assertThat(properties.getTimeToLive()).isEqualTo(Duration.ofMinutes(1));
+			assertThat(properties.getMaxEntries()).isEqualTo(10000);
+			assertThat(properties.getMaxSize()).isEqualTo(DataSize.ofMegabytes(50));
+		}
+
+		@Test
+		void bind() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.cache.enabled", "true");
+			map.put("spring.grpc.server.cache.methods", "Simple/Get*,Simple/List*");
+			map.put("spring.grpc.server.cache.time-to-live", "10s");
+			map.put("spring.grpc.server.cache.max-entries", "100");
+			map.put("spring.grpc.server.cache.max-size", "1MB");
+			GrpcServerProperties.Cache properties = bindProperties(map).getCache();
+			assertThat(properties.isEnabled()).isTrue();
+			assertThat(properties.getMethods()).containsExactly("Simple/Get*", "Simple/List*");
+			assertThat(properties.getTimeToLive()).isEqualTo(Duration.ofSeconds(10));
+			assertThat(properties.getMaxEntries()).isEqualTo(100);
+			assertThat(properties.getMaxSize()).isEqualTo(DataSize.ofMegabytes(1));
+		}
+
+	}
+
+	@Nested
+	class CompressionProperties {
+
+		@Test
+		void bindWithNoSettings() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.host", "my-server-ip");
+			GrpcServerProperties.Compression properties = bindProperties(map).getCompression();
+			assertThat(properties.isEnabled()).isFalse();
+			assertThat(properties.getEncoding()).isEqualTo("gzip");
+			assertThat(properties.getMinMessageSize()).isEqualTo(DataSize.ofKilobytes(1));
+			assertThat(properties.getRules()).isEmpty();
+		}
+
+		@Test
+		void bind() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.compression.enabled", "true");
+			map.put("spring.grpc.server.compression.encoding", "zstd");
+			map.put("spring.grpc.server.compression.min-message-size", "512B");
+			map.put("spring.grpc.server.compression.rules[0].methods", "Simple/Bulk*");
+			map.put("spring.grpc.server.compression.rules[0].encoding", "lz4");
+			map.put("spring.grpc.server.compression.rules[0].min-message-size", "0");
+			GrpcServerProperties.Compression properties = bindProperties(map).getCompression();
+			assertThat(properties.isEnabled()).isTrue();
+			assertThat(properties.getEncoding()).isEqualTo("zstd");
+			assertThat(properties.getMinMessageSize()).isEqualTo(DataSize.ofBytes(512));
+			assertThat(properties.getRules()).singleElement().satisfies((rule) -> {
+				assertThat(rule.getMethods()).containsExactly("Simple/Bulk*");
+				assertThat(rule.getEncoding()).isEqualTo("lz4");
+				assertThat(rule.getMinMessageSize()).isEqualTo(DataSize.ofBytes(0));
+			});
+		}
+
+	}
+
+	@Nested
+	class ZeroCopyProperties {
+
+		@Test
+		void bindWithNoSettings() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.host", "my-server-ip");
+			GrpcServerProperties.ZeroCopy properties = bindProperties(map).getZeroCopy();
+			assertThat(properties.isEnabled()).isFalse();
+			assertThat(properties.getMinMessageSize()).isEqualTo(DataSize.ofKilobytes(256));
+		}
+
+		@Test
+		void bind() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.zero-copy.enabled", "true");
+			map.put("spring.grpc.server.zero-copy.min-message-size", "1MB");
+			GrpcServerProperties.ZeroCopy properties = bindProperties(map).getZeroCopy();
+			assertThat(properties.isEnabled()).isTrue();
+			assertThat(properties.getMinMessageSize()).isEqualTo(DataSize.ofMegabytes(1));
+		}
+
+	}
+
+	@Nested
+	class RateLimitProperties {
+
+		@Test
+		void bindWithNoSettings() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.host", "my-server-ip");
+			GrpcServerProperties.RateLimit properties = bindProperties(map).getRateLimit();
+			assertThat(properties.isEnabled()).isFalse();
+			assertThat(properties.getIdleTimeout()).isEqualTo(Duration.ofMinutes(1));
+			assertThat(properties.getRules()).isEmpty();
+		}
+
+		@Test
+		void bind() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.rate-limit.enabled", "true");
+			map.put("spring.grpc.server.rate-limit.idle-timeout", "5m");
+			map.put("spring.grpc.server.rate-limit.rules[0].methods", "Simple/SayHello,Simple/StreamHello");
+			map.put("spring.grpc.server.rate-limit.rules[0].permits", "10");
+			map.put("spring.grpc.server.rate-limit.rules[0].period", "1m");
+			map.put("spring.grpc.server.rate-limit.rules[0].burst", "2");
+			map.put("spring.grpc.server.rate-limit.rules[0].per-principal", "true");
+			map.put("spring.grpc.server.rate-limit.rules[1].permits", "1000");
+			GrpcServerProperties.RateLimit properties = bindProperties(map).getRateLimit();
+			assertThat(properties.isEnabled()).isTrue();
+			assertThat(properties.getIdleTimeout()).isEqualTo(Duration.ofMinutes(5));
+			assertThat(properties.getRules()).hasSize(2);
+			GrpcServerProperties.RateLimit.Rule rule = properties.getRules().get(0);
+			assertThat(rule.getMethods()).containsExactly("Simple/SayHello", "Simple/StreamHello");
+			assertThat(rule.getPermits()).isEqualTo(10);
+			assertThat(rule.getPeriod()).isEqualTo(Duration.ofMinutes(1));
+			assertThat(rule.getBurst()).isEqualTo(2);
+			assertThat(rule.isPerPrincipal()).isTrue();
+			rule = properties.getRules().get(1);
+			assertThat(rule.getMethods()).isEmpty();
+			assertThat(rule.getPermits()).isEqualTo(1000);
+			assertThat(rule.getPeriod()).isEqualTo(Duration.ofSeconds(1));
+			assertThat(rule.getBurst()).isNull();
+			assertThat(rule.isPerPrincipal()).isFalse();
+		}
+
+	}
+
+	@Nested
+	class ReactorProperties {
+
+		@Test
+		void bindWithNoSettings() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.host", "my-server-ip");
+			GrpcServerProperties.Reactor properties = bindProperties(map).getReactor();
+			assertThat(properties.getPrefetch()).isNull();
+			assertThat(properties.getLowTide()).isNull();
+			assertThat(properties.getServices()).isEmpty();
+		}
+
+		@Test
+		void bind() {
+			Map<String, String> map = new HashMap<>();
+			map.put("spring.grpc.server.reactor.prefetch", "64");
+			map.put("spring.grpc.server.reactor.services.[com.example.Simple].prefetch", "512");
+			map.put("spring.grpc.server.reactor.services.[com.example.Simple].low-tide", "128");
+			GrpcServerProperties.Reactor properties = bindProperties(map).getReactor();
+			assertThat(properties.getPrefetch()).isEqualTo(64);
+			assertThat(properties.getLowTide()).isNull();
+			GrpcServerProperties.Reactor.Service service = properties.getServices().get("com.example.Simple");
+			assertThat(service.getPrefetch()).isEqualTo(512);
+			assertThat(service.getLowTide()).isEqualTo(128);
+		}
+
+	}
+
 	@Nested
 	class AddressProperties {
 
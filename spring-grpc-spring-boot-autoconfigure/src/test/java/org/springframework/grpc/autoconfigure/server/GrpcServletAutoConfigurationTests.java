@@ -22,6 +22,10 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.catalina.startup.Tomcat;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.boot.autoconfigure.AutoConfigurations;
@@ -29,13 +33,17 @@ import org.springframework.boot.autoconfigure.ssl.SslAutoConfiguration;
 import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.grpc.autoconfigure.server.GrpcServerFactoryAutoConfiguration.GrpcServletConfiguration;
 import org.springframework.grpc.server.ServerBuilderCustomizer;
 import org.springframework.util.unit.DataSize;
 
+import com.google.common.util.concurrent.MoreExecutors;
+
 import io.grpc.BindableService;
 import io.grpc.ServerServiceDefinition;
+import io.grpc.internal.FixedObjectPool;
 import io.grpc.internal.GrpcUtil;
 import io.grpc.servlet.jakarta.GrpcServlet;
 import io.grpc.servlet.jakarta.ServletServerBuilder;
@@ -86,6 +94,16 @@ class GrpcServletAutoConfigurationTests {
 		this.contextRunner().run((context) -> assertThat(context).getBean(ServletRegistrationBean.class).isNotNull());
 	}
 
+	@Test
+	void whenListenersAreSetContextFails() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.listeners.admin.address=localhost:0")
+			.run((context) -> assertThat(context).hasFailed()
+				.getFailure()
+				.rootCause()
+				.hasMessageContaining("not supported by the servlet transport"));
+	}
+
 	@Test
 	void whenCustomizerIsRegistered() {
 		ServerBuilderCustomizer<ServletServerBuilder> customizer = mock();
@@ -111,4 +129,52 @@ class GrpcServletAutoConfigurationTests {
 						GrpcUtil.DEFAULT_MAX_MESSAGE_SIZE));
 	}
 
+	@Test
+	void whenDirectExecutorIsSetThenItIsUsed() {
+		AtomicReference<ServletServerBuilder> builder = new AtomicReference<>();
+		ServerBuilderCustomizer<ServletServerBuilder> customizer = builder::set;
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.servlet.executor=direct")
+			.withBean(ServerBuilderCustomizer.class, () -> customizer)
+			.run((context) -> assertThat(builder.get()).extracting("serverImplBuilder.executorPool.object")
+				.isSameAs(MoreExecutors.directExecutor()));
+	}
+
+	@Test
+	void whenExecutorIsNotSetThenDefaultIsUsed() {
+		AtomicReference<ServletServerBuilder> builder = new AtomicReference<>();
+		ServerBuilderCustomizer<ServletServerBuilder> customizer = builder::set;
+		this.contextRunner()
+			.withBean(ServerBuilderCustomizer.class, () -> customizer)
+			.run((context) -> assertThat(builder.get()).extracting("serverImplBuilder.executorPool")
+				.isNotInstanceOf(FixedObjectPool.class));
+	}
+
+	@Test
+	void whenTomcatIsOnClasspathHttp2IsCustomized() {
+		this.contextRunner().run((context) -> assertThat(context).hasBean("grpcTomcatWebServerFactoryCustomizer"));
+	}
+
+	@Test
+	void whenTomcatIsNotOnClasspathHttp2IsNotCustomized() {
+		this.contextRunner()
+			.withClassLoader(new FilteredClassLoader(Tomcat.class))
+			.run((context) -> assertThat(context).doesNotHaveBean("grpcTomcatWebServerFactoryCustomizer"));
+	}
+
+	@Test
+	void whenGrpcWebIsEnabledFilterIsRegistered() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.grpc-web.enabled=true")
+			.run((context) -> assertThat(context).getBean("grpcWebFilter", FilterRegistrationBean.class)
+				.extracting(FilterRegistrationBean::getUrlPatterns)
+				.asInstanceOf(InstanceOfAssertFactories.COLLECTION)
+				.containsExactly("/my-service/*"));
+	}
+
+	@Test
+	void whenGrpcWebIsNotEnabledFilterIsNotRegistered() {
+		this.contextRunner().run((context) -> assertThat(context).doesNotHaveBean("grpcWebFilter"));
+	}
+
 }
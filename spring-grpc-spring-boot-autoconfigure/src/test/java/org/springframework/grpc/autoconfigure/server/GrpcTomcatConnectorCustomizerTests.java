@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.http11.AbstractHttp11Protocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Tests for {@link GrpcTomcatConnectorCustomizer}.
+ *
+ * @author Dave Syer
+ */
+class GrpcTomcatConnectorCustomizerTests {
+
+	@Test
+	void http2ProtocolIsCustomized() {
+		GrpcServerProperties properties = new GrpcServerProperties();
+		properties.getServlet().getHttp2().setMaxConcurrentStreams(1000L);
+		properties.getServlet().getHttp2().setMaxConcurrentStreamExecution(200);
+		properties.getServlet().getHttp2().setInitialWindowSize(DataSize.ofMegabytes(1));
+		properties.getServlet().getHttp2().setOverheadProtection(false);
+		properties.getKeepAlive().setMaxIdle(Duration.ofMinutes(5));
+		Http2Protocol http2 = new Http2Protocol();
+		Connector connector = connector(http2);
+		new GrpcTomcatConnectorCustomizer(properties).customize(connector);
+		assertThat(http2.getMaxConcurrentStreams()).isEqualTo(1000L);
+		assertThat(http2.getMaxConcurrentStreamExecution()).isEqualTo(200);
+		assertThat(http2.getInitialWindowSize()).isEqualTo(1024 * 1024);
+		assertThat(http2.getOverheadCountFactor()).isZero();
+		assertThat(http2.getKeepAliveTimeout()).isEqualTo(Duration.ofMinutes(5).toMillis());
+	}
+
+	@Test
+	void http2ProtocolKeepsTomcatDefaults() {
+		Http2Protocol http2 = new Http2Protocol();
+		Http2Protocol defaults = new Http2Protocol();
+		new GrpcTomcatConnectorCustomizer(new GrpcServerProperties()).customize(connector(http2));
+		assertThat(http2.getMaxConcurrentStreams()).isEqualTo(defaults.getMaxConcurrentStreams());
+		assertThat(http2.getInitialWindowSize()).isEqualTo(defaults.getInitialWindowSize());
+		assertThat(http2.getOverheadCountFactor()).isEqualTo(defaults.getOverheadCountFactor());
+		assertThat(http2.getKeepAliveTimeout()).isEqualTo(defaults.getKeepAliveTimeout());
+	}
+
+	@Test
+	void maxHeaderSizeIsOnlyRaised() {
+		GrpcServerProperties properties = new GrpcServerProperties();
+		properties.setMaxInboundMetadataSize(DataSize.ofKilobytes(64));
+		Connector connector = connector(new Http2Protocol());
+		AbstractHttp11Protocol<?> http11 = (AbstractHttp11Protocol<?>) connector.getProtocolHandler();
+		new GrpcTomcatConnectorCustomizer(properties).customize(connector);
+		assertThat(http11.getMaxHttpRequestHeaderSize()).isEqualTo(64 * 1024);
+		properties.setMaxInboundMetadataSize(DataSize.ofKilobytes(1));
+		new GrpcTomcatConnectorCustomizer(properties).customize(connector);
+		assertThat(http11.getMaxHttpRequestHeaderSize()).isEqualTo(64 * 1024);
+	}
+
+	private static Connector connector(Http2Protocol http2) {
+		Connector connector = new Connector("HTTP/1.1");
+		connector.addUpgradeProtocol(http2);
+		return connector;
+	}
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Tests for {@link GrpcWebFilter}.
+ *
+ * @author Dave Syer
+ */
+class GrpcWebFilterTests {
+
+	private final GrpcWebFilter filter = new GrpcWebFilter();
+
+	@Test
+	void grpcRequestIsNotAdapted() throws Exception {
+		MockHttpServletRequest request = request("application/grpc", frame(0, "foo"));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AtomicReference<String> contentType = new AtomicReference<>();
+		this.filter.doFilter(request, response, (req, res) -> contentType.set(req.getContentType()));
+		assertThat(contentType).hasValue("application/grpc");
+	}
+
+	@Test
+	void grpcWebCallHasTrailersInBody() throws Exception {
+		MockHttpServletRequest request = request("application/grpc-web+proto", frame(0, "foo"));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AtomicReference<byte[]> received = new AtomicReference<>();
+		this.filter.doFilter(request, response, servlet(received));
+		assertThat(received.get()).isEqualTo(frame(0, "foo"));
+		assertThat(response.getContentType()).isEqualTo("application/grpc-web+proto");
+		assertThat(response.getContentAsByteArray())
+			.isEqualTo(concat(frame(0, "hello"), frame(0x80, "grpc-status:0\r\n")));
+	}
+
+	@Test
+	void grpcWebTextCallIsBase64Encoded() throws Exception {
+		byte[] body = (Base64.getEncoder().encodeToString(frame(0, "f"))
+				+ Base64.getEncoder().encodeToString(frame(0, "oo")))
+			.getBytes(StandardCharsets.US_ASCII);
+		MockHttpServletRequest request = request("application/grpc-web-text", body);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AtomicReference<byte[]> received = new AtomicReference<>();
+		this.filter.doFilter(request, response, servlet(received));
+		assertThat(received.get()).isEqualTo(concat(frame(0, "f"), frame(0, "oo")));
+		assertThat(response.getContentType()).isEqualTo("application/grpc-web-text+proto");
+		assertThat(response.getContentAsString()).isEqualTo(Base64.getEncoder().encodeToString(frame(0, "hello"))
+				+ Base64.getEncoder().encodeToString(frame(0x80, "grpc-status:0\r\n")));
+	}
+
+	@Test
+	void grpcWebTextCallIsDecodedWhenTheBodyTrickles() throws Exception {
+		byte[] body = Base64.getEncoder().encode(frame(0, "foo"));
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/test/Hello") {
+			@Override
+			public ServletInputStream getInputStream() {
+				// At most one byte per read, so most reads end within a quantum
+				return new DelegatingServletInputStream(new ByteArrayInputStream(body) {
+					@Override
+					public int read(byte[] bytes, int offset, int length) {
+						return super.read(bytes, offset, Math.min(length, 1));
+					}
+				});
+			}
+		};
+		request.setContentType("application/grpc-web-text");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ByteArrayOutputStream received = new ByteArrayOutputStream();
+		this.filter.doFilter(request, response, (req, res) -> {
+			InputStream input = req.getInputStream();
+			int next;
+			while ((next = input.read()) >= 0) {
+				received.write(next);
+			}
+		});
+		assertThat(received.toByteArray()).isEqualTo(frame(0, "foo"));
+	}
+
+	@Test
+	void grpcWebCallCompletedByTheContainerIsNotAnError() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/test/Hello") {
+			@Override
+			public AsyncContext startAsync(ServletRequest request, ServletResponse response) {
+				return new MockAsyncContext(request, response) {
+					@Override
+					public void complete() {
+						throw new IllegalStateException("Already completed");
+					}
+				};
+			}
+		};
+		request.setContentType("application/grpc-web+proto");
+		request.setContent(frame(0, "foo"));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AtomicReference<byte[]> received = new AtomicReference<>();
+		this.filter.doFilter(request, response, servlet(received));
+		assertThat(received.get()).isEqualTo(frame(0, "foo"));
+	}
+
+	@Test
+	void grpcWebCallIsAbortedWhenTheTrailersCannotBeWritten() throws Exception {
+		MockHttpServletRequest request = request("application/grpc-web+proto", frame(0, "foo"));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.filter.doFilter(request, response, (req, res) -> {
+			req.getInputStream().readAllBytes();
+			HttpServletResponse servletResponse = (HttpServletResponse) res;
+			servletResponse.setContentType("application/grpc");
+			servletResponse.setTrailerFields(() -> {
+				throw new IllegalStateException("Trailers not available");
+			});
+			servletResponse.getOutputStream().write(frame(0, "hello"));
+			req.startAsync(req, res).complete();
+		});
+		assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+		assertThat(response.getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	void preFlightIsAnsweredForAllowedOrigin() throws Exception {
+		GrpcWebFilter filter = new GrpcWebFilter(List.of("https://example.com"), Duration.ofMinutes(5));
+		MockHttpServletRequest request = preFlight("https://example.com");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, (req, res) -> {
+			throw new IllegalStateException("Pre-flight requests should not reach the servlet");
+		});
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isEqualTo("https://example.com");
+		assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS)).isEqualTo("x-grpc-web");
+		assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_MAX_AGE)).isEqualTo("300");
+	}
+
+	@Test
+	void preFlightIsRejectedForOtherOrigin() throws Exception {
+		GrpcWebFilter filter = new GrpcWebFilter(List.of("https://example.com"), Duration.ofMinutes(5));
+		MockHttpServletRequest request = preFlight("https://other.com");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, (req, res) -> {
+			throw new IllegalStateException("Pre-flight requests should not reach the servlet");
+		});
+		assertThat(response.getStatus()).isEqualTo(403);
+	}
+
+	@Test
+	void grpcWebCallExposesStatusHeadersToAllowedOrigin() throws Exception {
+		GrpcWebFilter filter = new GrpcWebFilter(List.of("https://example.com"), Duration.ofMinutes(5));
+		MockHttpServletRequest request = request("application/grpc-web+proto", frame(0, "foo"));
+		request.addHeader(HttpHeaders.ORIGIN, "https://example.com");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, servlet(new AtomicReference<>()));
+		assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isEqualTo("https://example.com");
+		assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS)).contains("grpc-status");
+	}
+
+	private static MockHttpServletRequest preFlight(String origin) {
+		MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/test/Hello");
+		request.addHeader(HttpHeaders.ORIGIN, origin);
+		request.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "POST");
+		request.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, "x-grpc-web");
+		return request;
+	}
+
+	// Does what the gRPC servlet does for a unary call
+	private FilterChain servlet(AtomicReference<byte[]> received) {
+		return (req, res) -> {
+			assertThat(req.getContentType()).isEqualTo("application/grpc");
+			received.set(req.getInputStream().readAllBytes());
+			HttpServletResponse response = (HttpServletResponse) res;
+			response.setContentType("application/grpc");
+			Map<String, String> trailers = new HashMap<>();
+			response.setTrailerFields(() -> trailers);
+			response.getOutputStream().write(frame(0, "hello"));
+			trailers.put("grpc-status", "0");
+			req.startAsync(req, res).complete();
+		};
+	}
+
+	private static MockHttpServletRequest request(String contentType, byte[] body) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/test/Hello");
+		request.setContentType(contentType);
+		request.setContent(body);
+		request.setAsyncSupported(true);
+		return request;
+	}
+
+	private static byte[] frame(int flags, String content) {
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+		return ByteBuffer.allocate(5 + bytes.length).put((byte) flags).putInt(bytes.length).put(bytes).array();
+	}
+
+	private static byte[] concat(byte[] first, byte[] second) {
+		return ByteBuffer.allocate(first.length + second.length).put(first).put(second).array();
+	}
+
+}
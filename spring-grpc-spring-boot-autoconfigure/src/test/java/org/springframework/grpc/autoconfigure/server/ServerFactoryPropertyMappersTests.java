@@ -26,8 +26,12 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.util.unit.DataSize;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 /**
  * Tests for {@link DefaultServerFactoryPropertyMapper},
@@ -50,6 +54,54 @@ class ServerFactoryPropertyMappersTests {
 		customizeServerBuilder(NettyServerFactoryPropertyMapper::new, () -> builder);
 	}
 
+	@Test
+	void customizeShadedNettyServerBuilderWithNettyProperties() {
+		GrpcServerProperties properties = nettyProperties();
+		io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder builder = mock();
+		new ShadedNettyServerFactoryPropertyMapper(properties).customizeServerBuilder(builder);
+		then(builder).should().initialFlowControlWindow(Math.toIntExact(DataSize.ofMegabytes(8).toBytes()));
+		then(builder).should().maxConcurrentCallsPerConnection(500);
+		then(builder).should().handshakeTimeout(Duration.ofSeconds(5).toNanos(), TimeUnit.NANOSECONDS);
+		properties.getNetty().setAutoFlowControl(false);
+		builder = mock();
+		new ShadedNettyServerFactoryPropertyMapper(properties).customizeServerBuilder(builder);
+		then(builder).should().flowControlWindow(Math.toIntExact(DataSize.ofMegabytes(8).toBytes()));
+		then(builder).should(never()).initialFlowControlWindow(anyInt());
+	}
+
+	@Test
+	void customizeNettyServerBuilderWithNettyProperties() {
+		GrpcServerProperties properties = nettyProperties();
+		io.grpc.netty.NettyServerBuilder builder = mock();
+		new NettyServerFactoryPropertyMapper(properties).customizeServerBuilder(builder);
+		then(builder).should().initialFlowControlWindow(Math.toIntExact(DataSize.ofMegabytes(8).toBytes()));
+		then(builder).should().maxConcurrentCallsPerConnection(500);
+		then(builder).should().handshakeTimeout(Duration.ofSeconds(5).toNanos(), TimeUnit.NANOSECONDS);
+		properties.getNetty().setAutoFlowControl(false);
+		builder = mock();
+		new NettyServerFactoryPropertyMapper(properties).customizeServerBuilder(builder);
+		then(builder).should().flowControlWindow(Math.toIntExact(DataSize.ofMegabytes(8).toBytes()));
+		then(builder).should(never()).initialFlowControlWindow(anyInt());
+	}
+
+	@Test
+	void customizeNettyServerBuilderWithDefaultNettyProperties() {
+		io.grpc.netty.NettyServerBuilder builder = mock();
+		new NettyServerFactoryPropertyMapper(new GrpcServerProperties()).customizeServerBuilder(builder);
+		then(builder).should(never()).initialFlowControlWindow(anyInt());
+		then(builder).should(never()).flowControlWindow(anyInt());
+		then(builder).should(never()).maxConcurrentCallsPerConnection(anyInt());
+		then(builder).should(never()).handshakeTimeout(anyLong(), any());
+	}
+
+	private GrpcServerProperties nettyProperties() {
+		GrpcServerProperties properties = new GrpcServerProperties();
+		properties.getNetty().setInitialFlowControlWindow(DataSize.ofMegabytes(8));
+		properties.getNetty().setMaxConcurrentCallsPerConnection(500);
+		properties.getNetty().setHandshakeTimeout(Duration.ofSeconds(5));
+		return properties;
+	}
+
 	@Test
 	<T extends ServerBuilder<T>> void customizeBaseServerBuilder() {
 		T builder = mock();
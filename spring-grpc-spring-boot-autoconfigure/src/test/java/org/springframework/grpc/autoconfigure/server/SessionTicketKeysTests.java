@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.grpc.autoconfigure.server.SessionTicketKeys.Key;
+
+/**
+ * Tests for {@link SessionTicketKeys}.
+ *
+ * @author Dave Syer
+ */
+class SessionTicketKeysTests {
+
+	private final SessionTicketKeys ticketKeys = new SessionTicketKeys();
+
+	private final BlockingQueue<List<Key>> updates = new LinkedBlockingQueue<>();
+
+	@AfterEach
+	void destroy() {
+		this.ticketKeys.destroy();
+	}
+
+	@Test
+	void keysAreSetStraightAway() {
+		this.ticketKeys.add(Duration.ZERO, this.updates::add);
+		assertThat(this.updates.poll()).hasSize(1);
+	}
+
+	@Test
+	void rotationKeepsThePreviousKey() throws InterruptedException {
+		this.ticketKeys.add(Duration.ofMillis(10), this.updates::add);
+		List<Key> first = this.updates.poll(1, TimeUnit.SECONDS);
+		List<Key> second = this.updates.poll(1, TimeUnit.SECONDS);
+		List<Key> third = this.updates.poll(1, TimeUnit.SECONDS);
+		assertThat(first).hasSize(1);
+		assertThat(second).hasSize(2).element(1).isSameAs(first.get(0));
+		assertThat(third).hasSize(2).element(1).isSameAs(second.get(0));
+		assertThat(second.get(0).aesKey()).isNotEqualTo(first.get(0).aesKey());
+	}
+
+}
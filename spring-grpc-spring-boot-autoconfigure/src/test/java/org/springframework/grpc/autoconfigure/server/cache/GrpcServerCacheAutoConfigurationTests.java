@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.grpc.server.cache.CachingServerInterceptor;
+import org.springframework.grpc.server.lifecycle.GrpcServerLifecycle;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerServiceDefinition;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link GrpcServerCacheAutoConfiguration}.
+ *
+ * @author Dave Syer
+ */
+class GrpcServerCacheAutoConfigurationTests {
+
+	private ApplicationContextRunner contextRunner() {
+		// NOTE: we use noop server lifecycle to avoid startup
+		return new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(GrpcServerCacheAutoConfiguration.class))
+			.withBean("noopServerLifecycle", GrpcServerLifecycle.class, Mockito::mock);
+	}
+
+	@Test
+	void whenCachePropertyNotSetAutoConfigurationIsSkipped() {
+		this.contextRunner().run((context) -> assertThat(context).doesNotHaveBean(CachingServerInterceptor.class));
+	}
+
+	@Test
+	void whenServerEnabledPropertySetFalseThenAutoConfigurationIsSkipped() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.cache.enabled=true", "spring.grpc.server.enabled=false")
+			.run((context) -> assertThat(context).doesNotHaveBean(CachingServerInterceptor.class));
+	}
+
+	@Test
+	void whenCachePropertiesSetInterceptorIsConfigured() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.cache.enabled=true", "spring.grpc.server.cache.methods=Simple/Get*",
+					"spring.grpc.server.cache.time-to-live=5m", "spring.grpc.server.cache.max-entries=50")
+			.run((context) -> assertThat(context).getBean(CachingServerInterceptor.class).satisfies((interceptor) -> {
+				assertThat(interceptor.getCache()).hasFieldOrPropertyWithValue("maxEntries", 50)
+					.hasFieldOrPropertyWithValue("timeToLive", Duration.ofMinutes(5).toNanos());
+				ServerServiceDefinition service = ServerServiceDefinition.builder("Simple")
+					.addMethod(method("Simple/GetFoo"), Mockito.mock())
+					.addMethod(method("Simple/SetFoo"), Mockito.mock())
+					.build();
+				ServerServiceDefinition prepared = interceptor.usePreSerializedResponses(service);
+				assertThat(prepared.getMethod("Simple/GetFoo").getMethodDescriptor())
+					.isNotSameAs(service.getMethod("Simple/GetFoo").getMethodDescriptor());
+				assertThat(prepared.getMethod("Simple/SetFoo").getMethodDescriptor())
+					.isSameAs(service.getMethod("Simple/SetFoo").getMethodDescriptor());
+			}));
+	}
+
+	@Test
+	void cacheMetricsAreRegistered() {
+		this.contextRunner().withPropertyValues("spring.grpc.server.cache.enabled=true").run((context) -> {
+			SimpleMeterRegistry registry = new SimpleMeterRegistry();
+			context.getBean(ServerResponseCacheMetrics.class).bindTo(registry);
+			assertThat(registry.get("grpc.server.cache.hit.ratio").gauge().value()).isEqualTo(1.0);
+			assertThat(registry.get("grpc.server.cache.gets").tag("result", "hit").functionCounter().count()).isZero();
+			assertThat(registry.get("grpc.server.cache.evictions").functionCounter().count()).isZero();
+		});
+	}
+
+	@Test
+	void whenMicrometerNotOnClasspathCacheMetricsAreSkipped() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.cache.enabled=true")
+			.withClassLoader(new FilteredClassLoader(MeterBinder.class))
+			.run((context) -> assertThat(context).hasSingleBean(CachingServerInterceptor.class)
+				.doesNotHaveBean(ServerResponseCacheMetrics.class));
+	}
+
+	private static MethodDescriptor<Object, Object> method(String name) {
+		return MethodDescriptor.newBuilder()
+			.setType(MethodType.UNARY)
+			.setFullMethodName(name)
+			.setRequestMarshaller(Mockito.mock())
+			.setResponseMarshaller(Mockito.mock())
+			.build();
+	}
+
+}
@@ -39,10 +39,12 @@ import org.springframework.grpc.autoconfigure.server.GrpcServerFactoryAutoConfig
 import org.springframework.grpc.autoconfigure.server.ServerBuilderCustomizers;
 import org.springframework.grpc.autoconfigure.server.health.GrpcServerHealthAutoConfiguration.ActuatorHealthAdapterConfiguration;
 import org.springframework.grpc.server.lifecycle.GrpcServerLifecycle;
+import org.springframework.grpc.server.lifecycle.GrpcServerShutdownEvent;
 import org.springframework.grpc.server.service.GrpcServiceDiscoverer;
 import org.springframework.util.StringUtils;
 
 import io.grpc.BindableService;
+import io.grpc.Server;
 import io.grpc.ServerServiceDefinition;
 import io.grpc.protobuf.services.HealthStatusManager;
 
@@ -126,6 +128,17 @@ class GrpcServerHealthAutoConfigurationTests {
 	void enterTerminalStateIsCalledWhenStatusManagerIsStopped() {
 	}
 
+	@Test
+	void servicesAreNotServingWhenServerShutdownStarts() {
+		HealthStatusManager healthStatusManager = mock();
+		this.contextRunner()
+			.withBean("customHealthStatusManager", HealthStatusManager.class, () -> healthStatusManager)
+			.run((context) -> {
+				context.publishEvent(new GrpcServerShutdownEvent(mock(GrpcServerLifecycle.class), mock(Server.class)));
+				Mockito.verify(healthStatusManager).enterTerminalState();
+			});
+	}
+
 	@Test
 	void whenHasUserDefinedHealthStatusManagerDoesNotAutoConfigureBean() {
 		HealthStatusManager customHealthStatusManager = mock();
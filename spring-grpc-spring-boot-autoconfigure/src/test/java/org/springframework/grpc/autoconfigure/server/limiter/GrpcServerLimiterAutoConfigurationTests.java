@@ -0,0 +1,159 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server.limiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.grpc.server.limiter.ConcurrencyLimitServerInterceptor;
+import org.springframework.grpc.server.limiter.GradientConcurrencyLimit;
+import org.springframework.grpc.server.limiter.PrincipalResolver;
+import org.springframework.grpc.server.limiter.RateLimitServerInterceptor;
+import org.springframework.grpc.server.limiter.VegasConcurrencyLimit;
+import org.springframework.grpc.server.lifecycle.GrpcServerLifecycle;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.ServerCall;
+import io.grpc.Status;
+
+/**
+ * Tests for {@link GrpcServerLimiterAutoConfiguration}.
+ *
+ * @author Dave Syer
+ */
+class GrpcServerLimiterAutoConfigurationTests {
+
+	private ApplicationContextRunner contextRunner() {
+		// NOTE: we use noop server lifecycle to avoid startup
+		return new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(GrpcServerLimiterAutoConfiguration.class))
+			.withBean("noopServerLifecycle", GrpcServerLifecycle.class, Mockito::mock);
+	}
+
+	@Test
+	void whenLimiterPropertyNotSetAutoConfigurationIsSkipped() {
+		this.contextRunner()
+			.run((context) -> assertThat(context).doesNotHaveBean(ConcurrencyLimitServerInterceptor.class));
+	}
+
+	@Test
+	void whenServerEnabledPropertySetFalseThenAutoConfigurationIsSkipped() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.limiter.enabled=true", "spring.grpc.server.enabled=false")
+			.run((context) -> assertThat(context).doesNotHaveBean(ConcurrencyLimitServerInterceptor.class));
+	}
+
+	@Test
+	void whenLimiterEnabledGradientLimitIsUsedByDefault() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.limiter.enabled=true")
+			.run((context) -> assertThat(context).getBean(ConcurrencyLimitServerInterceptor.class)
+				.satisfies((interceptor) -> {
+					assertThat(interceptor.getLimiter("test/Method"))
+						.extracting((limiter) -> ReflectionTestUtils.getField(limiter, "limit"))
+						.isInstanceOf(GradientConcurrencyLimit.class);
+					assertThat(interceptor.getLimiter("test/Method").getLimit()).isEqualTo(20);
+				})
+				.hasFieldOrPropertyWithValue("perMethod", false)
+				.hasFieldOrPropertyWithValue("rejectStatus", Status.UNAVAILABLE));
+	}
+
+	@Test
+	void whenLimiterPropertiesSetInterceptorIsConfigured() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.limiter.enabled=true", "spring.grpc.server.limiter.algorithm=vegas",
+					"spring.grpc.server.limiter.initial-limit=50", "spring.grpc.server.limiter.per-method=true",
+					"spring.grpc.server.limiter.reject-status=resource_exhausted")
+			.run((context) -> assertThat(context).getBean(ConcurrencyLimitServerInterceptor.class)
+				.satisfies((interceptor) -> {
+					assertThat(interceptor.getLimiter("test/Method"))
+						.extracting((limiter) -> ReflectionTestUtils.getField(limiter, "limit"))
+						.isInstanceOf(VegasConcurrencyLimit.class);
+					assertThat(interceptor.getLimiter("test/Method").getLimit()).isEqualTo(50);
+				})
+				.hasFieldOrPropertyWithValue("perMethod", true)
+				.hasFieldOrPropertyWithValue("rejectStatus", Status.RESOURCE_EXHAUSTED));
+	}
+
+	@Test
+	void whenHasUserDefinedInterceptorDoesNotAutoConfigureBean() {
+		ConcurrencyLimitServerInterceptor customInterceptor = Mockito.mock();
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.limiter.enabled=true")
+			.withBean("customInterceptor", ConcurrencyLimitServerInterceptor.class, () -> customInterceptor)
+			.run((context) -> assertThat(context).getBean(ConcurrencyLimitServerInterceptor.class)
+				.isSameAs(customInterceptor));
+	}
+
+	@Test
+	void whenRateLimitPropertyNotSetRateLimitIsSkipped() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.limiter.enabled=true")
+			.run((context) -> assertThat(context).doesNotHaveBean(RateLimitServerInterceptor.class));
+	}
+
+	@Test
+	void whenRateLimitEnabledRulesAreApplied() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.rate-limit.enabled=true",
+					"spring.grpc.server.rate-limit.rules[0].methods=test/Free",
+					"spring.grpc.server.rate-limit.rules[1].permits=1")
+			.run((context) -> {
+				assertThat(context).doesNotHaveBean(ConcurrencyLimitServerInterceptor.class);
+				RateLimitServerInterceptor interceptor = context.getBean(RateLimitServerInterceptor.class);
+				assertThat(accepted(interceptor, "test/Free")).isTrue();
+				assertThat(accepted(interceptor, "test/Free")).isTrue();
+				assertThat(accepted(interceptor, "test/Limited")).isTrue();
+				assertThat(accepted(interceptor, "test/Limited")).isFalse();
+			});
+	}
+
+	@Test
+	void whenRateLimitEnabledPrincipalResolverBeanIsUsed() {
+		PrincipalResolver principalResolver = (call, headers) -> "alice";
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.rate-limit.enabled=true")
+			.withBean(PrincipalResolver.class, () -> principalResolver)
+			.run((context) -> assertThat(context).getBean(RateLimitServerInterceptor.class)
+				.hasFieldOrPropertyWithValue("principalResolver", principalResolver));
+	}
+
+	private boolean accepted(RateLimitServerInterceptor interceptor, String fullMethodName) {
+		ServerCall<Object, Object> call = Mockito.mock();
+		MethodDescriptor<Object, Object> method = MethodDescriptor.newBuilder()
+			.setType(MethodType.UNARY)
+			.setFullMethodName(fullMethodName)
+			.setRequestMarshaller(Mockito.mock())
+			.setResponseMarshaller(Mockito.mock())
+			.build();
+		Mockito.when(call.getMethodDescriptor()).thenReturn(method);
+		interceptor.interceptCall(call, new Metadata(), (c, headers) -> new ServerCall.Listener<>() {
+		});
+		return Mockito.mockingDetails(call)
+			.getInvocations()
+			.stream()
+			.noneMatch((invocation) -> invocation.getMethod().getName().equals("close"));
+	}
+
+}
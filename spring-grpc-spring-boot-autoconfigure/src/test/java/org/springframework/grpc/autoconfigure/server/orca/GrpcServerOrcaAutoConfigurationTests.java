@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.autoconfigure.server.orca;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.grpc.server.lifecycle.GrpcServerLifecycle;
+
+import io.grpc.BindableService;
+import io.grpc.services.MetricRecorder;
+import io.grpc.xds.orca.OrcaMetricReportingServerInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link GrpcServerOrcaAutoConfiguration}.
+ *
+ * @author Dave Syer
+ */
+class GrpcServerOrcaAutoConfigurationTests {
+
+	private ApplicationContextRunner contextRunner() {
+		// NOTE: we use noop server lifecycle to avoid startup
+		return new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(GrpcServerOrcaAutoConfiguration.class))
+			.withBean("noopServerLifecycle", GrpcServerLifecycle.class, Mockito::mock)
+			.withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+	}
+
+	@Test
+	void whenOrcaPropertyNotSetAutoConfigurationIsSkipped() {
+		this.contextRunner().run((context) -> assertThat(context).doesNotHaveBean(MetricRecorder.class));
+	}
+
+	@Test
+	void whenOrcaEnabledServiceAndInterceptorsAreConfigured() {
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.orca.enabled=true")
+			.run((context) -> assertThat(context).hasSingleBean(MetricRecorder.class)
+				.hasSingleBean(MicrometerOrcaLoadReporter.class)
+				.hasSingleBean(OrcaMetricReportingServerInterceptor.class)
+				.hasSingleBean(BindableService.class));
+	}
+
+	@Test
+	void loadReporterRecordsCpuUtilizationFromGauge() {
+		MetricRecorder recorder = mock();
+		this.contextRunner()
+			.withPropertyValues("spring.grpc.server.orca.enabled=true")
+			.withBean(MetricRecorder.class, () -> recorder)
+			.run((context) -> {
+				Gauge.builder("process.cpu.usage", () -> 0.5).register(context.getBean(MeterRegistry.class));
+				context.getBean(MicrometerOrcaLoadReporter.class).update();
+				verify(recorder).setCpuUtilizationMetric(0.5);
+			});
+	}
+
+}
@@ -43,7 +43,8 @@ public class ServerPortInfoApplicationContextInitializer implements
 
 	@Override
 	public void onApplicationEvent(GrpcServerStartedEvent event) {
-		String propertyName = "local.grpc.port";
+		String name = event.getSource().getName();
+		String propertyName = (name != null) ? "local.grpc." + name + ".port" : "local.grpc.port";
 		setPortProperty(applicationContext, propertyName, event.getPort());
 	}
 
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.test.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import org.springframework.grpc.client.ChannelBuilderOptions;
+import org.springframework.grpc.client.GrpcChannelFactory;
+import org.springframework.util.Assert;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * Generates load on a gRPC method through a channel from a {@link GrpcChannelFactory},
+ * so that the calls use the same configuration, credentials and interceptors as the
+ * application. Each call sends one request and receives any number of responses, so
+ * any method can be driven, whatever its type.
+ * <p>
+ * With a {@link #setRate(int) rate} the load is open-loop: calls are started on a fixed
+ * schedule whether or not earlier calls have finished, and latency is measured from the
+ * time that each call should have started, so that a slow server cannot hide its
+ * latency by slowing the load down (coordinated omission). Otherwise the load is
+ * closed-loop, with a fixed {@link #setConcurrency(int) number of calls} in flight.
+ *
+ * @author Dave Syer
+ */
+public class LoadGenerator {
+
+	private static final int SIGNIFICANT_DIGITS = 3;
+
+	private final GrpcChannelFactory channels;
+
+	private String target = "default";
+
+	private ChannelBuilderOptions options = ChannelBuilderOptions.defaults();
+
+	private Duration duration = Duration.ofSeconds(10);
+
+	private Duration warmup = Duration.ZERO;
+
+	private int rate;
+
+	private int concurrency = 1;
+
+	private Duration deadline;
+
+	public LoadGenerator(GrpcChannelFactory channels) {
+		this.channels = channels;
+	}
+
+	/**
+	 * Set the target of the channel, a channel name or an address.
+	 * @param target the target (default "default")
+	 */
+	public void setTarget(String target) {
+		this.target = target;
+	}
+
+	/**
+	 * Set the options used to create the channel.
+	 * @param options the channel builder options
+	 */
+	public void setOptions(ChannelBuilderOptions options) {
+		this.options = options;
+	}
+
+	/**
+	 * Set how long to generate load for, after the warmup.
+	 * @param duration the duration (default 10 seconds)
+	 */
+	public void setDuration(Duration duration) {
+		this.duration = duration;
+	}
+
+	/**
+	 * Set how long to generate load for before recording any results.
+	 * @param warmup the warmup duration (default zero)
+	 */
+	public void setWarmup(Duration warmup) {
+		this.warmup = warmup;
+	}
+
+	/**
+	 * Set the number of calls to start each second. If positive the load is open-loop
+	 * and the concurrency is ignored.
+	 * @param rate the calls per second (default zero for closed-loop load)
+	 */
+	public void setRate(int rate) {
+		this.rate = rate;
+	}
+
+	/**
+	 * Set the number of calls in flight for closed-loop load.
+	 * @param concurrency the number of concurrent calls (default 1)
+	 */
+	public void setConcurrency(int concurrency) {
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Set the deadline of each call.
+	 * @param deadline the deadline or null for none
+	 */
+	public void setDeadline(Duration deadline) {
+		this.deadline = deadline;
+	}
+
+	/**
+	 * Call the method until the warmup and the duration have passed, and wait for the
+	 * calls in flight to finish.
+	 * @param <ReqT> the request type
+	 * @param method the method to call
+	 * @param requests the request for each call
+	 * @return a report of the calls that started after the warmup
+	 */
+	public <ReqT> LoadReport run(MethodDescriptor<ReqT, ?> method, Supplier<ReqT> requests) {
+		Assert.isTrue(this.rate > 0 || this.concurrency > 0, "Either the rate or the concurrency must be positive");
+		ManagedChannel channel = this.channels.createChannel(this.target, this.options);
+		try {
+			Run<ReqT> run = new Run<>(channel, method, requests);
+			if (this.rate > 0) {
+				run.openLoop();
+			}
+			else {
+				run.closedLoop();
+			}
+			return run.await();
+		}
+		finally {
+			channel.shutdownNow();
+		}
+	}
+
+	private final class Run<ReqT> {
+
+		private final ManagedChannel channel;
+
+		private final MethodDescriptor<ReqT, ?> method;
+
+		private final Supplier<ReqT> requests;
+
+		private final Histogram latencies = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+		private final Map<Status.Code, LongAdder> statuses = new ConcurrentHashMap<>();
+
+		// One for the generator itself, and one for each call in flight
+		private final AtomicLong pending = new AtomicLong(1);
+
+		private final CompletableFuture<Void> finished = new CompletableFuture<>();
+
+		private final long start = System.nanoTime();
+
+		private final long recordFrom = this.start + LoadGenerator.this.warmup.toNanos();
+
+		private final long end = this.recordFrom + LoadGenerator.this.duration.toNanos();
+
+		Run(ManagedChannel channel, MethodDescriptor<ReqT, ?> method, Supplier<ReqT> requests) {
+			this.channel = channel;
+			this.method = method;
+			this.requests = requests;
+		}
+
+		void openLoop() {
+			long interval = TimeUnit.SECONDS.toNanos(1) / LoadGenerator.this.rate;
+			for (long intended = this.start; intended < this.end; intended += interval) {
+				long wait = intended - System.nanoTime();
+				if (wait > 0) {
+					LockSupport.parkNanos(wait);
+				}
+				call(this.method, intended, false);
+			}
+		}
+
+		void closedLoop() {
+			for (int i = 0; i < LoadGenerator.this.concurrency; i++) {
+				call(this.method, System.nanoTime(), true);
+			}
+		}
+
+		LoadReport await() {
+			release();
+			long timeout = (LoadGenerator.this.deadline != null) ? LoadGenerator.this.deadline.toNanos()
+					: LoadGenerator.this.duration.toNanos();
+			try {
+				this.finished.get(Math.max(this.end - System.nanoTime(), 0) + timeout, TimeUnit.NANOSECONDS);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			catch (ExecutionException | TimeoutException ex) {
+				// Report the calls that have finished, the rest are cancelled with the channel
+			}
+			Map<Status.Code, Long> counts = new EnumMap<>(Status.Code.class);
+			this.statuses.forEach((code, count) -> counts.put(code, count.sum()));
+			return new LoadReport(this.method.getFullMethodName(), LoadGenerator.this.duration,
+					this.latencies.copy(), counts);
+		}
+
+		private <RespT> void call(MethodDescriptor<ReqT, RespT> method, long intended, boolean repeat) {
+			this.pending.incrementAndGet();
+			CallOptions options = CallOptions.DEFAULT;
+			if (LoadGenerator.this.deadline != null) {
+				options = options.withDeadlineAfter(LoadGenerator.this.deadline.toNanos(), TimeUnit.NANOSECONDS);
+			}
+			CallListener<RespT> listener = new CallListener<>(intended, repeat);
+			ClientCall<ReqT, RespT> call = this.channel.newCall(method, options);
+			try {
+				call.start(listener, new Metadata());
+				call.request(Integer.MAX_VALUE);
+				call.sendMessage(this.requests.get());
+				call.halfClose();
+			}
+			catch (RuntimeException ex) {
+				call.cancel("Failed to start call", ex);
+				// Do not repeat, in case every call fails straight away
+				listener.close(Status.fromThrowable(ex), false);
+			}
+		}
+
+		private void release() {
+			if (this.pending.decrementAndGet() == 0) {
+				this.finished.complete(null);
+			}
+		}
+
+		private final class CallListener<RespT> extends ClientCall.Listener<RespT> {
+
+			private final AtomicBoolean closed = new AtomicBoolean();
+
+			private final long intended;
+
+			private final boolean repeat;
+
+			CallListener(long intended, boolean repeat) {
+				this.intended = intended;
+				this.repeat = repeat;
+			}
+
+			@Override
+			public void onClose(Status status, Metadata trailers) {
+				close(status, this.repeat);
+			}
+
+			void close(Status status, boolean repeat) {
+				if (!this.closed.compareAndSet(false, true)) {
+					return;
+				}
+				long now = System.nanoTime();
+				if (this.intended >= Run.this.recordFrom && this.intended < Run.this.end) {
+					Run.this.latencies.recordValue(now - this.intended);
+					Run.this.statuses.computeIfAbsent(status.getCode(), (code) -> new LongAdder()).increment();
+				}
+				if (repeat && now < Run.this.end) {
+					call(Run.this.method, now, true);
+				}
+				release();
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.test.load;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.grpc.autoconfigure.client.GrpcClientProperties;
+import org.springframework.grpc.client.GrpcChannelFactory;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+
+/**
+ * Command line entry point for the {@link LoadGenerator}. The channel is created from
+ * the usual {@code spring.grpc.client.*} properties and the load from the
+ * {@code load.*} properties, for example:
+ *
+ * <pre class="code">
+ * java -cp ... org.springframework.grpc.test.load.LoadGeneratorApplication \
+ *   --spring.grpc.client.default-channel.address=localhost:9090 \
+ *   --load.method=Simple/SayHello --load.request=CgVXb3JsZA== --load.rate=1000 --load.duration=30s
+ * </pre>
+ *
+ * The request is the base64 encoded protobuf bytes of the message (default empty) and
+ * the deadline of each call defaults to the deadline of the channel. The report is
+ * printed as JSON, or written to the file in {@code load.output}.
+ *
+ * @author Dave Syer
+ */
+public final class LoadGeneratorApplication {
+
+	private static final String PREFIX = "load.";
+
+	private LoadGeneratorApplication() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		SpringApplication application = new SpringApplication(ClientConfiguration.class);
+		application.setWebApplicationType(WebApplicationType.NONE);
+		application.setDefaultProperties(Map.of("spring.grpc.server.enabled", "false",
+				"spring.main.banner-mode", "off"));
+		try (ConfigurableApplicationContext context = application.run(args)) {
+			String report = run(context).toJson();
+			String output = context.getEnvironment().getProperty(PREFIX + "output");
+			if (output != null) {
+				Files.writeString(Path.of(output), report, StandardCharsets.UTF_8);
+			}
+			else {
+				System.out.println(report);
+			}
+		}
+	}
+
+	static LoadReport run(ConfigurableApplicationContext context) {
+		Environment environment = context.getEnvironment();
+		Binder binder = Binder.get(environment);
+		String target = environment.getProperty(PREFIX + "target", "default");
+		LoadGenerator generator = new LoadGenerator(context.getBean(GrpcChannelFactory.class));
+		generator.setTarget(target);
+		binder.bind(PREFIX + "duration", Duration.class).ifBound(generator::setDuration);
+		binder.bind(PREFIX + "warmup", Duration.class).ifBound(generator::setWarmup);
+		binder.bind(PREFIX + "rate", Integer.class).ifBound(generator::setRate);
+		binder.bind(PREFIX + "concurrency", Integer.class).ifBound(generator::setConcurrency);
+		generator.setDeadline(binder.bind(PREFIX + "deadline", Duration.class)
+			.orElseGet(() -> context.getBean(GrpcClientProperties.class).getChannel(target).getDefaultDeadline()));
+		byte[] request = Base64.getDecoder().decode(environment.getProperty(PREFIX + "request", ""));
+		MethodDescriptor<byte[], byte[]> method = MethodDescriptor
+			.newBuilder(BytesMarshaller.INSTANCE, BytesMarshaller.INSTANCE)
+			.setType(MethodType.UNKNOWN)
+			.setFullMethodName(environment.getRequiredProperty(PREFIX + "method"))
+			.build();
+		return generator.run(method, () -> request);
+	}
+
+	@SpringBootConfiguration(proxyBeanMethods = false)
+	@EnableAutoConfiguration
+	static class ClientConfiguration {
+
+	}
+
+	/**
+	 * Passes the protobuf bytes of the messages through unchanged, so that any method can
+	 * be called without its generated classes.
+	 */
+	private static final class BytesMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+
+		static final BytesMarshaller INSTANCE = new BytesMarshaller();
+
+		@Override
+		public InputStream stream(byte[] value) {
+			return new ByteArrayInputStream(value);
+		}
+
+		@Override
+		public byte[] parse(InputStream stream) {
+			try {
+				return stream.readAllBytes();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.test.load;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+import io.grpc.Status;
+
+/**
+ * The results of a {@link LoadGenerator} run: a histogram of the call latencies in
+ * nanoseconds and the number of calls that finished with each status code.
+ *
+ * @author Dave Syer
+ */
+public class LoadReport {
+
+	private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+	private final String method;
+
+	private final Duration duration;
+
+	private final Histogram latencies;
+
+	private final Map<Status.Code, Long> statuses;
+
+	LoadReport(String method, Duration duration, Histogram latencies, Map<Status.Code, Long> statuses) {
+		this.method = method;
+		this.duration = duration;
+		this.latencies = latencies;
+		this.statuses = Collections.unmodifiableMap(statuses);
+	}
+
+	public String getMethod() {
+		return this.method;
+	}
+
+	public Duration getDuration() {
+		return this.duration;
+	}
+
+	/**
+	 * The latencies of the calls in nanoseconds, measured from the time that each call
+	 * was scheduled to start.
+	 * @return the latency histogram
+	 */
+	public Histogram getLatencies() {
+		return this.latencies;
+	}
+
+	public Map<Status.Code, Long> getStatuses() {
+		return this.statuses;
+	}
+
+	public long getCount() {
+		return this.latencies.getTotalCount();
+	}
+
+	public long getErrorCount() {
+		return getCount() - this.statuses.getOrDefault(Status.Code.OK, 0L);
+	}
+
+	/**
+	 * The number of calls that finished each second.
+	 * @return the throughput
+	 */
+	public double getThroughput() {
+		return getCount() * 1e9 / this.duration.toNanos();
+	}
+
+	public Duration getLatency(double percentile) {
+		return Duration.ofNanos(this.latencies.getValueAtPercentile(percentile));
+	}
+
+	/**
+	 * Render the report as JSON, with latencies in microseconds.
+	 * @return the JSON report
+	 */
+	public String toJson() {
+		StringBuilder json = new StringBuilder();
+		json.append("{\"method\":\"").append(escape(this.method)).append('"');
+		json.append(",\"durationMillis\":").append(this.duration.toMillis());
+		json.append(",\"count\":").append(getCount());
+		json.append(",\"errors\":").append(getErrorCount());
+		json.append(",\"throughput\":").append(String.format(Locale.ROOT, "%.1f", getThroughput()));
+		json.append(",\"statuses\":{");
+		String separator = "";
+		for (Map.Entry<Status.Code, Long> entry : this.statuses.entrySet()) {
+			json.append(separator).append('"').append(entry.getKey()).append("\":").append(entry.getValue());
+			separator = ",";
+		}
+		json.append("},\"latencyMicros\":{");
+		json.append("\"min\":").append(micros(this.latencies.getMinValue()));
+		json.append(",\"mean\":").append(micros((long) this.latencies.getMean()));
+		for (double percentile : PERCENTILES) {
+			json.append(",\"p").append(String.valueOf(percentile).replace(".0", "").replace(".", "_")).append("\":");
+			json.append(micros(this.latencies.getValueAtPercentile(percentile)));
+		}
+		json.append(",\"max\":").append(micros(this.latencies.getMaxValue()));
+		return json.append("}}").toString();
+	}
+
+	@Override
+	public String toString() {
+		return toJson();
+	}
+
+	private static String escape(String value) {
+		StringBuilder escaped = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				escaped.append('\\').append(c);
+			}
+			else if (c < 0x20) {
+				escaped.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+			}
+			else {
+				escaped.append(c);
+			}
+		}
+		return escaped.toString();
+	}
+
+	private static long micros(long nanos) {
+		return TimeUnit.NANOSECONDS.toMicros(nanos);
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.grpc.test.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.StringValue;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.Server;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCalls;
+
+/**
+ * Tests for {@link LoadGenerator}.
+ *
+ * @author Dave Syer
+ */
+class LoadGeneratorTests {
+
+	private static final MethodDescriptor<StringValue, StringValue> METHOD = MethodDescriptor
+		.<StringValue, StringValue>newBuilder()
+		.setType(MethodType.UNARY)
+		.setFullMethodName("test/Echo")
+		.setRequestMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+		.setResponseMarshaller(ProtoUtils.marshaller(StringValue.getDefaultInstance()))
+		.build();
+
+	private final String name = InProcessServerBuilder.generateName();
+
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+
+	private volatile Duration delay = Duration.ZERO;
+
+	private volatile IntPredicate failing = (call) -> false;
+
+	private Server server;
+
+	@BeforeEach
+	void start() throws IOException {
+		this.server = InProcessServerBuilder.forName(this.name).addService(service()).build().start();
+	}
+
+	@AfterEach
+	void stop() {
+		this.server.shutdownNow();
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void openLoopStartsCallsAtTheRate() {
+		LoadGenerator generator = generator();
+		generator.setRate(200);
+		generator.setDuration(Duration.ofMillis(500));
+		LoadReport report = generator.run(METHOD, () -> StringValue.of("hello"));
+		assertThat(this.calls).hasValue(100);
+		assertThat(report.getCount()).isEqualTo(100);
+		assertThat(report.getStatuses()).containsExactly(Map.entry(Status.Code.OK, 100L));
+	}
+
+	@Test
+	void closedLoopKeepsTheConcurrency() {
+		this.delay = Duration.ofMillis(20);
+		LoadGenerator generator = generator();
+		generator.setConcurrency(4);
+		generator.setDuration(Duration.ofMillis(300));
+		LoadReport report = generator.run(METHOD, () -> StringValue.of("hello"));
+		assertThat(this.maxInFlight).hasValue(4);
+		assertThat(report.getCount()).isGreaterThan(4).isEqualTo(this.calls.get());
+		assertThat(report.getErrorCount()).isZero();
+	}
+
+	@Test
+	void callsDuringTheWarmupAreNotRecorded() {
+		LoadGenerator generator = generator();
+		generator.setRate(100);
+		generator.setWarmup(Duration.ofMillis(200));
+		generator.setDuration(Duration.ofMillis(300));
+		LoadReport report = generator.run(METHOD, () -> StringValue.of("hello"));
+		assertThat(this.calls).hasValue(50);
+		assertThat(report.getCount()).isEqualTo(30);
+	}
+
+	@Test
+	void statusesAreCounted() {
+		this.failing = (call) -> call % 2 == 0;
+		LoadGenerator generator = generator();
+		generator.setRate(100);
+		generator.setDuration(Duration.ofMillis(200));
+		LoadReport report = generator.run(METHOD, () -> StringValue.of("hello"));
+		assertThat(report.getStatuses()).containsOnly(Map.entry(Status.Code.OK, 10L),
+				Map.entry(Status.Code.UNAVAILABLE, 10L));
+		assertThat(report.getCount()).isEqualTo(20);
+		assertThat(report.getErrorCount()).isEqualTo(10);
+	}
+
+	@Test
+	void jsonEscapesTheMethodName() {
+		LoadReport report = new LoadReport("test/\"Echo\"\\\n", Duration.ofSeconds(1), new Histogram(3), Map.of());
+		assertThat(report.toJson()).startsWith("{\"method\":\"test/\\\"Echo\\\"\\\\\\u000a\",");
+	}
+
+	private LoadGenerator generator() {
+		LoadGenerator generator = new LoadGenerator(
+				(target, options) -> InProcessChannelBuilder.forName(target).directExecutor().build());
+		generator.setTarget(this.name);
+		return generator;
+	}
+
+	private ServerServiceDefinition service() {
+		return ServerServiceDefinition.builder("test")
+			.addMethod(METHOD, ServerCalls.asyncUnaryCall((request, observer) -> {
+				int call = this.calls.incrementAndGet();
+				this.maxInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+				this.executor.schedule(() -> {
+					this.inFlight.decrementAndGet();
+					if (this.failing.test(call)) {
+						observer.onError(Status.UNAVAILABLE.asRuntimeException());
+					}
+					else {
+						observer.onNext(request);
+						observer.onCompleted();
+					}
+				}, this.delay.toMillis(), TimeUnit.MILLISECONDS);
+			}))
+			.build();
+	}
+
+}